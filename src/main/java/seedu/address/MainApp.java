@@ -2,6 +2,8 @@ package seedu.address;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -12,6 +14,7 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
@@ -20,15 +23,21 @@ import seedu.address.model.CourseManager;
 import seedu.address.model.Model;
 import seedu.address.model.ModuleList;
 import seedu.address.model.ModuleManager;
+import seedu.address.model.ModuleSearchIndex;
 import seedu.address.model.ProfileList;
 import seedu.address.model.ProfileManager;
 import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UnlocksIndex;
 import seedu.address.model.UserPrefs;
+import seedu.address.storage.CatalogSnapshotStorage;
+import seedu.address.storage.CatalogWatcher;
+import seedu.address.storage.JournalingProfileListStorage;
+import seedu.address.storage.JsonCatalogDeltaStorage;
 import seedu.address.storage.JsonCourseListStorage;
 import seedu.address.storage.JsonModuleListStorage;
-import seedu.address.storage.JsonProfileListStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.ProfileListStorage;
+import seedu.address.storage.ShardedProfileListStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
@@ -50,9 +59,10 @@ public class MainApp extends Application {
     protected Storage storage;
     protected Model model;
     protected Config config;
-    protected CourseManager courseManager;
-    protected ModuleManager moduleManager;
+    protected volatile CourseManager courseManager;
+    protected volatile ModuleManager moduleManager;
     protected ProfileManager profileManager;
+    private CatalogWatcher catalogWatcher;
 
     @Override
     public void init() throws Exception {
@@ -64,35 +74,110 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        ProfileListStorage profiles = new JsonProfileListStorage(userPrefs.getProfileListFilePath());
-        storage = new StorageManager(profiles, userPrefsStorage);
 
         initLogging(config);
 
+        CatalogSnapshotStorage catalogSnapshot = new CatalogSnapshotStorage(userPrefs.getCatalogSnapshotFilePath(),
+                userPrefs.getModuleListFilePath(), userPrefs.getCourseListFilePath());
+        courseManager = initCourseManager(userPrefs, catalogSnapshot);
+        moduleManager = initModuleManager(userPrefs, catalogSnapshot);
+        addCatalogDeltas(userPrefs, moduleManager);
+        courseManager.resolveModules(moduleManager);
+
+        // Profiles are read after the catalog, which they take the details of their modules from, also once reloaded
+        ProfileListStorage profiles = userPrefs.isShardedProfileList()
+                ? new ShardedProfileListStorage(userPrefs.getProfileListFilePath(), () -> moduleManager)
+                : new JournalingProfileListStorage(userPrefs.getProfileListFilePath(), () -> moduleManager);
+        storage = new StorageManager(profiles, userPrefsStorage);
         profileManager = initProfileManager(storage, userPrefs);
 
-        courseManager = initCourseManager(userPrefs);
-        moduleManager = initModuleManager(userPrefs);
-
         logic = new LogicManager(profileManager, storage, courseManager, moduleManager);
 
         ui = new UiManager(logic);
 
+        catalogWatcher = startCatalogWatcher(userPrefs);
+    }
+
+    /**
+     * Returns a watcher that reloads the catalog whenever the module or course catalog at the paths in
+     * {@code userPrefs} changes, if either is a file on disk rather than packaged in jar.
+     * Returns null if there is nothing to watch or the files cannot be watched.
+     */
+    private CatalogWatcher startCatalogWatcher(UserPrefs userPrefs) {
+        List<Path> files = new ArrayList<>();
+        FileUtil.getExternalFile(userPrefs.getModuleListFilePath()).ifPresent(files::add);
+        FileUtil.getExternalFile(userPrefs.getCourseListFilePath()).ifPresent(files::add);
+        FileUtil.getExternalFile(userPrefs.getCatalogDeltasFilePath()).ifPresent(files::add);
+        if (files.isEmpty()) {
+            return null;
+        }
+        try {
+            CatalogWatcher watcher = new CatalogWatcher(files, () -> reloadCatalog(userPrefs),
+                    CatalogWatcher.DEFAULT_SETTLE_DELAY_MILLIS);
+            watcher.start();
+            logger.info("Watching " + files + " for changes to the catalog");
+            return watcher;
+        } catch (IOException e) {
+            logger.warning("Cannot watch the catalog files, changes will need a restart " + StringUtil.getDetails(e));
+            return null;
+        }
+    }
+
+    /**
+     * Reads the module and course catalogs again from the json files at the paths in {@code userPrefs}, and swaps
+     * them into {@code logic} and the profile list storage together. Runs on the thread of the
+     * {@code CatalogWatcher}, so that the UI is never paused. The current catalog is kept if either file is missing
+     * or not in the correct format, as happens while a file is being written.
+     */
+    private void reloadCatalog(UserPrefs userPrefs) {
+        try {
+            Optional<ModuleList> moduleList = new JsonModuleListStorage(userPrefs.getModuleListFilePath())
+                    .readModuleList();
+            Optional<CourseList> courseList = new JsonCourseListStorage(userPrefs.getCourseListFilePath())
+                    .readCourseList();
+            if (!moduleList.isPresent() || !courseList.isPresent()) {
+                logger.warning("Catalog files not found. Keeping the current catalog");
+                return;
+            }
+            ModuleManager reloadedModuleManager = new ModuleManager(moduleList.get());
+            addCatalogDeltas(userPrefs, reloadedModuleManager);
+            CourseManager reloadedCourseManager = new CourseManager(courseList.get());
+            reloadedCourseManager.resolveModules(reloadedModuleManager);
+            moduleManager = reloadedModuleManager;
+            courseManager = reloadedCourseManager;
+            logic.setCatalog(reloadedModuleManager, reloadedCourseManager);
+        } catch (DataConversionException e) {
+            logger.warning("Catalog files not in the correct format. Keeping the current catalog");
+        }
     }
 
     /**
      * Returns a {@code CourseManager} with the data from {@code userPrefs}. <br>
      * An empty course list will be used instead if a course list is not found at
      * {@code userPrefs.getModuleListFilePath()} or errors occur when reading the module list at that location.
+     * The module list is read from {@code catalogSnapshot} instead if the snapshot is present and up to date.
      */
-    private ModuleManager initModuleManager(UserPrefs userPrefs) {
+    private ModuleManager initModuleManager(UserPrefs userPrefs, CatalogSnapshotStorage catalogSnapshot) {
         JsonModuleListStorage modules = new JsonModuleListStorage(userPrefs.getModuleListFilePath());
         ModuleManager moduleManager;
         try {
-            Optional<ModuleList> moduleListOptional = modules.readModuleList();
+            Optional<ModuleList> moduleListOptional = catalogSnapshot.readModuleList();
+            Optional<UnlocksIndex> unlocksIndexOptional = Optional.empty();
+            Optional<ModuleSearchIndex> searchIndexOptional = Optional.empty();
+            if (moduleListOptional.isPresent()) {
+                unlocksIndexOptional = catalogSnapshot.readUnlocksIndex();
+                searchIndexOptional = catalogSnapshot.readSearchIndex();
+            } else {
+                moduleListOptional = modules.readModuleList();
+            }
             if (!moduleListOptional.isPresent()) {
                 logger.info("Data file not found. Will be starting with an empty ModuleList");
                 moduleManager = new ModuleManager();
+            } else if (unlocksIndexOptional.isPresent() && searchIndexOptional.isPresent()) {
+                moduleManager = new ModuleManager(moduleListOptional.get(), unlocksIndexOptional.get(),
+                        searchIndexOptional.get());
+            } else if (unlocksIndexOptional.isPresent()) {
+                moduleManager = new ModuleManager(moduleListOptional.get(), unlocksIndexOptional.get());
             } else {
                 ModuleList moduleList = moduleListOptional.get();
                 moduleManager = new ModuleManager(moduleList);
@@ -104,16 +189,34 @@ public class MainApp extends Application {
         return moduleManager;
     }
 
+    /**
+     * Adds the catalogs of other academic years, at {@code userPrefs.getCatalogDeltasFilePath()}, to
+     * {@code moduleManager}. Only the catalog of {@code moduleManager} itself is used if the file is not in the
+     * correct format.
+     */
+    private void addCatalogDeltas(UserPrefs userPrefs, ModuleManager moduleManager) {
+        try {
+            new JsonCatalogDeltaStorage(userPrefs.getCatalogDeltasFilePath()).readCatalogDeltas(moduleManager)
+                    .ifPresent(deltas -> deltas.forEach(moduleManager::addCatalogDelta));
+        } catch (DataConversionException e) {
+            logger.warning("Catalog deltas not in the correct format. Will only use the current catalog");
+        }
+    }
+
     /**
      * Returns a {@code ModuleManager} with the data from {@code userPrefs}. <br>
      * An empty module list will be used instead if a module list is not found at
      * {@code userPrefs.getModuleListFilePath()} or errors occur when reading the module list at that location.
+     * The course list is read from {@code catalogSnapshot} instead if the snapshot is present and up to date.
      */
-    private CourseManager initCourseManager(UserPrefs userPrefs) {
+    private CourseManager initCourseManager(UserPrefs userPrefs, CatalogSnapshotStorage catalogSnapshot) {
         JsonCourseListStorage modules = new JsonCourseListStorage(userPrefs.getCourseListFilePath());
         CourseManager courseManager;
         try {
-            Optional<CourseList> courseListOptional = modules.readCourseList();
+            Optional<CourseList> courseListOptional = catalogSnapshot.readCourseList();
+            if (!courseListOptional.isPresent()) {
+                courseListOptional = modules.readCourseList();
+            }
             if (!courseListOptional.isPresent()) {
                 logger.info("Data file not found. Will be starting with an empty CourseList");
                 courseManager = new CourseManager();
@@ -240,5 +343,12 @@ public class MainApp extends Application {
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        if (catalogWatcher != null) {
+            try {
+                catalogWatcher.close();
+            } catch (IOException e) {
+                logger.warning("Failed to stop watching the catalog files " + StringUtil.getDetails(e));
+            }
+        }
     }
 }
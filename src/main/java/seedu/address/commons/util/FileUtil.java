@@ -1,13 +1,22 @@
 package seedu.address.commons.util;
 
+import java.io.BufferedOutputStream;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.URL;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
 
 import seedu.address.MainApp;
 
@@ -17,6 +26,8 @@ import seedu.address.MainApp;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -78,10 +89,42 @@ public class FileUtil {
     }
 
     /**
-     * Reads file packaged in jar
+     * Returns the file on disk at {@code file}, if there is one.
+     */
+    public static Optional<Path> getExternalFile(String file) {
+        try {
+            Path path = Paths.get(file);
+            return Files.isRegularFile(path) ? Optional.of(path) : Optional.empty();
+        } catch (InvalidPathException ipe) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Opens a stream to the file on disk at {@code file} if there is one, or else to the file packaged in jar.
+     * Returns null if no such file exists.
+     */
+    public static InputStream openFileStream(String file) throws IOException {
+        Optional<Path> externalFile = getExternalFile(file);
+        if (externalFile.isPresent()) {
+            return Files.newInputStream(externalFile.get());
+        }
+        return MainApp.class.getResourceAsStream(file);
+    }
+
+    /**
+     * Returns the location of a file packaged in jar.
+     * Returns null if no such file exists.
+     */
+    public static URL getFileResource(String file) {
+        return MainApp.class.getResource(file);
+    }
+
+    /**
+     * Reads the file on disk at {@code file} if there is one, or else the file packaged in jar.
      */
     public static String readFromFileStream(String file) throws IOException {
-        InputStream inputStream = MainApp.class.getResourceAsStream(file);
+        InputStream inputStream = openFileStream(file);
         StringBuilder responseStrBuilder = new StringBuilder();
         if (inputStream != null) {
             BufferedReader streamReader = new BufferedReader(
@@ -103,4 +146,44 @@ public class FileUtil {
         Files.write(file, content.getBytes(CHARSET));
     }
 
+    /**
+     * Writes a file with the content streamed by {@code contentWriter}, creating it and its missing parent
+     * directories if needed. The content is buffered into a temporary file next to {@code file}, which is forced
+     * to disk and then moved over {@code file}, so that {@code file} is never left partly written.
+     * @throws IOException if the content cannot be written, in which case {@code file} is left unchanged.
+     */
+    public static void writeToFileAtomically(Path file, ContentWriter contentWriter) throws IOException {
+        createParentDirsOfFile(file);
+        Path directory = file.toAbsolutePath().getParent();
+        Path temporaryFile = Files.createTempFile(directory, file.getFileName().toString(), TEMPORARY_FILE_SUFFIX);
+        try {
+            try (FileChannel channel = FileChannel.open(temporaryFile, StandardOpenOption.WRITE);
+                 OutputStream outputStream = new BufferedOutputStream(Channels.newOutputStream(channel),
+                         WRITE_BUFFER_SIZE)) {
+                contentWriter.writeTo(outputStream);
+                outputStream.flush();
+                channel.force(true);
+            }
+            try {
+                Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING,
+                        StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temporaryFile);
+        }
+    }
+
+    /**
+     * Represents an operation that streams the content of a file.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        /**
+         * Writes the content to {@code outputStream}, without closing it.
+         */
+        void writeTo(OutputStream outputStream) throws IOException;
+    }
+
 }
@@ -2,7 +2,9 @@ package seedu.address.commons.util;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -11,10 +13,15 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
@@ -22,6 +29,7 @@ import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
 
 /**
  * Converts a Java object instance to JSON and vice versa
@@ -40,7 +48,18 @@ public class JsonUtil {
                     .addDeserializer(Level.class, new LevelDeserializer(Level.class)));
 
     static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
-        FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
+        serializeObjectToJsonFile(jsonFile, objectToSerialize, true);
+    }
+
+    /**
+     * Streams {@code objectToSerialize} as JSON into {@code jsonFile}, which is replaced atomically.
+     * @see FileUtil#writeToFileAtomically(Path, FileUtil.ContentWriter)
+     */
+    static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize, boolean isPretty)
+            throws IOException {
+        ObjectWriter writer = (isPretty ? objectMapper.writerWithDefaultPrettyPrinter() : objectMapper.writer())
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        FileUtil.writeToFileAtomically(jsonFile, outputStream -> writer.writeValue(outputStream, objectToSerialize));
     }
 
     static <T> T deserializeObjectFromJsonFile(Path jsonFile, Class<T> classOfObjectToDeserialize)
@@ -106,6 +125,60 @@ public class JsonUtil {
         return Optional.of(jsonFile);
     }
 
+    /**
+     * Reads the array named {@code arrayName} in the top-level object of the json file packaged in the jar at
+     * {@code filePath}, one element at a time. Each element is passed to {@code elementConsumer} as soon as it is
+     * read, so that neither the file contents nor the full list of elements are ever held in memory at once.
+     * @param filePath cannot be null.
+     * @param elementClass Each element of the array has to correspond to the structure in the class given here.
+     * @throws DataConversionException if the file is missing, the file format is not as expected,
+     *     or {@code elementConsumer} rejects an element.
+     */
+    public static <T> void readJsonArrayStream(String filePath, String arrayName, Class<T> elementClass,
+            JsonElementConsumer<T> elementConsumer) throws DataConversionException {
+        requireNonNull(filePath);
+        requireNonNull(arrayName);
+
+        try (InputStream inputStream = FileUtil.openFileStream(filePath)) {
+            if (inputStream == null) {
+                throw new FileNotFoundException(filePath);
+            }
+            JsonParser parser = objectMapper.getFactory().createParser(inputStream);
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected a json object");
+            }
+
+            boolean hasArray = false;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if (!fieldName.equals(arrayName)) {
+                    parser.skipChildren();
+                    continue;
+                }
+                if (value != JsonToken.START_ARRAY) {
+                    throw new JsonParseException(parser, "Expected " + arrayName + " to be an array");
+                }
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    elementConsumer.accept(parser.readValueAs(elementClass));
+                }
+                if (parser.getCurrentToken() != JsonToken.END_ARRAY) {
+                    throw new JsonParseException(parser, "Expected " + arrayName + " to contain only objects");
+                }
+                hasArray = true;
+            }
+
+            if (!hasArray) {
+                throw new JsonParseException(parser, "Missing " + arrayName + " array");
+            }
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        } catch (IllegalValueException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
     /**
      * Saves the Json object to the specified file.
      * Overwrites existing file if it exists, creates a new file if it doesn't.
@@ -114,10 +187,21 @@ public class JsonUtil {
      * @throws IOException if there was an error during writing to the file
      */
     public static <T> void saveJsonFile(T jsonFile, Path filePath) throws IOException {
+        saveJsonFile(jsonFile, filePath, true);
+    }
+
+    /**
+     * Saves the Json object to the specified file, pretty-printed or on a single line.
+     * The file is never left partly written, even if saving fails.
+     * @param jsonFile cannot be null
+     * @param filePath cannot be null
+     * @throws IOException if there was an error during writing to the file
+     */
+    public static <T> void saveJsonFile(T jsonFile, Path filePath, boolean isPretty) throws IOException {
         requireNonNull(filePath);
         requireNonNull(jsonFile);
 
-        serializeObjectToJsonFile(filePath, jsonFile);
+        serializeObjectToJsonFile(filePath, jsonFile, isPretty);
     }
 
 
@@ -140,6 +224,26 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation, on a single line.
+     * @see #toJsonString(Object)
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
+    /**
+     * Represents an operation that accepts each element read by {@link #readJsonArrayStream}.
+     */
+    @FunctionalInterface
+    public interface JsonElementConsumer<T> {
+        /**
+         * Accepts the next element of the array.
+         * @throws IllegalValueException if the element violates any data constraints.
+         */
+        void accept(T element) throws IllegalValueException;
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
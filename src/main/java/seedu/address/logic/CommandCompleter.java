@@ -0,0 +1,132 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_COURSE_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FOCUS_AREA;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MODULE;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+import seedu.address.logic.parser.Prefix;
+import seedu.address.model.CourseList;
+import seedu.address.model.ModuleList;
+import seedu.address.model.profile.course.Course;
+import seedu.address.model.profile.course.CourseFocusArea;
+import seedu.address.model.profile.course.module.ModuleCode;
+
+//@@author chanckben
+/**
+ * Completes the module code, focus area name or course name being typed after the last m/, f/ or c/ prefix of a
+ * command, ignoring case.
+ *
+ * <p>The module codes and names are kept in sorted arrays, so the completions of a prefix are a contiguous run
+ * found by binary search. The arrays are never modified after construction, so completions can be looked up from
+ * any thread.
+ */
+public class CommandCompleter {
+
+    public static final int MAX_COMPLETIONS = 10;
+
+    /** Matches text that contains the start of another argument, e.g. " y/". */
+    private static final Pattern ANOTHER_ARGUMENT = Pattern.compile(".*\\s\\S*/.*");
+
+    private final PrefixIndex moduleCodes;
+    private final PrefixIndex focusAreaNames;
+    private final PrefixIndex courseNames;
+
+    /**
+     * Creates a completer for the module codes in {@code moduleList} and the course and focus area names in
+     * {@code courseList}.
+     */
+    public CommandCompleter(ModuleList moduleList, CourseList courseList) {
+        requireNonNull(moduleList);
+        requireNonNull(courseList);
+        List<String> codes = new ArrayList<>();
+        for (ModuleCode moduleCode : moduleList.getModuleCodes()) {
+            codes.add(moduleCode.toString());
+        }
+        List<String> focusAreas = new ArrayList<>();
+        List<String> courses = new ArrayList<>();
+        for (Course course : courseList.getCourseList()) {
+            courses.add(course.getCourseName().toString());
+            for (CourseFocusArea focusArea : course.getCourseFocusArea()) {
+                focusAreas.add(focusArea.getFocusAreaName());
+            }
+        }
+        moduleCodes = new PrefixIndex(codes);
+        focusAreaNames = new PrefixIndex(focusAreas);
+        courseNames = new PrefixIndex(courses);
+    }
+
+    /**
+     * Returns up to {@link #MAX_COMPLETIONS} completions of {@code commandText}, in alphabetical order, each being
+     * {@code commandText} with the argument after its last m/, f/ or c/ prefix completed.
+     * Returns an empty list if {@code commandText} does not end in such an argument.
+     */
+    public List<String> complete(String commandText) {
+        requireNonNull(commandText);
+        int prefixPosition = -1;
+        Prefix prefix = null;
+        for (Prefix candidate : new Prefix[] {PREFIX_MODULE, PREFIX_FOCUS_AREA, PREFIX_COURSE_NAME}) {
+            int position = commandText.lastIndexOf(" " + candidate.getPrefix());
+            if (position > prefixPosition) {
+                prefixPosition = position;
+                prefix = candidate;
+            }
+        }
+        if (prefix == null) {
+            return Collections.emptyList();
+        }
+
+        int argumentStart = prefixPosition + 1 + prefix.getPrefix().length();
+        String argument = commandText.substring(argumentStart);
+        if (ANOTHER_ARGUMENT.matcher(argument).matches()
+                || (prefix.equals(PREFIX_MODULE) && argument.contains(" "))) {
+            return Collections.emptyList();
+        }
+
+        PrefixIndex index = prefix.equals(PREFIX_MODULE) ? moduleCodes
+                : prefix.equals(PREFIX_FOCUS_AREA) ? focusAreaNames : courseNames;
+        List<String> completions = new ArrayList<>();
+        for (String value : index.complete(argument.trim(), MAX_COMPLETIONS)) {
+            completions.add(commandText.substring(0, argumentStart) + value);
+        }
+        return completions;
+    }
+
+    /**
+     * A sorted array of values, looked up by a prefix of their upper-case form.
+     */
+    private static class PrefixIndex {
+        private final String[] keys;
+        private final String[] values;
+
+        PrefixIndex(Collection<String> values) {
+            Map<String, String> valuesByKey = new TreeMap<>();
+            for (String value : values) {
+                valuesByKey.putIfAbsent(value.toUpperCase(Locale.ROOT), value);
+            }
+            this.keys = valuesByKey.keySet().toArray(new String[0]);
+            this.values = valuesByKey.values().toArray(new String[0]);
+        }
+
+        List<String> complete(String prefix, int limit) {
+            String key = prefix.toUpperCase(Locale.ROOT);
+            int position = Arrays.binarySearch(keys, key);
+            List<String> completions = new ArrayList<>();
+            for (int i = position >= 0 ? position : -position - 1;
+                 i < keys.length && keys[i].startsWith(key) && completions.size() < limit; i++) {
+                completions.add(values[i]);
+            }
+            return completions;
+        }
+    }
+}
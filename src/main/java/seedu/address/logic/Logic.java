@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 
 import javafx.collections.ObservableList;
@@ -8,9 +9,14 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.CourseManager;
+import seedu.address.model.ModuleManager;
 import seedu.address.model.ProfileList;
 import seedu.address.model.ProfileManager;
+import seedu.address.model.RequirementProgress;
 import seedu.address.model.profile.Profile;
+import seedu.address.model.profile.course.Course;
+import seedu.address.model.profile.course.module.ModuleCode;
 import seedu.address.model.profile.course.module.exceptions.DateTimeException;
 import seedu.address.model.profile.course.module.personal.Deadline;
 
@@ -61,4 +67,30 @@ public interface Logic {
 
     ProfileManager getProfileManager();
 
+    /**
+     * Returns the earliest overall semester in which the profile can take the module with code {@code moduleCode},
+     * or an empty {@code Optional} if there is no profile or the module can never be taken.
+     */
+    Optional<Integer> getEarliestSemester(ModuleCode moduleCode);
+
+    /**
+     * Returns the progress of the profile toward the requirements and focus areas of {@code course}, or an empty
+     * {@code Optional} if there is no profile.
+     */
+    Optional<RequirementProgress> getRequirementProgress(Course course);
+
+    /**
+     * Returns the completions of the module code, focus area name or course name being typed at the end of
+     * {@code commandText}. Safe to call from any thread.
+     *
+     * @see CommandCompleter#complete(String)
+     */
+    List<String> getCompletions(String commandText);
+
+    /**
+     * Replaces the module and course catalogs used by the commands executed after this returns.
+     * Commands that are already executing keep using the catalogs they started with.
+     */
+    void setCatalog(ModuleManager moduleManager, CourseManager courseManager);
+
 }
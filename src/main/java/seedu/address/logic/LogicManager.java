@@ -2,6 +2,7 @@ package seedu.address.logic;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -17,7 +18,10 @@ import seedu.address.model.CourseManager;
 import seedu.address.model.ModuleManager;
 import seedu.address.model.ProfileList;
 import seedu.address.model.ProfileManager;
+import seedu.address.model.RequirementProgress;
 import seedu.address.model.profile.Profile;
+import seedu.address.model.profile.course.Course;
+import seedu.address.model.profile.course.module.ModuleCode;
 import seedu.address.model.profile.course.module.exceptions.DateTimeException;
 import seedu.address.model.profile.course.module.personal.Deadline;
 import seedu.address.storage.Storage;
@@ -32,16 +36,22 @@ public class LogicManager implements Logic {
     private final ProfileManager profileManager;
     private final Storage storage;
     private final ModdyParser moddyParser;
-    private final CourseManager courseManager;
-    private final ModuleManager moduleManager;
+    /** Replaced as a whole when the catalog is reloaded, so that each command sees a consistent catalog. */
+    private volatile Catalog catalog;
+    /** Held while a command executes and while a snapshot of the profile list is taken to be saved. */
+    private final Object profileListLock = new Object();
+    private final WriteBehindSaver profileListSaver;
 
     public LogicManager(ProfileManager profileManager, Storage storage, CourseManager courseManager,
                         ModuleManager moduleManager) {
         this.profileManager = profileManager;
         this.storage = storage;
-        this.courseManager = courseManager;
-        this.moduleManager = moduleManager;
+        this.catalog = new Catalog(moduleManager, courseManager);
         moddyParser = new ModdyParser();
+        profileListSaver = new WriteBehindSaver(
+                () -> storage.prepareSaveProfileList(profileManager.getProfileList())::save,
+                profileListLock, WriteBehindSaver.DEFAULT_FLUSH_DELAY_MILLIS);
+        Runtime.getRuntime().addShutdownHook(new Thread(this::flushOnShutdown, "profile-list-flush"));
     }
 
     @Override
@@ -52,21 +62,37 @@ public class LogicManager implements Logic {
         CommandResult commandResult;
         //parse user input from String to a Command
         Command command = moddyParser.parseCommand(commandText);
-        //executes the Command and stores the result
-        commandResult = command.execute(profileManager, courseManager, moduleManager);
+        Catalog catalog = this.catalog;
+        synchronized (profileListLock) {
+            //executes the Command and stores the result
+            commandResult = command.execute(profileManager, catalog.courseManager, getProfileCatalog(catalog));
+            if (command.modifiesProfileList()) {
+                profileListSaver.markDirty();
+            }
+        }
 
-        try {
-            //can assume that previous line of code modifies model in some way
-            //since it is being stored here
-            //storage.saveAddressBook(model.getAddressBook());
-            storage.saveProfileList(profileManager.getProfileList());
-        } catch (IOException ioe) {
-            throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+        if (commandResult.isExit()) {
+            try {
+                profileListSaver.flush();
+            } catch (IOException ioe) {
+                throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+            }
         }
 
         return commandResult;
     }
 
+    /**
+     * Saves changes to the profile list that have not been saved yet, as the JVM shuts down.
+     */
+    private void flushOnShutdown() {
+        try {
+            profileListSaver.flush();
+        } catch (IOException ioe) {
+            logger.severe(FILE_OPS_ERROR_MESSAGE + ioe);
+        }
+    }
+
     @Override
     public ProfileList getProfileList() {
         return profileManager.getProfileList();
@@ -123,4 +149,57 @@ public class LogicManager implements Logic {
         return profileManager;
     }
 
+    @Override
+    public Optional<Integer> getEarliestSemester(ModuleCode moduleCode) {
+        if (!profileManager.hasOneProfile()) {
+            return Optional.empty();
+        }
+        return profileManager.getFirstProfile().getEarliestSemesters(getProfileCatalog(catalog))
+                .getEarliestSemester(moduleCode);
+    }
+
+    /**
+     * Returns the module catalog of {@code catalog} that applies to the profile, which is that of its catalog
+     * year if it has one, or the whole catalog if there is no profile.
+     */
+    private ModuleManager getProfileCatalog(Catalog catalog) {
+        if (!profileManager.hasOneProfile()) {
+            return catalog.moduleManager;
+        }
+        return profileManager.getFirstProfile().getCatalog(catalog.moduleManager);
+    }
+
+    @Override
+    public Optional<RequirementProgress> getRequirementProgress(Course course) {
+        if (!profileManager.hasOneProfile()) {
+            return Optional.empty();
+        }
+        return Optional.of(profileManager.getFirstProfile().getRequirementProgress(course));
+    }
+
+    @Override
+    public List<String> getCompletions(String commandText) {
+        return catalog.commandCompleter.complete(commandText);
+    }
+
+    @Override
+    public void setCatalog(ModuleManager moduleManager, CourseManager courseManager) {
+        catalog = new Catalog(moduleManager, courseManager);
+        logger.info("Using the reloaded catalog of " + moduleManager.getModuleList().size() + " modules");
+    }
+
+    /**
+     * The module and course catalogs, and the completer built from them.
+     */
+    private static class Catalog {
+        private final ModuleManager moduleManager;
+        private final CourseManager courseManager;
+        private final CommandCompleter commandCompleter;
+
+        Catalog(ModuleManager moduleManager, CourseManager courseManager) {
+            this.moduleManager = moduleManager;
+            this.courseManager = courseManager;
+            commandCompleter = new CommandCompleter(moduleManager.getModuleList(), courseManager.getCourseList());
+        }
+    }
 }
@@ -0,0 +1,131 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+
+//@@author chanckben
+/**
+ * Saves data on a background thread some time after it is marked dirty, so that a burst of changes is written
+ * once rather than once per change.
+ *
+ * <p>The first change after a save schedules the next save {@code flushDelayMillis} later, and changes made
+ * before then are written by that save, so no change waits longer than the delay to be saved. A save takes a
+ * snapshot of the data holding {@code lock}, which the code making the changes should also hold, so that a save
+ * never sees a change half-made, and then writes the snapshot without holding it, so that changes are never held
+ * up by the disk. Saves are written one at a time, in the order their snapshots were taken.
+ * A background save that fails is logged and retried by the next save.
+ */
+public class WriteBehindSaver {
+
+    public static final long DEFAULT_FLUSH_DELAY_MILLIS = 500;
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindSaver.class);
+
+    private final SaveAction saveAction;
+    private final Object lock;
+    /** Held while a snapshot is taken and written, which is taken before {@code lock}. */
+    private final Object writeLock = new Object();
+    private final long flushDelayMillis;
+    private final ScheduledExecutorService writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "write-behind-saver");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private boolean isDirty = false;
+    private ScheduledFuture<?> scheduledFlush;
+
+    /**
+     * Creates a saver that saves with {@code saveAction}, taking its snapshots holding {@code lock}, at most
+     * {@code flushDelayMillis} after a change.
+     */
+    public WriteBehindSaver(SaveAction saveAction, Object lock, long flushDelayMillis) {
+        requireNonNull(saveAction);
+        requireNonNull(lock);
+        this.saveAction = saveAction;
+        this.lock = lock;
+        this.flushDelayMillis = flushDelayMillis;
+    }
+
+    /**
+     * Records that the data has changed, scheduling a save if none is scheduled.
+     */
+    public synchronized void markDirty() {
+        isDirty = true;
+        if (scheduledFlush == null) {
+            scheduledFlush = writer.schedule(this::flushInBackground, flushDelayMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    public synchronized boolean isDirty() {
+        return isDirty;
+    }
+
+    /**
+     * Saves the data now if it has changed since it was last saved, on the calling thread.
+     *
+     * @throws IOException if the save fails, in which case the data is still dirty.
+     */
+    public void flush() throws IOException {
+        synchronized (writeLock) {
+            Write write;
+            try {
+                synchronized (lock) {
+                    synchronized (this) {
+                        if (scheduledFlush != null) {
+                            scheduledFlush.cancel(false);
+                            scheduledFlush = null;
+                        }
+                        if (!isDirty) {
+                            return;
+                        }
+                        isDirty = false;
+                    }
+                    write = saveAction.takeSnapshot();
+                }
+                write.write();
+            } catch (IOException | RuntimeException e) {
+                synchronized (this) {
+                    isDirty = true;
+                }
+                throw e;
+            }
+        }
+    }
+
+    private void flushInBackground() {
+        try {
+            flush();
+        } catch (IOException | RuntimeException e) {
+            logger.warning("Failed to save data, will retry on the next save " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Saves data.
+     */
+    @FunctionalInterface
+    public interface SaveAction {
+        /**
+         * Takes a snapshot of the data, and returns the write of the snapshot, which does not need the data.
+         */
+        Write takeSnapshot() throws IOException;
+    }
+
+    /**
+     * Writes a snapshot of data taken by a {@link SaveAction}.
+     */
+    @FunctionalInterface
+    public interface Write {
+        void write() throws IOException;
+    }
+}
@@ -19,6 +19,7 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.CourseManager;
 import seedu.address.model.ModuleList;
 import seedu.address.model.ModuleManager;
+import seedu.address.model.PrereqSolver;
 import seedu.address.model.ProfileManager;
 import seedu.address.model.profile.Profile;
 import seedu.address.model.profile.course.module.Module;
@@ -59,6 +60,7 @@ public class AddCommand extends Command {
     public static final String MESSAGE_UNFULFILLED_PREREQS = "NOTE: You may not have fulfilled the prerequisites of "
             + "%1$s before year %2$s semester %3$s";
     public static final String PREREQ_STRING = "\nPrerequisites of %1$s: %2$s";
+    public static final String MISSING_PREREQS_STRING = "\nModules still needed for %1$s: %2$s";
 
     private final List<ModuleCode> toAdd;
     private int addSemester;
@@ -124,6 +126,8 @@ public class AddCommand extends Command {
                     modsUnfulfilledPrereqs.add(moduleCode);
                     prereqMsg.append(String.format(PREREQ_STRING, moduleCode,
                             moduleManager.getModule(moduleCode).getPrereqs()));
+                    prereqMsg.append(getMissingPrereqsString(moduleManager, moduleCode,
+                            profile.getAllModuleCodesBefore(addSemester)));
                 }
             }
             // Modules with unfulfilled prerequisites are being added
@@ -165,9 +169,9 @@ public class AddCommand extends Command {
             if (addSemester == 0) {
                 throw new CommandException("Error: Please add this module to a semester first.");
             }
-            // Create Personal object
+            // Take a copy of the catalog module with its own Personal object, so that the catalog is not changed
             personal = new Personal();
-
+            moduleToAdd = moduleToAdd.withPersonal(personal);
         }
 
         int currentSemester = profile.getOverallSemester();
@@ -236,8 +240,6 @@ public class AddCommand extends Command {
             personal.setStatus("not taken");
         }
 
-        moduleToAdd.setPersonal(personal);
-
         String messageShown;
         if (!hasModule) {
             try {
@@ -246,17 +248,17 @@ public class AddCommand extends Command {
                 throw new CommandException(MESSAGE_MAX_MODS);
             }
             // Check if prerequisites of the module have been fulfilled
-            if (moduleToAdd.getPrereqTreeNode() != null && !moduleToAdd.getPrereqTreeNode()
-                    .hasFulfilledPrereqs(profile.getAllModuleCodesBefore(addSemester))) {
+            if (!profile.getEligibleModules(moduleManager).isEligible(moduleCodeToAdd, addSemester)) {
                 int year = (addSemester + 1) / 2;
                 int sem = 2 - (addSemester % 2);
                 messageShown = String.format(MESSAGE_UNFULFILLED_PREREQS, moduleCodeToAdd, year, sem)
-                        + String.format(PREREQ_STRING, moduleCodeToAdd, moduleToAdd.getPrereqs());
+                        + String.format(PREREQ_STRING, moduleCodeToAdd, moduleToAdd.getPrereqs())
+                        + getMissingPrereqsString(moduleManager, moduleCodeToAdd,
+                                profile.getAllModuleCodesBefore(addSemester));
             } else {
                 messageShown = MESSAGE_ADD_SUCCESS;
             }
             profileManager.setDisplayedView(profile);
-            profile.updateCap();
             return new CommandResult(String.format(messageShown, moduleCodeToAdd), true);
         } else {
             messageShown = MESSAGE_EDIT_SUCCESS;
@@ -265,10 +267,22 @@ public class AddCommand extends Command {
             }
         }
 
-        profile.updateCap();
         return new CommandResult(String.format(messageShown, moduleCodeToAdd), false);
     }
 
+    /**
+     * Returns the fewest modules found still needed to fulfil the prerequisites of {@code moduleCode} given
+     * {@code modulesTaken}, or an empty string if they cannot be worked out from the catalog.
+     */
+    private static String getMissingPrereqsString(ModuleManager moduleManager, ModuleCode moduleCode,
+                                                  List<ModuleCode> modulesTaken) {
+        return new PrereqSolver(moduleManager, modulesTaken, PrereqSolver.Objective.MODULE_COUNT)
+                .solve(moduleCode)
+                .filter(solution -> !solution.isFulfilled())
+                .map(solution -> String.format(MISSING_PREREQS_STRING, moduleCode, solution))
+                .orElse("");
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -23,4 +23,11 @@ public abstract class Command {
      */
     public abstract CommandResult execute(ProfileManager profileManager, CourseManager courseManager,
                                           ModuleManager moduleManager) throws CommandException;
+
+    /**
+     * Returns true if executing this command may modify the profile list, which then has to be saved.
+     */
+    public boolean modifiesProfileList() {
+        return true;
+    }
 }
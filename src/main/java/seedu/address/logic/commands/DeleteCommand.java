@@ -219,9 +219,8 @@ public class DeleteCommand extends Command {
             // Delete grade
             if (deleteGrade != null) {
                 try {
-                    profile.getModule(deleteModuleCode).deleteGrade();
+                    profile.deleteGrade(profile.getModule(deleteModuleCode));
                     profileManager.setDisplayedView(profile);
-                    profile.updateCap();
                 } catch (ModuleNotFoundException e) {
                     throw new CommandException(String.format(MESSAGE_NOT_TAKING_MODULE, deleteModuleCode.toString()));
                 } catch (NoSuchElementException e) {
@@ -234,7 +233,6 @@ public class DeleteCommand extends Command {
             try {
                 profile.deleteModule(deleteModuleCode);
                 profileManager.deleteModuleDeadlines(deleteModuleCode);
-                profile.updateCap();
                 profileManager.setDisplayedView(profile);
 
             } catch (ModuleNotFoundException e) {
@@ -7,6 +7,7 @@ import static seedu.address.commons.core.Messages.MESSAGE_EMPTY_PROFILE_LIST;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COURSE_FOCUS_AREA;
 import static seedu.address.commons.core.Messages.MESSAGE_MAX_MODS;
 import static seedu.address.commons.core.Messages.MESSAGE_MODULE_NOT_ADDED;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CATALOG_YEAR;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_COURSE_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_FOCUS_AREA;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_GRADE;
@@ -18,6 +19,7 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.CliSyntax;
@@ -52,11 +54,13 @@ public class EditCommand extends Command {
             + "(" + PREFIX_COURSE_NAME + "COURSE) "
             + "(" + CliSyntax.PREFIX_YEAR + "CURRENT_SEMESTER) "
             + "(" + PREFIX_FOCUS_AREA + "FOCUS_AREA) "
+            + "(" + PREFIX_CATALOG_YEAR + "CATALOG_YEAR) "
             + "\nExample: " + COMMAND_WORD + " "
             + PREFIX_NAME + "John "
             + "(" + PREFIX_COURSE_NAME + "Computer Science) "
             + "(" + CliSyntax.PREFIX_YEAR + "4) "
             + "(" + PREFIX_FOCUS_AREA + "Algorithms & Theory) "
+            + "(" + PREFIX_CATALOG_YEAR + "2018/2019) "
             + "\nParameters to edit a module: "
             + PREFIX_MODULE + "MODULE "
             + "(" + PREFIX_YEAR + "SEMESTER) "
@@ -75,6 +79,7 @@ public class EditCommand extends Command {
     private int updatedSemester = 0;
     private String focusAreaString = null;
     private FocusArea focusArea = null;
+    private String catalogYear = null;
 
     private boolean editModule = false;
     private ModuleCode moduleCode;
@@ -86,11 +91,17 @@ public class EditCommand extends Command {
     private int inSemester = 0;
 
     public EditCommand(Name name, CourseName courseName, int updatedSemester, String focusAreaString) {
+        this(name, courseName, updatedSemester, focusAreaString, null);
+    }
+
+    public EditCommand(Name name, CourseName courseName, int updatedSemester, String focusAreaString,
+                       String catalogYear) {
         toEditProfile = true;
         this.profileName = name;
         this.courseName = courseName;
         this.updatedSemester = updatedSemester;
         this.focusAreaString = focusAreaString;
+        this.catalogYear = catalogYear;
     }
 
     public EditCommand(ModuleCode moduleCode, int editSemester, String grade, String oldTask, String newTask,
@@ -148,16 +159,15 @@ public class EditCommand extends Command {
 
             if (grade != null) {
                 int currentUserSemester = profileToEdit.getOverallSemester();
-                existingModule.getPersonal().setGrade(grade);
+                profileToEdit.setGrade(existingModule, grade);
                 profileManager.setDisplayedView(profileToEdit);
-                profileToEdit.updateCap();
                 showCommand = true;
 
             }
 
             if (oldSemester != 0 && editSemester != 0) {
                 try {
-                    hashMap.get(oldSemester).removeModuleWithModuleCode(moduleCode);
+                    profileToEdit.deleteModule(moduleCode);
                 } catch (ModuleNotFoundException e) { // Will not happen
                     throw new CommandException("Error deleting existing module.");
                 }
@@ -232,6 +242,10 @@ public class EditCommand extends Command {
                 profileToEdit.setFocusArea(focusArea);
             }
 
+            if (catalogYear != null) {
+                profileToEdit.setCatalogYear(catalogYear);
+            }
+
             if (updatedSemester != 0) {
                 profileToEdit.setCurrentSemester(updatedSemester);
                 updateStatus(profileToEdit);
@@ -299,7 +313,8 @@ public class EditCommand extends Command {
             if (isProfileNameEqual(other)
                     && isCourseNameEqual(other)
                     && (updatedSemester == ((EditCommand) other).updatedSemester)
-                    && isFocusAreaEqual(other)) {
+                    && isFocusAreaEqual(other)
+                    && isCatalogYearEqual(other)) {
                 isSameProfile = true;
             }
         } else if (editModule == true) {
@@ -356,6 +371,13 @@ public class EditCommand extends Command {
         return isEqual;
     }
 
+    /**
+     * Returns true if catalog year is the same, including null cases
+     */
+    public boolean isCatalogYearEqual(Object other) {
+        return Objects.equals(catalogYear, ((EditCommand) other).catalogYear);
+    }
+
     /**
      * Returns true if grade is the same, including null cases
      */
@@ -25,4 +25,8 @@ public class ExitCommand extends Command {
         return new CommandResult(MESSAGE_EXIT_ACKNOWLEDGEMENT, false, true, false);
     }
 
+    @Override
+    public boolean modifiesProfileList() {
+        return false;
+    }
 }
@@ -0,0 +1,66 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import seedu.address.model.CourseManager;
+import seedu.address.model.ModuleManager;
+import seedu.address.model.ProfileManager;
+import seedu.address.model.profile.course.module.ModuleCode;
+
+//@@author chanckben
+/**
+ * Finds the modules in the catalog whose code, title or description match the given keywords.
+ */
+public class FindCommand extends Command {
+
+    public static final String COMMAND_WORD = "find";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds the modules whose code, title or description "
+            + "match the given keywords, best match first.\n"
+            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
+            + "Example: " + COMMAND_WORD + " software engineering";
+
+    public static final String MESSAGE_SUCCESS = "Modules matching \"%1$s\":\n%2$s";
+    public static final String MESSAGE_NO_MODULES_FOUND = "No modules match \"%1$s\".";
+
+    public static final int MAX_RESULTS = 20;
+
+    private final String query;
+
+    public FindCommand(String query) {
+        requireNonNull(query);
+        this.query = query;
+    }
+
+    @Override
+    public CommandResult execute(ProfileManager profileManager, CourseManager courseManager,
+                                 ModuleManager moduleManager) {
+        requireNonNull(moduleManager);
+
+        List<ModuleCode> moduleCodes = moduleManager.findModules(query, MAX_RESULTS);
+        if (moduleCodes.isEmpty()) {
+            return new CommandResult(String.format(MESSAGE_NO_MODULES_FOUND, query), false);
+        }
+
+        StringBuilder modules = new StringBuilder();
+        for (ModuleCode moduleCode : moduleCodes) {
+            modules.append("\n").append(moduleCode).append(" ")
+                    .append(moduleManager.getModule(moduleCode).getTitle());
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, query, modules.toString().trim()), false);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof FindCommand // instanceof handles nulls
+                && query.equals(((FindCommand) other).query)); // state check
+    }
+
+    @Override
+    public boolean modifiesProfileList() {
+        return false;
+    }
+}
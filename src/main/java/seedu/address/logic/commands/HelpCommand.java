@@ -29,4 +29,9 @@ public class HelpCommand extends Command {
 
         return new CommandResult(SHOWING_HELP_MESSAGE, true, false, false);
     }
+
+    @Override
+    public boolean modifiesProfileList() {
+        return false;
+    }
 }
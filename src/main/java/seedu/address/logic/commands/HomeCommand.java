@@ -29,4 +29,9 @@ public class HomeCommand extends Command {
         profileManager.setDisplayedView((Profile) null);
         return new CommandResult(MESSAGE, false, false, true);
     }
+
+    @Override
+    public boolean modifiesProfileList() {
+        return false;
+    }
 }
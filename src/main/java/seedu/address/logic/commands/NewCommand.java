@@ -1,6 +1,7 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CATALOG_YEAR;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_COURSE_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_YEAR;
@@ -24,11 +25,13 @@ public class NewCommand extends Command {
             + "Parameters: "
             + PREFIX_NAME + "NAME "
             + PREFIX_COURSE_NAME + "COURSE "
-            + PREFIX_YEAR + "YEAR.SEMESTER" + "\n"
+            + PREFIX_YEAR + "YEAR.SEMESTER "
+            + "(" + PREFIX_CATALOG_YEAR + "CATALOG_YEAR)" + "\n"
             + "Example: " + COMMAND_WORD + " "
             + PREFIX_NAME + "John Doe "
             + PREFIX_COURSE_NAME + "Computer Science "
-            + PREFIX_YEAR + "2.2";
+            + PREFIX_YEAR + "2.2 "
+            + PREFIX_CATALOG_YEAR + "2018/2019";
 
     public static final String MESSAGE_SUCCESS = "New profile created: %1$s";
     public static final String MESSAGE_DUPLICATE_PROFILE = "Error: Profile with name %1$s exists. "
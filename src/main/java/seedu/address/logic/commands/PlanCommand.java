@@ -0,0 +1,120 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_EMPTY_PROFILE_LIST;
+import static seedu.address.commons.core.Messages.MESSAGE_MAX_MODS;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.CourseManager;
+import seedu.address.model.ModuleManager;
+import seedu.address.model.ModulePlanner;
+import seedu.address.model.ProfileManager;
+import seedu.address.model.profile.Profile;
+import seedu.address.model.profile.course.Course;
+import seedu.address.model.profile.course.CourseFocusArea;
+import seedu.address.model.profile.course.module.Module;
+import seedu.address.model.profile.course.module.ModuleCode;
+import seedu.address.model.profile.course.module.personal.Personal;
+import seedu.address.model.profile.exceptions.MaxModsException;
+
+//@@author chanckben
+/**
+ * Fills the semesters of the profile with the modules it still needs for its course and focus area.
+ */
+public class PlanCommand extends Command {
+
+    public static final String COMMAND_WORD = "plan";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Plans the modules still needed to fulfil the "
+            + "requirements of your course and focus area, from the current semester onwards.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_SUCCESS = "Planned %1$s modules (%2$s MCs):\n%3$s";
+    public static final String MESSAGE_NOT_OPTIMAL = "\nNOTE: This is the best plan found in time, a plan with "
+            + "fewer MCs may exist.";
+    public static final String MESSAGE_NOTHING_TO_PLAN = "Your modules already fulfil the requirements of your "
+            + "course and focus area.";
+    public static final String MESSAGE_NO_PLAN = "Error: No plan fulfilling the requirements of your course and "
+            + "focus area by year %1$s semester %2$s could be found.";
+
+    public static final long TIME_BUDGET_MILLIS = 200;
+
+    @Override
+    public CommandResult execute(ProfileManager profileManager, CourseManager courseManager,
+                                 ModuleManager moduleManager) throws CommandException {
+        requireNonNull(profileManager);
+        requireNonNull(courseManager);
+        requireNonNull(moduleManager);
+
+        if (!profileManager.hasOneProfile()) {
+            throw new CommandException(MESSAGE_EMPTY_PROFILE_LIST);
+        }
+        Profile profile = profileManager.getFirstProfile();
+
+        Course course;
+        try {
+            course = courseManager.getCourse(profile.getCourseName());
+        } catch (ParseException e) {
+            throw new CommandException(e.getMessage());
+        }
+        // If the profile has not decided on a focus area, only the course requirements are planned for
+        CourseFocusArea focusArea = profile.getFocusArea() == null ? null
+                : course.findCourseFocusArea(profile.getFocusArea().toString()).orElse(null);
+
+        Optional<ModulePlanner.Plan> plan = new ModulePlanner(moduleManager, profile, course, focusArea,
+                TIME_BUDGET_MILLIS).plan();
+        if (!plan.isPresent()) {
+            int lastSemester = Math.max(ModulePlanner.LAST_SEMESTER, profile.getOverallSemester());
+            throw new CommandException(String.format(MESSAGE_NO_PLAN, (lastSemester + 1) / 2,
+                    2 - (lastSemester % 2)));
+        }
+        if (plan.get().isEmpty()) {
+            return new CommandResult(MESSAGE_NOTHING_TO_PLAN, false);
+        }
+
+        for (Map.Entry<Integer, List<ModuleCode>> entry : plan.get().getSemesters().entrySet()) {
+            for (ModuleCode moduleCode : entry.getValue()) {
+                addModule(profile, entry.getKey(), moduleManager.getModule(moduleCode));
+            }
+        }
+        profileManager.setDisplayedView(profile);
+
+        String message = String.format(MESSAGE_SUCCESS, plan.get().getModuleCount(),
+                (int) plan.get().getModularCredits(), plan.get());
+        if (!plan.get().isOptimal()) {
+            message += MESSAGE_NOT_OPTIMAL;
+        }
+        return new CommandResult(message, true);
+    }
+
+    /**
+     * Adds a copy of the catalog module {@code module} to {@code semester} of {@code profile}, with its status set
+     * as {@link AddCommand} does.
+     */
+    private static void addModule(Profile profile, int semester, Module module) throws CommandException {
+        Personal personal = new Personal();
+        int currentSemester = profile.getOverallSemester();
+        if (semester < currentSemester) {
+            personal.setStatus("completed");
+        } else if (semester == currentSemester) {
+            personal.setStatus("in progress");
+        } else {
+            personal.setStatus("not taken");
+        }
+        try {
+            profile.addModule(semester, module.withPersonal(personal));
+        } catch (MaxModsException e) {
+            throw new CommandException(MESSAGE_MAX_MODS);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this || other instanceof PlanCommand;
+    }
+}
@@ -6,14 +6,21 @@ import static seedu.address.commons.core.Messages.MESSAGE_INVALID_MODULE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_COURSE_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_FOCUS_AREA;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_MODULE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_UNLOCKS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_YEAR;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
 import javafx.collections.transformation.FilteredList;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.CourseManager;
 import seedu.address.model.ModuleList;
 import seedu.address.model.ModuleManager;
+import seedu.address.model.PrereqSolver;
 import seedu.address.model.ProfileManager;
 import seedu.address.model.profile.Name;
 import seedu.address.model.profile.Profile;
@@ -37,6 +44,7 @@ public class ShowCommand extends Command {
             + "Course, with " + PREFIX_COURSE_NAME + "COURSE\n"
             + "Course Focus Area, with " + PREFIX_FOCUS_AREA + "FOCUS_AREA\n"
             + "Module, with " + PREFIX_MODULE + "MODULE_CODE\n"
+            + "Modules unlocked by taking a module, with " + PREFIX_UNLOCKS + "MODULE_CODE\n"
             + "Modules taken in a semester, with " + PREFIX_YEAR + "SEMESTER_NUMBER\n";
 
     public static final String MESSAGE_SUCCESS_NAME = "Here is your academic overview: ";
@@ -44,11 +52,15 @@ public class ShowCommand extends Command {
             + "\nEnter [show m/MODULE_CODE] to find out more about the module";
     public static final String MESSAGE_SUCCESS_MODULE = "The details for this module are show below:";
     public static final String MESSAGE_SUCCESS_FOCUS_AREA = "Modules in this focus area are shown below: ";
+    public static final String MESSAGE_FOCUS_AREA_MISSING_PREREQS = "\nModules still needed to take:";
     public static final String MESSAGE_SUCCESS_COURSE = "Course requirements for this course are show below: ";
+    public static final String MESSAGE_SUCCESS_UNLOCKS = "Modules that list %1$s as a prerequisite: %2$s\n"
+            + "Modules unlocked through those modules: %3$s";
 
 
 
     private final Object toParse;
+    private final boolean isShowUnlocks;
     private Object toShow;
     /**
      * Creates a ShowCommand to show the specified object
@@ -59,26 +71,39 @@ public class ShowCommand extends Command {
     public ShowCommand(Name name) {
         requireNonNull(name);
         this.toParse = name;
+        this.isShowUnlocks = false;
     }
 
     public ShowCommand(Year year) {
         requireNonNull(year);
         this.toParse = year;
+        this.isShowUnlocks = false;
     }
 
     public ShowCommand(ModuleCode moduleCode) {
+        this(moduleCode, false);
+    }
+
+    /**
+     * Creates a ShowCommand to show the module with code {@code moduleCode}, or the modules it unlocks
+     * if {@code isShowUnlocks} is true.
+     */
+    public ShowCommand(ModuleCode moduleCode, boolean isShowUnlocks) {
         requireNonNull(moduleCode);
         this.toParse = moduleCode;
+        this.isShowUnlocks = isShowUnlocks;
     }
 
     public ShowCommand(String focusArea) {
         requireNonNull(focusArea);
         this.toParse = focusArea;
+        this.isShowUnlocks = false;
     }
 
     public ShowCommand(CourseName courseName) {
         requireNonNull(courseName);
         this.toParse = courseName;
+        this.isShowUnlocks = false;
     }
 
     @Override
@@ -117,6 +142,17 @@ public class ShowCommand extends Command {
                 FilteredList<Module> filteredModules = new FilteredList<>(((ModuleList) toShow).getModuleList());
                 profileManager.setDisplayedView(filteredModules);
 
+            } else if (toParse instanceof ModuleCode && isShowUnlocks) {
+                ModuleCode moduleCode = (ModuleCode) toParse;
+
+                if (!moduleManager.hasModule(moduleCode)) {
+                    throw new CommandException(String.format(MESSAGE_INVALID_MODULE, moduleCode));
+                }
+
+                return new CommandResult(String.format(MESSAGE_SUCCESS_UNLOCKS, moduleCode,
+                        formatModuleCodes(moduleManager.getDirectUnlocks(moduleCode)),
+                        formatModuleCodes(moduleManager.getTransitiveUnlocks(moduleCode))), false);
+
             } else if (toParse instanceof ModuleCode) {
                 message = MESSAGE_SUCCESS_MODULE;
                 ModuleCode moduleCode = (ModuleCode) toParse;
@@ -131,9 +167,12 @@ public class ShowCommand extends Command {
             } else if (toParse instanceof String) {
                 message = MESSAGE_SUCCESS_FOCUS_AREA;
                 String focusArea = (String) toParse;
-                toShow = courseManager.getCourseFocusArea(focusArea); (
-                        (CourseFocusArea) toShow).initListModule(moduleManager.getModuleList());
+                toShow = courseManager.getCourseFocusArea(focusArea);
                 profileManager.setDisplayedView((CourseFocusArea) toShow);
+                if (profileManager.hasOneProfile()) {
+                    message += getMissingPrereqsString((CourseFocusArea) toShow,
+                            profileManager.getFirstProfile(), moduleManager);
+                }
 
             } else if (toParse instanceof CourseName) {
                 message = MESSAGE_SUCCESS_COURSE;
@@ -150,10 +189,51 @@ public class ShowCommand extends Command {
         }
     }
 
+    /**
+     * Returns, for each module in {@code focusArea} that {@code profile} is not taking, the fewest modules
+     * still needed to fulfil its prerequisites, or an empty string if every prerequisite is fulfilled.
+     */
+    private static String getMissingPrereqsString(CourseFocusArea focusArea, Profile profile,
+                                                  ModuleManager moduleManager) {
+        List<ModuleCode> modulesTaken = profile.getAllModuleCodesBefore(Integer.MAX_VALUE);
+        List<ModuleCode> focusAreaModules = new ArrayList<>(focusArea.getPrimaryModuleCodes());
+        focusAreaModules.addAll(focusArea.getElectiveModuleCodes());
+        focusAreaModules.removeIf(profile::hasModule);
+
+        StringBuilder missingPrereqs = new StringBuilder();
+        new PrereqSolver(moduleManager, modulesTaken, PrereqSolver.Objective.MODULE_COUNT)
+                .solveAll(focusAreaModules)
+                .forEach((moduleCode, solution) -> {
+                    if (!solution.isFulfilled()) {
+                        missingPrereqs.append("\n").append(moduleCode).append(": ").append(solution);
+                    }
+                });
+        return missingPrereqs.length() == 0 ? "" : MESSAGE_FOCUS_AREA_MISSING_PREREQS + missingPrereqs;
+    }
+
+    /**
+     * Returns the module codes in {@code moduleCodes} in alphabetical order, or "-" if there are none.
+     */
+    private static String formatModuleCodes(List<ModuleCode> moduleCodes) {
+        if (moduleCodes.isEmpty()) {
+            return "-";
+        }
+        return moduleCodes.stream()
+                .map(ModuleCode::toString)
+                .sorted(Comparator.naturalOrder())
+                .collect(Collectors.joining(", "));
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof ShowCommand // instanceof handles nulls
-                && toParse.equals(((ShowCommand) other).toParse));
+                && toParse.equals(((ShowCommand) other).toParse)
+                && isShowUnlocks == ((ShowCommand) other).isShowUnlocks);
+    }
+
+    @Override
+    public boolean modifiesProfileList() {
+        return false;
     }
 }
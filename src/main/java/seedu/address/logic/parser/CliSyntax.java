@@ -16,5 +16,7 @@ public class CliSyntax {
     public static final Prefix PREFIX_NAME = new Prefix("n/");
     public static final Prefix PREFIX_COURSE_NAME = new Prefix("c/");
     public static final Prefix PREFIX_FOCUS_AREA = new Prefix("f/");
+    public static final Prefix PREFIX_UNLOCKS = new Prefix("u/");
+    public static final Prefix PREFIX_CATALOG_YEAR = new Prefix("a/");
 
 }
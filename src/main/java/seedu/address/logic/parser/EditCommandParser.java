@@ -3,6 +3,7 @@ package seedu.address.logic.parser;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.commons.core.Messages.MESSAGE_MISSING_NEW_TASK_OR_DEADLINE;
 import static seedu.address.commons.core.Messages.MESSAGE_MISSING_OLD_TASK;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CATALOG_YEAR;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_COURSE_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DEADLINE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_FOCUS_AREA;
@@ -39,7 +40,7 @@ public class EditCommandParser implements Parser<EditCommand> {
         ArgumentMultimap argMultimap =
                 ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_COURSE_NAME, PREFIX_YEAR,
                         PREFIX_FOCUS_AREA, PREFIX_MODULE, PREFIX_GRADE, PREFIX_TASK, PREFIX_NEW_TASK,
-                        PREFIX_DEADLINE);
+                        PREFIX_DEADLINE, PREFIX_CATALOG_YEAR);
 
         if (arePrefixesPresent(argMultimap, PREFIX_MODULE)) { // EDIT MODULE
             if (!arePrefixesPresent(argMultimap, PREFIX_YEAR) && !arePrefixesPresent(argMultimap, PREFIX_GRADE)
@@ -119,7 +120,8 @@ public class EditCommandParser implements Parser<EditCommand> {
 
             if (!arePrefixesPresent(argMultimap, PREFIX_NAME) && !arePrefixesPresent(argMultimap, PREFIX_COURSE_NAME)
                     && !arePrefixesPresent(argMultimap, PREFIX_YEAR)
-                    && !arePrefixesPresent(argMultimap, PREFIX_FOCUS_AREA)) {
+                    && !arePrefixesPresent(argMultimap, PREFIX_FOCUS_AREA)
+                    && !arePrefixesPresent(argMultimap, PREFIX_CATALOG_YEAR)) {
                 throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, EditCommand.MESSAGE_USAGE));
             }
 
@@ -136,11 +138,15 @@ public class EditCommandParser implements Parser<EditCommand> {
             if (argMultimap.getAllValues(PREFIX_FOCUS_AREA).size() > 1) {
                 throw new ParseException("Error: you can only specify one focus area!");
             }
+            if (argMultimap.getAllValues(PREFIX_CATALOG_YEAR).size() > 1) {
+                throw new ParseException("Error: you can only specify one catalog year!");
+            }
 
             Name name = null;
             CourseName courseName = null;
             int currentSemester = 0;
             String focusArea = null;
+            String catalogYear = null;
 
             if (arePrefixesPresent(argMultimap, PREFIX_NAME)) {
                 name = ParserUtil.parseName(argMultimap.getValue(PREFIX_NAME).get());
@@ -155,7 +161,10 @@ public class EditCommandParser implements Parser<EditCommand> {
             if (arePrefixesPresent(argMultimap, PREFIX_FOCUS_AREA)) {
                 focusArea = argMultimap.getValue(PREFIX_FOCUS_AREA).get();
             }
-            return new EditCommand(name, courseName, currentSemester, focusArea);
+            if (arePrefixesPresent(argMultimap, PREFIX_CATALOG_YEAR)) {
+                catalogYear = ParserUtil.parseCatalogYear(argMultimap.getValue(PREFIX_CATALOG_YEAR).get());
+            }
+            return new EditCommand(name, courseName, currentSemester, focusArea, catalogYear);
         }
     }
 
@@ -1,6 +1,7 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CATALOG_YEAR;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_COURSE_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_FOCUS_AREA;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
@@ -41,7 +42,7 @@ public class NewCommandParser implements Parser<NewCommand> {
 
         ArgumentMultimap argMultimap =
                 ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_COURSE_NAME, PREFIX_YEAR,
-                        PREFIX_FOCUS_AREA);
+                        PREFIX_FOCUS_AREA, PREFIX_CATALOG_YEAR);
 
         if (!arePrefixesPresent(argMultimap, PREFIX_NAME, PREFIX_COURSE_NAME, PREFIX_YEAR)
                 || !argMultimap.getPreamble().isEmpty()) {
@@ -61,6 +62,9 @@ public class NewCommandParser implements Parser<NewCommand> {
         }
 
         Profile profile = new Profile(name, courseName, currentSemester, focusArea);
+        if (arePrefixesPresent(argMultimap, PREFIX_CATALOG_YEAR)) {
+            profile.setCatalogYear(ParserUtil.parseCatalogYear(argMultimap.getValue(PREFIX_CATALOG_YEAR).get()));
+        }
 
         return new NewCommand(profile);
 
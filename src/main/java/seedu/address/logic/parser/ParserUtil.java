@@ -22,6 +22,7 @@ import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.commands.NewCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.CatalogDelta;
 import seedu.address.model.profile.Name;
 import seedu.address.model.profile.Year;
 import seedu.address.model.profile.course.CourseName;
@@ -133,6 +134,20 @@ public class ParserUtil {
         return new Year(trimmedYear);
     }
 
+    /**
+     * Parses a {@code String catalogYear}, the academic year whose module catalog applies to a profile.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code catalogYear} is invalid.
+     */
+    public static String parseCatalogYear(String catalogYear) throws ParseException {
+        String trimmedCatalogYear = catalogYear.trim();
+        if (!CatalogDelta.isValidAcademicYear(trimmedCatalogYear)) {
+            throw new ParseException(CatalogDelta.MESSAGE_CONSTRAINTS);
+        }
+        return trimmedCatalogYear;
+    }
+
     /**
      * Parses a {@code String grade}.
      * Leading and trailing whitespaces will be trimmed.
@@ -6,6 +6,7 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_COURSE_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_FOCUS_AREA;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_MODULE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_UNLOCKS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_YEAR;
 
 import java.util.stream.Stream;
@@ -33,11 +34,12 @@ public class ShowCommandParser implements Parser<ShowCommand> {
     public ShowCommand parse(String args) throws ParseException {
         ArgumentMultimap argMultimap =
                 ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_YEAR, PREFIX_MODULE,
-                        PREFIX_FOCUS_AREA, PREFIX_COURSE_NAME);
+                        PREFIX_FOCUS_AREA, PREFIX_COURSE_NAME, PREFIX_UNLOCKS);
 
         // Get Name
         if (arePrefixesPresent(argMultimap, PREFIX_NAME)) {
-            if (onePrefixPresent(argMultimap, PREFIX_YEAR, PREFIX_MODULE, PREFIX_FOCUS_AREA, PREFIX_COURSE_NAME)) {
+            if (onePrefixPresent(argMultimap, PREFIX_YEAR, PREFIX_MODULE, PREFIX_FOCUS_AREA,
+                    PREFIX_COURSE_NAME, PREFIX_UNLOCKS)) {
                 throw new MultipleTagException();
             }
             Name name = ParserUtil.parseName(argMultimap.getValue(PREFIX_NAME).get());
@@ -46,7 +48,8 @@ public class ShowCommandParser implements Parser<ShowCommand> {
 
         // Get Semester
         if (arePrefixesPresent(argMultimap, PREFIX_YEAR)) {
-            if (onePrefixPresent(argMultimap, PREFIX_NAME, PREFIX_MODULE, PREFIX_FOCUS_AREA, PREFIX_COURSE_NAME)) {
+            if (onePrefixPresent(argMultimap, PREFIX_NAME, PREFIX_MODULE, PREFIX_FOCUS_AREA,
+                    PREFIX_COURSE_NAME, PREFIX_UNLOCKS)) {
                 throw new MultipleTagException();
             }
             Year year = ParserUtil.parseYear(argMultimap.getValue(PREFIX_YEAR).get());
@@ -55,7 +58,8 @@ public class ShowCommandParser implements Parser<ShowCommand> {
 
         // Get Module
         if (arePrefixesPresent(argMultimap, PREFIX_MODULE)) {
-            if (onePrefixPresent(argMultimap, PREFIX_NAME, PREFIX_YEAR, PREFIX_FOCUS_AREA, PREFIX_COURSE_NAME)) {
+            if (onePrefixPresent(argMultimap, PREFIX_NAME, PREFIX_YEAR, PREFIX_FOCUS_AREA,
+                    PREFIX_COURSE_NAME, PREFIX_UNLOCKS)) {
                 throw new MultipleTagException();
             }
             ModuleCode moduleCode = ParserUtil.parseModuleCode(argMultimap.getValue(PREFIX_MODULE).get());
@@ -64,7 +68,8 @@ public class ShowCommandParser implements Parser<ShowCommand> {
 
         // Get Focus Area
         if (arePrefixesPresent(argMultimap, PREFIX_FOCUS_AREA)) {
-            if (onePrefixPresent(argMultimap, PREFIX_NAME, PREFIX_YEAR, PREFIX_MODULE, PREFIX_COURSE_NAME)) {
+            if (onePrefixPresent(argMultimap, PREFIX_NAME, PREFIX_YEAR, PREFIX_MODULE,
+                    PREFIX_COURSE_NAME, PREFIX_UNLOCKS)) {
                 throw new MultipleTagException();
             }
             String focusArea = argMultimap.getValue(PREFIX_FOCUS_AREA).get().toUpperCase();
@@ -76,7 +81,8 @@ public class ShowCommandParser implements Parser<ShowCommand> {
 
         // Get Course
         if (arePrefixesPresent(argMultimap, PREFIX_COURSE_NAME)) {
-            if (onePrefixPresent(argMultimap, PREFIX_NAME, PREFIX_YEAR, PREFIX_MODULE, PREFIX_FOCUS_AREA)) {
+            if (onePrefixPresent(argMultimap, PREFIX_NAME, PREFIX_YEAR, PREFIX_MODULE,
+                    PREFIX_FOCUS_AREA, PREFIX_UNLOCKS)) {
                 throw new MultipleTagException();
             }
             CourseName courseName = ParserUtil.parseCourseName(
@@ -84,6 +90,16 @@ public class ShowCommandParser implements Parser<ShowCommand> {
             return new ShowCommand(courseName); // returns CourseName
         }
 
+        // Get modules unlocked by a module
+        if (arePrefixesPresent(argMultimap, PREFIX_UNLOCKS)) {
+            if (onePrefixPresent(argMultimap, PREFIX_NAME, PREFIX_YEAR, PREFIX_MODULE, PREFIX_FOCUS_AREA,
+                    PREFIX_COURSE_NAME)) {
+                throw new MultipleTagException();
+            }
+            ModuleCode moduleCode = ParserUtil.parseModuleCode(argMultimap.getValue(PREFIX_UNLOCKS).get());
+            return new ShowCommand(moduleCode, true);
+        }
+
         throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ShowCommand.MESSAGE_USAGE));
     }
 
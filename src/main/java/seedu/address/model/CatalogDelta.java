@@ -0,0 +1,62 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import seedu.address.model.profile.course.module.Module;
+import seedu.address.model.profile.course.module.ModuleCode;
+
+//@@author chanckben
+/**
+ * Represents how the module catalog of an academic year differs from the base catalog of a {@code ModuleManager}.
+ * Guarantees: immutable.
+ */
+public class CatalogDelta {
+
+    public static final String MESSAGE_CONSTRAINTS =
+            "Academic years should be two consecutive years separated by a slash, e.g. 2019/2020";
+
+    private final String academicYear;
+    private final List<Module> changedModules;
+    private final List<ModuleCode> removedModuleCodes;
+
+    /**
+     * Creates the delta of {@code academicYear}, in which {@code changedModules} are offered in place of the
+     * modules of the base catalog with the same code, or in addition to them, and the modules with
+     * {@code removedModuleCodes} are not offered.
+     */
+    public CatalogDelta(String academicYear, List<Module> changedModules, List<ModuleCode> removedModuleCodes) {
+        requireNonNull(academicYear);
+        requireNonNull(changedModules);
+        requireNonNull(removedModuleCodes);
+        this.academicYear = academicYear;
+        this.changedModules = Collections.unmodifiableList(new ArrayList<>(changedModules));
+        this.removedModuleCodes = Collections.unmodifiableList(new ArrayList<>(removedModuleCodes));
+    }
+
+    /**
+     * Returns true if {@code academicYear} is a valid academic year, such as 2019/2020.
+     */
+    public static boolean isValidAcademicYear(String academicYear) {
+        if (academicYear == null || !academicYear.matches("\\d{4}/\\d{4}")) {
+            return false;
+        }
+        int startYear = Integer.parseInt(academicYear.substring(0, 4));
+        return Integer.parseInt(academicYear.substring(5)) == startYear + 1;
+    }
+
+    public String getAcademicYear() {
+        return academicYear;
+    }
+
+    public List<Module> getChangedModules() {
+        return changedModules;
+    }
+
+    public List<ModuleCode> getRemovedModuleCodes() {
+        return removedModuleCodes;
+    }
+}
@@ -5,19 +5,26 @@ import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COURSE;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COURSE_FOCUS_AREA;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
 
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.profile.course.Course;
 import seedu.address.model.profile.course.CourseFocusArea;
 import seedu.address.model.profile.course.CourseName;
+import seedu.address.model.profile.course.FocusArea;
 
 //@@author gyant6
 /**
  * Creates a new CourseList object which contains Module objects.
+ * Courses and focus areas are looked up by name, ignoring case and surrounding whitespace, through hash indexes.
  */
 public class CourseList {
 
     private ArrayList<Course> courseList = new ArrayList<>();
+    private Map<CourseName, Course> courseIndex = new HashMap<>();
+    private Map<FocusArea, CourseFocusArea> focusAreaIndex;
 
     public CourseList() {}
 
@@ -26,30 +33,52 @@ public class CourseList {
      */
     public void addCourse(Course course) {
         courseList.add(course);
+        courseIndex.putIfAbsent(course.getCourseName(), course);
+        focusAreaIndex = null;
+    }
+
+    /**
+     * Resolves the module codes of every course to the modules in {@code moduleList}, with the courses resolved in
+     * parallel. {@code moduleList} must not be modified while the courses are resolved.
+     */
+    public void resolveModules(ModuleList moduleList) {
+        requireNonNull(moduleList);
+        courseList.parallelStream().forEach(course -> course.resolveModules(moduleList));
     }
 
     public Course getCourse(CourseName courseName) throws ParseException {
-        requireNonNull(courseName);
-        for (Course course : courseList) {
-            if (course.getCourseName().equals(courseName)) {
-                return course;
-            }
-        }
-        throw new ParseException(MESSAGE_INVALID_COURSE);
+        return findCourse(courseName).orElseThrow(() -> new ParseException(MESSAGE_INVALID_COURSE));
     }
 
     public CourseFocusArea getCourseFocusArea(String focusAreaName) throws ParseException {
+        return findCourseFocusArea(focusAreaName)
+                .orElseThrow(() -> new ParseException(MESSAGE_INVALID_COURSE_FOCUS_AREA));
+    }
+
+    /**
+     * Returns the course named {@code courseName}, if there is one.
+     */
+    public Optional<Course> findCourse(CourseName courseName) {
+        requireNonNull(courseName);
+        return Optional.ofNullable(courseIndex.get(courseName));
+    }
+
+    /**
+     * Returns the focus area named {@code focusAreaName} of the first course that has one, if there is one.
+     * The focus areas of every course are indexed by name on the first lookup after a course is added.
+     */
+    public Optional<CourseFocusArea> findCourseFocusArea(String focusAreaName) {
         requireNonNull(focusAreaName);
-        for (Course course : courseList) {
-            try {
-                CourseFocusArea focusArea = course.getCourseFocusArea(focusAreaName);
-                return focusArea;
-            } catch (ParseException e) {
-                continue;
+        if (focusAreaIndex == null) {
+            Map<FocusArea, CourseFocusArea> index = new HashMap<>();
+            for (Course course : courseList) {
+                for (CourseFocusArea focusArea : course.getCourseFocusArea()) {
+                    index.putIfAbsent(new FocusArea(focusArea.getFocusAreaName()), focusArea);
+                }
             }
+            focusAreaIndex = index;
         }
-
-        throw new ParseException(MESSAGE_INVALID_COURSE_FOCUS_AREA);
+        return Optional.ofNullable(focusAreaIndex.get(new FocusArea(focusAreaName)));
     }
 
     public ArrayList<Course> getCourseList() {
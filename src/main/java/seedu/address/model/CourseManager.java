@@ -2,6 +2,8 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Optional;
+
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.profile.course.Course;
 import seedu.address.model.profile.course.CourseFocusArea;
@@ -24,6 +26,19 @@ public class CourseManager {
         this(new CourseList());
     }
 
+    /**
+     * Resolves the module codes of every course to the modules in the catalog of {@code moduleManager}, so that
+     * the modules of a focus area are shown without looking them up again.
+     */
+    public void resolveModules(ModuleManager moduleManager) {
+        requireNonNull(moduleManager);
+        courseList.resolveModules(moduleManager.getModuleList());
+    }
+
+    public CourseList getCourseList() {
+        return courseList;
+    }
+
     public Course getCourse(CourseName courseName) throws ParseException {
         return courseList.getCourse(courseName);
     }
@@ -31,6 +46,14 @@ public class CourseManager {
     public CourseFocusArea getCourseFocusArea(String focusAreaName) throws ParseException {
         return courseList.getCourseFocusArea(focusAreaName);
     }
+
+    public Optional<Course> findCourse(CourseName courseName) {
+        return courseList.findCourse(courseName);
+    }
+
+    public Optional<CourseFocusArea> findCourseFocusArea(String focusAreaName) {
+        return courseList.findCourseFocusArea(focusAreaName);
+    }
     /*
     public static CourseList getCourseList() {
         return null;
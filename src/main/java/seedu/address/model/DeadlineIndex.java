@@ -0,0 +1,255 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.profile.course.module.personal.Deadline;
+
+//@@author chanckben
+/**
+ * The deadlines shown to the user, kept in order of their due date and time.
+ *
+ * <p>Each deadline is keyed by its module code and its description, ignoring case, so a module has at most one
+ * deadline with the same description. Deadlines are found by their key, by their module or by their position
+ * without scanning the list: the position of a deadline is found by binary search, and the observable list is
+ * changed with a single precise add, remove or replace event rather than sorted again.
+ *
+ * <p>Deadlines are mutable and may be edited in place before they are replaced, so each deadline is indexed by the
+ * key, date and time it had when it was added, rather than by its current ones.
+ */
+public class DeadlineIndex {
+
+    private static final Comparator<Entry> DUE_DATE_ORDER = Comparator
+            .comparing((Entry entry) -> entry.date, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(entry -> entry.time, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(entry -> entry.key.moduleCode)
+            .thenComparing(entry -> entry.key.description);
+
+    private final Map<Key, Entry> entriesByKey = new HashMap<>();
+    private final Map<Deadline, Entry> entriesByDeadline = new IdentityHashMap<>();
+    private final Map<String, Set<Entry>> entriesByModule = new HashMap<>();
+    /** The entries in due date order, matching {@code deadlines}. */
+    private final List<Entry> orderedEntries = new ArrayList<>();
+    private final ObservableList<Deadline> deadlines = FXCollections.observableArrayList();
+    private final ObservableList<Deadline> unmodifiableDeadlines = FXCollections.unmodifiableObservableList(deadlines);
+
+    /**
+     * Returns the deadlines in order of their due date and time. Deadlines without a due date come last.
+     */
+    public ObservableList<Deadline> asUnmodifiableObservableList() {
+        return unmodifiableDeadlines;
+    }
+
+    public int size() {
+        return orderedEntries.size();
+    }
+
+    /**
+     * Returns true if a deadline with the same module code and description as {@code deadline} is in the index.
+     */
+    public boolean contains(Deadline deadline) {
+        requireNonNull(deadline);
+        return entriesByKey.containsKey(Key.of(deadline));
+    }
+
+    /**
+     * Adds {@code deadline}, replacing any deadline with the same module code and description.
+     */
+    public void add(Deadline deadline) {
+        requireNonNull(deadline);
+        if (entriesByDeadline.containsKey(deadline)) {
+            // Added before, and possibly edited since
+            replace(deadline, deadline);
+            return;
+        }
+        Entry entry = new Entry(deadline);
+        Entry existing = entriesByKey.get(entry.key);
+        if (existing != null) {
+            replace(existing, entry);
+        } else {
+            insert(entry);
+        }
+    }
+
+    public void addAll(Collection<Deadline> deadlines) {
+        deadlines.forEach(this::add);
+    }
+
+    /**
+     * Removes the deadline with the same module code and description as {@code deadline}.
+     *
+     * @return false if there is no such deadline.
+     */
+    public boolean remove(Deadline deadline) {
+        requireNonNull(deadline);
+        Entry entry = entriesByKey.get(Key.of(deadline));
+        if (entry == null) {
+            return false;
+        }
+        delete(entry);
+        return true;
+    }
+
+    /**
+     * Replaces {@code oldDeadline}, which may have been edited since it was added, with {@code newDeadline}.
+     * {@code oldDeadline} is found by identity if it was added itself, and otherwise by its module code and
+     * description.
+     *
+     * @return false if {@code oldDeadline} is not in the index.
+     */
+    public boolean replace(Deadline oldDeadline, Deadline newDeadline) {
+        requireNonNull(oldDeadline);
+        requireNonNull(newDeadline);
+        Entry oldEntry = entriesByDeadline.get(oldDeadline);
+        if (oldEntry == null) {
+            oldEntry = entriesByKey.get(Key.of(oldDeadline));
+        }
+        if (oldEntry == null) {
+            return false;
+        }
+        Entry newEntry = new Entry(newDeadline);
+        Entry clashingEntry = entriesByKey.get(newEntry.key);
+        if (clashingEntry != null && clashingEntry != oldEntry) {
+            delete(clashingEntry);
+        }
+        replace(oldEntry, newEntry);
+        return true;
+    }
+
+    /**
+     * Removes every deadline of the module with code {@code moduleCode}.
+     */
+    public void removeModule(String moduleCode) {
+        requireNonNull(moduleCode);
+        Set<Entry> moduleEntries = entriesByModule.get(moduleCode);
+        if (moduleEntries == null) {
+            return;
+        }
+        for (Entry entry : new ArrayList<>(moduleEntries)) {
+            delete(entry);
+        }
+    }
+
+    public void clear() {
+        entriesByKey.clear();
+        entriesByDeadline.clear();
+        entriesByModule.clear();
+        orderedEntries.clear();
+        deadlines.clear();
+    }
+
+    private void insert(Entry entry) {
+        int position = -Collections.binarySearch(orderedEntries, entry, DUE_DATE_ORDER) - 1;
+        assert position >= 0 : "Keys are unique, so no two entries are equal in due date order";
+        orderedEntries.add(position, entry);
+        deadlines.add(position, entry.deadline);
+        index(entry);
+    }
+
+    private void delete(Entry entry) {
+        int position = Collections.binarySearch(orderedEntries, entry, DUE_DATE_ORDER);
+        assert position >= 0 && orderedEntries.get(position) == entry;
+        orderedEntries.remove(position);
+        deadlines.remove(position);
+        unindex(entry);
+    }
+
+    /**
+     * Replaces {@code oldEntry} with {@code newEntry}, in place if its position does not change.
+     */
+    private void replace(Entry oldEntry, Entry newEntry) {
+        int position = Collections.binarySearch(orderedEntries, oldEntry, DUE_DATE_ORDER);
+        assert position >= 0 && orderedEntries.get(position) == oldEntry;
+        boolean isInOrder = (position == 0 || DUE_DATE_ORDER.compare(orderedEntries.get(position - 1), newEntry) < 0)
+                && (position == orderedEntries.size() - 1
+                || DUE_DATE_ORDER.compare(newEntry, orderedEntries.get(position + 1)) < 0);
+        if (!isInOrder) {
+            delete(oldEntry);
+            insert(newEntry);
+            return;
+        }
+        unindex(oldEntry);
+        orderedEntries.set(position, newEntry);
+        deadlines.set(position, newEntry.deadline);
+        index(newEntry);
+    }
+
+    private void index(Entry entry) {
+        entriesByKey.put(entry.key, entry);
+        entriesByDeadline.put(entry.deadline, entry);
+        entriesByModule.computeIfAbsent(entry.key.moduleCode, unused -> new LinkedHashSet<>()).add(entry);
+    }
+
+    private void unindex(Entry entry) {
+        entriesByKey.remove(entry.key);
+        entriesByDeadline.remove(entry.deadline);
+        Set<Entry> moduleEntries = entriesByModule.get(entry.key.moduleCode);
+        moduleEntries.remove(entry);
+        if (moduleEntries.isEmpty()) {
+            entriesByModule.remove(entry.key.moduleCode);
+        }
+    }
+
+    /**
+     * The module code and case-folded description of a deadline.
+     */
+    private static class Key {
+        private final String moduleCode;
+        private final String description;
+
+        private Key(String moduleCode, String description) {
+            this.moduleCode = moduleCode;
+            this.description = description;
+        }
+
+        static Key of(Deadline deadline) {
+            return new Key(deadline.getModuleCode(), deadline.getDescription().toUpperCase(Locale.ROOT));
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof Key // instanceof handles nulls
+                    && moduleCode.equals(((Key) other).moduleCode)
+                    && description.equals(((Key) other).description));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(moduleCode, description);
+        }
+    }
+
+    /**
+     * A deadline with the key, date and time it had when it was added.
+     */
+    private static class Entry {
+        private final Deadline deadline;
+        private final Key key;
+        private final LocalDate date;
+        private final LocalTime time;
+
+        Entry(Deadline deadline) {
+            this.deadline = deadline;
+            this.key = Key.of(deadline);
+            this.date = deadline.getDate();
+            this.time = deadline.getTime();
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+
+import seedu.address.model.profile.Profile;
+import seedu.address.model.profile.course.module.Module;
+import seedu.address.model.profile.course.module.ModuleCode;
+import seedu.address.model.profile.course.module.PrereqTreeNode;
+
+//@@author chanckben
+/**
+ * Tracks the earliest semester in which a profile can take each catalog module, counting from the current semester
+ * of the profile. A module can be taken once the modules fulfilling its prerequisites have been taken in earlier
+ * semesters, i.e. after the longest chain of "and" prerequisites leading to it, and only in a semester in which it
+ * is offered. A module the profile is already taking is placed in the semester it is taken in.
+ *
+ * <p>The earliest semesters are computed in one pass over the topological order of the prerequisite graph.
+ * Adding or deleting a module then only recomputes the modules it unlocks, directly or through other modules.
+ */
+public class EarliestSemesters {
+
+    private static final int NEVER = Integer.MAX_VALUE;
+
+    private final ModuleManager moduleManager;
+    private final PrereqGraph prereqGraph;
+    private final Profile profile;
+    private final Map<ModuleCode, Integer> plannedSemesters = new HashMap<>();
+    private final Map<ModuleCode, Integer> earliestSemesters = new HashMap<>();
+    private int startSemester;
+
+    /**
+     * Computes the earliest semesters of the modules in the catalog of {@code moduleManager} for {@code profile},
+     * which must notify this of changes through {@link #addModule(int, ModuleCode)} and
+     * {@link #deleteModule(int, ModuleCode)}.
+     */
+    public EarliestSemesters(ModuleManager moduleManager, Profile profile) {
+        requireNonNull(moduleManager);
+        requireNonNull(profile);
+        this.moduleManager = moduleManager;
+        this.prereqGraph = moduleManager.getPrereqGraph();
+        this.profile = profile;
+        profile.getSemModHashMap().forEach((semester, moduleList) ->
+                moduleList.getModuleCodes().forEach(moduleCode -> plannedSemesters.put(moduleCode, semester)));
+        computeAll();
+    }
+
+    public ModuleManager getModuleManager() {
+        return moduleManager;
+    }
+
+    /**
+     * Returns the earliest overall semester in which the module with code {@code moduleCode} can be taken, or an
+     * empty {@code Optional} if it is not in the catalog or its prerequisites can never be fulfilled.
+     */
+    public Optional<Integer> getEarliestSemester(ModuleCode moduleCode) {
+        requireNonNull(moduleCode);
+        if (startSemester != Math.max(1, profile.getOverallSemester())) {
+            computeAll();
+        }
+        int semester = earliestSemesters.getOrDefault(moduleCode, NEVER);
+        return semester == NEVER ? Optional.empty() : Optional.of(semester);
+    }
+
+    /**
+     * Recomputes the modules affected by adding the module with code {@code moduleCode} to {@code semester}.
+     */
+    public void addModule(int semester, ModuleCode moduleCode) {
+        requireNonNull(moduleCode);
+        plannedSemesters.put(moduleCode, semester);
+        recompute(moduleCode);
+    }
+
+    /**
+     * Recomputes the modules affected by deleting the module with code {@code moduleCode} from {@code semester}.
+     */
+    public void deleteModule(int semester, ModuleCode moduleCode) {
+        requireNonNull(moduleCode);
+        plannedSemesters.remove(moduleCode);
+        recompute(moduleCode);
+    }
+
+    private void computeAll() {
+        startSemester = Math.max(1, profile.getOverallSemester());
+        earliestSemesters.clear();
+        for (ModuleCode moduleCode : prereqGraph.getSortedModules()) {
+            earliestSemesters.put(moduleCode, compute(moduleCode));
+        }
+        computeCyclic(prereqGraph.getCyclicModules());
+    }
+
+    /**
+     * Recomputes the module with code {@code moduleCode} and every module it unlocks, in topological order.
+     */
+    private void recompute(ModuleCode moduleCode) {
+        if (!moduleManager.hasModule(moduleCode)) {
+            return;
+        }
+        Set<ModuleCode> affected = new HashSet<>();
+        affected.add(moduleCode);
+        Queue<ModuleCode> toVisit = new ArrayDeque<>(affected);
+        while (!toVisit.isEmpty()) {
+            for (ModuleCode unlocked : moduleManager.getDirectUnlocks(toVisit.remove())) {
+                if (affected.add(unlocked)) {
+                    toVisit.add(unlocked);
+                }
+            }
+        }
+
+        List<ModuleCode> sortedAffected = new ArrayList<>();
+        List<ModuleCode> cyclicAffected = new ArrayList<>();
+        for (ModuleCode code : affected) {
+            if (prereqGraph.isCyclic(code)) {
+                cyclicAffected.add(code);
+            } else {
+                sortedAffected.add(code);
+            }
+        }
+        sortedAffected.sort(Comparator.comparingInt(prereqGraph::getPosition));
+        for (ModuleCode code : sortedAffected) {
+            earliestSemesters.put(code, compute(code));
+        }
+        computeCyclic(cyclicAffected);
+    }
+
+    /**
+     * Computes the modules in or behind a prerequisite cycle, which have no topological order, by starting them
+     * all at never and lowering them until none changes. The semesters only ever decrease, so this terminates.
+     */
+    private void computeCyclic(Iterable<ModuleCode> cyclicModules) {
+        cyclicModules.forEach(moduleCode -> earliestSemesters.put(moduleCode, NEVER));
+        boolean hasChanged = true;
+        while (hasChanged) {
+            hasChanged = false;
+            for (ModuleCode moduleCode : cyclicModules) {
+                int semester = compute(moduleCode);
+                if (semester < earliestSemesters.get(moduleCode)) {
+                    earliestSemesters.put(moduleCode, semester);
+                    hasChanged = true;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the earliest semester of the module with code {@code moduleCode}, given the earliest semesters of
+     * the modules it depends on.
+     */
+    private int compute(ModuleCode moduleCode) {
+        Integer plannedSemester = plannedSemesters.get(moduleCode);
+        if (plannedSemester != null) {
+            return plannedSemester;
+        }
+        Module module = moduleManager.getModule(moduleCode);
+        int readySemester = module.getPrereqTreeNode() == null
+                ? startSemester
+                : Math.max(startSemester, readySemester(module.getPrereqTreeNode()));
+        return readySemester == NEVER ? NEVER : firstOfferedSemester(module, readySemester);
+    }
+
+    /**
+     * Returns the first semester in which the prerequisites in {@code node} are fulfilled.
+     */
+    private int readySemester(PrereqTreeNode node) {
+        if (node.getModuleCode() != null) {
+            int completedSemester = NEVER;
+            if (moduleManager.hasModule(node.getModuleCode())) {
+                completedSemester = earliestSemesters.getOrDefault(node.getModuleCode(), NEVER);
+            }
+            // A variant of the required code, e.g. CS1010S for CS1010, also fulfils the prerequisite
+            for (Module variant : moduleManager.getModuleVariants(node.getModuleCode())) {
+                completedSemester = Math.min(completedSemester,
+                        earliestSemesters.getOrDefault(variant.getModuleCode(), NEVER));
+            }
+            return completedSemester == NEVER ? NEVER : completedSemester + 1;
+        }
+        boolean isAnd = node.getType() == PrereqTreeNode.Type.AND;
+        int semester = isAnd ? 0 : NEVER;
+        for (PrereqTreeNode child : node.getPrereqTreeNodes()) {
+            int childSemester = readySemester(child);
+            semester = isAnd ? Math.max(semester, childSemester) : Math.min(semester, childSemester);
+        }
+        return semester;
+    }
+
+    /**
+     * Returns the first semester from {@code semester} in which {@code module} is offered.
+     */
+    private static int firstOfferedSemester(Module module, int semester) {
+        for (int candidate = semester; candidate < semester + 2; candidate++) {
+            if (isOffered(module, candidate)) {
+                return candidate;
+            }
+        }
+        return NEVER;
+    }
+
+    /**
+     * Returns true if {@code module} is offered in the overall semester {@code semester}. Modules without
+     * semester data are assumed to be offered in every semester.
+     */
+    static boolean isOffered(Module module, int semester) {
+        List<Integer> offered = module.getSemesterData().semesters;
+        // Odd overall semesters are the first semester of a year and even ones the second
+        return offered.isEmpty() || offered.contains(semester % 2 == 1 ? 1 : 2);
+    }
+}
@@ -0,0 +1,160 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.profile.course.module.Module;
+import seedu.address.model.profile.course.module.ModuleCode;
+
+//@@author chanckben
+/**
+ * Tracks the catalog modules whose prerequisites are fulfilled in each semester of a profile, i.e. by the modules
+ * the profile takes in earlier semesters.
+ * The modules of a semester are evaluated against the whole catalog only once, when the semester is first queried.
+ * Afterwards, adding or deleting a module only re-evaluates the modules whose prerequisite trees mention it.
+ */
+public class EligibleModules {
+
+    private final ModuleManager moduleManager;
+    private final PrereqEvaluator prereqEvaluator;
+    private final Map<Integer, ModuleList> semModHashMap;
+    private final Map<Integer, SemesterEligibility> semesters = new HashMap<>();
+
+    /**
+     * Creates a tracker of the modules in the catalog of {@code moduleManager} that are eligible given the modules
+     * taken in {@code semModHashMap}, which must be kept up to date through {@link #addModule(int, ModuleCode)} and
+     * {@link #deleteModule(int, ModuleCode)}.
+     */
+    public EligibleModules(ModuleManager moduleManager, Map<Integer, ModuleList> semModHashMap) {
+        requireNonNull(moduleManager);
+        requireNonNull(semModHashMap);
+        this.moduleManager = moduleManager;
+        this.prereqEvaluator = moduleManager.getPrereqEvaluator();
+        this.semModHashMap = semModHashMap;
+    }
+
+    public ModuleManager getModuleManager() {
+        return moduleManager;
+    }
+
+    /**
+     * Returns true if the prerequisites of the module with code {@code moduleCode} are fulfilled in
+     * {@code semester}. Modules not in the catalog always have their prerequisites fulfilled.
+     */
+    public boolean isEligible(ModuleCode moduleCode, int semester) {
+        requireNonNull(moduleCode);
+        if (!moduleManager.getModuleList().hasModuleWithModuleCode(moduleCode)) {
+            return true;
+        }
+        return getSemester(semester).eligible.contains(moduleCode);
+    }
+
+    /**
+     * Returns the codes of the catalog modules whose prerequisites are fulfilled in {@code semester}.
+     */
+    public List<ModuleCode> getEligibleModules(int semester) {
+        return new ArrayList<>(getSemester(semester).eligible);
+    }
+
+    /**
+     * Updates the semesters after {@code semester} once the module with code {@code moduleCode} is added to it.
+     */
+    public void addModule(int semester, ModuleCode moduleCode) {
+        requireNonNull(moduleCode);
+        semesters.forEach((sem, eligibility) -> {
+            if (sem > semester) {
+                eligibility.add(moduleCode);
+            }
+        });
+    }
+
+    /**
+     * Updates the semesters after {@code semester} once the module with code {@code moduleCode} is deleted from it.
+     */
+    public void deleteModule(int semester, ModuleCode moduleCode) {
+        requireNonNull(moduleCode);
+        semesters.forEach((sem, eligibility) -> {
+            if (sem > semester) {
+                eligibility.delete(moduleCode);
+            }
+        });
+    }
+
+    private SemesterEligibility getSemester(int semester) {
+        return semesters.computeIfAbsent(semester, this::evaluateSemester);
+    }
+
+    private SemesterEligibility evaluateSemester(int semester) {
+        SemesterEligibility eligibility = new SemesterEligibility();
+        semModHashMap.forEach((sem, moduleList) -> {
+            if (sem < semester) {
+                moduleList.getModuleCodes().forEach(eligibility::take);
+            }
+        });
+        for (Module module : moduleManager.getModuleList()) {
+            eligibility.evaluate(module.getModuleCode());
+        }
+        return eligibility;
+    }
+
+    /**
+     * The modules taken before a semester and the catalog modules that they make eligible.
+     * A taken module is counted under both its code and its code without suffix, so that deleting one variant
+     * does not untake a base code still fulfilled by another.
+     */
+    private class SemesterEligibility {
+        private final Map<ModuleCode, Integer> takenCounts = new HashMap<>();
+        private final BitSet taken = new BitSet();
+        private final Set<ModuleCode> eligible = new HashSet<>();
+
+        private void add(ModuleCode moduleCode) {
+            take(moduleCode);
+            moduleManager.getDirectUnlocks(moduleCode).forEach(this::evaluate);
+        }
+
+        private void delete(ModuleCode moduleCode) {
+            untake(moduleCode);
+            moduleManager.getDirectUnlocks(moduleCode).forEach(this::evaluate);
+        }
+
+        private void take(ModuleCode moduleCode) {
+            for (ModuleCode code : codesOf(moduleCode)) {
+                if (takenCounts.merge(code, 1, Integer::sum) == 1) {
+                    prereqEvaluator.setTaken(taken, code, true);
+                }
+            }
+        }
+
+        private void untake(ModuleCode moduleCode) {
+            for (ModuleCode code : codesOf(moduleCode)) {
+                Integer count = takenCounts.computeIfPresent(code, (unused, oldCount) -> oldCount - 1);
+                if (count != null && count == 0) {
+                    takenCounts.remove(code);
+                    prereqEvaluator.setTaken(taken, code, false);
+                }
+            }
+        }
+
+        private Set<ModuleCode> codesOf(ModuleCode moduleCode) {
+            Set<ModuleCode> codes = new HashSet<>();
+            codes.add(moduleCode);
+            codes.add(moduleCode.removeSuffix());
+            return codes;
+        }
+
+        private void evaluate(ModuleCode moduleCode) {
+            if (prereqEvaluator.hasFulfilledPrereqs(moduleCode, taken)) {
+                eligible.add(moduleCode);
+            } else {
+                eligible.remove(moduleCode);
+            }
+        }
+    }
+}
@@ -4,8 +4,11 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_MODULE;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Stream;
 
 import javafx.collections.FXCollections;
@@ -18,11 +21,15 @@ import seedu.address.model.profile.course.module.exceptions.ModuleNotFoundExcept
 //@@author gyant6
 /**
  * Creates a new ModuleList object which contains Module objects.
+ * Modules are indexed by their module code, and by the module code without its suffix (e.g. CS1010S is
+ * indexed under CS1010), so that lookups do not need to scan the whole list.
  */
 public class ModuleList implements Iterable<Module> {
 
     private ObservableList<Module> moduleList = FXCollections.observableArrayList();
     private ObservableList<ModuleCode> moduleCodes = FXCollections.observableArrayList();
+    private Map<ModuleCode, Module> moduleIndex = new HashMap<>();
+    private Map<ModuleCode, List<Module>> baseCodeIndex = new HashMap<>();
 
     public ModuleList() {}
 
@@ -32,6 +39,9 @@ public class ModuleList implements Iterable<Module> {
     public void addModule(Module module) {
         moduleList.add(module);
         moduleCodes.add(module.getModuleCode());
+        moduleIndex.putIfAbsent(module.getModuleCode(), module);
+        baseCodeIndex.computeIfAbsent(module.getModuleCode().removeSuffix(), unused -> new ArrayList<>())
+                .add(module);
     }
 
     /**
@@ -39,7 +49,7 @@ public class ModuleList implements Iterable<Module> {
      */
     public boolean hasModule(Module module) {
         requireNonNull(module);
-        return moduleList.contains(module);
+        return moduleIndex.containsKey(module.getModuleCode());
     }
 
     /**
@@ -47,7 +57,16 @@ public class ModuleList implements Iterable<Module> {
      */
     public boolean hasModuleWithModuleCode(ModuleCode moduleCode) {
         requireNonNull(moduleCode);
-        return moduleCodes.contains(moduleCode);
+        return moduleIndex.containsKey(moduleCode);
+    }
+
+    /**
+     * Returns true if a module with the module code {@code moduleCode}, or a variant of it with a suffix
+     * (e.g. CS1010S for CS1010), exists in the module list.
+     */
+    public boolean hasModuleWithBaseCode(ModuleCode moduleCode) {
+        requireNonNull(moduleCode);
+        return hasModuleWithModuleCode(moduleCode) || baseCodeIndex.containsKey(moduleCode);
     }
 
     /**
@@ -57,14 +76,19 @@ public class ModuleList implements Iterable<Module> {
     public Module getModuleWithModuleCode(ModuleCode moduleCode) {
         requireNonNull(moduleCode);
 
-        for (Module mod: moduleList) {
-            if (mod.getModuleCode().equals(moduleCode)) {
-                return mod;
-            }
-        }
-        // Code should not reach this line
-        assert false;
-        return null;
+        Module mod = moduleIndex.get(moduleCode);
+        // Code should not reach this line with a module code that is not in the module list
+        assert mod != null;
+        return mod;
+    }
+
+    /**
+     * Returns all modules in the module list whose module code, without its suffix, is {@code baseCode}.
+     * For example, the base code CS1010 returns CS1010, CS1010E, CS1010S and CS1010X if they exist.
+     */
+    public List<Module> getModulesWithBaseCode(ModuleCode baseCode) {
+        requireNonNull(baseCode);
+        return Collections.unmodifiableList(baseCodeIndex.getOrDefault(baseCode, Collections.emptyList()));
     }
 
     /**
@@ -76,9 +100,16 @@ public class ModuleList implements Iterable<Module> {
         if (!hasModuleWithModuleCode(moduleCode)) {
             throw new ModuleNotFoundException(String.format(MESSAGE_INVALID_MODULE, moduleCode));
         }
-        Module modToRemove = getModuleWithModuleCode(moduleCode);
+        Module modToRemove = moduleIndex.remove(moduleCode);
         moduleList.remove(modToRemove);
         moduleCodes.remove(moduleCode);
+
+        ModuleCode baseCode = moduleCode.removeSuffix();
+        List<Module> variants = baseCodeIndex.get(baseCode);
+        variants.remove(modToRemove);
+        if (variants.isEmpty()) {
+            baseCodeIndex.remove(baseCode);
+        }
     }
 
     public ObservableList<Module> getModuleList() {
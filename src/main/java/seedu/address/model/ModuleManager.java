@@ -2,7 +2,14 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 import seedu.address.model.profile.course.module.Module;
@@ -11,15 +18,39 @@ import seedu.address.model.profile.course.module.ModuleCode;
 //@@author gyant6
 /**
  * Represents the in-memory model of the module list data.
+ *
+ * <p>Besides its own catalog, a {@code ModuleManager} can host the catalogs of other academic years, each stored
+ * as a {@link CatalogDelta} over its own. The catalog of a year is only built when first asked for, and shares
+ * every module that did not change in that year, with its prerequisite tree, with this catalog.
  */
 public class ModuleManager {
 
     private ModuleList moduleList;
+    private PrereqEvaluator prereqEvaluator;
+    private UnlocksIndex unlocksIndex;
+    private PrereqGraph prereqGraph;
+    private ModuleSearchIndex searchIndex;
+    private final Map<String, CatalogDelta> catalogDeltas = new TreeMap<>();
+    private final Map<String, ModuleManager> yearCatalogs = new HashMap<>();
 
-    public ModuleManager(ModuleList moduleList) {
+    public ModuleManager(ModuleList moduleList, UnlocksIndex unlocksIndex) {
         requireNonNull(moduleList);
+        requireNonNull(unlocksIndex);
 
         this.moduleList = moduleList;
+        this.prereqEvaluator = new PrereqEvaluator(moduleList);
+        this.unlocksIndex = unlocksIndex;
+    }
+
+    public ModuleManager(ModuleList moduleList, UnlocksIndex unlocksIndex, ModuleSearchIndex searchIndex) {
+        this(moduleList, unlocksIndex);
+        requireNonNull(searchIndex);
+
+        this.searchIndex = searchIndex;
+    }
+
+    public ModuleManager(ModuleList moduleList) {
+        this(moduleList, new UnlocksIndex(requireNonNull(moduleList)));
     }
 
     public ModuleManager() {
@@ -42,7 +73,118 @@ public class ModuleManager {
         return moduleCodes.stream().map(this::getModule).collect(Collectors.toList());
     }
 
+    /**
+     * Returns all modules in the catalog that are variants of {@code baseCode}, e.g. CS1010S for CS1010.
+     */
+    public List<Module> getModuleVariants(ModuleCode baseCode) {
+        return moduleList.getModulesWithBaseCode(baseCode);
+    }
+
+    /**
+     * Returns true if the prerequisites of the module with code {@code moduleCode} are fulfilled by
+     * {@code modulesTaken}.
+     */
+    public boolean hasFulfilledPrereqs(ModuleCode moduleCode, List<ModuleCode> modulesTaken) {
+        return prereqEvaluator.hasFulfilledPrereqs(moduleCode, prereqEvaluator.toBitSet(modulesTaken));
+    }
+
+    /**
+     * Returns the modules whose prerequisites mention the module with code {@code moduleCode}.
+     */
+    public List<ModuleCode> getDirectUnlocks(ModuleCode moduleCode) {
+        return unlocksIndex.getDirectUnlocks(moduleCode);
+    }
+
+    /**
+     * Returns the modules that the module with code {@code moduleCode} unlocks only through other modules.
+     */
+    public List<ModuleCode> getTransitiveUnlocks(ModuleCode moduleCode) {
+        return unlocksIndex.getTransitiveUnlocks(moduleCode);
+    }
+
+    /**
+     * Returns the prerequisite graph of the catalog, which is only built when first needed.
+     */
+    public PrereqGraph getPrereqGraph() {
+        if (prereqGraph == null) {
+            prereqGraph = new PrereqGraph(moduleList);
+        }
+        return prereqGraph;
+    }
+
+    /**
+     * Returns up to {@code limit} modules whose code, title or description match {@code query}, best match first.
+     */
+    public List<ModuleCode> findModules(String query, int limit) {
+        return getSearchIndex().search(query, limit);
+    }
+
+    /**
+     * Returns the full-text search index of the catalog, which is only built when first needed if it was not
+     * read from storage.
+     */
+    public ModuleSearchIndex getSearchIndex() {
+        if (searchIndex == null) {
+            searchIndex = new ModuleSearchIndex(moduleList);
+        }
+        return searchIndex;
+    }
+
+    public PrereqEvaluator getPrereqEvaluator() {
+        return prereqEvaluator;
+    }
+
     public ModuleList getModuleList() {
         return moduleList;
     }
+
+    /**
+     * Adds the catalog of the academic year of {@code delta}, replacing any catalog already added for that year.
+     */
+    public synchronized void addCatalogDelta(CatalogDelta delta) {
+        requireNonNull(delta);
+        catalogDeltas.put(delta.getAcademicYear(), delta);
+        yearCatalogs.remove(delta.getAcademicYear());
+    }
+
+    /**
+     * Returns the academic years that have a catalog of their own, earliest first.
+     */
+    public synchronized List<String> getAcademicYears() {
+        return new ArrayList<>(catalogDeltas.keySet());
+    }
+
+    /**
+     * Returns the catalog of {@code academicYear}, or this catalog if that year has no catalog of its own.
+     */
+    public synchronized ModuleManager getCatalog(String academicYear) {
+        requireNonNull(academicYear);
+        CatalogDelta delta = catalogDeltas.get(academicYear);
+        if (delta == null) {
+            return this;
+        }
+        return yearCatalogs.computeIfAbsent(academicYear, unused -> new ModuleManager(applyDelta(delta)));
+    }
+
+    /**
+     * Returns the modules of this catalog changed by {@code delta}, in the same order, followed by the modules
+     * that {@code delta} adds. The modules that {@code delta} does not change are the same instances.
+     */
+    private ModuleList applyDelta(CatalogDelta delta) {
+        Map<ModuleCode, Module> changedModules = new LinkedHashMap<>();
+        delta.getChangedModules().forEach(module -> changedModules.put(module.getModuleCode(), module));
+        Set<ModuleCode> removedModuleCodes = new HashSet<>(delta.getRemovedModuleCodes());
+
+        ModuleList yearModuleList = new ModuleList();
+        for (Module module : moduleList) {
+            if (removedModuleCodes.contains(module.getModuleCode())) {
+                continue;
+            }
+            Module changedModule = changedModules.remove(module.getModuleCode());
+            yearModuleList.addModule(changedModule == null ? module : changedModule);
+        }
+        changedModules.keySet().removeAll(removedModuleCodes);
+        changedModules.values().forEach(yearModuleList::addModule);
+        return yearModuleList;
+    }
 }
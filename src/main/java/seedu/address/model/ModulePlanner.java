@@ -0,0 +1,473 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+import seedu.address.model.profile.Profile;
+import seedu.address.model.profile.course.Course;
+import seedu.address.model.profile.course.CourseFocusArea;
+import seedu.address.model.profile.course.CourseRequirement;
+import seedu.address.model.profile.course.module.Module;
+import seedu.address.model.profile.course.module.ModuleCode;
+import seedu.address.model.profile.course.module.PrereqTreeNode;
+
+//@@author chanckben
+/**
+ * Plans the modules a profile still has to take to fulfil the requirements of its course and the primaries and
+ * electives of its focus area, with the fewest modular credits, and the semesters to take them in.
+ *
+ * <p>Every relevant module is a bit in a bitset, and the search picks, for each requirement that is not yet
+ * fulfilled, which of its modules (or pairs of modules, e.g. "CS3216 and CS3217") to take. Taking a module also
+ * takes the fewest modular credits of modules still needed for its prerequisites, as found by
+ * {@link PrereqSolver}. A branch is cut as soon as the modules left to a requirement can no longer fulfil it, or
+ * when the largest shortfall of any requirement would make it cost more than the best plan found so far.
+ * The choices for the first requirement branched on are explored in parallel on the common {@link ForkJoinPool}.
+ * A plan is only kept if its modules can be scheduled after their prerequisites, in semesters in which they are
+ * offered and with at most {@link Profile#MAX_MODULES_PER_SEMESTER} modules in a semester.
+ *
+ * <p>The search stops when its time budget runs out and returns the best plan found so far.
+ */
+public class ModulePlanner {
+
+    public static final int LAST_SEMESTER = 8;
+    public static final double FOCUS_AREA_PRIMARY_CREDITS = 12;
+    public static final double FOCUS_AREA_CREDITS = 24;
+
+    private static final String GROUP_SEPARATOR = " AND ";
+    private static final int NEVER = Integer.MAX_VALUE;
+
+    private final ModuleManager moduleManager;
+    private final PrereqGraph prereqGraph;
+    private final long timeBudgetNanos;
+    private final int startSemester;
+    private final int lastSemester;
+    private final List<Module> modules = new ArrayList<>();
+    private final Map<ModuleCode, Integer> indices = new HashMap<>();
+    private final BitSet taken = new BitSet();
+    private final Map<ModuleCode, Integer> takenSemesters = new HashMap<>();
+    private final Map<Integer, Integer> semesterSizes = new HashMap<>();
+    private final List<Goal> goals = new ArrayList<>();
+
+    /**
+     * Creates a planner for {@code profile}, which has to fulfil the requirements of {@code course} and, unless it
+     * is null, the primaries and electives of {@code focusArea}, with the modules in the catalog of
+     * {@code moduleManager}. The modules are planned from the current semester of the profile up to
+     * {@link #LAST_SEMESTER}.
+     */
+    public ModulePlanner(ModuleManager moduleManager, Profile profile, Course course, CourseFocusArea focusArea,
+                         long timeBudgetMillis) {
+        requireNonNull(moduleManager);
+        requireNonNull(profile);
+        requireNonNull(course);
+        this.moduleManager = moduleManager;
+        this.prereqGraph = moduleManager.getPrereqGraph();
+        this.timeBudgetNanos = TimeUnit.MILLISECONDS.toNanos(timeBudgetMillis);
+        this.startSemester = Math.max(1, profile.getOverallSemester());
+        this.lastSemester = Math.max(LAST_SEMESTER, startSemester);
+
+        List<ModuleCode> takenCodes = new ArrayList<>();
+        profile.getSemModHashMap().forEach((semester, moduleList) -> {
+            semesterSizes.put(semester, moduleList.size());
+            for (ModuleCode moduleCode : moduleList.getModuleCodes()) {
+                takenCodes.add(moduleCode);
+                takenSemesters.put(moduleCode, semester);
+                if (moduleManager.hasModule(moduleCode)) {
+                    taken.set(indexOf(moduleCode));
+                }
+            }
+        });
+
+        PrereqSolver prereqSolver = new PrereqSolver(moduleManager, takenCodes,
+                PrereqSolver.Objective.MODULAR_CREDITS);
+        for (CourseRequirement requirement : course.getCourseRequirement()) {
+            addGoal(requirement.getModuleCodes(), requirement.getModularCredits().modularCredits, prereqSolver);
+        }
+        if (focusArea != null) {
+            List<ModuleCode> focusAreaModules = new ArrayList<>(focusArea.getPrimaryModuleCodes());
+            focusAreaModules.addAll(focusArea.getElectiveModuleCodes());
+            addGoal(focusArea.getPrimaryModuleCodes(), FOCUS_AREA_PRIMARY_CREDITS, prereqSolver);
+            addGoal(focusAreaModules, FOCUS_AREA_CREDITS, prereqSolver);
+        }
+    }
+
+    private int indexOf(ModuleCode moduleCode) {
+        return indices.computeIfAbsent(moduleCode, unused -> {
+            modules.add(moduleManager.getModule(moduleCode));
+            return modules.size() - 1;
+        });
+    }
+
+    /**
+     * Adds a requirement of {@code requiredCredits} from {@code entries}, each a module code or module codes joined
+     * by "and". Entries with a module that is not in the catalog, or whose prerequisites cannot be fulfilled, are
+     * left out, and the requirement is capped at what the remaining entries can fulfil.
+     */
+    private void addGoal(List<ModuleCode> entries, double requiredCredits, PrereqSolver prereqSolver) {
+        BitSet members = new BitSet();
+        List<BitSet> options = new ArrayList<>();
+        for (ModuleCode entry : entries) {
+            toOption(entry, members, prereqSolver).ifPresent(options::add);
+        }
+        // Cheaper options are tried first, so that good plans are found early and cut more branches
+        options.sort(Comparator.comparingDouble(option -> {
+            BitSet toTake = (BitSet) option.clone();
+            toTake.andNot(taken);
+            return creditsOf(toTake);
+        }));
+        goals.add(new Goal(members, options, Math.min(requiredCredits, creditsOf(members))));
+    }
+
+    private Optional<BitSet> toOption(ModuleCode entry, BitSet members, PrereqSolver prereqSolver) {
+        List<ModuleCode> group = new ArrayList<>();
+        for (String moduleCode : entry.toString().split(GROUP_SEPARATOR)) {
+            ModuleCode groupCode = ModuleCode.of(moduleCode.trim());
+            if (!moduleManager.hasModule(groupCode)) {
+                return Optional.empty();
+            }
+            group.add(groupCode);
+        }
+
+        BitSet option = new BitSet();
+        for (ModuleCode moduleCode : group) {
+            if (taken.get(indexOf(moduleCode))) {
+                option.set(indexOf(moduleCode));
+                continue;
+            }
+            Optional<PrereqSolver.Solution> prereqs = prereqSolver.solve(moduleCode);
+            if (!prereqs.isPresent()) {
+                return Optional.empty();
+            }
+            option.set(indexOf(moduleCode));
+            prereqs.get().getModules().forEach(prereq -> option.set(indexOf(prereq)));
+        }
+        group.forEach(moduleCode -> members.set(indexOf(moduleCode)));
+        return Optional.of(option);
+    }
+
+    private double creditsOf(BitSet bits) {
+        double credits = 0;
+        for (int i = bits.nextSetBit(0); i >= 0; i = bits.nextSetBit(i + 1)) {
+            credits += modules.get(i).getModularCredits().modularCredits;
+        }
+        return credits;
+    }
+
+    /**
+     * Returns the plan with the fewest modular credits found within the time budget, or an empty
+     * {@code Optional} if no plan that fulfils every requirement could be found.
+     */
+    public Optional<Plan> plan() {
+        Search search = new Search(System.nanoTime() + timeBudgetNanos);
+        List<BranchTask> branches = new ArrayList<>();
+        search.search(new Node(new BitSet(), 0, new int[goals.size()]), 0, branches);
+        if (!branches.isEmpty()) {
+            ForkJoinPool.commonPool().invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(branches)));
+        }
+
+        Candidate best = search.best.get();
+        if (best == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new Plan(best.semesters, best.modularCredits, !search.isTimedOut));
+    }
+
+    /**
+     * Returns the modules in {@code chosen} placed into semesters, or an empty {@code Optional} if they do not all
+     * fit by {@link #lastSemester}. Modules are placed in topological order, each in the first semester after its
+     * prerequisites in which it is offered and there is room left.
+     */
+    private Optional<Map<Integer, List<ModuleCode>>> schedule(BitSet chosen) {
+        Map<ModuleCode, Integer> placedSemesters = new HashMap<>(takenSemesters);
+        Map<Integer, Integer> sizes = new HashMap<>(semesterSizes);
+        Map<Integer, List<ModuleCode>> semesters = new TreeMap<>();
+
+        List<Module> toPlace = new ArrayList<>();
+        for (int i = chosen.nextSetBit(0); i >= 0; i = chosen.nextSetBit(i + 1)) {
+            toPlace.add(modules.get(i));
+        }
+        toPlace.sort(Comparator.comparingInt(module -> prereqGraph.getPosition(module.getModuleCode())));
+
+        for (Module module : toPlace) {
+            int semester = module.getPrereqTreeNode() == null
+                    ? startSemester
+                    : Math.max(startSemester, readySemester(module.getPrereqTreeNode(), placedSemesters));
+            while (semester <= lastSemester && (!EarliestSemesters.isOffered(module, semester)
+                    || sizes.getOrDefault(semester, 0) >= Profile.MAX_MODULES_PER_SEMESTER)) {
+                semester++;
+            }
+            if (semester > lastSemester) {
+                return Optional.empty();
+            }
+            placedSemesters.put(module.getModuleCode(), semester);
+            sizes.merge(semester, 1, Integer::sum);
+            semesters.computeIfAbsent(semester, unused -> new ArrayList<>()).add(module.getModuleCode());
+        }
+        return Optional.of(semesters);
+    }
+
+    /**
+     * Returns the first semester in which the prerequisites in {@code node} are fulfilled by the modules placed in
+     * {@code placedSemesters}, or {@link #NEVER} if they are not.
+     */
+    private int readySemester(PrereqTreeNode node, Map<ModuleCode, Integer> placedSemesters) {
+        if (node.getModuleCode() != null) {
+            int completedSemester = placedSemesters.getOrDefault(node.getModuleCode(), NEVER);
+            // A variant of the required code, e.g. CS1010S for CS1010, also fulfils the prerequisite
+            for (Module variant : moduleManager.getModuleVariants(node.getModuleCode())) {
+                completedSemester = Math.min(completedSemester,
+                        placedSemesters.getOrDefault(variant.getModuleCode(), NEVER));
+            }
+            return completedSemester == NEVER ? NEVER : completedSemester + 1;
+        }
+        boolean isAnd = node.getType() == PrereqTreeNode.Type.AND;
+        int semester = isAnd ? 0 : NEVER;
+        for (PrereqTreeNode child : node.getPrereqTreeNodes()) {
+            int childSemester = readySemester(child, placedSemesters);
+            semester = isAnd ? Math.max(semester, childSemester) : Math.min(semester, childSemester);
+        }
+        return semester;
+    }
+
+    /**
+     * A requirement to take {@code requiredCredits} of the modules in {@code members}, by taking some of
+     * {@code options}. Each option is a module or group of modules in the requirement, together with the modules
+     * still needed for their prerequisites.
+     */
+    private static class Goal {
+        private final BitSet members;
+        private final List<BitSet> options;
+        private final double requiredCredits;
+
+        private Goal(BitSet members, List<BitSet> options, double requiredCredits) {
+            this.members = members;
+            this.options = options;
+            this.requiredCredits = requiredCredits;
+        }
+    }
+
+    /**
+     * A state of the search: the modules chosen so far, their modular credits, and for each goal the first of its
+     * options that may still be chosen. Options of a goal are only chosen in order, so that no set of modules is
+     * reached twice.
+     */
+    private static class Node {
+        private final BitSet chosen;
+        private final double modularCredits;
+        private final int[] nextOptions;
+
+        private Node(BitSet chosen, double modularCredits, int[] nextOptions) {
+            this.chosen = chosen;
+            this.modularCredits = modularCredits;
+            this.nextOptions = nextOptions;
+        }
+    }
+
+    /**
+     * A plan found by a branch of the search. Of two plans with the same modular credits, the one found by the
+     * earlier branch is kept, so that the result does not depend on how the branches are scheduled.
+     */
+    private static class Candidate {
+        private final Map<Integer, List<ModuleCode>> semesters;
+        private final double modularCredits;
+        private final int branch;
+
+        private Candidate(Map<Integer, List<ModuleCode>> semesters, double modularCredits, int branch) {
+            this.semesters = semesters;
+            this.modularCredits = modularCredits;
+            this.branch = branch;
+        }
+
+        private boolean isBetterThan(double otherCredits, int otherBranch) {
+            return modularCredits < otherCredits || (modularCredits == otherCredits && branch < otherBranch);
+        }
+    }
+
+    /**
+     * The state shared by the branches of one search.
+     */
+    private class Search {
+        private final long deadline;
+        private final AtomicReference<Candidate> best = new AtomicReference<>();
+        private volatile boolean isTimedOut;
+
+        private Search(long deadline) {
+            this.deadline = deadline;
+        }
+
+        /**
+         * Searches the plans that extend {@code node}. If {@code branches} is not null, the children of
+         * {@code node} are added to it as branches to be explored in parallel instead of being searched.
+         */
+        private void search(Node node, int branch, List<BranchTask> branches) {
+            if (System.nanoTime() - deadline > 0) {
+                isTimedOut = true;
+                return;
+            }
+            BitSet covered = (BitSet) node.chosen.clone();
+            covered.or(taken);
+
+            int goalToBranch = -1;
+            double largestShortfall = 0;
+            for (int g = 0; g < goals.size(); g++) {
+                Goal goal = goals.get(g);
+                BitSet fulfilled = (BitSet) goal.members.clone();
+                fulfilled.and(covered);
+                double shortfall = goal.requiredCredits - creditsOf(fulfilled);
+                if (shortfall <= 0) {
+                    continue;
+                }
+                // Constraint propagation: the options left to the goal must be able to make up its shortfall
+                BitSet reachable = new BitSet();
+                for (int i = node.nextOptions[g]; i < goal.options.size(); i++) {
+                    reachable.or(goal.options.get(i));
+                }
+                reachable.and(goal.members);
+                reachable.andNot(covered);
+                if (creditsOf(reachable) < shortfall) {
+                    return;
+                }
+                largestShortfall = Math.max(largestShortfall, shortfall);
+                if (goalToBranch < 0 || optionsLeft(node, g) < optionsLeft(node, goalToBranch)) {
+                    goalToBranch = g;
+                }
+            }
+
+            if (goalToBranch < 0) {
+                schedule(node.chosen).ifPresent(semesters ->
+                        offer(new Candidate(semesters, node.modularCredits, branch)));
+                return;
+            }
+            // Bound: every goal has to make up its shortfall, so the plan costs at least the largest one more
+            if (!isWorthExploring(node.modularCredits + largestShortfall, branch)) {
+                return;
+            }
+
+            Goal goal = goals.get(goalToBranch);
+            for (int i = node.nextOptions[goalToBranch]; i < goal.options.size(); i++) {
+                BitSet added = (BitSet) goal.options.get(i).clone();
+                added.andNot(covered);
+                if (!added.intersects(goal.members)) {
+                    continue;
+                }
+                BitSet chosen = (BitSet) node.chosen.clone();
+                chosen.or(added);
+                int[] nextOptions = node.nextOptions.clone();
+                nextOptions[goalToBranch] = i + 1;
+                Node child = new Node(chosen, node.modularCredits + creditsOf(added), nextOptions);
+                if (branches != null) {
+                    branches.add(new BranchTask(this, child, branches.size()));
+                } else {
+                    search(child, branch, null);
+                }
+            }
+        }
+
+        private int optionsLeft(Node node, int goal) {
+            return goals.get(goal).options.size() - node.nextOptions[goal];
+        }
+
+        private boolean isWorthExploring(double lowerBound, int branch) {
+            Candidate current = best.get();
+            return current == null || new Candidate(null, lowerBound, branch)
+                    .isBetterThan(current.modularCredits, current.branch);
+        }
+
+        private void offer(Candidate candidate) {
+            while (true) {
+                Candidate current = best.get();
+                if (current != null && !candidate.isBetterThan(current.modularCredits, current.branch)) {
+                    return;
+                }
+                if (best.compareAndSet(current, candidate)) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Explores one of the top-level branches of a search.
+     */
+    private static class BranchTask extends RecursiveAction {
+        private final Search search;
+        private final Node node;
+        private final int branch;
+
+        private BranchTask(Search search, Node node, int branch) {
+            this.search = search;
+            this.node = node;
+            this.branch = branch;
+        }
+
+        @Override
+        protected void compute() {
+            search.search(node, branch, null);
+        }
+    }
+
+    /**
+     * The modules planned for each semester.
+     * Guarantees: immutable.
+     */
+    public static class Plan {
+        private final Map<Integer, List<ModuleCode>> semesters;
+        private final double modularCredits;
+        private final boolean isOptimal;
+
+        private Plan(Map<Integer, List<ModuleCode>> semesters, double modularCredits, boolean isOptimal) {
+            this.semesters = Collections.unmodifiableMap(semesters);
+            this.modularCredits = modularCredits;
+            this.isOptimal = isOptimal;
+        }
+
+        /**
+         * Returns the modules planned for each overall semester, in order of semester.
+         */
+        public Map<Integer, List<ModuleCode>> getSemesters() {
+            return semesters;
+        }
+
+        public double getModularCredits() {
+            return modularCredits;
+        }
+
+        public int getModuleCount() {
+            return semesters.values().stream().mapToInt(List::size).sum();
+        }
+
+        /**
+         * Returns true if the search finished within its time budget, so no plan has fewer modular credits.
+         */
+        public boolean isOptimal() {
+            return isOptimal;
+        }
+
+        public boolean isEmpty() {
+            return semesters.isEmpty();
+        }
+
+        @Override
+        public String toString() {
+            return semesters.entrySet().stream()
+                    .map(entry -> String.format("Year %d Semester %d: %s", (entry.getKey() + 1) / 2,
+                            2 - (entry.getKey() % 2),
+                            entry.getValue().stream().map(ModuleCode::toString).collect(Collectors.joining(", "))))
+                    .collect(Collectors.joining("\n"));
+        }
+    }
+}
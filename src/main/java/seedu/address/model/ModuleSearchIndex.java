@@ -0,0 +1,282 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+
+import seedu.address.model.profile.course.module.Module;
+import seedu.address.model.profile.course.module.ModuleCode;
+
+//@@author chanckben
+/**
+ * An inverted index over the codes, titles and descriptions of the modules in a module list, ranking the modules
+ * that match a query with BM25.
+ *
+ * <p>Text is split into lower-case tokens of letters and digits. Every distinct token is a term, and each term
+ * stores the modules it occurs in with its frequency in each, where an occurrence in the code or title counts
+ * {@value #TITLE_WEIGHT} times. A query token matches the term equal to it, the terms it is a prefix of, and,
+ * if it matches neither, the terms sharing most of its {@value #NGRAM_LENGTH}-letter n-grams, so that misspelt
+ * words are still found. Prefix and n-gram matches score less than exact ones.
+ */
+public class ModuleSearchIndex {
+
+    public static final int TITLE_WEIGHT = 3;
+
+    static final int NGRAM_LENGTH = 3;
+    static final int MIN_PREFIX_LENGTH = 2;
+    static final int MAX_EXPANSIONS = 50;
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final double PREFIX_WEIGHT = 0.7;
+    private static final double NGRAM_WEIGHT = 0.5;
+    private static final double MIN_NGRAM_SIMILARITY = 0.5;
+
+    private final ModuleCode[] moduleCodes;
+    private final int[] documentLengths;
+    private final double averageDocumentLength;
+    private final String[] terms;
+    private final int[][] documents;
+    private final int[][] frequencies;
+    private Map<String, int[]> termsByNgram;
+
+    /**
+     * Builds the index from the modules in {@code moduleList}.
+     */
+    public ModuleSearchIndex(ModuleList moduleList) {
+        requireNonNull(moduleList);
+        List<Module> modules = moduleList.getModuleList();
+        moduleCodes = new ModuleCode[modules.size()];
+        documentLengths = new int[modules.size()];
+        Map<String, List<int[]>> postings = new TreeMap<>();
+        for (int document = 0; document < modules.size(); document++) {
+            Module module = modules.get(document);
+            moduleCodes[document] = module.getModuleCode();
+            Map<String, Integer> termFrequencies = new HashMap<>();
+            count(module.getModuleCode() + " " + module.getTitle(), TITLE_WEIGHT, termFrequencies);
+            count(module.getDescription().toString(), 1, termFrequencies);
+            for (Map.Entry<String, Integer> entry : termFrequencies.entrySet()) {
+                postings.computeIfAbsent(entry.getKey(), term -> new ArrayList<>())
+                        .add(new int[] {document, entry.getValue()});
+                documentLengths[document] += entry.getValue();
+            }
+        }
+
+        terms = postings.keySet().toArray(new String[0]);
+        documents = new int[terms.length][];
+        frequencies = new int[terms.length][];
+        for (int term = 0; term < terms.length; term++) {
+            List<int[]> termPostings = postings.get(terms[term]);
+            documents[term] = termPostings.stream().mapToInt(posting -> posting[0]).toArray();
+            frequencies[term] = termPostings.stream().mapToInt(posting -> posting[1]).toArray();
+        }
+        averageDocumentLength = average(documentLengths);
+    }
+
+    /**
+     * Creates an index from its terms, in sorted order, and their postings, e.g. as read from storage.
+     * Document {@code i} in the postings is the module with code {@code moduleCodes.get(i)}.
+     */
+    public ModuleSearchIndex(List<ModuleCode> moduleCodes, int[] documentLengths, String[] terms,
+                             int[][] documents, int[][] frequencies) {
+        requireNonNull(moduleCodes);
+        requireNonNull(documentLengths);
+        requireNonNull(terms);
+        requireNonNull(documents);
+        requireNonNull(frequencies);
+        if (moduleCodes.size() != documentLengths.length || terms.length != documents.length
+                || terms.length != frequencies.length) {
+            throw new IllegalArgumentException("Search index is inconsistent");
+        }
+        this.moduleCodes = moduleCodes.toArray(new ModuleCode[0]);
+        this.documentLengths = documentLengths.clone();
+        this.terms = terms.clone();
+        this.documents = documents.clone();
+        this.frequencies = frequencies.clone();
+        this.averageDocumentLength = average(documentLengths);
+    }
+
+    private static void count(String text, int weight, Map<String, Integer> termFrequencies) {
+        for (String token : tokenize(text)) {
+            termFrequencies.merge(token, weight, Integer::sum);
+        }
+    }
+
+    private static double average(int[] values) {
+        return values.length == 0 ? 0 : (double) Arrays.stream(values).sum() / values.length;
+    }
+
+    /**
+     * Splits {@code text} into lower-case tokens of letters and digits.
+     */
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        for (String token : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Returns up to {@code limit} modules matching {@code query}, best match first.
+     * Modules with the same score are ordered by module code.
+     */
+    public List<ModuleCode> search(String query, int limit) {
+        requireNonNull(query);
+        double[] scores = new double[moduleCodes.length];
+        double[] tokenScores = new double[moduleCodes.length];
+        for (String token : new LinkedHashSet<>(tokenize(query))) {
+            // A module matching several expansions of a token only scores for the best of them
+            Arrays.fill(tokenScores, 0);
+            expand(token).forEach((term, weight) -> score(term, weight, tokenScores));
+            for (int document = 0; document < scores.length; document++) {
+                scores[document] += tokenScores[document];
+            }
+        }
+
+        // Keeps the best matches found so far, with the worst of them at the head
+        Comparator<Integer> ranking = Comparator.<Integer>comparingDouble(document -> -scores[document])
+                .thenComparing(document -> moduleCodes[document].toString());
+        PriorityQueue<Integer> bestMatches = new PriorityQueue<>(ranking.reversed());
+        for (int document = 0; document < scores.length && limit > 0; document++) {
+            if (scores[document] <= 0) {
+                continue;
+            }
+            if (bestMatches.size() < limit) {
+                bestMatches.add(document);
+            } else if (ranking.compare(document, bestMatches.peek()) < 0) {
+                bestMatches.poll();
+                bestMatches.add(document);
+            }
+        }
+
+        List<Integer> matches = new ArrayList<>(bestMatches);
+        matches.sort(ranking);
+        List<ModuleCode> results = new ArrayList<>();
+        matches.forEach(document -> results.add(moduleCodes[document]));
+        return results;
+    }
+
+    /**
+     * Returns the terms matched by the query token {@code token}, with the weight of each match.
+     */
+    private Map<Integer, Double> expand(String token) {
+        Map<Integer, Double> expansions = new HashMap<>();
+        int position = Arrays.binarySearch(terms, token);
+        if (position >= 0) {
+            expansions.put(position, 1.0);
+        }
+        if (token.length() >= MIN_PREFIX_LENGTH) {
+            int start = position >= 0 ? position + 1 : -position - 1;
+            for (int term = start; term < terms.length && terms[term].startsWith(token)
+                    && expansions.size() < MAX_EXPANSIONS; term++) {
+                expansions.put(term, PREFIX_WEIGHT);
+            }
+        }
+        if (expansions.isEmpty() && token.length() >= NGRAM_LENGTH) {
+            expandByNgrams(token, expansions);
+        }
+        return expansions;
+    }
+
+    private void expandByNgrams(String token, Map<Integer, Double> expansions) {
+        Set<String> tokenNgrams = ngrams(token);
+        Map<Integer, Integer> sharedNgrams = new HashMap<>();
+        for (String ngram : tokenNgrams) {
+            for (int term : getTermsByNgram().getOrDefault(ngram, new int[0])) {
+                sharedNgrams.merge(term, 1, Integer::sum);
+            }
+        }
+        sharedNgrams.entrySet().stream()
+                .map(entry -> Map.entry(entry.getKey(), 2.0 * entry.getValue()
+                        / (tokenNgrams.size() + ngrams(terms[entry.getKey()]).size())))
+                .filter(entry -> entry.getValue() >= MIN_NGRAM_SIMILARITY)
+                .sorted(Map.Entry.<Integer, Double>comparingByValue().reversed())
+                .limit(MAX_EXPANSIONS)
+                .forEach(entry -> expansions.put(entry.getKey(), NGRAM_WEIGHT * entry.getValue()));
+    }
+
+    /**
+     * Returns the terms containing each n-gram, which are only indexed when first needed.
+     */
+    private Map<String, int[]> getTermsByNgram() {
+        if (termsByNgram == null) {
+            Map<String, List<Integer>> termLists = new HashMap<>();
+            for (int term = 0; term < terms.length; term++) {
+                for (String ngram : ngrams(terms[term])) {
+                    termLists.computeIfAbsent(ngram, unused -> new ArrayList<>()).add(term);
+                }
+            }
+            Map<String, int[]> index = new HashMap<>();
+            termLists.forEach((ngram, termList) ->
+                    index.put(ngram, termList.stream().mapToInt(Integer::intValue).toArray()));
+            termsByNgram = index;
+        }
+        return termsByNgram;
+    }
+
+    private static Set<String> ngrams(String term) {
+        Set<String> ngrams = new LinkedHashSet<>();
+        for (int i = 0; i + NGRAM_LENGTH <= term.length(); i++) {
+            ngrams.add(term.substring(i, i + NGRAM_LENGTH));
+        }
+        return ngrams;
+    }
+
+    /**
+     * Adds the BM25 score of {@code term}, scaled by {@code weight}, to the score of each module it occurs in,
+     * keeping the higher score if the module already scored higher for the current query token.
+     */
+    private void score(int term, double weight, double[] tokenScores) {
+        int documentFrequency = documents[term].length;
+        double idf = Math.log(1 + (moduleCodes.length - documentFrequency + 0.5) / (documentFrequency + 0.5));
+        for (int i = 0; i < documents[term].length; i++) {
+            int document = documents[term][i];
+            int frequency = frequencies[term][i];
+            double lengthNorm = 1 - B + B * documentLengths[document] / averageDocumentLength;
+            double score = weight * idf * frequency * (K1 + 1) / (frequency + K1 * lengthNorm);
+            tokenScores[document] = Math.max(tokenScores[document], score);
+        }
+    }
+
+    public List<ModuleCode> getModuleCodes() {
+        return Arrays.asList(moduleCodes.clone());
+    }
+
+    public int[] getDocumentLengths() {
+        return documentLengths.clone();
+    }
+
+    /**
+     * Returns the terms of the index in sorted order.
+     */
+    public String[] getTerms() {
+        return terms.clone();
+    }
+
+    /**
+     * Returns the documents that the term with index {@code term} occurs in, in ascending order.
+     */
+    public int[] getDocuments(int term) {
+        return documents[term].clone();
+    }
+
+    /**
+     * Returns the frequency of the term with index {@code term} in each of its documents.
+     */
+    public int[] getFrequencies(int term) {
+        return frequencies[term].clone();
+    }
+}
@@ -0,0 +1,124 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.model.profile.course.module.Module;
+import seedu.address.model.profile.course.module.ModuleCode;
+import seedu.address.model.profile.course.module.PrereqTreeNode;
+
+//@@author chanckben
+/**
+ * Checks whether the prerequisites of the modules in a module list are fulfilled.
+ * Every module code in the list, and its code without suffix, is given an ordinal. The prerequisite trees are
+ * compiled once into flat programs over these ordinals, so that the modules taken can be represented as a
+ * {@code BitSet} and checking a module's prerequisites only tests a few bits.
+ *
+ * <p>A program is a prefix encoding of its prerequisite tree. A module is encoded as {@code [MODULE, ordinal]}
+ * and an "and" or "or" node as {@code [AND or OR, number of children, length of node]} followed by its children,
+ * so that the remaining children can be skipped once the result of the node is known.
+ */
+public class PrereqEvaluator {
+
+    private static final int OP_MODULE = 0;
+    private static final int OP_AND = 1;
+    private static final int OP_OR = 2;
+
+    private final Map<ModuleCode, Integer> ordinals = new HashMap<>();
+    private final Map<ModuleCode, int[]> programs = new HashMap<>();
+
+    /**
+     * Compiles the prerequisite trees of the modules in {@code moduleList}.
+     */
+    public PrereqEvaluator(ModuleList moduleList) {
+        requireNonNull(moduleList);
+        for (Module module : moduleList) {
+            ordinalOf(module.getModuleCode());
+            ordinalOf(module.getModuleCode().removeSuffix());
+        }
+        for (Module module : moduleList) {
+            if (module.getPrereqTreeNode() != null) {
+                List<Integer> program = new ArrayList<>();
+                compile(module.getPrereqTreeNode(), program);
+                programs.put(module.getModuleCode(), program.stream().mapToInt(Integer::intValue).toArray());
+            }
+        }
+    }
+
+    private int ordinalOf(ModuleCode moduleCode) {
+        return ordinals.computeIfAbsent(moduleCode, code -> ordinals.size());
+    }
+
+    private void compile(PrereqTreeNode node, List<Integer> program) {
+        if (node.getModuleCode() != null) {
+            program.add(OP_MODULE);
+            program.add(ordinalOf(node.getModuleCode()));
+            return;
+        }
+        int start = program.size();
+        program.add(node.getType() == PrereqTreeNode.Type.AND ? OP_AND : OP_OR);
+        program.add(node.getPrereqTreeNodes().size());
+        program.add(0); // Length of this node, filled in once the children are compiled
+        for (PrereqTreeNode child : node.getPrereqTreeNodes()) {
+            compile(child, program);
+        }
+        program.set(start + 2, program.size() - start);
+    }
+
+    /**
+     * Returns the set of ordinals representing {@code modulesTaken}.
+     * A module taken also fulfils prerequisites on its code without suffix, e.g. CS1010S fulfils CS1010.
+     */
+    public BitSet toBitSet(Collection<ModuleCode> modulesTaken) {
+        BitSet bitSet = new BitSet(ordinals.size());
+        for (ModuleCode moduleCode : modulesTaken) {
+            setTaken(bitSet, moduleCode, true);
+            setTaken(bitSet, moduleCode.removeSuffix(), true);
+        }
+        return bitSet;
+    }
+
+    /**
+     * Sets whether exactly the module code {@code moduleCode}, without its variants, is taken in
+     * {@code modulesTaken}.
+     */
+    public void setTaken(BitSet modulesTaken, ModuleCode moduleCode, boolean isTaken) {
+        // Codes without an ordinal do not appear in any prerequisite tree, so they can be left out
+        Integer ordinal = ordinals.get(moduleCode);
+        if (ordinal != null) {
+            modulesTaken.set(ordinal, isTaken);
+        }
+    }
+
+    /**
+     * Returns true if the prerequisites of the module with code {@code moduleCode} are fulfilled by the modules in
+     * {@code modulesTaken}, as returned by {@link #toBitSet(Collection)}.
+     * Modules without prerequisites, or not in the module list, always have their prerequisites fulfilled.
+     */
+    public boolean hasFulfilledPrereqs(ModuleCode moduleCode, BitSet modulesTaken) {
+        int[] program = programs.get(moduleCode);
+        return program == null || evaluate(program, 0, modulesTaken);
+    }
+
+    private static boolean evaluate(int[] program, int pc, BitSet modulesTaken) {
+        if (program[pc] == OP_MODULE) {
+            return modulesTaken.get(program[pc + 1]);
+        }
+        // An "and" node is false as soon as a child is false, an "or" node is true as soon as a child is true
+        boolean isAnd = program[pc] == OP_AND;
+        int child = pc + 3;
+        for (int i = 0; i < program[pc + 1]; i++) {
+            if (evaluate(program, child, modulesTaken) != isAnd) {
+                return !isAnd;
+            }
+            child += program[child] == OP_MODULE ? 2 : program[child + 2];
+        }
+        return isAnd;
+    }
+}
@@ -0,0 +1,127 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.profile.course.module.Module;
+import seedu.address.model.profile.course.module.ModuleCode;
+import seedu.address.model.profile.course.module.PrereqTreeNode;
+
+//@@author chanckben
+/**
+ * The prerequisite graph of the modules in a module list, in which a module depends on every module in the list
+ * that can fulfil a prerequisite in its tree, including the variants of a required code.
+ * The modules are sorted topologically, so that a module comes after all the modules it depends on. Modules in a
+ * prerequisite cycle, or depending on one, cannot be sorted and come last.
+ */
+public class PrereqGraph {
+
+    private static final Logger logger = LogsCenter.getLogger(PrereqGraph.class);
+
+    private final List<ModuleCode> sortedModules = new ArrayList<>();
+    private final Set<ModuleCode> cyclicModules = new LinkedHashSet<>();
+    private final Map<ModuleCode, Integer> positions = new HashMap<>();
+
+    /**
+     * Sorts the modules in {@code moduleList} topologically by their prerequisites.
+     */
+    public PrereqGraph(ModuleList moduleList) {
+        requireNonNull(moduleList);
+        Map<ModuleCode, Set<ModuleCode>> dependencies = new HashMap<>();
+        Map<ModuleCode, List<ModuleCode>> dependents = new HashMap<>();
+        for (Module module : moduleList) {
+            Set<ModuleCode> moduleDependencies = new HashSet<>();
+            if (module.getPrereqTreeNode() != null) {
+                addDependencies(module.getPrereqTreeNode(), moduleList, moduleDependencies);
+            }
+            dependencies.put(module.getModuleCode(), moduleDependencies);
+            for (ModuleCode dependency : moduleDependencies) {
+                dependents.computeIfAbsent(dependency, unused -> new ArrayList<>()).add(module.getModuleCode());
+            }
+        }
+
+        // Kahn's algorithm: a module is sorted once all the modules it depends on are
+        Map<ModuleCode, Integer> unsortedDependencies = new HashMap<>();
+        Queue<ModuleCode> ready = new ArrayDeque<>();
+        for (Module module : moduleList) {
+            int count = dependencies.get(module.getModuleCode()).size();
+            unsortedDependencies.put(module.getModuleCode(), count);
+            if (count == 0) {
+                ready.add(module.getModuleCode());
+            }
+        }
+        while (!ready.isEmpty()) {
+            ModuleCode moduleCode = ready.remove();
+            positions.put(moduleCode, sortedModules.size());
+            sortedModules.add(moduleCode);
+            for (ModuleCode dependent : dependents.getOrDefault(moduleCode, Collections.emptyList())) {
+                if (unsortedDependencies.merge(dependent, -1, Integer::sum) == 0) {
+                    ready.add(dependent);
+                }
+            }
+        }
+
+        for (Module module : moduleList) {
+            if (!positions.containsKey(module.getModuleCode())) {
+                positions.put(module.getModuleCode(), sortedModules.size() + cyclicModules.size());
+                cyclicModules.add(module.getModuleCode());
+            }
+        }
+        if (!cyclicModules.isEmpty()) {
+            logger.warning(cyclicModules.size() + " modules are in or depend on a prerequisite cycle: "
+                    + cyclicModules);
+        }
+    }
+
+    private static void addDependencies(PrereqTreeNode node, ModuleList moduleList, Set<ModuleCode> dependencies) {
+        if (node.getModuleCode() != null) {
+            if (moduleList.hasModuleWithModuleCode(node.getModuleCode())) {
+                dependencies.add(node.getModuleCode());
+            }
+            moduleList.getModulesWithBaseCode(node.getModuleCode())
+                    .forEach(variant -> dependencies.add(variant.getModuleCode()));
+            return;
+        }
+        for (PrereqTreeNode child : node.getPrereqTreeNodes()) {
+            addDependencies(child, moduleList, dependencies);
+        }
+    }
+
+    /**
+     * Returns the modules that are not in or behind a prerequisite cycle, each after all the modules it depends on.
+     */
+    public List<ModuleCode> getSortedModules() {
+        return Collections.unmodifiableList(sortedModules);
+    }
+
+    /**
+     * Returns the modules that are in a prerequisite cycle, or depend on a module that is.
+     */
+    public Set<ModuleCode> getCyclicModules() {
+        return Collections.unmodifiableSet(cyclicModules);
+    }
+
+    /**
+     * Returns the position of the module with code {@code moduleCode} in the topological order, with the modules
+     * in or behind a prerequisite cycle placed after all the others.
+     */
+    public int getPosition(ModuleCode moduleCode) {
+        return positions.get(moduleCode);
+    }
+
+    public boolean isCyclic(ModuleCode moduleCode) {
+        return cyclicModules.contains(moduleCode);
+    }
+}
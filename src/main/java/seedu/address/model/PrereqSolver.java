@@ -0,0 +1,280 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.model.profile.course.module.Module;
+import seedu.address.model.profile.course.module.ModuleCode;
+import seedu.address.model.profile.course.module.PrereqTreeNode;
+
+//@@author chanckben
+/**
+ * Finds a small set of modules that still has to be taken to fulfil the prerequisites of a module, given the
+ * modules already taken. A module still needed brings its own unfulfilled prerequisites along, so the set contains
+ * everything that has to be taken before the module, not only the leaves of its prerequisite tree.
+ *
+ * <p>An "or" node takes its cheapest child and an "and" node the union of its children, costed by the modules in
+ * that union so that a module needed by several children is only counted once. Each "or" node is decided on its
+ * own, without regard to the modules its siblings need, so the set found is the smallest one when no module is
+ * shared between alternatives of different nodes, and may be larger otherwise. The result for every module is
+ * memoized, so modules shared by many prerequisite trees, e.g. when explaining every module in a focus area at
+ * once, are only solved once.
+ */
+public class PrereqSolver {
+
+    /**
+     * What the size of a set of modules is measured by.
+     */
+    public enum Objective {
+        MODULE_COUNT, MODULAR_CREDITS
+    }
+
+    private static final Partial FULFILLED = new Partial(0, Collections.emptySet(), true);
+
+    private final ModuleManager moduleManager;
+    private final Objective objective;
+    private final Set<ModuleCode> modulesTaken = new HashSet<>();
+    private final Map<ModuleCode, Partial> moduleMemo = new HashMap<>();
+    private final Map<ModuleCode, Partial> leafMemo = new HashMap<>();
+    private final Set<ModuleCode> inProgress = new HashSet<>();
+
+    /**
+     * Creates a solver for the modules in the catalog of {@code moduleManager}, given that {@code modulesTaken}
+     * have been taken.
+     */
+    public PrereqSolver(ModuleManager moduleManager, Collection<ModuleCode> modulesTaken, Objective objective) {
+        requireNonNull(moduleManager);
+        requireNonNull(modulesTaken);
+        requireNonNull(objective);
+        this.moduleManager = moduleManager;
+        this.objective = objective;
+        for (ModuleCode moduleCode : modulesTaken) {
+            // A module taken also fulfils prerequisites on its code without suffix, e.g. CS1010S fulfils CS1010
+            this.modulesTaken.add(moduleCode);
+            this.modulesTaken.add(moduleCode.removeSuffix());
+        }
+    }
+
+    /**
+     * Returns the smallest set found of modules still needed to fulfil the prerequisites of the module with code
+     * {@code moduleCode}, or an empty {@code Optional} if no modules in the catalog fulfil them.
+     * The set is empty if the prerequisites are already fulfilled or the module is not in the catalog.
+     */
+    public Optional<Solution> solve(ModuleCode moduleCode) {
+        requireNonNull(moduleCode);
+        if (!moduleManager.hasModule(moduleCode)) {
+            return Optional.of(toSolution(FULFILLED));
+        }
+        PrereqTreeNode prereqTreeNode = moduleManager.getModule(moduleCode).getPrereqTreeNode();
+        Partial partial = prereqTreeNode == null ? FULFILLED : solveNode(prereqTreeNode);
+        return partial.isFulfillable() ? Optional.of(toSolution(partial)) : Optional.empty();
+    }
+
+    /**
+     * Returns the smallest set found of modules still needed for each of {@code moduleCodes}, leaving out the
+     * modules whose prerequisites cannot be fulfilled by the modules in the catalog.
+     */
+    public Map<ModuleCode, Solution> solveAll(List<ModuleCode> moduleCodes) {
+        Map<ModuleCode, Solution> solutions = new LinkedHashMap<>();
+        for (ModuleCode moduleCode : moduleCodes) {
+            solve(moduleCode).ifPresent(solution -> solutions.put(moduleCode, solution));
+        }
+        return solutions;
+    }
+
+    private Partial solveNode(PrereqTreeNode node) {
+        if (node.getModuleCode() != null) {
+            return solveLeaf(node.getModuleCode());
+        }
+        if (node.getType() == PrereqTreeNode.Type.AND) {
+            List<Partial> parts = new ArrayList<>();
+            boolean isCycleFree = true;
+            for (PrereqTreeNode child : node.getPrereqTreeNodes()) {
+                Partial partial = solveNode(child);
+                parts.add(partial);
+                isCycleFree &= partial.isCycleFree;
+            }
+            return union(null, parts, isCycleFree);
+        }
+        Partial best = Partial.unfulfillable(true);
+        boolean isCycleFree = true;
+        for (PrereqTreeNode child : node.getPrereqTreeNodes()) {
+            Partial partial = solveNode(child);
+            isCycleFree &= partial.isCycleFree;
+            if (partial.cost < best.cost) {
+                best = partial;
+            }
+        }
+        return best.withCycleFree(isCycleFree);
+    }
+
+    /**
+     * Returns the cheapest way to fulfil a prerequisite on {@code moduleCode}, which any of its variants in the
+     * catalog also fulfils.
+     */
+    private Partial solveLeaf(ModuleCode moduleCode) {
+        if (modulesTaken.contains(moduleCode)) {
+            return FULFILLED;
+        }
+        Partial memoized = leafMemo.get(moduleCode);
+        if (memoized != null) {
+            return memoized;
+        }
+        // The module itself is preferred over its variants when they cost the same
+        Set<ModuleCode> candidates = new LinkedHashSet<>();
+        if (moduleManager.hasModule(moduleCode)) {
+            candidates.add(moduleCode);
+        }
+        for (Module variant : moduleManager.getModuleVariants(moduleCode)) {
+            candidates.add(variant.getModuleCode());
+        }
+        Partial best = Partial.unfulfillable(true);
+        boolean isCycleFree = true;
+        for (ModuleCode candidate : candidates) {
+            Partial partial = solveModule(candidate);
+            isCycleFree &= partial.isCycleFree;
+            if (partial.cost < best.cost) {
+                best = partial;
+            }
+        }
+        best = best.withCycleFree(isCycleFree);
+        if (isCycleFree) {
+            leafMemo.put(moduleCode, best);
+        }
+        return best;
+    }
+
+    /**
+     * Returns the cheapest way to take the module with code {@code moduleCode} together with its own prerequisites.
+     */
+    private Partial solveModule(ModuleCode moduleCode) {
+        Partial memoized = moduleMemo.get(moduleCode);
+        if (memoized != null) {
+            return memoized;
+        }
+        if (!inProgress.add(moduleCode)) {
+            // Prerequisites that lead back to this module cannot be fulfilled through it
+            return Partial.unfulfillable(false);
+        }
+        Module module = moduleManager.getModule(moduleCode);
+        Partial prereqs = module.getPrereqTreeNode() == null ? FULFILLED : solveNode(module.getPrereqTreeNode());
+        inProgress.remove(moduleCode);
+
+        Partial partial = union(moduleCode, Collections.singletonList(prereqs), prereqs.isCycleFree);
+        // Results cut short by a cycle depend on the path taken to reach them, so they are not reused
+        if (partial.isCycleFree) {
+            moduleMemo.put(moduleCode, partial);
+        }
+        return partial;
+    }
+
+    /**
+     * Returns the way to fulfil all of {@code parts} together, also taking the module with code {@code moduleCode}
+     * if it is not null, costed by the modules it takes.
+     */
+    private Partial union(ModuleCode moduleCode, List<Partial> parts, boolean isCycleFree) {
+        Set<ModuleCode> moduleCodes = new HashSet<>();
+        for (Partial part : parts) {
+            if (!part.isFulfillable()) {
+                return Partial.unfulfillable(isCycleFree);
+            }
+            moduleCodes.addAll(part.moduleCodes);
+        }
+        if (moduleCode != null) {
+            moduleCodes.add(moduleCode);
+        }
+        double cost = 0;
+        for (ModuleCode neededModule : moduleCodes) {
+            cost += costOf(moduleManager.getModule(neededModule));
+        }
+        return new Partial(cost, Collections.unmodifiableSet(moduleCodes), isCycleFree);
+    }
+
+    private double costOf(Module module) {
+        return objective == Objective.MODULE_COUNT ? 1 : module.getModularCredits().modularCredits;
+    }
+
+    private Solution toSolution(Partial partial) {
+        List<ModuleCode> modules = partial.moduleCodes.stream()
+                .sorted((first, second) -> first.toString().compareTo(second.toString()))
+                .collect(Collectors.toList());
+        double modularCredits = modules.stream()
+                .mapToDouble(moduleCode -> moduleManager.getModule(moduleCode).getModularCredits().modularCredits)
+                .sum();
+        return new Solution(modules, modularCredits);
+    }
+
+    /**
+     * The cheapest way found to fulfil part of a prerequisite tree: the modules to take, and their cost.
+     */
+    private static class Partial {
+        private final double cost;
+        private final Set<ModuleCode> moduleCodes;
+        private final boolean isCycleFree;
+
+        private Partial(double cost, Set<ModuleCode> moduleCodes, boolean isCycleFree) {
+            this.cost = cost;
+            this.moduleCodes = moduleCodes;
+            this.isCycleFree = isCycleFree;
+        }
+
+        private static Partial unfulfillable(boolean isCycleFree) {
+            return new Partial(Double.POSITIVE_INFINITY, Collections.emptySet(), isCycleFree);
+        }
+
+        private Partial withCycleFree(boolean isCycleFree) {
+            return isCycleFree == this.isCycleFree ? this : new Partial(cost, moduleCodes, isCycleFree);
+        }
+
+        private boolean isFulfillable() {
+            return cost != Double.POSITIVE_INFINITY;
+        }
+    }
+
+    /**
+     * The modules still needed to fulfil the prerequisites of a module.
+     * Guarantees: immutable.
+     */
+    public static class Solution {
+        private final List<ModuleCode> modules;
+        private final double modularCredits;
+
+        private Solution(List<ModuleCode> modules, double modularCredits) {
+            this.modules = Collections.unmodifiableList(modules);
+            this.modularCredits = modularCredits;
+        }
+
+        /**
+         * Returns the modules still needed, in alphabetical order.
+         */
+        public List<ModuleCode> getModules() {
+            return modules;
+        }
+
+        public double getModularCredits() {
+            return modularCredits;
+        }
+
+        public boolean isFulfilled() {
+            return modules.isEmpty();
+        }
+
+        @Override
+        public String toString() {
+            return modules.stream().map(ModuleCode::toString).collect(Collectors.joining(", "))
+                    + " (" + (int) modularCredits + " MCs)";
+        }
+    }
+}
@@ -4,16 +4,12 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
-import java.util.Comparator;
-import java.util.Iterator;
 import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
-import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
-import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.profile.Name;
@@ -33,10 +29,9 @@ public class ProfileManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ProfileManager.class);
 
     private final ProfileList profileList;
-    private ObservableList<Deadline> deadlineList;
+    private final DeadlineIndex deadlineIndex = new DeadlineIndex();
     private final UserPrefs userPrefs;
     private final FilteredList<Profile> filteredProfiles;
-    private SortedList<Deadline> sortedDeadlines;
 
     private Optional<Object> displayedView = Optional.empty();
 
@@ -49,8 +44,6 @@ public class ProfileManager implements Model {
         this.profileList = profileList;
         this.userPrefs = new UserPrefs(userPrefs);
         filteredProfiles = new FilteredList<>(profileList.getProfileList());
-        deadlineList = FXCollections.observableArrayList();
-        sortedDeadlines = deadlineList.sorted(new DateTimeComparator());
     }
 
     public ProfileManager() {
@@ -152,30 +145,19 @@ public class ProfileManager implements Model {
     }
 
     public ObservableList<Deadline> getSortedDeadlineList() {
-        return sortedDeadlines;
+        return deadlineIndex.asUnmodifiableObservableList();
     }
 
     @Override
     public void addDeadline(Deadline deadline) {
         requireNonNull(deadline);
-        this.deadlineList.add(deadline);
+        deadlineIndex.add(deadline);
     }
 
     @Override
     public void deleteDeadline(Deadline deadline) {
         requireNonNull(deadline);
-        Iterator<Deadline> iter = this.deadlineList.iterator();
-        Boolean flag = false;
-        while (iter.hasNext()) {
-            Deadline dl = iter.next();
-            if (dl.getModuleCode().equals(deadline.getModuleCode())
-                    && dl.getDescription().toUpperCase().equals(deadline.getDescription().toUpperCase())) {
-                iter.remove();
-                flag = true;
-            }
-        }
-
-        if (!flag) {
+        if (!deadlineIndex.remove(deadline)) {
             throw new DeadlineNotFoundException();
         }
     }
@@ -185,42 +167,24 @@ public class ProfileManager implements Model {
      */
     public void replaceDeadline(Deadline oldDeadline, Deadline newDeadline) {
         requireAllNonNull(oldDeadline, newDeadline);
-        Iterator<Deadline> iter = this.deadlineList.iterator();
-        Boolean flag = false;
-        while (iter.hasNext()) {
-            Deadline dl = iter.next();
-            if (dl.getModuleCode().equals(oldDeadline.getModuleCode())
-                    && dl.getDescription().equals(oldDeadline.getDescription())) {
-                iter.remove();
-                flag = true;
-            }
-        }
-        if (!flag) {
+        if (!deadlineIndex.replace(oldDeadline, newDeadline)) {
             throw new DeadlineNotFoundException();
-        } else {
-            this.deadlineList.add(newDeadline);
         }
     }
 
     @Override
     public void clearDeadlineList() {
-        this.deadlineList.clear();
+        deadlineIndex.clear();
     }
 
     @Override
     public void loadDeadlines() {
-        this.deadlineList.addAll(this.profileList.getProfileList().get(0).getDeadlines());
+        deadlineIndex.addAll(this.profileList.getProfileList().get(0).getDeadlines());
     }
 
     @Override
     public void deleteModuleDeadlines(ModuleCode mc) {
-        Iterator<Deadline> iter = this.deadlineList.iterator();
-        while (iter.hasNext()) {
-            Deadline dl = iter.next();
-            if (dl.getModuleCode().toString().equals(mc.toString())) {
-                iter.remove();
-            }
-        }
+        deadlineIndex.removeModule(mc.toString());
     }
 
     @Override
@@ -276,42 +240,13 @@ public class ProfileManager implements Model {
     @Override
     public void setNewDeadlineList(Profile editedProfile) {
         if (editedProfile.getDeadlines() != null) {
-            this.deadlineList.addAll(editedProfile.getDeadlines());
+            deadlineIndex.addAll(editedProfile.getDeadlines());
         }
-        System.out.println(this.deadlineList);
     }
 
     @Override
     public void deleteModuleFromDeadlineList(ModuleCode moduleCode) {
-        System.out.println("TEST!!!!");
-        for (Deadline deadline : this.deadlineList) {
-            if (deadline.getModuleCode().equals(moduleCode)) {
-                this.deadlineList.remove(deadline);
-            }
-        }
+        deadlineIndex.removeModule(moduleCode.toString());
     }
 
 }
-
-/**
- * Comparator to compare date and time in Deadline object.
- */
-class DateTimeComparator implements Comparator<Deadline> {
-
-    @Override
-    public int compare(Deadline d1, Deadline d2) {
-        if (d1.getDate() != null && d2.getDate() != null) {
-            if (d1.getDate().equals(d2.getDate())) {
-                return d1.getTime().compareTo(d2.getTime());
-            } else {
-                return d1.getDate().compareTo(d2.getDate());
-            }
-        } else if (d1.getDate() == null && d2.getDate() != null) {
-            return 1;
-        } else if (d1.getDate() != null && d2.getDate() == null) {
-            return -1;
-        } else {
-            return d1.getModuleCode().compareTo(d2.getModuleCode());
-        }
-    }
-}
@@ -0,0 +1,326 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.address.model.profile.Profile;
+import seedu.address.model.profile.course.Course;
+import seedu.address.model.profile.course.CourseFocusArea;
+import seedu.address.model.profile.course.CourseRequirement;
+import seedu.address.model.profile.course.module.Module;
+import seedu.address.model.profile.course.module.ModuleCode;
+
+//@@author chanckben
+/**
+ * Tracks how far a profile is toward fulfilling each requirement and focus area of a course.
+ * A module of the profile counts as completed if it is taken before the current semester of the profile, and as
+ * planned otherwise.
+ *
+ * <p>An entry of a requirement or focus area that joins several module codes with "and", e.g. CS3216 AND CS3217,
+ * only counts once every module in it is taken, as in {@link ModulePlanner}. A variant of a module code, e.g.
+ * CS1010S for CS1010, counts toward the entries listing that module code, as it does for prerequisites.
+ *
+ * <p>Each module code is indexed to the entries listing it, so adding or deleting a module only updates those, and
+ * the modular credits completed and planned are kept as running totals. A change of the current semester only
+ * recounts the modules already in each requirement, without rescanning the profile.
+ */
+public class RequirementProgress {
+
+    private static final String GROUP_SEPARATOR = " AND ";
+
+    private final Course course;
+    private final Profile profile;
+    private final Map<CourseRequirement, Progress> requirementProgress = new IdentityHashMap<>();
+    private final Map<CourseFocusArea, Progress> focusAreaProgress = new IdentityHashMap<>();
+    private final Map<ModuleCode, List<Entry>> entriesByModule = new HashMap<>();
+    /** The semester in which the profile takes each of its modules, keyed by module code. */
+    private final Map<ModuleCode, Integer> semesters = new HashMap<>();
+    /** The modular credits of each module of the profile, keyed by module code. */
+    private final Map<ModuleCode, Double> credits = new HashMap<>();
+    /** The variants of each module code that the profile takes, keyed by the module code without suffix. */
+    private final Map<ModuleCode, Set<ModuleCode>> variants = new HashMap<>();
+    private int currentSemester;
+
+    /**
+     * Tracks the progress of {@code profile} toward the requirements and focus areas of {@code course}.
+     * The profile must notify this of changes through {@link #addModule(int, Module)} and
+     * {@link #deleteModule(int, ModuleCode)}.
+     */
+    public RequirementProgress(Course course, Profile profile) {
+        requireNonNull(course);
+        requireNonNull(profile);
+        this.course = course;
+        this.profile = profile;
+        this.currentSemester = profile.getOverallSemester();
+
+        for (CourseRequirement requirement : course.getCourseRequirement()) {
+            Progress progress = new Progress(requirement.getModularCredits().modularCredits, currentSemester);
+            requirementProgress.put(requirement, progress);
+            requirement.getModuleCodes().forEach(moduleCode -> index(moduleCode, progress));
+        }
+        for (CourseFocusArea focusArea : course.getCourseFocusArea()) {
+            Progress progress = new Progress(ModulePlanner.FOCUS_AREA_CREDITS, currentSemester);
+            focusAreaProgress.put(focusArea, progress);
+            focusArea.getPrimaryModuleCodes().forEach(moduleCode -> index(moduleCode, progress));
+            focusArea.getElectiveModuleCodes().forEach(moduleCode -> index(moduleCode, progress));
+        }
+        profile.getSemModHashMap().forEach((semester, moduleList) ->
+                moduleList.forEach(module -> addModule(semester, module)));
+    }
+
+    /**
+     * Indexes each module code in {@code entry}, which may be several module codes joined by "and", to an entry
+     * counting toward {@code progress}.
+     */
+    private void index(ModuleCode entry, Progress progress) {
+        List<ModuleCode> members = new ArrayList<>();
+        for (String moduleCode : entry.toString().split(GROUP_SEPARATOR)) {
+            members.add(ModuleCode.of(moduleCode.trim()));
+        }
+        Entry indexedEntry = new Entry(members, progress);
+        for (ModuleCode member : new HashSet<>(members)) {
+            entriesByModule.computeIfAbsent(member, unused -> new ArrayList<>()).add(indexedEntry);
+        }
+    }
+
+    public Course getCourse() {
+        return course;
+    }
+
+    /**
+     * Returns the progress toward {@code requirement}, which must be a requirement of the course.
+     */
+    public Progress getProgress(CourseRequirement requirement) {
+        requireNonNull(requirement);
+        updateCurrentSemester();
+        return requirementProgress.get(requirement);
+    }
+
+    /**
+     * Returns the progress toward {@code focusArea}, which must be a focus area of the course.
+     */
+    public Progress getProgress(CourseFocusArea focusArea) {
+        requireNonNull(focusArea);
+        updateCurrentSemester();
+        return focusAreaProgress.get(focusArea);
+    }
+
+    /**
+     * Counts {@code module}, added to {@code semester}, toward the requirements listing it or the module code it is
+     * a variant of.
+     */
+    public void addModule(int semester, Module module) {
+        requireNonNull(module);
+        ModuleCode moduleCode = module.getModuleCode();
+        semesters.put(moduleCode, semester);
+        credits.put(moduleCode, module.getModularCredits().modularCredits);
+        if (!moduleCode.isBaseCode()) {
+            variants.computeIfAbsent(moduleCode.removeSuffix(), unused -> new HashSet<>()).add(moduleCode);
+        }
+        updateEntries(moduleCode);
+    }
+
+    /**
+     * Stops counting the module with code {@code moduleCode}, deleted from {@code semester}.
+     */
+    public void deleteModule(int semester, ModuleCode moduleCode) {
+        requireNonNull(moduleCode);
+        if (!semesters.containsKey(moduleCode)) {
+            return;
+        }
+        semesters.remove(moduleCode);
+        credits.remove(moduleCode);
+        if (!moduleCode.isBaseCode()) {
+            Set<ModuleCode> baseVariants = variants.get(moduleCode.removeSuffix());
+            baseVariants.remove(moduleCode);
+            if (baseVariants.isEmpty()) {
+                variants.remove(moduleCode.removeSuffix());
+            }
+        }
+        updateEntries(moduleCode);
+    }
+
+    /**
+     * Recounts the entries listing {@code moduleCode}, or the module code it is a variant of.
+     */
+    private void updateEntries(ModuleCode moduleCode) {
+        entriesByModule.getOrDefault(moduleCode, Collections.emptyList()).forEach(Entry::update);
+        if (!moduleCode.isBaseCode()) {
+            entriesByModule.getOrDefault(moduleCode.removeSuffix(), Collections.emptyList())
+                    .forEach(Entry::update);
+        }
+    }
+
+    /**
+     * Returns the module of the profile that fulfils {@code member} of an entry, which is the module with that
+     * code or else a variant of it, if the profile takes either.
+     */
+    private Optional<ModuleCode> getTakenModule(ModuleCode member) {
+        if (semesters.containsKey(member)) {
+            return Optional.of(member);
+        }
+        return variants.getOrDefault(member, Collections.emptySet()).stream().min(Comparator.comparing(
+                ModuleCode::toString));
+    }
+
+    private void updateCurrentSemester() {
+        if (currentSemester != profile.getOverallSemester()) {
+            currentSemester = profile.getOverallSemester();
+            requirementProgress.values().forEach(progress -> progress.setCurrentSemester(currentSemester));
+            focusAreaProgress.values().forEach(progress -> progress.setCurrentSemester(currentSemester));
+        }
+    }
+
+    /**
+     * An entry of a requirement or focus area, which counts the modules fulfilling its module codes toward its
+     * progress only while they are all taken.
+     */
+    private class Entry {
+        private final List<ModuleCode> members;
+        private final Progress progress;
+        private final List<ModuleCode> countedModules = new ArrayList<>();
+
+        private Entry(List<ModuleCode> members, Progress progress) {
+            this.members = members;
+            this.progress = progress;
+        }
+
+        private void update() {
+            countedModules.forEach(progress::remove);
+            countedModules.clear();
+            List<ModuleCode> takenModules = new ArrayList<>();
+            for (ModuleCode member : members) {
+                Optional<ModuleCode> takenModule = getTakenModule(member);
+                if (!takenModule.isPresent()) {
+                    return;
+                }
+                takenModules.add(takenModule.get());
+            }
+            for (ModuleCode moduleCode : takenModules) {
+                progress.add(moduleCode, semesters.get(moduleCode), credits.get(moduleCode));
+                countedModules.add(moduleCode);
+            }
+        }
+    }
+
+    /**
+     * The modules of a profile completed and planned toward one requirement or focus area, and their modular
+     * credits. A module counts once however many entries of the requirement it fulfils.
+     */
+    public static class Progress {
+        private final double requiredCredits;
+        private final Map<ModuleCode, Integer> semesters = new HashMap<>();
+        private final Map<ModuleCode, Double> credits = new HashMap<>();
+        /** The number of entries counting each module, keyed by module code. */
+        private final Map<ModuleCode, Integer> entryCounts = new HashMap<>();
+        private final Set<ModuleCode> completedModules = new HashSet<>();
+        private final Set<ModuleCode> plannedModules = new HashSet<>();
+        private double completedCredits;
+        private double plannedCredits;
+        private int currentSemester;
+
+        private Progress(double requiredCredits, int currentSemester) {
+            this.requiredCredits = requiredCredits;
+            this.currentSemester = currentSemester;
+        }
+
+        private void add(ModuleCode moduleCode, int semester, double modularCredits) {
+            if (entryCounts.merge(moduleCode, 1, Integer::sum) > 1) {
+                return;
+            }
+            semesters.put(moduleCode, semester);
+            credits.put(moduleCode, modularCredits);
+            count(moduleCode, 1);
+        }
+
+        private void remove(ModuleCode moduleCode) {
+            Integer entryCount = entryCounts.get(moduleCode);
+            if (entryCount == null) {
+                return;
+            }
+            if (entryCount > 1) {
+                entryCounts.put(moduleCode, entryCount - 1);
+                return;
+            }
+            entryCounts.remove(moduleCode);
+            count(moduleCode, -1);
+            semesters.remove(moduleCode);
+            credits.remove(moduleCode);
+        }
+
+        private void setCurrentSemester(int currentSemester) {
+            semesters.keySet().forEach(moduleCode -> count(moduleCode, -1));
+            this.currentSemester = currentSemester;
+            semesters.keySet().forEach(moduleCode -> count(moduleCode, 1));
+        }
+
+        /**
+         * Adds ({@code sign} 1) or removes ({@code sign} -1) the module with code {@code moduleCode} to or from
+         * the completed or planned modules.
+         */
+        private void count(ModuleCode moduleCode, int sign) {
+            boolean isCompleted = semesters.get(moduleCode) < currentSemester;
+            Set<ModuleCode> modules = isCompleted ? completedModules : plannedModules;
+            if (sign > 0) {
+                modules.add(moduleCode);
+            } else {
+                modules.remove(moduleCode);
+            }
+            if (isCompleted) {
+                completedCredits += sign * credits.get(moduleCode);
+            } else {
+                plannedCredits += sign * credits.get(moduleCode);
+            }
+        }
+
+        public Set<ModuleCode> getCompletedModules() {
+            return Collections.unmodifiableSet(completedModules);
+        }
+
+        public Set<ModuleCode> getPlannedModules() {
+            return Collections.unmodifiableSet(plannedModules);
+        }
+
+        public double getCompletedCredits() {
+            return completedCredits;
+        }
+
+        public double getPlannedCredits() {
+            return plannedCredits;
+        }
+
+        public double getRequiredCredits() {
+            return requiredCredits;
+        }
+
+        /**
+         * Returns true if the completed modules fulfil the modular credits required.
+         */
+        public boolean isFulfilled() {
+            return completedCredits >= requiredCredits;
+        }
+
+        /**
+         * Returns true if the completed and planned modules together fulfil the modular credits required.
+         */
+        public boolean isPlannedToBeFulfilled() {
+            return completedCredits + plannedCredits >= requiredCredits;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d/%d MCs completed, %d MCs planned", (int) completedCredits, (int) requiredCredits,
+                    (int) plannedCredits);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+
+import seedu.address.model.profile.course.module.Module;
+import seedu.address.model.profile.course.module.ModuleCode;
+import seedu.address.model.profile.course.module.PrereqTreeNode;
+
+//@@author chanckben
+/**
+ * A reverse index of the prerequisite trees of the modules in a module list.
+ * For every module code that appears in a prerequisite tree, it stores the modules whose prerequisites mention it,
+ * i.e. the modules that taking it directly unlocks.
+ */
+public class UnlocksIndex {
+
+    private final Map<ModuleCode, List<ModuleCode>> directUnlocks;
+
+    /**
+     * Builds the index from the prerequisite trees of the modules in {@code moduleList}.
+     */
+    public UnlocksIndex(ModuleList moduleList) {
+        requireNonNull(moduleList);
+        Map<ModuleCode, Set<ModuleCode>> unlocks = new HashMap<>();
+        for (Module module : moduleList) {
+            if (module.getPrereqTreeNode() != null) {
+                addUnlocks(module.getPrereqTreeNode(), module.getModuleCode(), unlocks);
+            }
+        }
+        directUnlocks = new HashMap<>();
+        unlocks.forEach((moduleCode, unlocked) -> directUnlocks.put(moduleCode, new ArrayList<>(unlocked)));
+    }
+
+    /**
+     * Creates an index from the modules that each module code directly unlocks, e.g. as read from storage.
+     */
+    public UnlocksIndex(Map<ModuleCode, List<ModuleCode>> directUnlocks) {
+        requireNonNull(directUnlocks);
+        this.directUnlocks = new HashMap<>(directUnlocks);
+    }
+
+    private static void addUnlocks(PrereqTreeNode node, ModuleCode unlocked,
+                                   Map<ModuleCode, Set<ModuleCode>> unlocks) {
+        if (node.getModuleCode() != null) {
+            unlocks.computeIfAbsent(node.getModuleCode(), code -> new LinkedHashSet<>()).add(unlocked);
+            return;
+        }
+        for (PrereqTreeNode child : node.getPrereqTreeNodes()) {
+            addUnlocks(child, unlocked, unlocks);
+        }
+    }
+
+    /**
+     * Returns the modules whose prerequisites mention {@code moduleCode}, or its code without suffix,
+     * since a variant such as CS1010S fulfils prerequisites on CS1010.
+     */
+    public List<ModuleCode> getDirectUnlocks(ModuleCode moduleCode) {
+        requireNonNull(moduleCode);
+        Set<ModuleCode> unlocked = new LinkedHashSet<>(directUnlocks.getOrDefault(moduleCode,
+                Collections.emptyList()));
+        unlocked.addAll(directUnlocks.getOrDefault(moduleCode.removeSuffix(), Collections.emptyList()));
+        return new ArrayList<>(unlocked);
+    }
+
+    /**
+     * Returns the modules that are unlocked by {@code moduleCode} only through other modules, i.e. the modules
+     * reachable from the direct unlocks of {@code moduleCode} that are not direct unlocks themselves.
+     */
+    public List<ModuleCode> getTransitiveUnlocks(ModuleCode moduleCode) {
+        List<ModuleCode> direct = getDirectUnlocks(moduleCode);
+        Set<ModuleCode> visited = new LinkedHashSet<>(direct);
+        visited.add(moduleCode);
+        Queue<ModuleCode> queue = new ArrayDeque<>(direct);
+        List<ModuleCode> transitive = new ArrayList<>();
+        while (!queue.isEmpty()) {
+            for (ModuleCode unlocked : getDirectUnlocks(queue.remove())) {
+                if (visited.add(unlocked)) {
+                    transitive.add(unlocked);
+                    queue.add(unlocked);
+                }
+            }
+        }
+        return transitive;
+    }
+
+    /**
+     * Returns the modules that each module code directly unlocks, e.g. to be saved to storage.
+     */
+    public Map<ModuleCode, List<ModuleCode>> getDirectUnlocksMap() {
+        return Collections.unmodifiableMap(directUnlocks);
+    }
+}
@@ -18,6 +18,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
     private String moduleListFilePath = "/data/modulesPrereq.json";
     private Path profileListFilePath = Paths.get("data", "userProfiles.json");
     private String courseListFilePath = "/data/courses.json";
+    private String catalogSnapshotFilePath = "/data/catalog.snapshot";
+    private String catalogDeltasFilePath = "/data/catalogDeltas.json";
+    private boolean shardedProfileList = true;
     /**
      * Creates a {@code UserPrefs} with default values.
      */
@@ -62,10 +65,45 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         return courseListFilePath;
     }
 
+    /**
+     * Sets the location of the course catalog.
+     * @see #setModuleListFilePath(String)
+     */
+    public void setCourseListFilePath(String courseListFilePath) {
+        requireNonNull(courseListFilePath);
+        this.courseListFilePath = courseListFilePath;
+    }
+
+    public String getCatalogSnapshotFilePath() {
+        return catalogSnapshotFilePath;
+    }
+
+    public String getCatalogDeltasFilePath() {
+        return catalogDeltasFilePath;
+    }
+
+    /**
+     * Sets the location of the catalogs of other academic years.
+     * @see #setModuleListFilePath(String)
+     */
+    public void setCatalogDeltasFilePath(String catalogDeltasFilePath) {
+        requireNonNull(catalogDeltasFilePath);
+        this.catalogDeltasFilePath = catalogDeltasFilePath;
+    }
+
     public String getModuleListFilePath() {
         return moduleListFilePath;
     }
 
+    /**
+     * Sets the location of the module catalog, which is read from disk if a file exists there and from the
+     * catalog packaged in jar otherwise.
+     */
+    public void setModuleListFilePath(String moduleListFilePath) {
+        requireNonNull(moduleListFilePath);
+        this.moduleListFilePath = moduleListFilePath;
+    }
+
     public Path getProfileListFilePath() {
         return profileListFilePath;
     }
@@ -75,6 +113,20 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.profileListFilePath = profileListFilePath;
     }
 
+    public boolean isShardedProfileList() {
+        return shardedProfileList;
+    }
+
+    /**
+     * Sets whether the profile list is saved as one shard per profile beside the profile list file, or as the
+     * profile list file with a journal of the changes made since it was written. Profiles are moved to shards
+     * the first time they are read as shards, but never back, so changes saved as shards are not seen after
+     * switching back.
+     */
+    public void setShardedProfileList(boolean shardedProfileList) {
+        this.shardedProfileList = shardedProfileList;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -1,124 +1,83 @@
 package seedu.address.model.profile;
 
-import static java.util.Objects.requireNonNull;
-
 import java.text.DecimalFormat;
-import java.util.HashMap;
+import java.util.Optional;
 
-import seedu.address.model.ModuleList;
-import seedu.address.model.profile.course.module.ModularCredits;
-import seedu.address.model.profile.course.module.Module;
+import seedu.address.model.profile.course.module.personal.ModuleGrade;
 
 //@@author gyant6
 /**
  * Creates a Cumulative Average Point (CAP) class
+ * CAP is measured using this formula:
+ * CAP = Sum (module grade point x modular credits for the module) / Sum (modular credits)
+ * The sums are kept as modules are added and removed, so the CAP is updated in constant time.
  */
 public class Cap {
 
-    private Double cap;
-    private Double totalWeightage;
-    private Double totalCredits;
+    private static final double ROUNDING_TOLERANCE = 1e-9;
+
+    private double totalWeightage;
+    private double totalCredits;
+    private double ungradedCredits;
 
     public Cap() {
-        this.cap = 0.0;
         this.totalWeightage = 0.0;
         this.totalCredits = 0.0;
+        this.ungradedCredits = 0.0;
     }
 
     /**
-     * Uses the latest ModuleList {@code ModuleList} to calculate the CAP
-     * CAP is measured using this formula:
-     * CAP = Sum (module grade point x modular credits for the module) / Sum (modular credits)
-     * @param semModHashMap
+     * Counts a module of {@code modularCredits} with grade {@code grade}, or without a grade yet if {@code grade} is
+     * null. Grades that are not counted in the CAP, e.g. S and U, are left out.
      */
-    public void updateCap(HashMap<Integer, ModuleList> semModHashMap) {
-        requireNonNull(semModHashMap);
-
-        totalWeightage = 0.0;
-        totalCredits = 0.0;
-
-        for (ModuleList semesterList: semModHashMap.values()) {
-            for (Module module: semesterList) {
-                if (module.getGrade() != null) {
-                    // Convert letter to double
-                    String letterGrade = module.getGrade();
-                    if (letterGradeNotApplicable(letterGrade)) {
-                        continue; // skip this for loop
-                    }
-                    Double numGrade = convertLetterGradeToNum(letterGrade);
-
-                    // Convert ModularCredits to Double
-                    ModularCredits modularCredits = module.getModularCredits();
-                    Double numCredits = Double.valueOf(modularCredits.toString());
-                    totalCredits += numCredits;
-
-                    Double weightage = numGrade * numCredits;
-                    totalWeightage += weightage;
-                }
-            }
-        }
-
-        cap = totalWeightage / totalCredits;
+    public void addModule(ModuleGrade grade, double modularCredits) {
+        count(grade, modularCredits);
     }
 
     /**
-     * Checks if a grade should be counted towards CAP.
-     * @param letterGrade
-     * @return Returns true if grade is one of {S, U, CS, CU"}, false otherwise
+     * Stops counting a module of {@code modularCredits} with grade {@code grade}, or without a grade if
+     * {@code grade} is null.
      */
-    private boolean letterGradeNotApplicable(String letterGrade) {
-        requireNonNull(letterGrade);
+    public void removeModule(ModuleGrade grade, double modularCredits) {
+        count(grade, -modularCredits);
+    }
 
-        switch(letterGrade) {
-        case "S":
-        case "U":
-        case "CS":
-        case "CU":
-            return true;
-        default:
-            return false;
+    private void count(ModuleGrade grade, double modularCredits) {
+        if (grade == null) {
+            ungradedCredits += modularCredits;
+        } else if (grade.isCountedInCap()) {
+            totalCredits += modularCredits;
+            totalWeightage += grade.getGradePoint() * modularCredits;
         }
     }
 
     /**
-     * Converts a letter grade {@code letterGrade} to a Double object
-     * @param letterGrade String representation of a grade
-     * @return Returns the Double value of a grade
+     * Returns the CAP, or 0 if no graded modules are counted.
      */
-    private Double convertLetterGradeToNum(String letterGrade) {
-        requireNonNull(letterGrade);
+    public double getValue() {
+        return totalCredits == 0 ? 0 : totalWeightage / totalCredits;
+    }
 
-        switch(letterGrade) {
-        case "A+":
-        case "A":
-            return 5.0;
-        case "A-":
-            return 4.5;
-        case "B+":
-            return 4.0;
-        case "B":
-            return 3.5;
-        case "B-":
-            return 3.0;
-        case "C+":
-            return 2.5;
-        case "C":
-            return 2.0;
-        case "D+":
-            return 1.5;
-        case "D":
-            return 1.0;
-        default: // "F"
-            return 0.0;
+    /**
+     * Returns the lowest grade that has to be scored in every module without a grade yet to reach a CAP of at least
+     * {@code targetCap}, or an empty {@code Optional} if there are no such modules or the CAP cannot be reached
+     * even with an A in each of them.
+     */
+    public Optional<ModuleGrade> getGradeNeeded(double targetCap) {
+        if (ungradedCredits == 0) {
+            return Optional.empty();
         }
+        double gradePointNeeded = (targetCap * (totalCredits + ungradedCredits) - totalWeightage) / ungradedCredits;
+        // Allow for rounding errors, so that a target reached exactly by a grade asks for that grade
+        return ModuleGrade.lowestWithGradePoint(gradePointNeeded - ROUNDING_TOLERANCE);
     }
 
     @Override
     public String toString() {
-        if (totalWeightage == 0) {
+        if (totalCredits == 0) {
             return "No grades added";
         }
         DecimalFormat df = new DecimalFormat("#.##"); // Convert cap to 2 d.p.
-        return df.format(cap);
+        return df.format(getValue());
     }
 }
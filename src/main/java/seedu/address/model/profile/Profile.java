@@ -9,16 +9,23 @@ import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.EarliestSemesters;
+import seedu.address.model.EligibleModules;
 import seedu.address.model.ModuleList;
+import seedu.address.model.ModuleManager;
+import seedu.address.model.RequirementProgress;
+import seedu.address.model.profile.course.Course;
 import seedu.address.model.profile.course.CourseName;
 import seedu.address.model.profile.course.FocusArea;
 import seedu.address.model.profile.course.module.Module;
 import seedu.address.model.profile.course.module.ModuleCode;
 import seedu.address.model.profile.course.module.exceptions.ModuleNotFoundException;
 import seedu.address.model.profile.course.module.personal.Deadline;
+import seedu.address.model.profile.course.module.personal.ModuleGrade;
 import seedu.address.model.profile.exceptions.MaxModsException;
 
 //@@author chanckben
@@ -28,14 +35,21 @@ import seedu.address.model.profile.exceptions.MaxModsException;
  */
 public class Profile {
 
+    public static final int MAX_MODULES_PER_SEMESTER = 10;
+
     // Identity fields
     private HashMap<Integer, ModuleList> semModHashMap;
     private int currentSemester = 0;
     private FocusArea focusArea;
     private Name name;
     private CourseName courseName;
+    private String catalogYear;
     private Cap cap;
     private List<Deadline> deadlineList;
+    private EligibleModules eligibleModules;
+    private EarliestSemesters earliestSemesters;
+    private RequirementProgress requirementProgress;
+    private ModuleLoader moduleLoader;
 
     /**
      * Every field must be present and not null.
@@ -52,25 +66,44 @@ public class Profile {
         this.cap = new Cap();
     }
 
+    /**
+     * Creates a profile whose modules are only loaded by {@code moduleLoader} when they are first needed.
+     */
+    public Profile(Name name, CourseName courseName, int currentSemester, FocusArea focusArea,
+                   ModuleLoader moduleLoader) {
+        this(name, courseName, currentSemester, focusArea);
+        this.moduleLoader = moduleLoader;
+    }
+
 
     /**
      * Adds a module to the hashmap with the key being the semester
      */
     public void addModule(Integer semester, Module module) throws MaxModsException {
-        if (!semModHashMap.isEmpty() && semModHashMap.containsKey(semester)) {
-            if (semModHashMap.get(semester).size() == 10) {
+        if (!getSemModHashMap().isEmpty() && getSemModHashMap().containsKey(semester)) {
+            if (getSemModHashMap().get(semester).size() == MAX_MODULES_PER_SEMESTER) {
                 throw new MaxModsException();
             }
-            semModHashMap.get(semester).addModule(module);
+            getSemModHashMap().get(semester).addModule(module);
         } else {
             ModuleList moduleList = new ModuleList();
             moduleList.addModule(module);
-            semModHashMap.put(semester, moduleList);
+            getSemModHashMap().put(semester, moduleList);
         }
 
-        int id = semModHashMap.get(semester).getModuleList().size();
+        int id = getSemModHashMap().get(semester).getModuleList().size();
         module.setTag(id);
+        cap.addModule(module.getModuleGrade(), module.getModularCredits().modularCredits);
 
+        if (eligibleModules != null) {
+            eligibleModules.addModule(semester, module.getModuleCode());
+        }
+        if (earliestSemesters != null) {
+            earliestSemesters.addModule(semester, module.getModuleCode());
+        }
+        if (requirementProgress != null) {
+            requirementProgress.addModule(semester, module);
+        }
     }
 
     public Name getName() {
@@ -139,38 +172,110 @@ public class Profile {
         this.focusArea = focusArea;
     }
 
+    /**
+     * Returns the academic year whose module catalog applies to this profile, if one was chosen.
+     */
+    public Optional<String> getCatalogYear() {
+        return Optional.ofNullable(catalogYear);
+    }
+
+    /**
+     * Sets the academic year whose module catalog applies to this profile, or the base catalog if
+     * {@code catalogYear} is null.
+     */
+    public void setCatalogYear(String catalogYear) {
+        this.catalogYear = catalogYear;
+    }
+
+    /**
+     * Returns the catalog of {@code moduleManager} that applies to this profile, which is that of its catalog year
+     * if it has one, and {@code moduleManager} itself otherwise.
+     */
+    public ModuleManager getCatalog(ModuleManager moduleManager) {
+        return catalogYear == null ? moduleManager : moduleManager.getCatalog(catalogYear);
+    }
+
     public ModuleList getModules(Integer semester) throws ParseException {
-        if (!semModHashMap.containsKey(semester)) {
+        if (!getSemModHashMap().containsKey(semester)) {
             throw new ParseException(MESSAGE_INVALID_SEMESTER);
         }
-        return semModHashMap.get(semester);
+        return getSemModHashMap().get(semester);
     }
 
     public List<ModuleCode> getAllModuleCodesBefore(int semester) {
         List<ModuleCode> moduleCodes = new ArrayList<>();
-        for (int sem: semModHashMap.keySet()) {
+        for (int sem: getSemModHashMap().keySet()) {
             if (sem < semester) {
-                moduleCodes.addAll(semModHashMap.get(sem).getModuleCodes());
+                moduleCodes.addAll(getSemModHashMap().get(sem).getModuleCodes());
             }
             //moduleCodes.addAll(moduleList.getModuleCodes());
         }
         return moduleCodes;
     }
 
+    /**
+     * Returns the modules in the catalog of {@code moduleManager} that this profile is eligible for in each
+     * semester. The eligible modules are kept up to date as modules are added to or deleted from this profile.
+     */
+    public EligibleModules getEligibleModules(ModuleManager moduleManager) {
+        if (eligibleModules == null || eligibleModules.getModuleManager() != moduleManager) {
+            eligibleModules = new EligibleModules(moduleManager, getSemModHashMap());
+        }
+        return eligibleModules;
+    }
+
+    /**
+     * Returns the earliest semester in which this profile can take each module in the catalog of
+     * {@code moduleManager}, kept up to date as modules are added to or deleted from this profile.
+     */
+    public EarliestSemesters getEarliestSemesters(ModuleManager moduleManager) {
+        if (earliestSemesters == null || earliestSemesters.getModuleManager() != moduleManager) {
+            earliestSemesters = new EarliestSemesters(moduleManager, this);
+        }
+        return earliestSemesters;
+    }
+
+    /**
+     * Returns the progress of this profile toward the requirements and focus areas of {@code course}, kept up to
+     * date as modules are added to or deleted from this profile.
+     */
+    public RequirementProgress getRequirementProgress(Course course) {
+        if (requirementProgress == null || requirementProgress.getCourse() != course) {
+            requirementProgress = new RequirementProgress(course, this);
+        }
+        return requirementProgress;
+    }
+
     public HashMap<Integer, ModuleList> getAllModules() {
-        return semModHashMap;
+        return getSemModHashMap();
     }
 
     public Set<Map.Entry<Integer, ModuleList>> getMappings() {
-        return semModHashMap.entrySet();
+        return getSemModHashMap().entrySet();
     }
 
-    public HashMap<Integer, ModuleList> getSemModHashMap() {
+    /**
+     * Returns the modules of this profile in each semester, loading them first if they have not been loaded.
+     */
+    public synchronized HashMap<Integer, ModuleList> getSemModHashMap() {
+        if (moduleLoader != null) {
+            ModuleLoader loader = moduleLoader;
+            moduleLoader = null;
+            loader.loadModules(this);
+        }
         return semModHashMap;
     }
 
+    /**
+     * Returns true if the modules of this profile have been loaded.
+     */
+    public synchronized boolean isLoaded() {
+        return moduleLoader == null;
+    }
+
     public List<Deadline> getDeadlines() {
-        ModuleList modules = semModHashMap.get(currentSemester); // Deadlines should only be from the current semester
+        // Deadlines should only be from the current semester
+        ModuleList modules = getSemModHashMap().get(currentSemester);
         deadlineList = new ArrayList<>();
 
         if (modules != null) {
@@ -181,22 +286,51 @@ public class Profile {
         return deadlineList;
     }
 
+    public Cap getCap() {
+        getSemModHashMap();
+        return cap;
+    }
 
-    public void updateCap() {
-        cap.updateCap(semModHashMap);
+    /**
+     * Sets the grade of {@code module}, which must be a module of this profile, to {@code grade} and updates the
+     * CAP.
+     */
+    public void setGrade(Module module, String grade) {
+        ModuleGrade oldGrade = module.getModuleGrade();
+        module.getPersonal().setGrade(grade);
+        double modularCredits = module.getModularCredits().modularCredits;
+        getCap().removeModule(oldGrade, modularCredits);
+        getCap().addModule(module.getModuleGrade(), modularCredits);
     }
 
-    public Cap getCap() {
-        return cap;
+    /**
+     * Deletes the grade of {@code module}, which must be a module of this profile, and updates the CAP.
+     *
+     * @throws NoSuchElementException if {@code module} has no grade.
+     */
+    public void deleteGrade(Module module) {
+        ModuleGrade grade = module.getModuleGrade();
+        module.deleteGrade();
+        double modularCredits = module.getModularCredits().modularCredits;
+        getCap().removeModule(grade, modularCredits);
+        getCap().addModule(null, modularCredits);
+    }
+
+    /**
+     * Returns the lowest grade needed in every module of this profile without a grade to reach a CAP of
+     * {@code targetCap}, if it can be reached.
+     */
+    public Optional<ModuleGrade> getGradeNeededForCap(double targetCap) {
+        return getCap().getGradeNeeded(targetCap);
     }
 
     public ModuleList getCurModules() {
-        return semModHashMap.get(currentSemester);
+        return getSemModHashMap().get(currentSemester);
     }
 
     public int getModuleSemester(ModuleCode moduleCode) {
-        for (int semester: semModHashMap.keySet()) {
-            for (Module module: semModHashMap.get(semester)) {
+        for (int semester: getSemModHashMap().keySet()) {
+            for (Module module: getSemModHashMap().get(semester)) {
                 if (module.getModuleCode().equals(moduleCode)) {
                     return semester;
                 }
@@ -206,7 +340,7 @@ public class Profile {
     }
 
     public Module getModule(ModuleCode moduleCode) throws ModuleNotFoundException {
-        for (ModuleList moduleList: semModHashMap.values()) {
+        for (ModuleList moduleList: getSemModHashMap().values()) {
             for (Module module: moduleList) {
                 if (module.getModuleCode().equals(moduleCode)) {
                     return module;
@@ -220,7 +354,7 @@ public class Profile {
      * Returns true if a module with module code {@code moduleCode} exists in {@code moduleHash}.
      */
     public boolean hasModule(ModuleCode moduleCode) {
-        for (ModuleList moduleList: semModHashMap.values()) {
+        for (ModuleList moduleList: getSemModHashMap().values()) {
             if (moduleList.hasModuleWithModuleCode(moduleCode)) {
                 return true;
             }
@@ -234,7 +368,18 @@ public class Profile {
     public void deleteModule(ModuleCode moduleCode) throws ModuleNotFoundException {
         if (hasModule(moduleCode)) {
             int semester = getModuleSemester(moduleCode);
-            semModHashMap.get(semester).removeModuleWithModuleCode(moduleCode);
+            Module module = getModule(moduleCode);
+            getSemModHashMap().get(semester).removeModuleWithModuleCode(moduleCode);
+            cap.removeModule(module.getModuleGrade(), module.getModularCredits().modularCredits);
+            if (eligibleModules != null) {
+                eligibleModules.deleteModule(semester, moduleCode);
+            }
+            if (earliestSemesters != null) {
+                earliestSemesters.deleteModule(semester, moduleCode);
+            }
+            if (requirementProgress != null) {
+                requirementProgress.deleteModule(semester, moduleCode);
+            }
             return;
         }
         throw new ModuleNotFoundException(name.toString() + " is not taking " + moduleCode.toString());
@@ -280,7 +425,8 @@ public class Profile {
 
         Profile otherProfile = (Profile) other;
         return otherProfile.getName().equals(getName())
-                && otherProfile.getCourseName().equals(getCourseName());
+                && otherProfile.getCourseName().equals(getCourseName())
+                && otherProfile.getCatalogYear().equals(getCatalogYear());
     }
 
     @Override
@@ -295,4 +441,15 @@ public class Profile {
         builder.append(getName());
         return builder.toString();
     }
+
+    /**
+     * Loads the modules of a profile that were not loaded with it.
+     */
+    @FunctionalInterface
+    public interface ModuleLoader {
+        /**
+         * Adds the modules of {@code profile} to it.
+         */
+        void loadModules(Profile profile);
+    }
 }
@@ -3,9 +3,13 @@ package seedu.address.model.profile.course;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COURSE_FOCUS_AREA;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ModuleList;
 
 //@@author gyant6
 /**
@@ -14,13 +18,14 @@ import seedu.address.logic.parser.exceptions.ParseException;
  */
 public class Course {
 
-    private final String courseName;
+    private final CourseName courseName;
     private final List<CourseRequirement> requirements;
     private final List<CourseFocusArea> focusAreas;
+    private Map<FocusArea, CourseFocusArea> focusAreaIndex;
 
     public Course(String courseName, List<CourseRequirement> requirements,
                   List<CourseFocusArea> focusAreas) {
-        this.courseName = courseName.toUpperCase();
+        this.courseName = new CourseName(courseName);
         this.requirements = requirements;
         this.focusAreas = focusAreas;
     }
@@ -49,8 +54,8 @@ public class Course {
         return output.toString();
     }
 
-    public CourseName getCourseName() throws ParseException {
-        return new CourseName(courseName);
+    public CourseName getCourseName() {
+        return courseName;
     }
 
     public List<CourseRequirement> getCourseRequirement() {
@@ -61,15 +66,34 @@ public class Course {
         return this.focusAreas;
     }
 
+    /**
+     * Resolves the module codes of the focus areas of this course to the modules in {@code moduleList}.
+     */
+    public void resolveModules(ModuleList moduleList) {
+        for (CourseFocusArea focusArea : focusAreas) {
+            focusArea.resolveModules(moduleList);
+        }
+    }
+
     public CourseFocusArea getCourseFocusArea(String focusAreaName) throws ParseException {
+        return findCourseFocusArea(focusAreaName)
+                .orElseThrow(() -> new ParseException(MESSAGE_INVALID_COURSE_FOCUS_AREA));
+    }
+
+    /**
+     * Returns the focus area of this course named {@code focusAreaName}, ignoring case and surrounding whitespace,
+     * if there is one. The focus areas are indexed by name on the first lookup.
+     */
+    public Optional<CourseFocusArea> findCourseFocusArea(String focusAreaName) {
         requireNonNull(focusAreaName);
-        for (CourseFocusArea courseFocusArea : focusAreas) {
-            if (courseFocusArea.getFocusAreaName().trim().toUpperCase().equals(focusAreaName.trim().toUpperCase())) {
-                return courseFocusArea;
+        if (focusAreaIndex == null) {
+            Map<FocusArea, CourseFocusArea> index = new HashMap<>();
+            for (CourseFocusArea courseFocusArea : focusAreas) {
+                index.putIfAbsent(new FocusArea(courseFocusArea.getFocusAreaName()), courseFocusArea);
             }
+            focusAreaIndex = index;
         }
-
-        throw new ParseException(MESSAGE_INVALID_COURSE_FOCUS_AREA);
+        return Optional.ofNullable(focusAreaIndex.get(new FocusArea(focusAreaName)));
     }
 
     @Override
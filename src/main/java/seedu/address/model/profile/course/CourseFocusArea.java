@@ -1,6 +1,7 @@
 package seedu.address.model.profile.course;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import seedu.address.model.ModuleList;
@@ -17,8 +18,8 @@ public class CourseFocusArea {
     private final String focusAreaName;
     private final List<ModuleCode> primaries;
     private final List<ModuleCode> electives;
-    private final List<Module> primariesMod = new ArrayList<>();
-    private final List<Module> electivesMod = new ArrayList<>();
+    private List<Module> primariesMod = Collections.emptyList();
+    private List<Module> electivesMod = Collections.emptyList();
 
     /**
      * Every field must be present and not null.
@@ -86,23 +87,43 @@ public class CourseFocusArea {
         return sb.toString();
     }
 
+    public List<ModuleCode> getPrimaryModuleCodes() {
+        return primaries;
+    }
+
+    public List<ModuleCode> getElectiveModuleCodes() {
+        return electives;
+    }
+
     /**
-     * Initialise primariesMod and electivesMod list with ModuleList.
+     * Resolves the primary and elective module codes to the modules in {@code moduleList}, replacing the modules
+     * resolved before. Module codes not in {@code moduleList} are left out.
      */
-    public void initListModule(ModuleList moduleList) {
-        for (ModuleCode mc : primaries) {
-            primariesMod.add(moduleList.getModuleWithModuleCode(mc));
-        }
+    public void resolveModules(ModuleList moduleList) {
+        primariesMod = resolve(primaries, moduleList);
+        electivesMod = resolve(electives, moduleList);
+    }
 
-        for (ModuleCode mc : electives) {
-            electivesMod.add(moduleList.getModuleWithModuleCode(mc));
+    private static List<Module> resolve(List<ModuleCode> moduleCodes, ModuleList moduleList) {
+        List<Module> modules = new ArrayList<>(moduleCodes.size());
+        for (ModuleCode mc : moduleCodes) {
+            if (moduleList.hasModuleWithModuleCode(mc)) {
+                modules.add(moduleList.getModuleWithModuleCode(mc));
+            }
         }
+        return Collections.unmodifiableList(modules);
     }
 
+    /**
+     * Returns the primary modules resolved by {@link #resolveModules(ModuleList)}, which cannot be modified.
+     */
     public List<Module> getPrim() {
         return this.primariesMod;
     }
 
+    /**
+     * Returns the elective modules resolved by {@link #resolveModules(ModuleList)}, which cannot be modified.
+     */
     public List<Module> getElec() {
         return this.electivesMod;
     }
@@ -50,7 +50,8 @@ public class CourseName {
                 && courseName.equals(((CourseName) other).courseName)); // state check
     }
 
-    // methods to be implemented
-    // isValidTitle()
-    // hashCode()
+    @Override
+    public int hashCode() {
+        return courseName.hashCode();
+    }
 }
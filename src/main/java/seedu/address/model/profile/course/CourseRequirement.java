@@ -44,6 +44,10 @@ public class CourseRequirement {
         return sb.toString();
     }
 
+    public List<ModuleCode> getModuleCodes() {
+        return modules;
+    }
+
     public ModularCredits getModularCredits() {
         return modularCredits;
     }
@@ -62,6 +66,10 @@ public class CourseRequirement {
         return sb.toString();
     }
 
+    public List<String> getRequirementInfoList() {
+        return requirementInfo;
+    }
+
     @Override
     public String toString() {
         StringBuilder output = new StringBuilder();
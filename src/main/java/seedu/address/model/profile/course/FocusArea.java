@@ -49,4 +49,9 @@ public class FocusArea {
                 && specialisationName.equals(((FocusArea) other).specialisationName)); // state check
     }
 
+    @Override
+    public int hashCode() {
+        return specialisationName.hashCode();
+    }
+
 }
@@ -33,7 +33,11 @@ public class Description {
                 && description.equals(((Description) other).description)); // state check
     }
 
+    @Override
+    public int hashCode() {
+        return description.hashCode();
+    }
+
     // methods to be implemented
     // isValidDescription()
-    // hashCode()
 }
@@ -42,7 +42,8 @@ public class ModularCredits {
                 && modularCredits == (((ModularCredits) other).modularCredits)); // state check
     }
 
-    // methods to be implemented
-    // isValidCode()
-    // hashCode()
+    @Override
+    public int hashCode() {
+        return Double.hashCode(modularCredits);
+    }
 }
@@ -1,9 +1,11 @@
 package seedu.address.model.profile.course.module;
 
 import java.util.List;
+import java.util.function.Supplier;
 
 import seedu.address.model.profile.course.module.personal.Deadline;
 import seedu.address.model.profile.course.module.personal.DeadlineList;
+import seedu.address.model.profile.course.module.personal.ModuleGrade;
 import seedu.address.model.profile.course.module.personal.Personal;
 
 //@@author gyant6
@@ -15,12 +17,10 @@ public class Module {
 
     private final ModuleCode moduleCode;
     private final Title title;
-    private final Prereqs prereqs;
-    private final Preclusions preclusions;
     private final ModularCredits modularCredits;
-    private final Description description;
     private final SemesterData semesterData;
     private final PrereqTreeNode prereqTreeNode;
+    private final Supplier<ModuleDetails> detailsLoader;
 
     private Personal personal;
     private int tag; //for colour changing in Deadline panel
@@ -32,18 +32,41 @@ public class Module {
                   ModularCredits modularCredits, Description description, SemesterData semesterData,
                   PrereqTreeNode prereqTreeNode) {
         // requireAllNonNull() // to be implemented
+        this(moduleCode, title, modularCredits, semesterData, prereqTreeNode,
+                new ModuleDetails(prereqs, preclusions, description));
+    }
+
+    private Module(ModuleCode moduleCode, Title title, ModularCredits modularCredits, SemesterData semesterData,
+                   PrereqTreeNode prereqTreeNode, ModuleDetails details) {
+        this(moduleCode, title, modularCredits, semesterData, prereqTreeNode, () -> details);
+    }
+
+    /**
+     * Creates a module whose {@code ModuleDetails} are not kept in memory, but are obtained from
+     * {@code detailsLoader} whenever they are needed.
+     */
+    public Module(ModuleCode moduleCode, Title title, ModularCredits modularCredits, SemesterData semesterData,
+                  PrereqTreeNode prereqTreeNode, Supplier<ModuleDetails> detailsLoader) {
         this.moduleCode = moduleCode;
         this.title = title;
-        this.prereqs = prereqs;
-        this.preclusions = preclusions;
         this.modularCredits = modularCredits;
-        this.description = description;
         this.semesterData = semesterData;
         this.prereqTreeNode = prereqTreeNode;
+        this.detailsLoader = detailsLoader;
 
         this.personal = new Personal();
     }
 
+    /**
+     * Returns a copy of this module with {@code personal} as its personal data. The copy shares the
+     * catalog details of this module, so each profile can take a module without sharing its personal data.
+     */
+    public Module withPersonal(Personal personal) {
+        Module copy = new Module(moduleCode, title, modularCredits, semesterData, prereqTreeNode, detailsLoader);
+        copy.setPersonal(personal);
+        return copy;
+    }
+
     public void setPersonal(Personal personal) {
         this.personal = personal;
     }
@@ -60,12 +83,16 @@ public class Module {
         return title;
     }
 
+    public ModuleDetails getDetails() {
+        return detailsLoader.get();
+    }
+
     public Prereqs getPrereqs() {
-        return prereqs;
+        return getDetails().getPrereqs();
     }
 
     public Preclusions getPreclusions() {
-        return preclusions;
+        return getDetails().getPreclusions();
     }
 
     public ModularCredits getModularCredits() {
@@ -73,7 +100,7 @@ public class Module {
     }
 
     public Description getDescription() {
-        return description;
+        return getDetails().getDescription();
     }
 
     public SemesterData getSemesterData() {
@@ -96,6 +123,10 @@ public class Module {
         return personal.getGrade();
     }
 
+    public ModuleGrade getModuleGrade() {
+        return personal.getModuleGrade();
+    }
+
     public void deleteGrade() {
         personal.deleteGrade();
     }
@@ -129,18 +160,19 @@ public class Module {
     @Override
     public String toString() {
         final StringBuilder builder = new StringBuilder();
+        final ModuleDetails details = getDetails();
 
         builder.append(getModuleCode());
         builder.append(" ");
         builder.append(getTitle());
         builder.append("\nPrerequisite: ");
-        builder.append(getPrereqs());
+        builder.append(details.getPrereqs());
         builder.append("\nPreclusions: ");
-        builder.append(getPreclusions());
+        builder.append(details.getPreclusions());
         builder.append("\nModular Credits (MCs): ");
         builder.append(getModularCredits());
         builder.append("\nDescription: ");
-        builder.append(getDescription());
+        builder.append(details.getDescription());
         builder.append("\nSemesters Offered: ");
         builder.append(getSemesterData());
         builder.append("\n");
@@ -166,4 +198,9 @@ public class Module {
                 || (other instanceof Module // instanceof handles nulls
                 && moduleCode.equals(((Module) other).moduleCode)); // state check
     }
+
+    @Override
+    public int hashCode() {
+        return moduleCode.hashCode();
+    }
 }
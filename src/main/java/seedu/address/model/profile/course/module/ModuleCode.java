@@ -1,8 +1,15 @@
 package seedu.address.model.profile.course.module;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 //@@author gyant6
 /**
  * Represents a Module's code in the address book.
+ * Every module code carries the hash of its base code, the code without its suffix, so that codes of different
+ * modules are told apart by comparing integers before the variants of a module (e.g. CS1010S and CS1010X for
+ * CS1010) are matched. Codes read from the catalog are interned through {@link #of(String)}, so that equal codes
+ * are usually the same instance; other codes, e.g. those typed by the user, are not kept once unused.
  * Guarantees:
  */
 // Guarantees: immutable; is valid as declared in {@link #isValidCode(String)} // to be implemented
@@ -14,7 +21,12 @@ public class ModuleCode {
 
     public static final String VALIDATION_REGEXES = "[A-Z]{2,4}[\\d]{4}[A-Z]{0,5}$";
 
+    private static final Map<String, ModuleCode> canonicalCodes = new ConcurrentHashMap<>();
+
     public final String moduleCode;
+    private final int baseCodeLength;
+    private final int baseCodeHash;
+    private ModuleCode baseCode;
 
     /**
      * Constructs a {@code ModuleCode}.
@@ -25,6 +37,44 @@ public class ModuleCode {
         // requireAllNonNull() // to be implemented
         // checkArgument() // to be implemented
         this.moduleCode = moduleCode.toUpperCase();
+        this.baseCodeLength = baseCodeLength(this.moduleCode);
+        this.baseCodeHash = baseCodeHash(this.moduleCode, baseCodeLength);
+    }
+
+    /**
+     * Returns the canonical instance of the module code {@code moduleCode}, creating it on first use.
+     * Canonical instances are kept for the lifetime of the application, so this is only for codes in the catalog.
+     */
+    public static ModuleCode of(String moduleCode) {
+        String key = moduleCode.toUpperCase();
+        ModuleCode canonical = canonicalCodes.get(key);
+        if (canonical != null) {
+            return canonical;
+        }
+        return canonicalCodes.computeIfAbsent(key, ModuleCode::new);
+    }
+
+    /**
+     * Returns the length of the code without its suffix: the letters at the front and the 4 digits after them.
+     */
+    private static int baseCodeLength(String moduleCode) {
+        int index = 0;
+        while (index < moduleCode.length() && !Character.isDigit(moduleCode.charAt(index))) {
+            index++;
+        }
+        return Math.min(index + 4, moduleCode.length());
+    }
+
+    /**
+     * Returns the hash of the first {@code baseCodeLength} characters of {@code moduleCode}, which is the hash of
+     * its base code as a string.
+     */
+    private static int baseCodeHash(String moduleCode, int baseCodeLength) {
+        int hash = 0;
+        for (int i = 0; i < baseCodeLength; i++) {
+            hash = 31 * hash + moduleCode.charAt(i);
+        }
+        return hash;
     }
 
     public static boolean isValidCode(String moduleCode) {
@@ -37,15 +87,42 @@ public class ModuleCode {
      * are used in placed of the original (e.g. CS1010).
      */
     public ModuleCode removeSuffix() {
-        String toReturn = "";
-        int index = 0;
-        char modCodeChar = moduleCode.charAt(0);
-        while (!Character.isDigit(modCodeChar)) {
-            toReturn += modCodeChar;
-            modCodeChar = moduleCode.charAt(++index);
+        if (isBaseCode()) {
+            return this;
+        }
+        // Benign race: every thread computes an equal base code
+        if (baseCode == null) {
+            String base = moduleCode.substring(0, baseCodeLength);
+            ModuleCode canonical = canonicalCodes.get(base);
+            baseCode = canonical != null ? canonical : new ModuleCode(base);
         }
-        toReturn += moduleCode.substring(index, index + 4);
-        return new ModuleCode(toReturn);
+        return baseCode;
+    }
+
+    /**
+     * Returns true if this module code has no suffix.
+     */
+    public boolean isBaseCode() {
+        return baseCodeLength == moduleCode.length();
+    }
+
+    /**
+     * Returns the hash shared by all module codes with the same base code, e.g. CS1010, CS1010S and CS1010X.
+     * Module codes with different base codes usually have different hashes.
+     */
+    public int getBaseCodeHash() {
+        return baseCodeHash;
+    }
+
+    /**
+     * Returns true if this module code is {@code baseCode} with a suffix, or {@code baseCode} itself.
+     * For example, CS1010S is a variant of CS1010, but not of CS1010X.
+     */
+    public boolean isVariantOf(ModuleCode baseCode) {
+        return baseCodeHash == baseCode.baseCodeHash // cheap check before comparing strings
+                && baseCode.isBaseCode()
+                && baseCodeLength == baseCode.baseCodeLength
+                && moduleCode.startsWith(baseCode.moduleCode);
     }
 
     @Override
@@ -57,9 +134,12 @@ public class ModuleCode {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof ModuleCode // instanceof handles nulls
+                && baseCodeHash == ((ModuleCode) other).baseCodeHash // cheap check before comparing strings
                 && moduleCode.equals(((ModuleCode) other).moduleCode)); // state check
     }
 
-    // methods to be implemented
-    // hashCode()
+    @Override
+    public int hashCode() {
+        return moduleCode.hashCode();
+    }
 }
@@ -0,0 +1,50 @@
+package seedu.address.model.profile.course.module;
+
+import java.util.Objects;
+
+//@@author gyant6
+/**
+ * Represents the text-heavy details of a Module that are only needed when the module is shown to the user.
+ * Guarantees: immutable.
+ */
+public class ModuleDetails {
+
+    private final Prereqs prereqs;
+    private final Preclusions preclusions;
+    private final Description description;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public ModuleDetails(Prereqs prereqs, Preclusions preclusions, Description description) {
+        this.prereqs = prereqs;
+        this.preclusions = preclusions;
+        this.description = description;
+    }
+
+    public Prereqs getPrereqs() {
+        return prereqs;
+    }
+
+    public Preclusions getPreclusions() {
+        return preclusions;
+    }
+
+    public Description getDescription() {
+        return description;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ModuleDetails // instanceof handles nulls
+                && prereqs.equals(((ModuleDetails) other).prereqs)
+                && preclusions.equals(((ModuleDetails) other).preclusions)
+                && description.equals(((ModuleDetails) other).description)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(prereqs, preclusions, description);
+    }
+}
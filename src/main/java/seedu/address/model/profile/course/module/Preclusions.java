@@ -1,5 +1,7 @@
 package seedu.address.model.profile.course.module;
 
+import java.util.Objects;
+
 //@@author chanckben
 /**
  * Represents a Module's list of preclusions in the module list.
@@ -28,4 +30,9 @@ public class Preclusions {
                 || (other instanceof Preclusions // instanceof handles nulls
                 && preclusions.equals(((Preclusions) other).preclusions)); // state check
     }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(preclusions);
+    }
 }
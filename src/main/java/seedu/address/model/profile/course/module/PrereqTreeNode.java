@@ -10,8 +10,21 @@ import seedu.address.storage.JsonPrereqTreeNode;
  * An object representing the node of the prerequisite tree of a module.
  */
 public class PrereqTreeNode {
+
+    /**
+     * The ways in which the children of a node can be combined.
+     */
+    public enum Type {
+        AND, OR;
+
+        @Override
+        public String toString() {
+            return name().toLowerCase();
+        }
+    }
+
     private ModuleCode moduleCode;
-    private String type;
+    private Type type;
     private List<PrereqTreeNode> prereqTreeNodes;
 
     public PrereqTreeNode(ModuleCode moduleCode) {
@@ -25,43 +38,73 @@ public class PrereqTreeNode {
         this.prereqTreeNodes.add(prereqTreeNode);
     }
 
+    /**
+     * Sets the type of this node to "and" or "or".
+     *
+     * @throws IllegalArgumentException if {@code type} is neither "and" nor "or".
+     */
     public void setType(String type) {
+        this.type = Type.valueOf(type.toUpperCase());
+    }
+
+    public void setType(Type type) {
         this.type = type;
     }
 
+    /**
+     * Returns the module code of this node, or null if this node is an "and" or "or" node.
+     */
+    public ModuleCode getModuleCode() {
+        return moduleCode;
+    }
+
+    /**
+     * Returns the type of this node, or null if this node is a module.
+     */
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Returns the children of this node, or null if this node is a module.
+     */
+    public List<PrereqTreeNode> getPrereqTreeNodes() {
+        return prereqTreeNodes;
+    }
+
     /**
      * Checks if the user has fulfilled all the prerequisites under this prerequisite tree.
      * Recursive function, to be called for every node while traversing down the tree.
      */
     public boolean hasFulfilledPrereqs(List<ModuleCode> modulesTaken) {
         if (moduleCode != null) {
-            // Kept the first condition mainly as precaution
-            return modulesTaken.contains(moduleCode)
-                    || modulesTaken.stream()
-                    .map(ModuleCode::removeSuffix)
-                    .anyMatch(modCode->modCode.equals(moduleCode));
+            // A variant of the module, e.g. CS1010S for CS1010, also fulfils the prerequisite
+            for (ModuleCode modCode : modulesTaken) {
+                if (modCode.equals(moduleCode) || modCode.isVariantOf(moduleCode)) {
+                    return true;
+                }
+            }
+            return false;
         }
-        boolean check;
-        if (type.equals("or")) {
-            check = false;
+        if (type == Type.OR) {
             // As long as 1 module fulfils prereq, requirement is fulfilled
             for (PrereqTreeNode node: prereqTreeNodes) {
                 if (node.hasFulfilledPrereqs(modulesTaken)) {
-                    check = true;
+                    return true;
                 }
             }
-        } else if (type.equals("and")) {
-            check = true;
+            return false;
+        } else if (type == Type.AND) {
             // As long as 1 module does not fulfil prereq, requirement is not fulfilled
             for (PrereqTreeNode node: prereqTreeNodes) {
                 if (!node.hasFulfilledPrereqs(modulesTaken)) {
-                    check = false;
+                    return false;
                 }
             }
+            return true;
         } else {
             throw new IllegalArgumentException("Wrong type in PrereqTreeNode.java, fix code");
         }
-        return check;
     }
 
     /**
@@ -75,9 +118,9 @@ public class PrereqTreeNode {
         for (PrereqTreeNode node: prereqTreeNodes) {
             listNodes.add(node.toJson());
         }
-        if (type.equals("or")) {
+        if (type == Type.OR) {
             return new JsonPrereqTreeNode(listNodes, null);
-        } else if (type.equals("and")) {
+        } else if (type == Type.AND) {
             return new JsonPrereqTreeNode(null, listNodes);
         }
         throw new IllegalArgumentException("Error parsing prereqTreeNode object in PrereqTreeNode.java, to fix");
@@ -1,5 +1,7 @@
 package seedu.address.model.profile.course.module;
 
+import java.util.Objects;
+
 //@@author gyant6
 /**
  * Represents a Module's list of prerequisites in the module list.
@@ -38,7 +40,8 @@ public class Prereqs {
                 && prereqs.equals(((Prereqs) other).prereqs)); // state check
     }
 
-    // methods to be implemented
-    // isValidCode()
-    // hashCode()
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(prereqs);
+    }
 }
@@ -41,7 +41,8 @@ public class SemesterData {
                 && semesters.equals(((SemesterData) other).semesters)); // state check
     }
 
-    // methods to be implemented
-    // isValidCode()
-    // hashCode()
+    @Override
+    public int hashCode() {
+        return semesters.hashCode();
+    }
 }
@@ -33,7 +33,11 @@ public class Title {
                 && title.equals(((Title) other).title)); // state check
     }
 
+    @Override
+    public int hashCode() {
+        return title.hashCode();
+    }
+
     // methods to be implemented
     // isValidTitle()
-    // hashCode()
 }
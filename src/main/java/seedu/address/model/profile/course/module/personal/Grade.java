@@ -22,14 +22,13 @@ public class Grade {
         return null;
     }
 
+    public ModuleGrade getModuleGrade() {
+        return myGrade;
+    }
+
     public void setGrade(String grade) {
-        for (ModuleGrade g: ModuleGrade.values()) {
-            if (g.toString().equals(grade)) {
-                this.myGrade = g;
-                return;
-            }
-        }
-        throw new NoSuchElementException("Grade " + grade + " does not exist");
+        this.myGrade = ModuleGrade.fromString(grade)
+                .orElseThrow(() -> new NoSuchElementException("Grade " + grade + " does not exist"));
     }
 
     /**
@@ -43,6 +42,6 @@ public class Grade {
     }
 
     public static boolean isValidGrade(String grade) {
-        return Stream.of(ModuleGrade.values()).map(ModuleGrade::toString).anyMatch(x -> x.equals(grade));
+        return ModuleGrade.fromString(grade).isPresent();
     }
 }
@@ -1,30 +1,82 @@
 package seedu.address.model.profile.course.module.personal;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
 //@@author chanckben
 /**
- * Typical grades in NUS stored as enumerations.
+ * Typical grades in NUS stored as enumerations, with the grade point each counts for in the CAP.
+ * Grades that are not counted in the CAP, e.g. S and U, have no grade point.
  */
 public enum ModuleGrade {
-    A_PLUS("A+"),
-    A("A"),
-    A_MINUS("A-"),
-    B_PLUS("B+"),
-    B("B"),
-    B_MINUS("B-"),
-    C_PLUS("C+"),
-    C("C"),
-    D_PLUS("D+"),
-    D("D"),
-    F("F"),
+    A_PLUS("A+", 5.0),
+    A("A", 5.0),
+    A_MINUS("A-", 4.5),
+    B_PLUS("B+", 4.0),
+    B("B", 3.5),
+    B_MINUS("B-", 3.0),
+    C_PLUS("C+", 2.5),
+    C("C", 2.0),
+    D_PLUS("D+", 1.5),
+    D("D", 1.0),
+    F("F", 0.0),
     S("S"),
     U("U"),
     CS("CS"),
     CU("CU");
 
+    private static final Map<String, ModuleGrade> gradesDisplayed = new HashMap<>();
+
+    static {
+        for (ModuleGrade grade : values()) {
+            gradesDisplayed.put(grade.gradeDisplayed, grade);
+        }
+    }
+
     private final String gradeDisplayed;
+    private final double gradePoint;
+    private final boolean isCountedInCap;
+
+    ModuleGrade(String gradeDisplayed, double gradePoint) {
+        this.gradeDisplayed = gradeDisplayed;
+        this.gradePoint = gradePoint;
+        this.isCountedInCap = true;
+    }
 
     ModuleGrade(String gradeDisplayed) {
         this.gradeDisplayed = gradeDisplayed;
+        this.gradePoint = 0;
+        this.isCountedInCap = false;
+    }
+
+    /**
+     * Returns the grade displayed as {@code gradeDisplayed}, e.g. A_MINUS for "A-", if there is one.
+     */
+    public static Optional<ModuleGrade> fromString(String gradeDisplayed) {
+        return Optional.ofNullable(gradesDisplayed.get(gradeDisplayed));
+    }
+
+    /**
+     * Returns the lowest grade counted in the CAP whose grade point is at least {@code gradePoint}, if there is one.
+     */
+    public static Optional<ModuleGrade> lowestWithGradePoint(double gradePoint) {
+        ModuleGrade lowest = null;
+        for (ModuleGrade grade : values()) {
+            if (grade.isCountedInCap && grade.gradePoint >= gradePoint
+                    && (lowest == null || grade.gradePoint <= lowest.gradePoint)) {
+                lowest = grade;
+            }
+        }
+        return Optional.ofNullable(lowest);
+    }
+
+    public double getGradePoint() {
+        return gradePoint;
+    }
+
+    public boolean isCountedInCap() {
+        return isCountedInCap;
     }
 
     @Override
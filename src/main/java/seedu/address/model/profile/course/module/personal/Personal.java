@@ -59,6 +59,10 @@ public class Personal {
         return this.grade.getGrade();
     }
 
+    public ModuleGrade getModuleGrade() {
+        return this.grade.getModuleGrade();
+    }
+
     public void deleteGrade() {
         this.grade.deleteGrade();
     }
@@ -0,0 +1,37 @@
+package seedu.address.storage;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import seedu.address.model.CourseList;
+import seedu.address.model.ModuleList;
+
+//@@author chanckben
+/**
+ * Compiles the json module and course catalogs packaged in jar into a {@link CatalogSnapshotStorage} snapshot.
+ * Run by the {@code compileCatalogSnapshot} Gradle task with the arguments
+ * {@code <module list file> <course list file> <output file>}.
+ */
+public class CatalogSnapshotCompiler {
+
+    /**
+     * Reads the json catalogs and writes the snapshot of them.
+     */
+    public static void main(String[] args) throws Exception {
+        if (args.length != 3) {
+            throw new IllegalArgumentException(
+                    "Usage: CatalogSnapshotCompiler <module list file> <course list file> <output file>");
+        }
+        String moduleListFilePath = args[0];
+        String courseListFilePath = args[1];
+        Path outputFile = Paths.get(args[2]);
+
+        ModuleList moduleList = new JsonModuleListStorage(moduleListFilePath).readModuleList()
+                .orElseThrow(() -> new IllegalStateException(moduleListFilePath + " not found"));
+        CourseList courseList = new JsonCourseListStorage(courseListFilePath).readCourseList()
+                .orElseThrow(() -> new IllegalStateException(courseListFilePath + " not found"));
+        byte[] sourceHash = CatalogSnapshotStorage.computeSourceHash(moduleListFilePath, courseListFilePath);
+
+        CatalogSnapshotStorage.saveSnapshot(moduleList, courseList, sourceHash, outputFile);
+    }
+}
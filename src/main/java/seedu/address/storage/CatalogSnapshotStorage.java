@@ -0,0 +1,717 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.CourseList;
+import seedu.address.model.ModuleList;
+import seedu.address.model.ModuleSearchIndex;
+import seedu.address.model.UnlocksIndex;
+import seedu.address.model.profile.course.Course;
+import seedu.address.model.profile.course.CourseFocusArea;
+import seedu.address.model.profile.course.CourseRequirement;
+import seedu.address.model.profile.course.module.Description;
+import seedu.address.model.profile.course.module.ModularCredits;
+import seedu.address.model.profile.course.module.Module;
+import seedu.address.model.profile.course.module.ModuleCode;
+import seedu.address.model.profile.course.module.ModuleDetails;
+import seedu.address.model.profile.course.module.Preclusions;
+import seedu.address.model.profile.course.module.PrereqTreeNode;
+import seedu.address.model.profile.course.module.Prereqs;
+import seedu.address.model.profile.course.module.SemesterData;
+import seedu.address.model.profile.course.module.Title;
+
+//@@author chanckben
+/**
+ * A class to access a binary snapshot of the module and course catalogs packaged in jar.
+ * The snapshot is compiled from the json catalogs at build time by {@link CatalogSnapshotCompiler}, and records
+ * a hash of the json files it was compiled from so that a stale snapshot is never used.
+ *
+ * <p>All integers in the snapshot are big-endian. The snapshot is laid out as follows:
+ * <pre>
+ * header:   magic, format version, SHA-256 hash of the json catalogs (32 bytes)
+ * strings:  count, (count + 1) offsets into the UTF-8 blob, blob length, blob
+ * modules:  count, fixed-width records of {@value #MODULE_RECORD_INTS} string ids or values each
+ * nodes:    count, fixed-width prerequisite tree nodes of {@value #NODE_RECORD_INTS} ints each
+ * unlocks:  count, length in ints, entries of module code, number of modules unlocked, modules unlocked
+ * search:   module count, term count, length in ints, module codes, module lengths,
+ *           entries of term, number of postings, (module, term frequency) pairs
+ * courses:  count, variable-width course records
+ * </pre>
+ * Every string in the catalogs is stored once in the string table and referred to by its index.
+ * The children of a prerequisite tree node are stored as a contiguous run of nodes after the node itself.
+ *
+ * <p>Modules read from the snapshot only keep their code, title, modular credits and prerequisite tree in memory.
+ * Their {@code ModuleDetails} are decoded from the snapshot when they are needed, and the details of the
+ * {@value #MODULE_DETAILS_CACHE_CAPACITY} most recently used modules are cached.
+ */
+public class CatalogSnapshotStorage {
+
+    public static final int MAGIC = 0x4D4F4459; // "MODY"
+    public static final int FORMAT_VERSION = 3;
+
+    static final int MODULE_RECORD_INTS = 8;
+    static final int NODE_RECORD_INTS = 3;
+    static final int MODULE_DETAILS_CACHE_CAPACITY = 64;
+    static final int MAX_PREREQ_TREE_DEPTH = 256;
+
+    private static final int HASH_LENGTH = 32;
+    private static final int NO_VALUE = -1;
+    private static final int NODE_MODULE = 0;
+    private static final int NODE_AND = 1;
+    private static final int NODE_OR = 2;
+
+    private static final Logger logger = LogsCenter.getLogger(CatalogSnapshotStorage.class);
+
+    private final String filePath;
+    private final URL url;
+    private final String moduleListFilePath;
+    private final String courseListFilePath;
+
+    private ByteBuffer snapshot;
+    private String[] strings;
+    private int stringOffsetsPosition;
+    private int stringBlobPosition;
+    private int modulesPosition;
+    private int nodesPosition;
+    private int unlocksPosition;
+    private int searchPosition;
+    private int coursesPosition;
+    private ModuleDetailsCache moduleDetailsCache;
+
+    /**
+     * Creates a storage for the snapshot at {@code filePath}, compiled from the json catalogs at
+     * {@code moduleListFilePath} and {@code courseListFilePath}.
+     */
+    public CatalogSnapshotStorage(String filePath, String moduleListFilePath, String courseListFilePath) {
+        this(filePath, FileUtil.getFileResource(requireNonNull(filePath)), moduleListFilePath, courseListFilePath);
+    }
+
+    /**
+     * Creates a storage for the snapshot at {@code url}, which need not be packaged in jar.
+     */
+    CatalogSnapshotStorage(URL url, String moduleListFilePath, String courseListFilePath) {
+        this(url.toString(), url, moduleListFilePath, courseListFilePath);
+    }
+
+    private CatalogSnapshotStorage(String filePath, URL url, String moduleListFilePath, String courseListFilePath) {
+        requireNonNull(moduleListFilePath);
+        requireNonNull(courseListFilePath);
+        this.filePath = filePath;
+        this.url = url;
+        this.moduleListFilePath = moduleListFilePath;
+        this.courseListFilePath = courseListFilePath;
+    }
+
+    public String getFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the module list stored in the snapshot.
+     * Returns {@code Optional.empty()} if the snapshot is missing, stale or corrupted, in which case
+     * the module list should be read from the json catalog instead.
+     */
+    public Optional<ModuleList> readModuleList() {
+        if (!openSnapshot()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(decodeModuleList(snapshot.duplicate()));
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException e) {
+            logger.warning("Catalog snapshot " + filePath + " is corrupted: " + e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Returns the course list stored in the snapshot.
+     * Returns {@code Optional.empty()} if the snapshot is missing, stale or corrupted, in which case
+     * the course list should be read from the json catalog instead.
+     */
+    public Optional<CourseList> readCourseList() {
+        if (!openSnapshot()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(decodeCourseList(snapshot.duplicate()));
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException e) {
+            logger.warning("Catalog snapshot " + filePath + " is corrupted: " + e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Returns the index of the modules unlocked by each module, built from the module list when the snapshot
+     * was compiled. Returns {@code Optional.empty()} if the snapshot is missing, stale or corrupted.
+     */
+    public Optional<UnlocksIndex> readUnlocksIndex() {
+        if (!openSnapshot()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(decodeUnlocksIndex(snapshot.duplicate()));
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException e) {
+            logger.warning("Catalog snapshot " + filePath + " is corrupted: " + e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Returns the full-text search index of the module list, built when the snapshot was compiled.
+     * Returns {@code Optional.empty()} if the snapshot is missing, stale or corrupted.
+     */
+    public Optional<ModuleSearchIndex> readSearchIndex() {
+        if (!openSnapshot()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(decodeSearchIndex(snapshot.duplicate()));
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException e) {
+            logger.warning("Catalog snapshot " + filePath + " is corrupted: " + e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Maps the snapshot into memory and locates its sections, if this has not been done.
+     * Returns false if the snapshot cannot be used.
+     */
+    private boolean openSnapshot() {
+        if (snapshot != null) {
+            return true;
+        }
+        try {
+            if (url == null) {
+                logger.info("Catalog snapshot " + filePath + " not found");
+                return false;
+            }
+            ByteBuffer buffer = mapResource(url);
+            if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION) {
+                logger.info("Catalog snapshot " + filePath + " has an unsupported format");
+                return false;
+            }
+            byte[] hash = new byte[HASH_LENGTH];
+            buffer.get(hash);
+            if (!Arrays.equals(hash, computeSourceHash(moduleListFilePath, courseListFilePath))) {
+                logger.info("Catalog snapshot " + filePath + " is stale");
+                return false;
+            }
+            strings = new String[buffer.getInt()];
+            stringOffsetsPosition = buffer.position();
+            buffer.position(stringOffsetsPosition + (strings.length + 1) * Integer.BYTES);
+            stringBlobPosition = buffer.position() + Integer.BYTES;
+            buffer.position(stringBlobPosition + buffer.getInt());
+            modulesPosition = buffer.position();
+            buffer.position(modulesPosition + Integer.BYTES + buffer.getInt() * MODULE_RECORD_INTS * Integer.BYTES);
+            nodesPosition = buffer.position();
+            buffer.position(nodesPosition + Integer.BYTES + buffer.getInt() * NODE_RECORD_INTS * Integer.BYTES);
+            unlocksPosition = buffer.position();
+            buffer.position(unlocksPosition + 2 * Integer.BYTES
+                    + buffer.getInt(unlocksPosition + Integer.BYTES) * Integer.BYTES);
+            searchPosition = buffer.position();
+            buffer.position(searchPosition + 3 * Integer.BYTES
+                    + buffer.getInt(searchPosition + 2 * Integer.BYTES) * Integer.BYTES);
+            coursesPosition = buffer.position();
+            snapshot = buffer;
+            moduleDetailsCache = new ModuleDetailsCache(MODULE_DETAILS_CACHE_CAPACITY, this::decodeModuleDetails);
+            return true;
+        } catch (IOException | URISyntaxException e) {
+            logger.warning("Unable to read catalog snapshot " + filePath + ": " + e);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException e) {
+            logger.warning("Catalog snapshot " + filePath + " is corrupted: " + e);
+        }
+        return false;
+    }
+
+    /**
+     * Memory-maps {@code url} if it is a file on disk, otherwise reads it fully into memory outside of the heap,
+     * e.g. when it is packaged in a jar.
+     */
+    private static ByteBuffer mapResource(URL url) throws IOException, URISyntaxException {
+        if ("file".equals(url.getProtocol())) {
+            try (FileChannel channel = FileChannel.open(Paths.get(url.toURI()))) {
+                return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            }
+        }
+        try (InputStream inputStream = url.openStream()) {
+            byte[] content = inputStream.readAllBytes();
+            return ByteBuffer.allocateDirect(content.length).put(content).flip();
+        }
+    }
+
+    /**
+     * Returns the string with index {@code id} in the string table, keeping it in memory for later calls.
+     */
+    private String string(int id) {
+        if (strings[id] == null) {
+            strings[id] = decodeString(id);
+        }
+        return strings[id];
+    }
+
+    /**
+     * Decodes the string with index {@code id} in the string table without keeping it in memory.
+     */
+    private String decodeString(int id) {
+        if (id < 0 || id >= strings.length) {
+            throw new IndexOutOfBoundsException("String " + id + " is not in the string table");
+        }
+        int start = snapshot.getInt(stringOffsetsPosition + id * Integer.BYTES);
+        int end = snapshot.getInt(stringOffsetsPosition + (id + 1) * Integer.BYTES);
+        byte[] bytes = new byte[end - start];
+        ByteBuffer blob = snapshot.duplicate();
+        blob.position(stringBlobPosition + start);
+        blob.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private String decodeStringOrNull(int id) {
+        return id == NO_VALUE ? null : decodeString(id);
+    }
+
+    private ModuleList decodeModuleList(ByteBuffer buffer) {
+        buffer.position(modulesPosition);
+        int count = buffer.getInt();
+        ModuleList moduleList = new ModuleList();
+        // Few combinations of semesters are offered, so modules offered in the same semesters share their data
+        Map<Integer, SemesterData> semesterDataByMask = new HashMap<>();
+        int[] record = new int[MODULE_RECORD_INTS];
+        for (int i = 0; i < count; i++) {
+            for (int j = 0; j < MODULE_RECORD_INTS; j++) {
+                record[j] = buffer.getInt();
+            }
+            // The details are decoded later, so check now that they can be decoded
+            checkDetailStringIds(record);
+            int moduleRecord = i;
+            PrereqTreeNode prereqTreeNode = record[7] == NO_VALUE ? null : decodeNode(buffer, record[7], 0);
+            SemesterData semesterData = semesterDataByMask.computeIfAbsent(record[6], mask ->
+                    new SemesterData(decodeSemesters(mask)));
+            moduleList.addModule(new Module(ModuleCode.of(string(record[0])), new Title(string(record[1])),
+                    new ModularCredits(string(record[4])), semesterData, prereqTreeNode,
+                    () -> moduleDetailsCache.get(moduleRecord)));
+        }
+        return moduleList;
+    }
+
+    private void checkDetailStringIds(int[] record) {
+        for (int id : new int[] {record[2], record[3], record[5]}) {
+            if (id < NO_VALUE || id >= strings.length) {
+                throw new IndexOutOfBoundsException("String " + id + " is not in the string table");
+            }
+        }
+    }
+
+    /**
+     * Decodes the {@code ModuleDetails} of the module with record number {@code moduleRecord}.
+     */
+    private ModuleDetails decodeModuleDetails(int moduleRecord) {
+        int base = modulesPosition + Integer.BYTES + moduleRecord * MODULE_RECORD_INTS * Integer.BYTES;
+        return new ModuleDetails(new Prereqs(decodeStringOrNull(snapshot.getInt(base + 2 * Integer.BYTES))),
+                new Preclusions(decodeStringOrNull(snapshot.getInt(base + 3 * Integer.BYTES))),
+                new Description(decodeString(snapshot.getInt(base + 5 * Integer.BYTES))));
+    }
+
+    private static List<String> decodeSemesters(int semesterMask) {
+        List<String> semesters = new ArrayList<>();
+        for (int semester = 0; semester < Integer.SIZE; semester++) {
+            if ((semesterMask & (1 << semester)) != 0) {
+                semesters.add(String.valueOf(semester));
+            }
+        }
+        return semesters;
+    }
+
+    /**
+     * Decodes the prerequisite tree node at {@code index}, which is {@code depth} nodes below the root.
+     *
+     * @throws IllegalArgumentException if the children of a node are not after it, as in a corrupted snapshot
+     *     where they could form a cycle, or the tree is deeper than {@value #MAX_PREREQ_TREE_DEPTH} nodes.
+     */
+    private PrereqTreeNode decodeNode(ByteBuffer buffer, int index, int depth) {
+        if (depth > MAX_PREREQ_TREE_DEPTH) {
+            throw new IllegalArgumentException("Prerequisite tree deeper than " + MAX_PREREQ_TREE_DEPTH);
+        }
+        int base = nodesPosition + Integer.BYTES + index * NODE_RECORD_INTS * Integer.BYTES;
+        int kind = buffer.getInt(base);
+        int value = buffer.getInt(base + Integer.BYTES);
+        int childCount = buffer.getInt(base + 2 * Integer.BYTES);
+        if (kind == NODE_MODULE) {
+            return new PrereqTreeNode(ModuleCode.of(string(value)));
+        }
+        if (kind != NODE_AND && kind != NODE_OR) {
+            throw new IllegalArgumentException("Unknown prerequisite tree node kind " + kind);
+        }
+        if (value <= index || childCount < 0) {
+            throw new IllegalArgumentException("Prerequisite tree node " + index + " has invalid children");
+        }
+        PrereqTreeNode node = new PrereqTreeNode();
+        node.setType(kind == NODE_AND ? PrereqTreeNode.Type.AND : PrereqTreeNode.Type.OR);
+        for (int i = 0; i < childCount; i++) {
+            node.addPrereqTreeNode(decodeNode(buffer, value + i, depth + 1));
+        }
+        return node;
+    }
+
+    private UnlocksIndex decodeUnlocksIndex(ByteBuffer buffer) {
+        buffer.position(unlocksPosition);
+        int count = buffer.getInt();
+        buffer.getInt(); // Length of the section, only needed to skip it
+        Map<ModuleCode, List<ModuleCode>> directUnlocks = new HashMap<>();
+        for (int i = 0; i < count; i++) {
+            ModuleCode moduleCode = ModuleCode.of(string(buffer.getInt()));
+            directUnlocks.put(moduleCode, decodeModuleCodes(buffer));
+        }
+        return new UnlocksIndex(directUnlocks);
+    }
+
+    private ModuleSearchIndex decodeSearchIndex(ByteBuffer buffer) {
+        buffer.position(searchPosition);
+        int moduleCount = buffer.getInt();
+        int termCount = buffer.getInt();
+        buffer.getInt(); // Length of the section, only needed to skip it
+        List<ModuleCode> moduleCodes = new ArrayList<>();
+        for (int i = 0; i < moduleCount; i++) {
+            moduleCodes.add(ModuleCode.of(string(buffer.getInt())));
+        }
+        int[] moduleLengths = new int[moduleCount];
+        for (int i = 0; i < moduleCount; i++) {
+            moduleLengths[i] = buffer.getInt();
+        }
+        String[] terms = new String[termCount];
+        int[][] documents = new int[termCount][];
+        int[][] frequencies = new int[termCount][];
+        for (int i = 0; i < termCount; i++) {
+            // Terms are only looked up by the index, so they need not stay in the string table
+            terms[i] = decodeString(buffer.getInt());
+            documents[i] = new int[buffer.getInt()];
+            frequencies[i] = new int[documents[i].length];
+            for (int j = 0; j < documents[i].length; j++) {
+                documents[i][j] = buffer.getInt();
+                frequencies[i][j] = buffer.getInt();
+            }
+        }
+        return new ModuleSearchIndex(moduleCodes, moduleLengths, terms, documents, frequencies);
+    }
+
+    private CourseList decodeCourseList(ByteBuffer buffer) {
+        buffer.position(coursesPosition);
+        int courseCount = buffer.getInt();
+        CourseList courseList = new CourseList();
+        for (int i = 0; i < courseCount; i++) {
+            String courseName = string(buffer.getInt());
+            int requirementCount = buffer.getInt();
+            List<CourseRequirement> requirements = new ArrayList<>();
+            for (int j = 0; j < requirementCount; j++) {
+                String requirementName = string(buffer.getInt());
+                ModularCredits modularCredits = new ModularCredits(string(buffer.getInt()));
+                List<String> requirementInfo = decodeStringList(buffer);
+                requirements.add(new CourseRequirement(requirementName, decodeModuleCodes(buffer),
+                        modularCredits, requirementInfo));
+            }
+            int focusAreaCount = buffer.getInt();
+            List<CourseFocusArea> focusAreas = new ArrayList<>();
+            for (int j = 0; j < focusAreaCount; j++) {
+                String focusAreaName = string(buffer.getInt());
+                List<ModuleCode> primaries = decodeModuleCodes(buffer);
+                focusAreas.add(new CourseFocusArea(focusAreaName, primaries, decodeModuleCodes(buffer)));
+            }
+            courseList.addCourse(new Course(courseName, requirements, focusAreas));
+        }
+        return courseList;
+    }
+
+    private List<String> decodeStringList(ByteBuffer buffer) {
+        int count = buffer.getInt();
+        if (count == NO_VALUE) {
+            return null;
+        }
+        List<String> list = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            list.add(string(buffer.getInt()));
+        }
+        return list;
+    }
+
+    private List<ModuleCode> decodeModuleCodes(ByteBuffer buffer) {
+        int count = buffer.getInt();
+        List<ModuleCode> moduleCodes = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            moduleCodes.add(ModuleCode.of(string(buffer.getInt())));
+        }
+        return moduleCodes;
+    }
+
+    /**
+     * Returns the SHA-256 hash of the json catalogs packaged in jar at {@code moduleListFilePath} and
+     * {@code courseListFilePath}. A missing catalog is hashed as if it were empty.
+     */
+    public static byte[] computeSourceHash(String moduleListFilePath, String courseListFilePath) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IOException(e);
+        }
+        for (String sourceFilePath : new String[] {moduleListFilePath, courseListFilePath}) {
+            byte[] content = new byte[0];
+            try (InputStream inputStream = FileUtil.openFileStream(sourceFilePath)) {
+                if (inputStream != null) {
+                    content = inputStream.readAllBytes();
+                }
+            }
+            digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(content.length).array());
+            digest.update(content);
+        }
+        return digest.digest();
+    }
+
+    /**
+     * Writes a snapshot of {@code moduleList} and {@code courseList} to {@code file}, recording
+     * {@code sourceHash} as the hash of the json catalogs they were read from.
+     */
+    public static void saveSnapshot(ModuleList moduleList, CourseList courseList, byte[] sourceHash, Path file)
+            throws IOException {
+        requireNonNull(moduleList);
+        requireNonNull(courseList);
+        requireNonNull(file);
+        if (sourceHash.length != HASH_LENGTH) {
+            throw new IllegalArgumentException("Source hash must be " + HASH_LENGTH + " bytes long");
+        }
+
+        SnapshotWriter writer = new SnapshotWriter();
+        for (Module module : moduleList.getModuleList()) {
+            writer.addModule(module);
+        }
+        for (Course course : courseList.getCourseList()) {
+            writer.addCourse(course);
+        }
+        writer.addUnlocks(new UnlocksIndex(moduleList));
+        writer.addSearchIndex(new ModuleSearchIndex(moduleList));
+
+        FileUtil.createIfMissing(file);
+        try (OutputStream outputStream = Files.newOutputStream(file)) {
+            writer.writeTo(new DataOutputStream(outputStream), sourceHash);
+        }
+    }
+
+    /**
+     * Accumulates the sections of a snapshot, interning every string into a single string table.
+     */
+    private static class SnapshotWriter {
+        private final Map<String, Integer> stringIds = new HashMap<>();
+        private final List<String> strings = new ArrayList<>();
+        private final List<int[]> modules = new ArrayList<>();
+        private final List<int[]> nodes = new ArrayList<>();
+        private final List<Integer> courses = new ArrayList<>();
+        private final List<Integer> unlocks = new ArrayList<>();
+        private final List<Integer> search = new ArrayList<>();
+        private int unlocksCount = 0;
+        private int searchModuleCount = 0;
+        private int searchTermCount = 0;
+        private int courseCount = 0;
+
+        private int intern(String string) {
+            if (string == null) {
+                return NO_VALUE;
+            }
+            return stringIds.computeIfAbsent(string, s -> {
+                strings.add(s);
+                return strings.size() - 1;
+            });
+        }
+
+        void addModule(Module module) {
+            PrereqTreeNode prereqTreeNode = module.getPrereqTreeNode();
+            int root = NO_VALUE;
+            if (prereqTreeNode != null) {
+                root = nodes.size();
+                nodes.add(null);
+                addNode(root, prereqTreeNode);
+            }
+            modules.add(new int[] {
+                intern(module.getModuleCode().toString()),
+                intern(module.getTitle().toString()),
+                intern(module.getPrereqs().toString()),
+                intern(module.getPreclusions().toString()),
+                intern(String.valueOf(module.getModularCredits().modularCredits)),
+                intern(module.getDescription().toString()),
+                encodeSemesters(module.getSemesterData()),
+                root
+            });
+        }
+
+        private static int encodeSemesters(SemesterData semesterData) {
+            int semesterMask = 0;
+            for (int semester : semesterData.semesters) {
+                if (semester < 0 || semester >= Integer.SIZE) {
+                    throw new IllegalArgumentException("Semester " + semester + " cannot be stored in a snapshot");
+                }
+                semesterMask |= 1 << semester;
+            }
+            return semesterMask;
+        }
+
+        /**
+         * Fills in the node at {@code index} from {@code node}, reserving a contiguous run of nodes for its children.
+         */
+        private void addNode(int index, PrereqTreeNode node) {
+            if (node.getModuleCode() != null) {
+                nodes.set(index, new int[] {NODE_MODULE, intern(node.getModuleCode().toString()), 0});
+                return;
+            }
+            List<PrereqTreeNode> children = node.getPrereqTreeNodes();
+            int firstChild = nodes.size();
+            for (int i = 0; i < children.size(); i++) {
+                nodes.add(null);
+            }
+            int kind;
+            if (node.getType() == PrereqTreeNode.Type.AND) {
+                kind = NODE_AND;
+            } else if (node.getType() == PrereqTreeNode.Type.OR) {
+                kind = NODE_OR;
+            } else {
+                throw new IllegalArgumentException("Wrong type in PrereqTreeNode: " + node.getType());
+            }
+            nodes.set(index, new int[] {kind, firstChild, children.size()});
+            for (int i = 0; i < children.size(); i++) {
+                addNode(firstChild + i, children.get(i));
+            }
+        }
+
+        void addUnlocks(UnlocksIndex unlocksIndex) {
+            unlocksIndex.getDirectUnlocksMap().forEach((moduleCode, unlocked) -> {
+                unlocksCount++;
+                unlocks.add(intern(moduleCode.toString()));
+                unlocks.add(unlocked.size());
+                unlocked.forEach(code -> unlocks.add(intern(code.toString())));
+            });
+        }
+
+        void addSearchIndex(ModuleSearchIndex searchIndex) {
+            List<ModuleCode> moduleCodes = searchIndex.getModuleCodes();
+            String[] terms = searchIndex.getTerms();
+            searchModuleCount = moduleCodes.size();
+            searchTermCount = terms.length;
+            moduleCodes.forEach(moduleCode -> search.add(intern(moduleCode.toString())));
+            Arrays.stream(searchIndex.getDocumentLengths()).forEach(search::add);
+            for (int term = 0; term < terms.length; term++) {
+                int[] documents = searchIndex.getDocuments(term);
+                int[] frequencies = searchIndex.getFrequencies(term);
+                search.add(intern(terms[term]));
+                search.add(documents.length);
+                for (int i = 0; i < documents.length; i++) {
+                    search.add(documents[i]);
+                    search.add(frequencies[i]);
+                }
+            }
+        }
+
+        void addCourse(Course course) {
+            courseCount++;
+            courses.add(intern(course.getCourseName().toString()));
+            courses.add(course.getCourseRequirement().size());
+            for (CourseRequirement requirement : course.getCourseRequirement()) {
+                courses.add(intern(requirement.getRequirementName()));
+                courses.add(intern(String.valueOf(requirement.getModularCredits().modularCredits)));
+                addStringList(requirement.getRequirementInfoList());
+                addModuleCodes(requirement.getModuleCodes());
+            }
+            courses.add(course.getCourseFocusArea().size());
+            for (CourseFocusArea focusArea : course.getCourseFocusArea()) {
+                courses.add(intern(focusArea.getFocusAreaName()));
+                addModuleCodes(focusArea.getPrimaryModuleCodes());
+                addModuleCodes(focusArea.getElectiveModuleCodes());
+            }
+        }
+
+        private void addStringList(List<String> list) {
+            if (list == null) {
+                courses.add(NO_VALUE);
+                return;
+            }
+            courses.add(list.size());
+            list.forEach(string -> courses.add(intern(string)));
+        }
+
+        private void addModuleCodes(List<ModuleCode> moduleCodes) {
+            courses.add(moduleCodes.size());
+            moduleCodes.forEach(moduleCode -> courses.add(intern(moduleCode.toString())));
+        }
+
+        void writeTo(DataOutputStream out, byte[] sourceHash) throws IOException {
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.write(sourceHash);
+
+            List<byte[]> encoded = new ArrayList<>();
+            int offset = 0;
+            out.writeInt(strings.size());
+            for (String string : strings) {
+                byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+                encoded.add(bytes);
+                out.writeInt(offset);
+                offset += bytes.length;
+            }
+            out.writeInt(offset);
+            out.writeInt(offset);
+            for (byte[] bytes : encoded) {
+                out.write(bytes);
+            }
+
+            writeRecords(out, modules);
+            writeRecords(out, nodes);
+
+            out.writeInt(unlocksCount);
+            out.writeInt(unlocks.size());
+            for (int value : unlocks) {
+                out.writeInt(value);
+            }
+            out.writeInt(searchModuleCount);
+            out.writeInt(searchTermCount);
+            out.writeInt(search.size());
+            for (int value : search) {
+                out.writeInt(value);
+            }
+
+            out.writeInt(courseCount);
+            for (int value : courses) {
+                out.writeInt(value);
+            }
+            out.flush();
+        }
+
+        private static void writeRecords(DataOutputStream out, List<int[]> records) throws IOException {
+            out.writeInt(records.size());
+            for (int[] record : records) {
+                for (int value : record) {
+                    out.writeInt(value);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package seedu.address.storage;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+
+//@@author chanckben
+/**
+ * Watches the catalog files on disk and reloads the catalog on a background thread when any of them changes.
+ *
+ * <p>Editors often save a file in several steps, or by replacing it, so the catalog is reloaded once no watched
+ * file has changed for {@code settleDelayMillis}. A reload that fails is logged, and the next change triggers
+ * another one.
+ */
+public class CatalogWatcher implements AutoCloseable {
+
+    public static final long DEFAULT_SETTLE_DELAY_MILLIS = 300;
+
+    private static final Logger logger = LogsCenter.getLogger(CatalogWatcher.class);
+
+    private final Set<Path> files = new HashSet<>();
+    private final Runnable reloadAction;
+    private final long settleDelayMillis;
+    private final WatchService watchService;
+    private final Thread watcher;
+    private final ScheduledExecutorService reloader = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "catalog-reloader");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private ScheduledFuture<?> scheduledReload;
+
+    /**
+     * Creates a watcher that runs {@code reloadAction} {@code settleDelayMillis} after the last change to any of
+     * {@code files}. The files are not watched until {@link #start()} is called.
+     *
+     * @throws IOException if the directories of the files cannot be watched.
+     */
+    public CatalogWatcher(Collection<Path> files, Runnable reloadAction, long settleDelayMillis) throws IOException {
+        requireNonNull(files);
+        requireNonNull(reloadAction);
+        this.reloadAction = reloadAction;
+        this.settleDelayMillis = settleDelayMillis;
+        watchService = FileSystems.getDefault().newWatchService();
+        Set<Path> directories = new HashSet<>();
+        for (Path file : files) {
+            Path absoluteFile = file.toAbsolutePath().normalize();
+            this.files.add(absoluteFile);
+            if (directories.add(absoluteFile.getParent())) {
+                absoluteFile.getParent().register(watchService, ENTRY_CREATE, ENTRY_MODIFY);
+            }
+        }
+        watcher = new Thread(this::watch, "catalog-watcher");
+        watcher.setDaemon(true);
+    }
+
+    public void start() {
+        watcher.start();
+    }
+
+    private void watch() {
+        while (true) {
+            WatchKey key;
+            try {
+                key = watchService.take();
+            } catch (InterruptedException | ClosedWatchServiceException e) {
+                return;
+            }
+            Path directory = (Path) key.watchable();
+            for (WatchEvent<?> event : key.pollEvents()) {
+                // Events may have been lost on overflow, so any of the files may have changed
+                if (event.kind() == OVERFLOW || files.contains(directory.resolve((Path) event.context()))) {
+                    scheduleReload();
+                }
+            }
+            key.reset();
+        }
+    }
+
+    /**
+     * Schedules a reload {@code settleDelayMillis} from now, replacing any reload already scheduled.
+     */
+    private synchronized void scheduleReload() {
+        if (reloader.isShutdown()) {
+            return;
+        }
+        if (scheduledReload != null) {
+            scheduledReload.cancel(false);
+        }
+        scheduledReload = reloader.schedule(this::reload, settleDelayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void reload() {
+        try {
+            reloadAction.run();
+        } catch (RuntimeException e) {
+            logger.warning("Failed to reload the catalog, will retry on the next change " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Stops watching the files. A reload that is already running is allowed to finish.
+     */
+    @Override
+    public void close() throws IOException {
+        watchService.close();
+        synchronized (this) {
+            if (scheduledReload != null) {
+                scheduledReload.cancel(false);
+            }
+            reloader.shutdown();
+        }
+    }
+}
@@ -0,0 +1,346 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_MAX_MODS;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ModuleList;
+import seedu.address.model.ModuleManager;
+import seedu.address.model.ProfileList;
+import seedu.address.model.profile.Name;
+import seedu.address.model.profile.Profile;
+import seedu.address.model.profile.course.module.Module;
+import seedu.address.model.profile.course.module.ModuleCode;
+import seedu.address.model.profile.course.module.exceptions.ModuleNotFoundException;
+import seedu.address.model.profile.exceptions.MaxModsException;
+
+//@@author chanckben
+/**
+ * A class to access ProfileList data stored on the hard disk as a json snapshot, in the same format as
+ * {@link JsonProfileListStorage}, followed by a journal of the changes made since the snapshot was written.
+ *
+ * <p>Each save appends a {@link JsonJournalRecord} for every profile and module that changed since the last save,
+ * one record per line, so writing a change costs time proportional to the change rather than to the whole
+ * profile list. Once the journal holds {@value #COMPACTION_THRESHOLD} records, the next save compacts it by
+ * atomically replacing the snapshot, written on a single line, and deleting the journal.
+ * Reading replays the journal over the snapshot.
+ *
+ * <p>A crash can leave at most a partly written last record, which is ignored when replaying. A crash between
+ * moving the new snapshot into place and deleting the journal replays records already in the snapshot, which is
+ * harmless as every record sets a value rather than changing it.
+ *
+ * <p>Given a module catalog, the snapshot and journal store only the module code and personal data of the modules
+ * in the catalog, and a snapshot in the older format is migrated by compacting it as soon as it is read.
+ */
+public class JournalingProfileListStorage implements ProfileListStorage {
+
+    public static final String JOURNAL_SUFFIX = ".journal";
+    public static final int COMPACTION_THRESHOLD = 500;
+
+    /** Key of the record of a profile itself, among the records of its modules. */
+    private static final String PROFILE_KEY = "";
+
+    private static final Logger logger = LogsCenter.getLogger(JournalingProfileListStorage.class);
+
+    private Path filePath;
+    private Supplier<ModuleManager> moduleCatalog;
+
+    /**
+     * The records last written for each profile, keyed by profile name and then by module code, or null if the
+     * files at {@code filePath} may not match them, in which case the next save compacts the journal.
+     */
+    private Map<String, Map<String, String>> savedRecords;
+    private int journalLength;
+
+    public JournalingProfileListStorage(Path filePath) {
+        this(filePath, (ModuleManager) null);
+    }
+
+    public JournalingProfileListStorage(Path filePath, ModuleManager moduleCatalog) {
+        this(filePath, () -> moduleCatalog);
+    }
+
+    /**
+     * Creates a storage that takes the details of modules from the catalog returned by {@code moduleCatalog} at
+     * the time the profile list is read or saved, so that a reloaded catalog is used as soon as it is swapped in.
+     */
+    public JournalingProfileListStorage(Path filePath, Supplier<ModuleManager> moduleCatalog) {
+        this.filePath = filePath;
+        this.moduleCatalog = moduleCatalog;
+    }
+
+    public Path getProfileListFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the journal of the snapshot at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_SUFFIX);
+    }
+
+    public Optional<ProfileList> readProfileList() throws DataConversionException, IOException {
+        return readProfileList(filePath);
+    }
+
+    /**
+     * Similar to {@link #readProfileList()}.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataConversionException if the snapshot or journal is not in the correct format.
+     */
+    public Optional<ProfileList> readProfileList(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        Optional<JsonSerializableProfileList> snapshot = JsonUtil.readJsonFile(
+                filePath, JsonSerializableProfileList.class);
+        Path journalPath = getJournalFilePath(filePath);
+        List<String> journal = Files.exists(journalPath)
+                ? Files.readAllLines(journalPath, StandardCharsets.UTF_8)
+                : Collections.emptyList();
+        if (!snapshot.isPresent() && journal.isEmpty()) {
+            return Optional.empty();
+        }
+
+        ModuleManager catalog = moduleCatalog.get();
+        ProfileList profileList;
+        boolean isJournalIntact = true;
+        try {
+            profileList = snapshot.isPresent() ? snapshot.get().toModelType(catalog) : new ProfileList();
+            for (int i = 0; i < journal.size(); i++) {
+                JsonJournalRecord record;
+                try {
+                    record = JsonUtil.fromJsonString(journal.get(i), JsonJournalRecord.class);
+                } catch (IOException e) {
+                    if (i < journal.size() - 1) {
+                        throw new DataConversionException(e);
+                    }
+                    logger.warning("Ignoring partly written last record of journal " + journalPath);
+                    isJournalIntact = false;
+                    break;
+                }
+                apply(record, profileList, catalog);
+            }
+        } catch (IllegalValueException e) {
+            throw new DataConversionException(e);
+        }
+
+        if (filePath.equals(this.filePath)) {
+            savedRecords = isJournalIntact ? toRecords(profileList, catalog) : null;
+            journalLength = journal.size();
+        }
+        if (catalog != null && snapshot.isPresent() && snapshot.get().isBeforeSlimFormat()) {
+            writeSnapshot(new JsonSerializableProfileList(profileList, catalog), filePath);
+            logger.info("Migrated " + filePath + " to the slim profile format");
+        }
+        return Optional.of(profileList);
+    }
+
+    /**
+     * Applies the change recorded in {@code record} to {@code profileList}.
+     */
+    private static void apply(JsonJournalRecord record, ProfileList profileList, ModuleManager moduleCatalog)
+            throws IllegalValueException {
+        record.validate();
+        if (!Name.isValidName(record.getProfile())) {
+            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+        }
+        Name name = new Name(record.getProfile());
+        Profile profile = profileList.hasProfileWithName(name) ? profileList.getProfileWithName(name) : null;
+
+        switch (record.getType()) {
+        case JsonJournalRecord.TYPE_PROFILE:
+            Profile recordedProfile = record.toJsonProfile(Collections.emptyList()).toModelType();
+            if (profile == null) {
+                profileList.addProfile(recordedProfile);
+            } else {
+                profile.setCourse(recordedProfile.getCourseName());
+                profile.setFocusArea(recordedProfile.getFocusArea());
+                profile.setCurrentSemester(recordedProfile.getOverallSemester());
+                profile.setCatalogYear(recordedProfile.getCatalogYear().orElse(null));
+            }
+            break;
+        case JsonJournalRecord.TYPE_DELETE_PROFILE:
+            if (profile != null) {
+                profileList.deleteProfile(profile);
+            }
+            break;
+        case JsonJournalRecord.TYPE_MODULE:
+            if (profile == null || !record.getSemester().matches("\\d+")) {
+                throw new IllegalValueException("Module record is for a missing profile or an invalid semester");
+            }
+            Module module = record.getModule().toModelType(
+                    moduleCatalog == null ? null : profile.getCatalog(moduleCatalog));
+            deleteModuleIfTaken(profile, module.getModuleCode());
+            try {
+                profile.addModule(Integer.parseInt(record.getSemester()), module);
+            } catch (MaxModsException e) {
+                throw new IllegalValueException(MESSAGE_MAX_MODS);
+            }
+            break;
+        case JsonJournalRecord.TYPE_DELETE_MODULE:
+            if (profile != null) {
+                deleteModuleIfTaken(profile, new ModuleCode(record.getModuleCode()));
+            }
+            break;
+        default:
+            assert false : "Records of unknown types are rejected by validate()";
+        }
+    }
+
+    private static void deleteModuleIfTaken(Profile profile, ModuleCode moduleCode) {
+        try {
+            profile.deleteModule(moduleCode);
+        } catch (ModuleNotFoundException e) {
+            // Already deleted, which happens when replaying records that are also in the snapshot
+        }
+    }
+
+    public void saveProfileList(ProfileList profileList) throws IOException {
+        saveProfileList(profileList, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveProfileList(ProfileList)}.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     */
+    public void saveProfileList(ProfileList profileList, Path filePath) throws IOException {
+        requireNonNull(profileList);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            writeSnapshot(new JsonSerializableProfileList(profileList, moduleCatalog.get()), filePath);
+            return;
+        }
+        prepareSaveProfileList(profileList).save();
+    }
+
+    /**
+     * Serializes the records of {@code profileList}, and also its snapshot if the next save compacts the journal.
+     */
+    public PreparedSave prepareSaveProfileList(ProfileList profileList) throws IOException {
+        requireNonNull(profileList);
+
+        ModuleManager catalog = moduleCatalog.get();
+        Map<String, Map<String, String>> records = toRecords(profileList, catalog);
+        if (savedRecords == null || journalLength >= COMPACTION_THRESHOLD) {
+            JsonSerializableProfileList snapshot = new JsonSerializableProfileList(profileList, catalog);
+            return () -> {
+                writeSnapshot(snapshot, filePath);
+                savedRecords = records;
+            };
+        }
+        return () -> {
+            List<String> changes = getChanges(savedRecords, records);
+            appendToJournal(changes, getJournalFilePath(filePath));
+            journalLength += changes.size();
+            savedRecords = records;
+        };
+    }
+
+    /**
+     * Returns the records of every profile in {@code profileList} and of each of its modules, saved against the
+     * catalog of {@code catalog} that applies to the profile.
+     */
+    private static Map<String, Map<String, String>> toRecords(ProfileList profileList, ModuleManager catalog)
+            throws IOException {
+        Map<String, Map<String, String>> records = new LinkedHashMap<>();
+        for (Profile profile : profileList.getProfileList()) {
+            String profileName = profile.getName().toString();
+            ModuleManager profileCatalog = catalog == null ? null : profile.getCatalog(catalog);
+            Map<String, String> profileRecords = new LinkedHashMap<>();
+            profileRecords.put(PROFILE_KEY, JsonUtil.toCompactJsonString(JsonJournalRecord.ofProfile(profile)));
+            for (Map.Entry<Integer, ModuleList> entry : profile.getMappings()) {
+                for (Module module : entry.getValue()) {
+                    profileRecords.put(module.getModuleCode().toString(), JsonUtil.toCompactJsonString(
+                            JsonJournalRecord.ofModule(profileName, entry.getKey(), module, profileCatalog)));
+                }
+            }
+            records.put(profileName, profileRecords);
+        }
+        return records;
+    }
+
+    /**
+     * Returns the records that change {@code oldRecords} into {@code newRecords}, deletions first.
+     */
+    private static List<String> getChanges(Map<String, Map<String, String>> oldRecords,
+                                           Map<String, Map<String, String>> newRecords) throws IOException {
+        List<String> changes = new ArrayList<>();
+        for (Map.Entry<String, Map<String, String>> oldProfile : oldRecords.entrySet()) {
+            String profileName = oldProfile.getKey();
+            Map<String, String> newProfile = newRecords.get(profileName);
+            if (newProfile == null) {
+                changes.add(JsonUtil.toCompactJsonString(JsonJournalRecord.ofDeletedProfile(profileName)));
+                continue;
+            }
+            for (String moduleCode : oldProfile.getValue().keySet()) {
+                if (!newProfile.containsKey(moduleCode)) {
+                    changes.add(JsonUtil.toCompactJsonString(
+                            JsonJournalRecord.ofDeletedModule(profileName, moduleCode)));
+                }
+            }
+        }
+        for (Map.Entry<String, Map<String, String>> newProfile : newRecords.entrySet()) {
+            Map<String, String> oldProfile = oldRecords.getOrDefault(newProfile.getKey(), new HashMap<>());
+            // The record of the profile itself comes first, so that it exists before its modules are added
+            for (Map.Entry<String, String> record : newProfile.getValue().entrySet()) {
+                if (!record.getValue().equals(oldProfile.get(record.getKey()))) {
+                    changes.add(record.getValue());
+                }
+            }
+        }
+        return changes;
+    }
+
+    private static void appendToJournal(List<String> changes, Path journalPath) throws IOException {
+        if (changes.isEmpty()) {
+            return;
+        }
+        StringBuilder lines = new StringBuilder();
+        for (String change : changes) {
+            lines.append(change).append('\n');
+        }
+        try (FileChannel journal = FileChannel.open(journalPath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                journal.write(buffer);
+            }
+            journal.force(false);
+        }
+    }
+
+    /**
+     * Replaces the snapshot at {@code filePath} with {@code snapshot} and deletes its journal.
+     */
+    private void writeSnapshot(JsonSerializableProfileList snapshot, Path filePath) throws IOException {
+        JsonUtil.saveJsonFile(snapshot, filePath, false);
+        Files.deleteIfExists(getJournalFilePath(filePath));
+        if (filePath.equals(this.filePath)) {
+            journalLength = 0;
+        }
+    }
+}
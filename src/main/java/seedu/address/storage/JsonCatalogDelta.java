@@ -0,0 +1,160 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.CatalogDelta;
+import seedu.address.model.ModuleManager;
+import seedu.address.model.profile.course.module.Description;
+import seedu.address.model.profile.course.module.ModularCredits;
+import seedu.address.model.profile.course.module.Module;
+import seedu.address.model.profile.course.module.ModuleCode;
+import seedu.address.model.profile.course.module.ModuleDetails;
+import seedu.address.model.profile.course.module.Preclusions;
+import seedu.address.model.profile.course.module.PrereqTreeNode;
+import seedu.address.model.profile.course.module.Prereqs;
+import seedu.address.model.profile.course.module.SemesterData;
+import seedu.address.model.profile.course.module.Title;
+
+//@@author chanckben
+/**
+ * Jackson-friendly version of {@link CatalogDelta}.
+ */
+class JsonCatalogDelta {
+    public static final String MESSAGE_DUPLICATE_MODULE = "Catalog of %s changes module %s more than once";
+
+    private final String academicYear;
+    private final List<JsonModuleDelta> modules = new ArrayList<>();
+    private final List<String> removed = new ArrayList<>();
+
+    @JsonCreator
+    public JsonCatalogDelta(@JsonProperty("academicYear") String academicYear,
+            @JsonProperty("modules") List<JsonModuleDelta> modules,
+            @JsonProperty("removed") List<String> removed) {
+        this.academicYear = academicYear;
+        if (modules != null) {
+            this.modules.addAll(modules);
+        }
+        if (removed != null) {
+            this.removed.addAll(removed);
+        }
+    }
+
+    /**
+     * Converts this Jackson-friendly delta into a {@code CatalogDelta} over {@code baseCatalog}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the delta.
+     */
+    public CatalogDelta toModelType(ModuleManager baseCatalog) throws IllegalValueException {
+        if (!CatalogDelta.isValidAcademicYear(academicYear)) {
+            throw new IllegalValueException(CatalogDelta.MESSAGE_CONSTRAINTS);
+        }
+
+        List<Module> changedModules = new ArrayList<>();
+        Set<ModuleCode> changedModuleCodes = new HashSet<>();
+        for (JsonModuleDelta module : modules) {
+            Module changedModule = module.toModelType(baseCatalog);
+            if (!changedModuleCodes.add(changedModule.getModuleCode())) {
+                throw new IllegalValueException(String.format(MESSAGE_DUPLICATE_MODULE, academicYear,
+                        changedModule.getModuleCode()));
+            }
+            changedModules.add(changedModule);
+        }
+
+        List<ModuleCode> removedModuleCodes = new ArrayList<>();
+        for (String moduleCode : removed) {
+            if (moduleCode == null || !ModuleCode.isValidCode(moduleCode)) {
+                throw new IllegalValueException(ModuleCode.MESSAGE_CONSTRAINTS);
+            }
+            removedModuleCodes.add(ModuleCode.of(moduleCode));
+        }
+        return new CatalogDelta(academicYear, changedModules, removedModuleCodes);
+    }
+}
+
+/**
+ * Jackson-friendly version of a module as changed in the catalog of an academic year.
+ * Fields that are left out are the same as in the base catalog, and are shared with it.
+ */
+class JsonModuleDelta {
+    private final String moduleCode;
+    private final String title;
+    private final String description;
+    private final String moduleCredit;
+    private final String prerequisite;
+    private final String preclusion;
+    private final List<JsonSemesterData> semesterData;
+    private final JsonPrereqTreeNode prereqTree;
+
+    @JsonCreator
+    public JsonModuleDelta(@JsonProperty("moduleCode") String moduleCode,
+            @JsonProperty("title") String title,
+            @JsonProperty("description") String description,
+            @JsonProperty("moduleCredit") String moduleCredit,
+            @JsonProperty("prerequisite") String prerequisite,
+            @JsonProperty("preclusion") String preclusion,
+            @JsonProperty("semesterData") List<JsonSemesterData> semesterData,
+            @JsonProperty("prereqTree") JsonPrereqTreeNode prereqTree) {
+        this.moduleCode = moduleCode;
+        this.title = title;
+        this.description = description;
+        this.moduleCredit = moduleCredit;
+        this.prerequisite = prerequisite;
+        this.preclusion = preclusion;
+        this.semesterData = semesterData;
+        this.prereqTree = prereqTree;
+    }
+
+    /**
+     * Converts this Jackson-friendly module into a {@code Module}, taking the fields left out from the module with
+     * the same code in {@code baseCatalog}. A module that is not in {@code baseCatalog} must have every field.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the module.
+     */
+    public Module toModelType(ModuleManager baseCatalog) throws IllegalValueException {
+        if (moduleCode == null || !ModuleCode.isValidCode(moduleCode)) {
+            throw new IllegalValueException(ModuleCode.MESSAGE_CONSTRAINTS);
+        }
+        ModuleCode modelModuleCode = ModuleCode.of(moduleCode);
+        if (!baseCatalog.hasModule(modelModuleCode)) {
+            return new JsonModule(moduleCode, title, description, moduleCredit, prerequisite, preclusion,
+                    semesterData, prereqTree).toModelType();
+        }
+
+        Module baseModule = baseCatalog.getModule(modelModuleCode);
+        if (moduleCredit != null && !ModularCredits.isValidCredits(moduleCredit)) {
+            throw new IllegalValueException(ModularCredits.MESSAGE_CONSTRAINTS);
+        }
+        Title modelTitle = title == null ? baseModule.getTitle() : new Title(title);
+        ModularCredits modelModuleCredit = moduleCredit == null
+                ? baseModule.getModularCredits()
+                : new ModularCredits(moduleCredit);
+        SemesterData modelSemesterData = baseModule.getSemesterData();
+        if (semesterData != null) {
+            List<String> semesters = new ArrayList<>();
+            semesterData.forEach(semData -> semesters.add(semData.getSemester()));
+            modelSemesterData = new SemesterData(semesters);
+        }
+        PrereqTreeNode modelPrereqTreeNode = prereqTree == null
+                ? baseModule.getPrereqTreeNode()
+                : prereqTree.toModelType();
+
+        Supplier<ModuleDetails> detailsLoader = baseModule::getDetails;
+        if (description != null || prerequisite != null || preclusion != null) {
+            ModuleDetails details = new ModuleDetails(
+                    prerequisite == null ? baseModule.getPrereqs() : new Prereqs(prerequisite),
+                    preclusion == null ? baseModule.getPreclusions() : new Preclusions(preclusion),
+                    description == null ? baseModule.getDescription() : new Description(description));
+            detailsLoader = () -> details;
+        }
+        return new Module(modelModuleCode, modelTitle, modelModuleCredit, modelSemesterData, modelPrereqTreeNode,
+                detailsLoader);
+    }
+}
@@ -0,0 +1,63 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.CatalogDelta;
+import seedu.address.model.ModuleManager;
+
+//@@author chanckben
+/**
+ * A class to access the catalogs of other academic years, stored as a json file of deltas over the module catalog.
+ */
+public class JsonCatalogDeltaStorage {
+
+    private String filePath;
+
+    public JsonCatalogDeltaStorage(String filePath) {
+        this.filePath = filePath;
+    }
+
+    public String getFilePath() {
+        return filePath;
+    }
+
+    public Optional<List<CatalogDelta>> readCatalogDeltas(ModuleManager baseCatalog)
+            throws DataConversionException {
+        return readCatalogDeltas(filePath, baseCatalog);
+    }
+
+    /**
+     * Similar to {@link #readCatalogDeltas(ModuleManager)}.
+     * Returns {@code Optional.empty()} if there is no file at {@code filePath}, on disk or packaged in jar.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @param baseCatalog the catalog that the deltas are over. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public Optional<List<CatalogDelta>> readCatalogDeltas(String filePath, ModuleManager baseCatalog)
+            throws DataConversionException {
+        requireNonNull(filePath);
+        requireNonNull(baseCatalog);
+
+        if (!FileUtil.getExternalFile(filePath).isPresent() && FileUtil.getFileResource(filePath) == null) {
+            return Optional.empty();
+        }
+        Optional<JsonSerializableCatalogDeltas> jsonCatalogDeltas = JsonUtil.readJsonFileStream(
+                filePath, JsonSerializableCatalogDeltas.class);
+        if (!jsonCatalogDeltas.isPresent()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(jsonCatalogDeltas.get().toModelType(baseCatalog));
+        } catch (IllegalValueException ive) {
+            throw new DataConversionException(ive);
+        }
+    }
+}
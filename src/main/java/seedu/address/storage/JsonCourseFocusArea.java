@@ -54,12 +54,12 @@ class JsonCourseFocusArea {
 
         List<ModuleCode> modelPrimaries = new ArrayList<>();
         if (primaries != null) {
-            primaries.forEach(modelPrimary -> modelPrimaries.add(new ModuleCode(modelPrimary)));
+            primaries.forEach(modelPrimary -> modelPrimaries.add(ModuleCode.of(modelPrimary)));
         }
 
         List<ModuleCode> modelElectives = new ArrayList<>();
         if (electives != null) {
-            electives.forEach(modelElective -> modelElectives.add(new ModuleCode(modelElective)));
+            electives.forEach(modelElective -> modelElectives.add(ModuleCode.of(modelElective)));
         }
         return new CourseFocusArea(focusAreaName, modelPrimaries, modelElectives);
     }
@@ -54,7 +54,7 @@ class JsonCourseRequirement {
         }
 
         List<ModuleCode> modelModuleCodes = new ArrayList<>();
-        modules.forEach(module -> modelModuleCodes.add(new ModuleCode(module)));
+        modules.forEach(module -> modelModuleCodes.add(ModuleCode.of(module)));
         final ModularCredits modelModuleCredit = new ModularCredits(modularCredits);
 
         // Important to note requirementInfo may be null
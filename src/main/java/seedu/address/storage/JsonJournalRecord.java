@@ -0,0 +1,146 @@
+package seedu.address.storage;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ModuleManager;
+import seedu.address.model.profile.Profile;
+import seedu.address.model.profile.course.module.Module;
+
+//@@author chanckben
+/**
+ * Jackson-friendly version of a change to a profile list, as recorded in the journal of a
+ * {@link JournalingProfileListStorage}.
+ *
+ * <p>Each record sets a profile or one of its modules to a value, or deletes it, so applying a record twice has
+ * the same effect as applying it once.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonJournalRecord {
+    static final String TYPE_PROFILE = "profile";
+    static final String TYPE_DELETE_PROFILE = "deleteProfile";
+    static final String TYPE_MODULE = "module";
+    static final String TYPE_DELETE_MODULE = "deleteModule";
+
+    private String type;
+    private String profile;
+    private String courseName;
+    private String specialisation;
+    private String currentSemester;
+    private String catalogYear;
+    private String semester;
+    private String moduleCode;
+    private JsonPersonalModule module;
+
+    @JsonCreator
+    public JsonJournalRecord(@JsonProperty("type") String type,
+            @JsonProperty("profile") String profile,
+            @JsonProperty("courseName") String courseName,
+            @JsonProperty("specialisation") String specialisation,
+            @JsonProperty("currentSemester") String currentSemester,
+            @JsonProperty("catalogYear") String catalogYear,
+            @JsonProperty("semester") String semester,
+            @JsonProperty("moduleCode") String moduleCode,
+            @JsonProperty("module") JsonPersonalModule module) {
+        this.type = type;
+        this.profile = profile;
+        this.courseName = courseName;
+        this.specialisation = specialisation;
+        this.currentSemester = currentSemester;
+        this.catalogYear = catalogYear;
+        this.semester = semester;
+        this.moduleCode = moduleCode;
+        this.module = module;
+    }
+
+    /**
+     * Returns a record setting the name, course, focus area, current semester and catalog year of {@code source}.
+     */
+    static JsonJournalRecord ofProfile(Profile source) {
+        return new JsonJournalRecord(TYPE_PROFILE, source.getName().toString(), source.getCourseName().toString(),
+                source.getFocusAreaString(), Integer.toString(source.getOverallSemester()),
+                source.getCatalogYear().orElse(null), null, null, null);
+    }
+
+    static JsonJournalRecord ofDeletedProfile(String profileName) {
+        return new JsonJournalRecord(TYPE_DELETE_PROFILE, profileName, null, null, null, null, null, null, null);
+    }
+
+    /**
+     * Returns a record setting {@code module}, with its grade, status and deadlines, as taken in {@code semester}
+     * by the profile named {@code profileName}. Only the module code is recorded of a module in
+     * {@code moduleCatalog}.
+     */
+    static JsonJournalRecord ofModule(String profileName, int semester, Module module, ModuleManager moduleCatalog) {
+        return new JsonJournalRecord(TYPE_MODULE, profileName, null, null, null, null, Integer.toString(semester),
+                module.getModuleCode().toString(), JsonPersonalModule.of(module, moduleCatalog));
+    }
+
+    static JsonJournalRecord ofDeletedModule(String profileName, String moduleCode) {
+        return new JsonJournalRecord(TYPE_DELETE_MODULE, profileName, null, null, null, null, null, moduleCode,
+                null);
+    }
+
+    /**
+     * Checks that the fields needed by the type of this record are present.
+     *
+     * @throws IllegalValueException if the record is of an unknown type or misses a field.
+     */
+    void validate() throws IllegalValueException {
+        if (type == null || profile == null) {
+            throw new IllegalValueException("Journal record is missing its type or profile");
+        }
+        switch (type) {
+        case TYPE_PROFILE:
+            if (courseName == null || currentSemester == null) {
+                throw new IllegalValueException("Profile record is missing its course or current semester");
+            }
+            break;
+        case TYPE_MODULE:
+            if (semester == null || moduleCode == null || module == null) {
+                throw new IllegalValueException("Module record is missing its semester or module");
+            }
+            break;
+        case TYPE_DELETE_MODULE:
+            if (moduleCode == null) {
+                throw new IllegalValueException("Module record is missing its module code");
+            }
+            break;
+        case TYPE_DELETE_PROFILE:
+            break;
+        default:
+            throw new IllegalValueException("Unknown journal record type: " + type);
+        }
+    }
+
+    String getType() {
+        return type;
+    }
+
+    String getProfile() {
+        return profile;
+    }
+
+    String getSemester() {
+        return semester;
+    }
+
+    String getModuleCode() {
+        return moduleCode;
+    }
+
+    JsonPersonalModule getModule() {
+        return module;
+    }
+
+    /**
+     * Returns the profile set by this record, with the modules in {@code records}.
+     */
+    JsonProfile toJsonProfile(List<JsonSemesterRecord> records) {
+        return new JsonProfile(profile, courseName, specialisation, currentSemester, catalogYear, records);
+    }
+}
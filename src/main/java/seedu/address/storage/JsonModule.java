@@ -53,6 +53,17 @@ class JsonModule {
         this.prereqTree = prereqTree;
     }
 
+    String getModuleCode() {
+        return moduleCode;
+    }
+
+    /**
+     * Returns true if this module has its title and other details, rather than only its module code.
+     */
+    boolean hasDetails() {
+        return title != null;
+    }
+
     /**
      * Converts this Jackson-friendly module object into a {@code Module} object.
      *
@@ -87,7 +98,7 @@ class JsonModule {
             throw new IllegalValueException(SemesterData.MESSAGE_CONSTRAINTS);
         } */
 
-        final ModuleCode modelModuleCode = new ModuleCode(moduleCode);
+        final ModuleCode modelModuleCode = ModuleCode.of(moduleCode);
         final Title modelTitle = new Title(title);
         final Description modelDescription = new Description(description);
         final ModularCredits modelModuleCredit = new ModularCredits(moduleCredit);
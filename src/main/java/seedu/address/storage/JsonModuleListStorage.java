@@ -8,6 +8,7 @@ import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ModuleList;
+import seedu.address.model.profile.course.module.Module;
 
 //@@author chanckben
 /**
@@ -31,6 +32,8 @@ public class JsonModuleListStorage {
 
     /**
      * Similar to {@link #readModuleList()}.
+     * Modules are read from the file one at a time and added to the module list as soon as they are read,
+     * instead of reading the whole file into a {@link JsonSerializableModuleList} first.
      *
      * @param filePath location of the data. Cannot be null.
      * @throws DataConversionException if the file is not in the correct format.
@@ -38,18 +41,15 @@ public class JsonModuleListStorage {
     public Optional<ModuleList> readModuleList(String filePath) throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableModuleList> jsonModuleList =
-                JsonUtil.readJsonFileStream(filePath, JsonSerializableModuleList.class);
-
-        if (!jsonModuleList.isPresent()) {
-            return Optional.empty();
-        }
-        try {
-            return Optional.of(jsonModuleList.get().toModelType());
-        } catch (IllegalValueException ive) {
-            //logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
-            throw new DataConversionException(ive);
-        }
+        ModuleList moduleList = new ModuleList();
+        JsonUtil.readJsonArrayStream(filePath, "modules", JsonModule.class, jsonModule -> {
+            Module module = jsonModule.toModelType();
+            if (moduleList.hasModule(module)) {
+                throw new IllegalValueException(JsonSerializableModuleList.MESSAGE_DUPLICATE_MODULE);
+            }
+            moduleList.addModule(module);
+        });
+        return Optional.of(moduleList);
     }
 
 }
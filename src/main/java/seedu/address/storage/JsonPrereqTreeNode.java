@@ -52,7 +52,7 @@ public class JsonPrereqTreeNode {
     public PrereqTreeNode toModelType() throws IllegalValueException {
         PrereqTreeNode toReturn;
         if (isModule()) {
-            toReturn = new PrereqTreeNode(new ModuleCode(moduleCode));
+            toReturn = new PrereqTreeNode(ModuleCode.of(moduleCode));
         } else if (isOrNode()) {
             toReturn = new PrereqTreeNode();
             toReturn.setType("or");
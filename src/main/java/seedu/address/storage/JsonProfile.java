@@ -16,12 +16,15 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.CatalogDelta;
 import seedu.address.model.ModuleList;
+import seedu.address.model.ModuleManager;
 import seedu.address.model.profile.Name;
 import seedu.address.model.profile.Profile;
 import seedu.address.model.profile.course.CourseName;
 import seedu.address.model.profile.course.FocusArea;
 import seedu.address.model.profile.course.module.Module;
+import seedu.address.model.profile.course.module.ModuleCode;
 import seedu.address.model.profile.course.module.personal.Deadline;
 import seedu.address.model.profile.course.module.personal.Grade;
 import seedu.address.model.profile.course.module.personal.Personal;
@@ -40,6 +43,7 @@ class JsonProfile {
     private String courseName;
     private String specialisation;
     private String currentSemester;
+    private String catalogYear;
     private List<JsonSemesterRecord> records;
 
     @JsonCreator
@@ -47,25 +51,42 @@ class JsonProfile {
             @JsonProperty("courseName") String courseName,
             @JsonProperty("specialisation") String specialisation,
             @JsonProperty("currentSemester") String currentSemester,
+            @JsonProperty("catalogYear") String catalogYear,
             @JsonProperty("records") List<JsonSemesterRecord> records) {
         this.name = name;
         this.courseName = courseName;
         this.specialisation = specialisation;
         this.currentSemester = currentSemester;
+        this.catalogYear = catalogYear;
         this.records = records;
     }
 
+    public JsonProfile(String name, String courseName, String specialisation, String currentSemester,
+            List<JsonSemesterRecord> records) {
+        this(name, courseName, specialisation, currentSemester, null, records);
+    }
+
     public JsonProfile(Profile source) {
+        this(source, null);
+    }
+
+    /**
+     * Converts a given {@code Profile} into this class for Jackson use, storing only the module code and personal
+     * data of the modules found in the catalog of {@code moduleCatalog} that applies to the profile, if given.
+     */
+    public JsonProfile(Profile source, ModuleManager moduleCatalog) {
         name = source.getName().toString();
         courseName = source.getCourseName().toString();
         specialisation = source.getFocusAreaString();
         currentSemester = Integer.toString(source.getOverallSemester());
+        catalogYear = source.getCatalogYear().orElse(null);
+        ModuleManager profileCatalog = moduleCatalog == null ? null : source.getCatalog(moduleCatalog);
         records = new ArrayList<>();
         for (Map.Entry<Integer, ModuleList> entry: source.getMappings()) {
             String sem = entry.getKey().toString();
             ModuleList modules = entry.getValue();
-            records.add(new JsonSemesterRecord(
-                    sem, modules.stream().map(JsonPersonalModule::new).collect(Collectors.toList())));
+            records.add(new JsonSemesterRecord(sem, modules.stream()
+                    .map(module -> JsonPersonalModule.of(module, profileCatalog)).collect(Collectors.toList())));
         }
     }
 
@@ -75,6 +96,16 @@ class JsonProfile {
      * @throws IllegalValueException if there were any data constraints violated in the profile.
      */
     public Profile toModelType() throws IllegalValueException {
+        return toModelType(null);
+    }
+
+    /**
+     * Converts this Jackson-friendly profile object into a {@code Profile} object, taking the details of its modules
+     * from the catalog of {@code moduleCatalog} that applies to the profile, if given.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the profile.
+     */
+    public Profile toModelType(ModuleManager moduleCatalog) throws IllegalValueException {
         // Handle uninitialised attributes
         // Note that some fields such as prerequisite and preclusion are optional fields and are thus omitted
         if (name == null) {
@@ -93,6 +124,8 @@ class JsonProfile {
             throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
         } else if (!currentSemester.matches("\\d+")) {
             throw new IllegalValueException("Semester number should be a positive integer");
+        } else if (catalogYear != null && !CatalogDelta.isValidAcademicYear(catalogYear)) {
+            throw new IllegalValueException(CatalogDelta.MESSAGE_CONSTRAINTS);
         }
         // TODO: Validation for course - Completely alphabetical
 
@@ -101,11 +134,13 @@ class JsonProfile {
         FocusArea profileFocusArea = new FocusArea(specialisation);
         Profile profile = new Profile(profileName, profileCourse, Integer.parseInt(currentSemester),
                 profileFocusArea);
+        profile.setCatalogYear(catalogYear);
+        ModuleManager profileCatalog = moduleCatalog == null ? null : profile.getCatalog(moduleCatalog);
 
         for (JsonSemesterRecord record : records) {
             int semester = Integer.parseInt(record.getSemester());
             for (JsonPersonalModule module : record.getModules()) {
-                Module mod = module.toModelType();
+                Module mod = module.toModelType(profileCatalog);
                 try {
                     profile.addModule(semester, mod);
                 } catch (MaxModsException e) {
@@ -114,7 +149,6 @@ class JsonProfile {
             }
         }
 
-        profile.updateCap();
         return profile;
     }
 }
@@ -152,6 +186,7 @@ class JsonSemesterRecord {
 @JsonInclude(JsonInclude.Include.NON_NULL)
 class JsonPersonalModule extends JsonModule {
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Module's %s field is missing!";
+    public static final String MESSAGE_NOT_IN_CATALOG = "Module %s is not in the module catalog";
 
     private String status;
     private String grade;
@@ -175,6 +210,9 @@ class JsonPersonalModule extends JsonModule {
         this.deadlines = deadlines;
     }
 
+    /**
+     * Converts a given {@code Module} into this class for Jackson use, keeping all its details.
+     */
     public JsonPersonalModule(Module module) {
         super(module.getModuleCode().toString(), module.getTitle().toString(), module.getDescription().toString(),
                 module.getModularCredits().toString(), module.getPrereqs().toString(),
@@ -184,15 +222,48 @@ class JsonPersonalModule extends JsonModule {
                 module.getPrereqTreeNode() != null ? module.getPrereqTreeNode().toJson() : null);
         status = module.getStatus();
         grade = module.getGrade();
+        deadlines = toJsonDeadlines(module);
+    }
+
+    private JsonPersonalModule(ModuleCode moduleCode, String status, String grade, List<JsonDeadline> deadlines) {
+        super(moduleCode.toString(), null, null, null, null, null, null, null);
+        this.status = status;
+        this.grade = grade;
+        this.deadlines = deadlines;
+    }
+
+    /**
+     * Returns {@code module} converted for Jackson use, keeping only its module code and personal data if
+     * {@code moduleCatalog} is given and has the module, as its details can then be taken from the catalog.
+     */
+    static JsonPersonalModule of(Module module, ModuleManager moduleCatalog) {
+        if (moduleCatalog == null || !moduleCatalog.hasModule(module.getModuleCode())) {
+            return new JsonPersonalModule(module);
+        }
+        return new JsonPersonalModule(module.getModuleCode(), module.getStatus(), module.getGrade(),
+                toJsonDeadlines(module));
+    }
+
+    private static List<JsonDeadline> toJsonDeadlines(Module module) {
         if (module.getDeadlines().size() == 0) {
-            deadlines = null;
-        } else {
-            deadlines = module.getDeadlines().stream().map(JsonDeadline::new).collect(Collectors.toList());
+            return null;
         }
+        return module.getDeadlines().stream().map(JsonDeadline::new).collect(Collectors.toList());
     }
 
     @Override
     public Module toModelType() throws IllegalValueException {
+        return toModelType(null);
+    }
+
+    /**
+     * Converts this Jackson-friendly module object into a {@code Module} object. The details of the module are
+     * taken from {@code moduleCatalog} if given and it has the module, and otherwise from this object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the module, or if this object
+     *     only has the module code of a module that is not in the catalog.
+     */
+    public Module toModelType(ModuleManager moduleCatalog) throws IllegalValueException {
         if (status == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
                     Status.class.getSimpleName()));
@@ -204,7 +275,15 @@ class JsonPersonalModule extends JsonModule {
             throw new IllegalValueException(Grade.MESSAGE_CONSTRAINTS);
         }
 
-        Module module = super.toModelType();
+        ModuleCode moduleCode = getModuleCode() == null ? null : new ModuleCode(getModuleCode());
+        Module module;
+        if (moduleCatalog != null && moduleCode != null && moduleCatalog.hasModule(moduleCode)) {
+            module = moduleCatalog.getModule(moduleCode);
+        } else if (hasDetails()) {
+            module = super.toModelType();
+        } else {
+            throw new IllegalValueException(String.format(MESSAGE_NOT_IN_CATALOG, getModuleCode()));
+        }
         Personal personal = new Personal();
         if (grade != null) {
             personal.setGrade(grade);
@@ -215,8 +294,7 @@ class JsonPersonalModule extends JsonModule {
                 personal.addDeadline(deadline.toModelType());
             }
         }
-        module.setPersonal(personal);
-        return module;
+        return module.withPersonal(personal);
     }
 }
 
@@ -5,23 +5,35 @@ import static java.util.Objects.requireNonNull;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.logging.Logger;
 
+import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
-import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ModuleManager;
 import seedu.address.model.ProfileList;
 
 //@@author chanckben
 /**
  * A class to access ProfileList data stored as a json file on the hard disk.
+ * Given a module catalog, the file is written in the slim format of {@link JsonSerializableProfileList}, and a
+ * file in the older format is migrated to it when read.
  */
 public class JsonProfileListStorage implements ProfileListStorage {
 
+    private static final Logger logger = LogsCenter.getLogger(JsonProfileListStorage.class);
+
     private Path filePath;
+    private ModuleManager moduleCatalog;
 
     public JsonProfileListStorage(Path filePath) {
+        this(filePath, null);
+    }
+
+    public JsonProfileListStorage(Path filePath, ModuleManager moduleCatalog) {
         this.filePath = filePath;
+        this.moduleCatalog = moduleCatalog;
     }
 
     public Path getProfileListFilePath() {
@@ -46,11 +58,22 @@ public class JsonProfileListStorage implements ProfileListStorage {
         if (!jsonProfileList.isPresent()) {
             return Optional.empty();
         }
+        ProfileList profileList;
         try {
-            return Optional.of(jsonProfileList.get().toModelType());
+            profileList = jsonProfileList.get().toModelType(moduleCatalog);
         } catch (IllegalValueException e) {
             throw new DataConversionException(e);
         }
+
+        if (moduleCatalog != null && jsonProfileList.get().isBeforeSlimFormat()) {
+            try {
+                saveProfileList(profileList, filePath);
+                logger.info("Migrated " + filePath + " to the slim profile format");
+            } catch (IOException e) {
+                logger.warning("Failed to migrate " + filePath + " to the slim profile format: " + e);
+            }
+        }
+        return Optional.of(profileList);
     }
 
     public void saveProfileList(ProfileList profileList) throws IOException {
@@ -66,7 +89,15 @@ public class JsonProfileListStorage implements ProfileListStorage {
         requireNonNull(profileList);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableProfileList(profileList), filePath);
+        prepareSaveProfileList(profileList, filePath).save();
+    }
+
+    public PreparedSave prepareSaveProfileList(ProfileList profileList) {
+        return prepareSaveProfileList(profileList, filePath);
+    }
+
+    private PreparedSave prepareSaveProfileList(ProfileList profileList, Path filePath) {
+        JsonSerializableProfileList jsonProfileList = new JsonSerializableProfileList(profileList, moduleCatalog);
+        return () -> JsonUtil.saveJsonFile(jsonProfileList, filePath);
     }
 }
@@ -0,0 +1,90 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.model.profile.Profile;
+
+//@@author chanckben
+/**
+ * Jackson-friendly version of the manifest of a {@link ShardedProfileListStorage}, listing every profile with the
+ * name of the shard holding its modules.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonProfileManifest {
+    static final int MANIFEST_VERSION = 1;
+
+    private Integer manifestVersion;
+    private List<Entry> shards = new ArrayList<>();
+
+    @JsonCreator
+    public JsonProfileManifest(@JsonProperty("manifestVersion") Integer manifestVersion,
+            @JsonProperty("shards") List<Entry> shards) {
+        this.manifestVersion = manifestVersion;
+        if (shards != null) {
+            this.shards.addAll(shards);
+        }
+    }
+
+    /**
+     * Returns true if this file states its manifest version, as every manifest does.
+     */
+    boolean isManifest() {
+        return manifestVersion != null;
+    }
+
+    List<Entry> getShards() {
+        return shards;
+    }
+
+    /**
+     * Jackson-friendly version of the name, course, focus area, current semester and catalog year of a profile, and
+     * the name of its shard.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    static class Entry {
+        private String name;
+        private String courseName;
+        private String specialisation;
+        private String currentSemester;
+        private String catalogYear;
+        private String shard;
+
+        @JsonCreator
+        public Entry(@JsonProperty("name") String name,
+                @JsonProperty("courseName") String courseName,
+                @JsonProperty("specialisation") String specialisation,
+                @JsonProperty("currentSemester") String currentSemester,
+                @JsonProperty("catalogYear") String catalogYear,
+                @JsonProperty("shard") String shard) {
+            this.name = name;
+            this.courseName = courseName;
+            this.specialisation = specialisation;
+            this.currentSemester = currentSemester;
+            this.catalogYear = catalogYear;
+            this.shard = shard;
+        }
+
+        Entry(Profile source, String shard) {
+            this(source.getName().toString(), source.getCourseName().toString(), source.getFocusAreaString(),
+                    Integer.toString(source.getOverallSemester()), source.getCatalogYear().orElse(null), shard);
+        }
+
+        String getShard() {
+            return shard;
+        }
+
+        /**
+         * Returns the profile described by this entry, without any modules.
+         */
+        JsonProfile toJsonProfile() {
+            return new JsonProfile(name, courseName, specialisation, currentSemester, catalogYear,
+                    Collections.emptyList());
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.CatalogDelta;
+import seedu.address.model.ModuleManager;
+
+//@@author chanckben
+/**
+ * An Immutable list of the catalogs of other academic years that is serializable to JSON format.
+ */
+public class JsonSerializableCatalogDeltas {
+    public static final String MESSAGE_DUPLICATE_YEAR = "Catalog deltas contain the same academic year more than once.";
+
+    private final List<JsonCatalogDelta> catalogs = new ArrayList<>();
+
+    @JsonCreator
+    public JsonSerializableCatalogDeltas(@JsonProperty("catalogs") List<JsonCatalogDelta> catalogs) {
+        if (catalogs != null) {
+            this.catalogs.addAll(catalogs);
+        }
+    }
+
+    /**
+     * Converts these catalogs into {@code CatalogDelta} objects over {@code baseCatalog}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public List<CatalogDelta> toModelType(ModuleManager baseCatalog) throws IllegalValueException {
+        List<CatalogDelta> deltas = new ArrayList<>();
+        Set<String> academicYears = new HashSet<>();
+        for (JsonCatalogDelta jsonDelta : catalogs) {
+            CatalogDelta delta = jsonDelta.toModelType(baseCatalog);
+            if (!academicYears.add(delta.getAcademicYear())) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_YEAR);
+            }
+            deltas.add(delta);
+        }
+        return deltas;
+    }
+}
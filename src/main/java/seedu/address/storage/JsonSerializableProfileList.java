@@ -5,28 +5,56 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ModuleManager;
 import seedu.address.model.ProfileList;
 import seedu.address.model.profile.Profile;
 
 //@@author chanckben
 /**
  * An Immutable ProfileList that is serializable to JSON format.
+ *
+ * <p>Profile lists written with a module catalog store only the module code and personal data of the modules in
+ * the catalog, and are marked with {@link #SLIM_FORMAT_VERSION}. Files without a version embed every module in
+ * full, and are migrated by reading them with the catalog and saving them again.
  */
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class JsonSerializableProfileList {
     public static final String MESSAGE_DUPLICATE_PROFILE = "Profile list contains a profile with the same name.";
+    public static final int SLIM_FORMAT_VERSION = 2;
 
+    private Integer version;
     private List<JsonProfile> profiles = new ArrayList<>();
 
     @JsonCreator
-    public JsonSerializableProfileList(@JsonProperty("profiles") List<JsonProfile> profiles) {
+    public JsonSerializableProfileList(@JsonProperty("version") Integer version,
+            @JsonProperty("profiles") List<JsonProfile> profiles) {
+        this.version = version;
         this.profiles.addAll(profiles);
     }
 
     public JsonSerializableProfileList(ProfileList profileList) {
-        profiles.addAll(profileList.getProfileList().stream().map(JsonProfile::new).collect(Collectors.toList()));
+        this(profileList, null);
+    }
+
+    /**
+     * Converts a given {@code ProfileList} into this class for Jackson use, in the slim format if
+     * {@code moduleCatalog} is given.
+     */
+    public JsonSerializableProfileList(ProfileList profileList, ModuleManager moduleCatalog) {
+        version = moduleCatalog == null ? null : SLIM_FORMAT_VERSION;
+        profiles.addAll(profileList.getProfileList().stream()
+                .map(profile -> new JsonProfile(profile, moduleCatalog)).collect(Collectors.toList()));
+    }
+
+    /**
+     * Returns true if this profile list embeds its modules in full, having been written before the slim format.
+     */
+    public boolean isBeforeSlimFormat() {
+        return version == null || version < SLIM_FORMAT_VERSION;
     }
 
     /**
@@ -35,9 +63,19 @@ public class JsonSerializableProfileList {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public ProfileList toModelType() throws IllegalValueException {
+        return toModelType(null);
+    }
+
+    /**
+     * Converts this module list into a {@code ProfileList} object, taking the details of modules from
+     * {@code moduleCatalog} if given.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public ProfileList toModelType(ModuleManager moduleCatalog) throws IllegalValueException {
         ProfileList profileList = new ProfileList();
         for (JsonProfile jsonProfile: profiles) {
-            Profile profile = jsonProfile.toModelType();
+            Profile profile = jsonProfile.toModelType(moduleCatalog);
             if (profileList.hasProfileWithName(profile.getName())) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_PROFILE);
             }
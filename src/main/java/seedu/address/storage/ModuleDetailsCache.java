@@ -0,0 +1,52 @@
+package seedu.address.storage;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+import seedu.address.model.profile.course.module.ModuleDetails;
+
+//@@author chanckben
+/**
+ * A bounded cache of the {@code ModuleDetails} of the most recently used modules, keyed by module record number.
+ * When the cache is full, the details of the least recently used module are evicted.
+ */
+class ModuleDetailsCache {
+
+    private final int capacity;
+    private final IntFunction<ModuleDetails> loader;
+    private final Map<Integer, ModuleDetails> cache;
+
+    /**
+     * Creates a cache holding at most {@code capacity} details, loading missing details with {@code loader}.
+     */
+    ModuleDetailsCache(int capacity, IntFunction<ModuleDetails> loader) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Cache capacity must be positive");
+        }
+        this.capacity = capacity;
+        this.loader = loader;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, ModuleDetails> eldest) {
+                return size() > ModuleDetailsCache.this.capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the details of the module with record number {@code record}, loading them if they are not cached.
+     */
+    synchronized ModuleDetails get(int record) {
+        ModuleDetails details = cache.get(record);
+        if (details == null) {
+            details = loader.apply(record);
+            cache.put(record, details);
+        }
+        return details;
+    }
+
+    synchronized int size() {
+        return cache.size();
+    }
+}
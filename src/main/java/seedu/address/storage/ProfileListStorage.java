@@ -43,4 +43,25 @@ public interface ProfileListStorage {
      */
     void saveProfileList(ProfileList profileList, Path filePath) throws IOException;
 
+    /**
+     * Serializes the given {@link ProfileList} and returns the save of the serialized data to the storage, which
+     * can be run after {@code profileList} has changed again. Saves must be run one at a time, in the order they
+     * were prepared.
+     * @param profileList cannot be null.
+     * @throws IOException if there was any problem serializing the profile list.
+     */
+    PreparedSave prepareSaveProfileList(ProfileList profileList) throws IOException;
+
+    /**
+     * A save of a serialized {@link ProfileList}, returned by {@link #prepareSaveProfileList(ProfileList)}.
+     */
+    @FunctionalInterface
+    interface PreparedSave {
+        /**
+         * Writes the serialized profile list to the storage.
+         * @throws IOException if there was any problem writing to the file.
+         */
+        void save() throws IOException;
+    }
+
 }
@@ -0,0 +1,356 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_MAX_MODS;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ModuleList;
+import seedu.address.model.ModuleManager;
+import seedu.address.model.ProfileList;
+import seedu.address.model.profile.Profile;
+import seedu.address.model.profile.course.module.Module;
+import seedu.address.model.profile.exceptions.MaxModsException;
+
+//@@author chanckben
+/**
+ * A class to access ProfileList data stored on the hard disk as one json shard per profile, next to a manifest
+ * listing every profile.
+ *
+ * <p>The manifest holds the name, course, focus area and current semester of each profile. It is kept beside the
+ * profile list file path, named after it with {@value #MANIFEST_SUFFIX} appended, and the shards are kept in a
+ * directory beside it named after the profile list file path with {@value #SHARD_SUFFIX} appended. Reading the
+ * profile list only reads the manifest: the modules of a profile are read from its shard the first time they are
+ * needed, so profiles that are never shown or edited are never deserialized. Saving skips the profiles that were
+ * never loaded, and rewrites only the shards that differ from what was last read or written.
+ * A shard that cannot be loaded, e.g. because it is corrupt or names a module that is no longer in the catalog,
+ * leaves its profile without modules, and is renamed with {@value #CORRUPT_SUFFIX} appended before the profile is
+ * saved over it or deleted, so that it can still be recovered.
+ *
+ * <p>Shards are written before the manifest that refers to them, and the shards of deleted profiles are removed
+ * after it, so a crash while saving leaves at most some unreferenced shards behind. When there is no manifest
+ * yet, the profile list file in the single-file format of a {@link JournalingProfileListStorage}, with its journal if
+ * any, is read instead and saved as a manifest and shards. It is left as it is, so that an older version of the app
+ * still reads it, although without the changes saved since.
+ */
+public class ShardedProfileListStorage implements ProfileListStorage {
+
+    public static final String SHARD_SUFFIX = ".profiles";
+    public static final String MANIFEST_SUFFIX = ".manifest";
+    public static final String CORRUPT_SUFFIX = ".corrupt";
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedProfileListStorage.class);
+
+    private Path filePath;
+    private Supplier<ModuleManager> moduleCatalog;
+
+    /**
+     * The contents last read from or written to each shard in the shard directory of {@code filePath}, keyed by
+     * shard name. Shards are loaded lazily, possibly by another thread than the one saving the profile list.
+     */
+    private final Map<String, String> savedShards = new ConcurrentHashMap<>();
+    /**
+     * The shards in the shard directory of {@code filePath} that could not be loaded, keyed by shard name, which are
+     * set aside before they are written over or deleted.
+     */
+    private final Set<String> failedShards = ConcurrentHashMap.newKeySet();
+    private String savedManifest;
+    private Set<String> manifestShards = new HashSet<>();
+
+    public ShardedProfileListStorage(Path filePath, ModuleManager moduleCatalog) {
+        this(filePath, () -> moduleCatalog);
+    }
+
+    /**
+     * Creates a storage that takes the details of modules from the catalog returned by {@code moduleCatalog} at
+     * the time each shard is read or written, so that a reloaded catalog is used as soon as it is swapped in.
+     */
+    public ShardedProfileListStorage(Path filePath, Supplier<ModuleManager> moduleCatalog) {
+        this.filePath = filePath;
+        this.moduleCatalog = moduleCatalog;
+    }
+
+    public Path getProfileListFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the manifest of the profile list at {@code filePath}.
+     */
+    public static Path getManifestFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + MANIFEST_SUFFIX);
+    }
+
+    /**
+     * Returns the path of the directory holding the shards of the profile list at {@code filePath}.
+     */
+    public static Path getShardDirectoryPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + SHARD_SUFFIX);
+    }
+
+    /**
+     * Returns the name of the shard holding the profile named {@code profileName}, which is a valid file name on
+     * every platform and differs between profile names that only differ in punctuation.
+     */
+    static String getShardName(String profileName) {
+        return profileName.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]+", "-")
+                + "-" + Integer.toHexString(profileName.hashCode()) + ".json";
+    }
+
+    public Optional<ProfileList> readProfileList() throws DataConversionException, IOException {
+        return readProfileList(filePath);
+    }
+
+    /**
+     * Similar to {@link #readProfileList()}.
+     *
+     * @param filePath location of the profile list. Cannot be null.
+     * @throws DataConversionException if the manifest, or the profile list it is migrated from, is not in the
+     *     correct format.
+     */
+    public Optional<ProfileList> readProfileList(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        Optional<JsonProfileManifest> manifest = JsonUtil.readJsonFile(getManifestFilePath(filePath),
+                JsonProfileManifest.class);
+        if (!manifest.isPresent()) {
+            return migrate(filePath);
+        }
+        if (!manifest.get().isManifest()) {
+            throw new DataConversionException(new IllegalValueException("Profile manifest has no version"));
+        }
+
+        boolean isOwnFile = filePath.equals(this.filePath);
+        Path shardDirectory = getShardDirectoryPath(filePath);
+        ProfileList profileList = new ProfileList();
+        Set<String> shards = new HashSet<>();
+        try {
+            for (JsonProfileManifest.Entry entry : manifest.get().getShards()) {
+                String shard = entry.getShard();
+                if (shard == null || !shard.matches("[a-z0-9-]+\\.json") || !shards.add(shard)) {
+                    throw new IllegalValueException("Profile manifest has a missing, invalid or repeated shard");
+                }
+                Profile header = entry.toJsonProfile().toModelType();
+                if (profileList.hasProfileWithName(header.getName())) {
+                    throw new IllegalValueException(JsonSerializableProfileList.MESSAGE_DUPLICATE_PROFILE);
+                }
+                Path shardPath = shardDirectory.resolve(shard);
+                Profile profile = new Profile(header.getName(), header.getCourseName(), header.getOverallSemester(),
+                        header.getFocusArea(), unloaded -> loadShard(unloaded, shardPath, isOwnFile));
+                profile.setCatalogYear(header.getCatalogYear().orElse(null));
+                profileList.addProfile(profile);
+            }
+        } catch (IllegalValueException e) {
+            throw new DataConversionException(e);
+        }
+
+        if (isOwnFile) {
+            savedShards.clear();
+            failedShards.clear();
+            savedManifest = toManifestString(profileList);
+            manifestShards = shards;
+        }
+        return Optional.of(profileList);
+    }
+
+    /**
+     * Adds the modules in the shard at {@code shardPath} to {@code profile}. A missing shard leaves the profile
+     * without modules. A shard that cannot be loaded also leaves the profile without modules, and is set aside the
+     * next time the profile is saved.
+     */
+    private void loadShard(Profile profile, Path shardPath, boolean isOwnFile) {
+        String shardName = shardPath.getFileName().toString();
+        try {
+            Optional<JsonProfile> shard = JsonUtil.readJsonFile(shardPath, JsonProfile.class);
+            if (!shard.isPresent()) {
+                logger.warning("Missing shard " + shardPath + " for the modules of " + profile.getName());
+                return;
+            }
+            // The catalog year in the manifest, which may have been edited since, is the one that applies
+            ModuleManager profileCatalog = profile.getCatalog(moduleCatalog.get());
+            for (Map.Entry<Integer, ModuleList> entry : shard.get().toModelType(profileCatalog).getMappings()) {
+                for (Module module : entry.getValue()) {
+                    profile.addModule(entry.getKey(), module);
+                }
+            }
+            if (isOwnFile) {
+                savedShards.put(shardName, toShardString(profile, moduleCatalog.get()));
+            }
+            logger.fine("Loaded the modules of " + profile.getName() + " from " + shardPath);
+        } catch (DataConversionException | IllegalValueException | MaxModsException | IOException e) {
+            if (isOwnFile) {
+                failedShards.add(shardName);
+            }
+            logger.severe("Could not load the modules of " + profile.getName() + " from " + shardPath
+                    + ", which will be kept with " + CORRUPT_SUFFIX + " appended when the profile is saved: " + e);
+        }
+    }
+
+    /**
+     * Reads the profile list at {@code filePath}, written in the single-file format of a
+     * {@link JournalingProfileListStorage}, and saves it as a manifest and shards, leaving it as it is.
+     */
+    private Optional<ProfileList> migrate(Path filePath) throws DataConversionException, IOException {
+        Optional<ProfileList> profileList = new JournalingProfileListStorage(filePath, moduleCatalog)
+                .readProfileList();
+        if (!profileList.isPresent()) {
+            return Optional.empty();
+        }
+        if (filePath.equals(this.filePath)) {
+            savedShards.clear();
+            failedShards.clear();
+            savedManifest = null;
+            manifestShards = new HashSet<>();
+        }
+        saveProfileList(profileList.get(), filePath);
+        logger.info("Migrated " + filePath + " to one shard per profile, leaving it as it is");
+        return profileList;
+    }
+
+    public void saveProfileList(ProfileList profileList) throws IOException {
+        saveProfileList(profileList, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveProfileList(ProfileList)}.
+     *
+     * @param filePath location of the profile list. Cannot be null.
+     */
+    public void saveProfileList(ProfileList profileList, Path filePath) throws IOException {
+        prepareSaveProfileList(profileList, filePath).save();
+    }
+
+    public PreparedSave prepareSaveProfileList(ProfileList profileList) throws IOException {
+        return prepareSaveProfileList(profileList, filePath);
+    }
+
+    /**
+     * Serializes the shards that differ from what was last read or written, and the manifest, of
+     * {@code profileList}, and returns the save that writes them to {@code filePath}.
+     */
+    private PreparedSave prepareSaveProfileList(ProfileList profileList, Path filePath) throws IOException {
+        requireNonNull(profileList);
+        requireNonNull(filePath);
+
+        boolean isOwnFile = filePath.equals(this.filePath);
+        // Modules are saved against the current catalog, so that those not in it are saved with their details
+        ModuleManager catalog = moduleCatalog.get();
+        Set<String> shards = new HashSet<>();
+        Map<String, String> changedShards = new LinkedHashMap<>();
+        for (Profile profile : profileList.getProfileList()) {
+            String shard = getShardName(profile.getName().toString());
+            shards.add(shard);
+            if (isOwnFile && !profile.isLoaded() && manifestShards.contains(shard)) {
+                // Never loaded, so its shard is unchanged
+                continue;
+            }
+            String contents = toShardString(profile, catalog);
+            if (!isOwnFile || !contents.equals(savedShards.get(shard))) {
+                changedShards.put(shard, contents);
+            }
+        }
+        String manifest = toManifestString(profileList);
+
+        return () -> writeShards(filePath, changedShards, manifest, shards);
+    }
+
+    /**
+     * Writes the {@code changedShards}, keyed by shard name, and then {@code manifest} listing {@code shards}, and
+     * deletes the shards no longer listed.
+     */
+    private void writeShards(Path filePath, Map<String, String> changedShards, String manifest, Set<String> shards)
+            throws IOException {
+        boolean isOwnFile = filePath.equals(this.filePath);
+        Path shardDirectory = getShardDirectoryPath(filePath);
+        for (Map.Entry<String, String> shard : changedShards.entrySet()) {
+            if (isOwnFile && failedShards.contains(shard.getKey())) {
+                setAside(shardDirectory.resolve(shard.getKey()));
+                failedShards.remove(shard.getKey());
+            }
+            writeFile(shardDirectory.resolve(shard.getKey()), shard.getValue());
+            if (isOwnFile) {
+                savedShards.put(shard.getKey(), shard.getValue());
+            }
+        }
+
+        if (!isOwnFile || !manifest.equals(savedManifest)) {
+            writeFile(getManifestFilePath(filePath), manifest);
+        }
+        if (!isOwnFile) {
+            return;
+        }
+        savedManifest = manifest;
+
+        for (String shard : manifestShards) {
+            if (shards.contains(shard)) {
+                continue;
+            }
+            if (failedShards.remove(shard)) {
+                setAside(shardDirectory.resolve(shard));
+            } else {
+                Files.deleteIfExists(shardDirectory.resolve(shard));
+            }
+            savedShards.remove(shard);
+        }
+        manifestShards = shards;
+    }
+
+    /**
+     * Renames the unloadable shard at {@code shardPath}, if it is still there, to a file name ending with
+     * {@value #CORRUPT_SUFFIX} that is not taken yet.
+     */
+    private static void setAside(Path shardPath) throws IOException {
+        if (!Files.exists(shardPath)) {
+            return;
+        }
+        Path corruptPath = shardPath.resolveSibling(shardPath.getFileName() + CORRUPT_SUFFIX);
+        for (int i = 1; Files.exists(corruptPath); i++) {
+            corruptPath = shardPath.resolveSibling(shardPath.getFileName() + "." + i + CORRUPT_SUFFIX);
+        }
+        Files.move(shardPath, corruptPath);
+        logger.warning("Kept the unloadable shard " + shardPath + " as " + corruptPath);
+    }
+
+    /**
+     * Replaces the file at {@code path} with the json in {@code contents}, as {@link JsonUtil#saveJsonFile} does.
+     */
+    private static void writeFile(Path path, String contents) throws IOException {
+        byte[] bytes = contents.getBytes(StandardCharsets.UTF_8);
+        FileUtil.writeToFileAtomically(path, outputStream -> outputStream.write(bytes));
+    }
+
+    private static String toShardString(Profile profile, ModuleManager catalog) throws IOException {
+        return JsonUtil.toCompactJsonString(new JsonProfile(profile, catalog));
+    }
+
+    private static JsonProfileManifest toManifest(ProfileList profileList) {
+        List<JsonProfileManifest.Entry> entries = new ArrayList<>();
+        for (Profile profile : profileList.getProfileList()) {
+            entries.add(new JsonProfileManifest.Entry(profile, getShardName(profile.getName().toString())));
+        }
+        return new JsonProfileManifest(JsonProfileManifest.MANIFEST_VERSION, entries);
+    }
+
+    private static String toManifestString(ProfileList profileList) throws IOException {
+        return JsonUtil.toCompactJsonString(toManifest(profileList));
+    }
+}
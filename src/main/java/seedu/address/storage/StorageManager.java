@@ -74,4 +74,9 @@ public class StorageManager implements Storage {
         profileListStorage.saveProfileList(profileList, filePath);
     }
 
+    @Override
+    public PreparedSave prepareSaveProfileList(ProfileList profileList) throws IOException {
+        return profileListStorage.prepareSaveProfileList(profileList);
+    }
+
 }
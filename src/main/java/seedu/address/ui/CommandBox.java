@@ -1,8 +1,19 @@
 package seedu.address.ui;
 
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javafx.application.Platform;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.geometry.Side;
+import javafx.scene.control.ContextMenu;
+import javafx.scene.control.MenuItem;
 import javafx.scene.control.TextField;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -11,6 +22,8 @@ import seedu.address.model.profile.course.module.exceptions.DateTimeException;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
+ * Completions of the module code, focus area name or course name being typed are looked up off the JavaFX
+ * application thread and shown below the command box. Tab accepts the first completion.
  */
 public class CommandBox extends UiPart<Region> {
 
@@ -18,15 +31,86 @@ public class CommandBox extends UiPart<Region> {
     private static final String FXML = "CommandBox.fxml";
 
     private final CommandExecutor commandExecutor;
+    private final CompletionProvider completionProvider;
+    private final ExecutorService completionExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "command-completion");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final ContextMenu completionMenu = new ContextMenu();
+    private Future<?> pendingCompletion;
+    private long completionRequest = 0;
 
     @FXML
     private TextField commandTextField;
 
-    public CommandBox(CommandExecutor commandExecutor) {
+    public CommandBox(CommandExecutor commandExecutor, CompletionProvider completionProvider) {
         super(FXML);
         this.commandExecutor = commandExecutor;
+        this.completionProvider = completionProvider;
         // calls #setStyleToDefault() whenever there is a change to the text of the command box.
         commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        commandTextField.textProperty().addListener((unused1, unused2, text) -> requestCompletions(text));
+        commandTextField.addEventFilter(KeyEvent.KEY_PRESSED, this::handleKeyPressed);
+    }
+
+    /**
+     * Looks up the completions of {@code commandText} on the completion thread, cancelling the lookup for the
+     * previous text if it has not finished.
+     */
+    private void requestCompletions(String commandText) {
+        if (pendingCompletion != null) {
+            pendingCompletion.cancel(true);
+        }
+        long request = ++completionRequest;
+        if (commandText.isEmpty()) {
+            completionMenu.hide();
+            return;
+        }
+        pendingCompletion = completionExecutor.submit(() -> {
+            List<String> completions = completionProvider.getCompletions(commandText);
+            if (!Thread.currentThread().isInterrupted()) {
+                Platform.runLater(() -> showCompletions(request, completions));
+            }
+        });
+    }
+
+    /**
+     * Shows {@code completions} below the command box, unless the text has changed since they were requested.
+     */
+    private void showCompletions(long request, List<String> completions) {
+        if (request != completionRequest) {
+            return;
+        }
+        if (completions.isEmpty()
+                || (completions.size() == 1 && completions.get(0).equals(commandTextField.getText()))) {
+            completionMenu.hide();
+            return;
+        }
+        completionMenu.getItems().clear();
+        for (String completion : completions) {
+            MenuItem item = new MenuItem(completion);
+            item.setOnAction(unused -> acceptCompletion(completion));
+            completionMenu.getItems().add(item);
+        }
+        if (!completionMenu.isShowing()) {
+            completionMenu.show(commandTextField, Side.BOTTOM, 0, 0);
+        }
+    }
+
+    private void acceptCompletion(String completion) {
+        commandTextField.setText(completion);
+        commandTextField.positionCaret(completion.length());
+    }
+
+    /**
+     * Accepts the first completion shown when Tab is pressed.
+     */
+    private void handleKeyPressed(KeyEvent event) {
+        if (event.getCode() == KeyCode.TAB && completionMenu.isShowing() && !completionMenu.getItems().isEmpty()) {
+            acceptCompletion(completionMenu.getItems().get(0).getText());
+            event.consume();
+        }
     }
 
     /**
@@ -34,6 +118,7 @@ public class CommandBox extends UiPart<Region> {
      */
     @FXML
     private void handleCommandEntered() {
+        completionMenu.hide();
         try {
             commandExecutor.execute(commandTextField.getText());
             commandTextField.setText("");
@@ -75,4 +160,17 @@ public class CommandBox extends UiPart<Region> {
         CommandResult execute(String commandText) throws CommandException, ParseException, DateTimeException;
     }
 
+    /**
+     * Represents a function that can complete commands.
+     */
+    @FunctionalInterface
+    public interface CompletionProvider {
+        /**
+         * Returns the completions of the command being typed.
+         *
+         * @see seedu.address.logic.Logic#getCompletions(String)
+         */
+        List<String> getCompletions(String commandText);
+    }
+
 }
@@ -1,9 +1,12 @@
 package seedu.address.ui;
 
+import java.util.Optional;
+
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
+import seedu.address.model.RequirementProgress;
 import seedu.address.model.profile.course.CourseFocusArea;
 
 //@@author jadetayy
@@ -31,9 +34,11 @@ public class CourseFocusAreaCard extends UiPart<Region> {
     private Label primaries;
     @FXML
     private Label electives;
+    @FXML
+    private Label progress;
 
 
-    public CourseFocusAreaCard(CourseFocusArea courseFocusArea) {
+    public CourseFocusAreaCard(CourseFocusArea courseFocusArea, Optional<RequirementProgress.Progress> progress) {
         super(FXML);
         if (courseFocusArea.getFocusAreaName() != null) {
             focusArea.setText(courseFocusArea.getFocusAreaName());
@@ -41,6 +46,12 @@ public class CourseFocusAreaCard extends UiPart<Region> {
         }
         primaries.setText("PRIMARIES: \n" + courseFocusArea.getPrimaries());
         electives.setText("\nELECTIVES: \n" + courseFocusArea.getElectives());
+        if (progress.isPresent()) {
+            this.progress.setText("Progress: " + progress.get());
+        } else {
+            this.progress.setVisible(false);
+            this.progress.setManaged(false);
+        }
     }
 
 }
@@ -1,5 +1,6 @@
 package seedu.address.ui;
 
+import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.collections.FXCollections;
@@ -10,6 +11,7 @@ import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.RequirementProgress;
 import seedu.address.model.profile.course.Course;
 import seedu.address.model.profile.course.CourseFocusArea;
 import seedu.address.model.profile.course.CourseRequirement;
@@ -29,8 +31,11 @@ public class CoursePanel extends UiPart<Region> {
     @FXML
     private ListView<CourseFocusArea> focusAreas;
 
-    public CoursePanel(Course course) throws ParseException {
+    private final Optional<RequirementProgress> requirementProgress;
+
+    public CoursePanel(Course course, Optional<RequirementProgress> requirementProgress) throws ParseException {
         super(FXML);
+        this.requirementProgress = requirementProgress;
 
         courseName.setText(course.getCourseName().courseName);
 
@@ -55,7 +60,8 @@ public class CoursePanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new CourseRequirementCard(courseRequirement).getRoot());
+                setGraphic(new CourseRequirementCard(courseRequirement,
+                        requirementProgress.map(progress -> progress.getProgress(courseRequirement))).getRoot());
             }
         }
     }
@@ -73,7 +79,8 @@ public class CoursePanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new CourseFocusAreaCard(courseFocusArea).getRoot());
+                setGraphic(new CourseFocusAreaCard(courseFocusArea,
+                        requirementProgress.map(progress -> progress.getProgress(courseFocusArea))).getRoot());
             }
         }
     }
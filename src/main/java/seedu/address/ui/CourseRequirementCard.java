@@ -1,9 +1,12 @@
 package seedu.address.ui;
 
+import java.util.Optional;
+
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
+import seedu.address.model.RequirementProgress;
 import seedu.address.model.profile.course.CourseRequirement;
 
 //@@author jadetayy
@@ -33,14 +36,22 @@ public class CourseRequirementCard extends UiPart<Region> {
     private Label requirementInfo;
     @FXML
     private Label modules;
+    @FXML
+    private Label progress;
 
 
-    public CourseRequirementCard(CourseRequirement courseRequirement) {
+    public CourseRequirementCard(CourseRequirement courseRequirement, Optional<RequirementProgress.Progress> progress) {
         super(FXML);
         requirement.setText(courseRequirement.getRequirementName()
                 + " (" + courseRequirement.getModularCredits().toString() + " MCs)");
         requirementInfo.setText("Requirements: " + courseRequirement.getRequirementInfo());
         modules.setText("\nModules: \n" + courseRequirement.getModules());
+        if (progress.isPresent()) {
+            this.progress.setText("Progress: " + progress.get());
+        } else {
+            this.progress.setVisible(false);
+            this.progress.setManaged(false);
+        }
     }
 
 }
@@ -1,5 +1,6 @@
 package seedu.address.ui;
 
+import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.fxml.FXML;
@@ -33,8 +34,10 @@ public class IndividualModulePanel extends UiPart<Region> {
     private Label description;
     @FXML
     private Label semData;
+    @FXML
+    private Label earliestSemester;
 
-    public IndividualModulePanel(Module module) {
+    public IndividualModulePanel(Module module, Optional<Integer> earliestOverallSemester) {
         super(FXML);
         if (module.getPrereqs().prereqs == null) {
             preReqs.setVisible(false);
@@ -53,6 +56,14 @@ public class IndividualModulePanel extends UiPart<Region> {
         description.setText("Module Description: \n" + module.getDescription().description);
         semData.setText("Semester Data: \nThis module is available in Semesters "
                 + module.getSemesterData().toString());
+        if (earliestOverallSemester.isPresent()) {
+            int year = (earliestOverallSemester.get() + 1) / 2;
+            int sem = 2 - (earliestOverallSemester.get() % 2);
+            earliestSemester.setText("Earliest Semester: \nYear " + year + " Semester " + sem);
+        } else {
+            earliestSemester.setVisible(false);
+            earliestSemester.setManaged(false);
+        }
     }
 
 }
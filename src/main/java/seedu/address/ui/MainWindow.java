@@ -150,7 +150,7 @@ public class MainWindow extends UiPart<Stage> {
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getProfileListFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
-        CommandBox commandBox = new CommandBox(this::executeCommand);
+        CommandBox commandBox = new CommandBox(this::executeCommand, logic::getCompletions);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
     }
 
@@ -219,10 +219,13 @@ public class MainWindow extends UiPart<Stage> {
             overviewPanel = new OverviewPanel(logic.getProfileList().getProfileList());
             mainPanelPlaceholder.getChildren().add(overviewPanel.getRoot());
         } else if (displayedView.get() instanceof Module) {
-            individualModulePanel = new IndividualModulePanel((Module) displayedView.get());
+            Module module = (Module) displayedView.get();
+            individualModulePanel = new IndividualModulePanel(module,
+                    logic.getEarliestSemester(module.getModuleCode()));
             mainPanelPlaceholder.getChildren().addAll(individualModulePanel.getRoot());
         } else if (displayedView.get() instanceof Course) {
-            coursePanel = new CoursePanel((Course) displayedView.get());
+            Course course = (Course) displayedView.get();
+            coursePanel = new CoursePanel(course, logic.getRequirementProgress(course));
             mainPanelPlaceholder.getChildren().addAll(coursePanel.getRoot());
         } else if (displayedView.get() instanceof CourseFocusArea) {
             focusAreaPanel = new FocusAreaPanel((CourseFocusArea) displayedView.get());
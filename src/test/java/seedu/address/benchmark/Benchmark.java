@@ -0,0 +1,58 @@
+package seedu.address.benchmark;
+
+import java.util.function.IntConsumer;
+
+/**
+ * A minimal harness for timing an operation over many iterations, after a warm-up phase so that the
+ * JIT compiler has had a chance to compile the code under test.
+ */
+public class Benchmark {
+
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 10;
+
+    /** Prevents the JIT compiler from eliminating operations whose results are otherwise unused. */
+    private static volatile Object sink;
+
+    /**
+     * Runs {@code operation} {@code iterations} times per round and returns the average cost of a single
+     * call in nanoseconds, taken from the fastest measured round.
+     * The iteration number is passed to {@code operation} so that it can vary its input.
+     */
+    public static double nanosPerOp(int iterations, IntConsumer operation) {
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            runRound(iterations, operation);
+        }
+        long best = Long.MAX_VALUE;
+        for (int round = 0; round < MEASURED_ROUNDS; round++) {
+            best = Math.min(best, runRound(iterations, operation));
+        }
+        return (double) best / iterations;
+    }
+
+    /**
+     * Keeps {@code result} reachable so that the computation producing it is not optimised away.
+     */
+    public static void consume(Object result) {
+        sink = result;
+    }
+
+    /**
+     * Prints a comparison of {@code baselineNanos} against {@code candidateNanos} for {@code name}.
+     */
+    public static void report(String name, String baselineLabel, double baselineNanos,
+                              String candidateLabel, double candidateNanos) {
+        System.out.println(name);
+        System.out.println(String.format("  %-28s %12.1f ns/op", baselineLabel, baselineNanos));
+        System.out.println(String.format("  %-28s %12.1f ns/op", candidateLabel, candidateNanos));
+        System.out.println(String.format("  %-28s %12.1fx", "speedup", baselineNanos / candidateNanos));
+    }
+
+    private static long runRound(int iterations, IntConsumer operation) {
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            operation.accept(i);
+        }
+        return System.nanoTime() - start;
+    }
+}
@@ -0,0 +1,15 @@
+package seedu.address.benchmark;
+
+/**
+ * Runs every benchmark in this package. Invoked by the {@code benchmark} Gradle task.
+ */
+public class BenchmarkSuite {
+
+    public static void main(String[] args) {
+        ModuleListBenchmark.run();
+        CourseListBenchmark.run();
+        ModuleSearchBenchmark.run();
+        PrereqEvaluatorBenchmark.run();
+        PrereqSolverBenchmark.run();
+    }
+}
@@ -0,0 +1,71 @@
+package seedu.address.benchmark;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.CourseList;
+import seedu.address.model.profile.course.Course;
+import seedu.address.model.profile.course.CourseFocusArea;
+
+/**
+ * Compares looking up focus areas by name in an indexed {@code CourseList} against scanning every course,
+ * which is how {@code CourseList} used to answer {@code getCourseFocusArea}: each course that did not have the
+ * focus area threw a {@code ParseException}, and each comparison trimmed and upper-cased both names.
+ */
+public class CourseListBenchmark {
+
+    private static final int COURSE_COUNT = 500;
+    private static final int FOCUS_AREAS_PER_COURSE = 4;
+    private static final int LOOKUPS = 2_000;
+
+    /**
+     * Runs the benchmark and prints the results.
+     */
+    public static void run() {
+        CourseList courseList = new CourseList();
+        List<String> queries = new ArrayList<>();
+        for (int i = 0; i < COURSE_COUNT; i++) {
+            List<CourseFocusArea> focusAreas = new ArrayList<>();
+            for (int j = 0; j < FOCUS_AREAS_PER_COURSE; j++) {
+                String focusAreaName = "Focus Area " + i + "-" + j;
+                focusAreas.add(new CourseFocusArea(focusAreaName, Collections.emptyList(), Collections.emptyList()));
+                queries.add(focusAreaName.toLowerCase());
+            }
+            courseList.addCourse(new Course("Course " + i, Collections.emptyList(), focusAreas));
+        }
+
+        double scanNanos = Benchmark.nanosPerOp(LOOKUPS, i ->
+                Benchmark.consume(scan(courseList, queries.get((i * 7919) % queries.size()))));
+        double indexedNanos = Benchmark.nanosPerOp(LOOKUPS, i ->
+                Benchmark.consume(courseList.findCourseFocusArea(queries.get((i * 7919) % queries.size()))));
+
+        Benchmark.report("CourseList lookup by focus area name (" + COURSE_COUNT + " courses)",
+                "scan with exceptions", scanNanos, "hash index", indexedNanos);
+    }
+
+    private static CourseFocusArea scan(CourseList courseList, String focusAreaName) {
+        for (Course course : courseList.getCourseList()) {
+            try {
+                return scanCourse(course, focusAreaName);
+            } catch (ParseException e) {
+                continue;
+            }
+        }
+        return null;
+    }
+
+    private static CourseFocusArea scanCourse(Course course, String focusAreaName) throws ParseException {
+        for (CourseFocusArea courseFocusArea : course.getCourseFocusArea()) {
+            if (courseFocusArea.getFocusAreaName().trim().toUpperCase().equals(focusAreaName.trim().toUpperCase())) {
+                return courseFocusArea;
+            }
+        }
+        throw new ParseException("Focus area not found");
+    }
+
+    public static void main(String[] args) {
+        run();
+    }
+}
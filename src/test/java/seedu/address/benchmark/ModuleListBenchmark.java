@@ -0,0 +1,54 @@
+package seedu.address.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.model.ModuleList;
+import seedu.address.model.profile.course.module.Module;
+import seedu.address.model.profile.course.module.ModuleCode;
+import seedu.address.testutil.ModuleBuilder;
+
+/**
+ * Compares looking up modules by code in an indexed {@code ModuleList} against scanning the list,
+ * which is how {@code ModuleList} used to answer {@code hasModuleWithModuleCode} and
+ * {@code getModuleWithModuleCode}.
+ */
+public class ModuleListBenchmark {
+
+    private static final int CATALOG_SIZE = 10_000;
+    private static final int LOOKUPS = 20_000;
+
+    /**
+     * Runs the benchmark and prints the results.
+     */
+    public static void run() {
+        ModuleList moduleList = new ModuleList();
+        List<ModuleCode> queries = new ArrayList<>();
+        for (int i = 0; i < CATALOG_SIZE; i++) {
+            String code = String.format("CS%04d", i);
+            moduleList.addModule(new ModuleBuilder().withModuleCode(code).build());
+            queries.add(new ModuleCode(code));
+        }
+
+        double scanNanos = Benchmark.nanosPerOp(LOOKUPS, i ->
+                Benchmark.consume(scan(moduleList, queries.get((i * 7919) % CATALOG_SIZE))));
+        double indexedNanos = Benchmark.nanosPerOp(LOOKUPS, i ->
+                Benchmark.consume(moduleList.getModuleWithModuleCode(queries.get((i * 7919) % CATALOG_SIZE))));
+
+        Benchmark.report("ModuleList lookup by module code (" + CATALOG_SIZE + " modules)",
+                "list scan", scanNanos, "hash index", indexedNanos);
+    }
+
+    private static Module scan(ModuleList moduleList, ModuleCode moduleCode) {
+        for (Module module : moduleList) {
+            if (module.getModuleCode().equals(moduleCode)) {
+                return module;
+            }
+        }
+        return null;
+    }
+
+    public static void main(String[] args) {
+        run();
+    }
+}
@@ -0,0 +1,94 @@
+package seedu.address.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import seedu.address.model.ModuleList;
+import seedu.address.model.ModuleSearchIndex;
+import seedu.address.model.profile.course.module.Module;
+import seedu.address.model.profile.course.module.ModuleCode;
+import seedu.address.testutil.ModuleBuilder;
+
+/**
+ * Compares finding modules by keyword with {@code ModuleSearchIndex} against scanning the title and description
+ * of every module for each keyword.
+ */
+public class ModuleSearchBenchmark {
+
+    private static final int CATALOG_SIZE = 10_000;
+    private static final int VOCABULARY_SIZE = 5_000;
+    private static final int WORDS_PER_DESCRIPTION = 60;
+    private static final int SEARCHES = 2_000;
+    private static final int LIMIT = 20;
+
+    /**
+     * Runs the benchmark and prints the results.
+     */
+    public static void run() {
+        List<String> vocabulary = new ArrayList<>();
+        for (int i = 0; i < VOCABULARY_SIZE; i++) {
+            vocabulary.add(word(i));
+        }
+        ModuleList moduleList = new ModuleList();
+        for (int i = 0; i < CATALOG_SIZE; i++) {
+            StringBuilder description = new StringBuilder();
+            for (int j = 0; j < WORDS_PER_DESCRIPTION; j++) {
+                description.append(vocabulary.get((i * 31 + j * 7919) % VOCABULARY_SIZE)).append(' ');
+            }
+            moduleList.addModule(new ModuleBuilder().withModuleCode(String.format("CS%04d", i))
+                    .withTitle(vocabulary.get(i % VOCABULARY_SIZE) + " " + vocabulary.get((i * 17) % VOCABULARY_SIZE))
+                    .withDescription(description.toString()).build());
+        }
+        ModuleSearchIndex searchIndex = new ModuleSearchIndex(moduleList);
+        List<String> queries = new ArrayList<>();
+        for (int i = 0; i < SEARCHES; i++) {
+            queries.add(vocabulary.get((i * 13) % VOCABULARY_SIZE) + " "
+                    + vocabulary.get((i * 29) % VOCABULARY_SIZE).substring(0, 4));
+        }
+
+        double scanNanos = Benchmark.nanosPerOp(SEARCHES / 10, i ->
+                Benchmark.consume(scan(moduleList, queries.get(i % SEARCHES))));
+        double indexedNanos = Benchmark.nanosPerOp(SEARCHES, i ->
+                Benchmark.consume(searchIndex.search(queries.get(i), LIMIT)));
+
+        Benchmark.report("Module search by keywords (" + CATALOG_SIZE + " modules)",
+                "title and description scan", scanNanos, "inverted index", indexedNanos);
+    }
+
+    /**
+     * Returns a pronounceable word that is distinct for each {@code i}.
+     */
+    private static String word(int i) {
+        String consonants = "bcdfghklmnprstvz";
+        String vowels = "aeiou";
+        StringBuilder word = new StringBuilder();
+        for (int n = i + VOCABULARY_SIZE; n > 0; n /= consonants.length() * vowels.length()) {
+            word.append(consonants.charAt(n % consonants.length()))
+                    .append(vowels.charAt(n / consonants.length() % vowels.length()));
+        }
+        return word.toString();
+    }
+
+    private static List<ModuleCode> scan(ModuleList moduleList, String query) {
+        String[] keywords = query.toLowerCase(Locale.ROOT).split(" ");
+        List<ModuleCode> results = new ArrayList<>();
+        for (Module module : moduleList) {
+            String text = (module.getTitle() + " " + module.getDescription()).toLowerCase(Locale.ROOT);
+            for (String keyword : keywords) {
+                if (text.contains(keyword)) {
+                    results.add(module.getModuleCode());
+                    break;
+                }
+            }
+            if (results.size() == LIMIT) {
+                break;
+            }
+        }
+        return results;
+    }
+
+    public static void main(String[] args) {
+        run();
+    }
+}
@@ -0,0 +1,69 @@
+package seedu.address.benchmark;
+
+import static seedu.address.testutil.ModuleBuilder.and;
+import static seedu.address.testutil.ModuleBuilder.leaf;
+import static seedu.address.testutil.ModuleBuilder.or;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+import seedu.address.model.ModuleList;
+import seedu.address.model.PrereqEvaluator;
+import seedu.address.model.profile.course.module.Module;
+import seedu.address.model.profile.course.module.ModuleCode;
+import seedu.address.testutil.ModuleBuilder;
+
+/**
+ * Compares checking prerequisites with the compiled {@code PrereqEvaluator} against walking the
+ * {@code PrereqTreeNode} of the module, which is how {@code AddCommand} used to check them.
+ */
+public class PrereqEvaluatorBenchmark {
+
+    private static final int CATALOG_SIZE = 10_000;
+    private static final int MODULES_TAKEN = 40;
+    private static final int CHECKS = 20_000;
+
+    /**
+     * Runs the benchmark and prints the results.
+     */
+    public static void run() {
+        ModuleList moduleList = new ModuleList();
+        List<Module> modules = new ArrayList<>();
+        for (int i = 0; i < CATALOG_SIZE; i++) {
+            // (one of two earlier modules, or a variant of a third) and a fourth module
+            Module module = new ModuleBuilder().withModuleCode(String.format("CS%04d", i))
+                    .withPrereqTree(and(or(leaf(code(i - 1)), leaf(code(i - 2)), leaf(code(i - 3) + "S")),
+                            leaf(code(i - 4)))).build();
+            moduleList.addModule(module);
+            modules.add(module);
+        }
+        List<ModuleCode> modulesTaken = new ArrayList<>();
+        for (int i = 0; i < MODULES_TAKEN; i++) {
+            modulesTaken.add(new ModuleCode(code(i * (CATALOG_SIZE / MODULES_TAKEN))));
+        }
+
+        PrereqEvaluator evaluator = new PrereqEvaluator(moduleList);
+        BitSet takenBitSet = evaluator.toBitSet(modulesTaken);
+
+        double treeNanos = Benchmark.nanosPerOp(CHECKS, i -> {
+            Module module = modules.get((i * 7919) % CATALOG_SIZE);
+            Benchmark.consume(module.getPrereqTreeNode().hasFulfilledPrereqs(modulesTaken));
+        });
+        double compiledNanos = Benchmark.nanosPerOp(CHECKS, i -> {
+            Module module = modules.get((i * 7919) % CATALOG_SIZE);
+            Benchmark.consume(evaluator.hasFulfilledPrereqs(module.getModuleCode(), takenBitSet));
+        });
+
+        Benchmark.report("Prerequisite check (" + MODULES_TAKEN + " modules taken)",
+                "tree walk", treeNanos, "compiled bitset", compiledNanos);
+    }
+
+    private static String code(int i) {
+        return String.format("CS%04d", Math.floorMod(i, CATALOG_SIZE));
+    }
+
+    public static void main(String[] args) {
+        run();
+    }
+}
@@ -0,0 +1,80 @@
+package seedu.address.benchmark;
+
+import static seedu.address.testutil.ModuleBuilder.and;
+import static seedu.address.testutil.ModuleBuilder.leaf;
+import static seedu.address.testutil.ModuleBuilder.or;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import seedu.address.model.ModuleList;
+import seedu.address.model.ModuleManager;
+import seedu.address.model.PrereqSolver;
+import seedu.address.model.profile.course.module.ModuleCode;
+import seedu.address.model.profile.course.module.PrereqTreeNode;
+import seedu.address.testutil.ModuleBuilder;
+
+/**
+ * Compares explaining the missing prerequisites of every module in a focus area one module at a time against
+ * explaining them in one batch, where modules shared by their prerequisite trees are only solved once.
+ */
+public class PrereqSolverBenchmark {
+
+    private static final int LEVEL_SIZE = 200;
+    private static final int CATALOG_SIZE = 5 * LEVEL_SIZE;
+    private static final int ALTERNATIVES = 6;
+    private static final int FOCUS_AREA_SIZE = 20;
+    private static final int EXPLANATIONS = 50;
+
+    /**
+     * Runs the benchmark and prints the results.
+     */
+    public static void run() {
+        ModuleList moduleList = new ModuleList();
+        for (int i = 0; i < CATALOG_SIZE; i++) {
+            ModuleBuilder builder = new ModuleBuilder().withModuleCode(code(i));
+            if (i >= LEVEL_SIZE) {
+                // Two groups of alternatives from the level below, like the trees of final-year modules
+                int below = i - LEVEL_SIZE;
+                builder.withPrereqTree(and(alternatives(below, 1), alternatives(below, 2)));
+            }
+            moduleList.addModule(builder.build());
+        }
+        ModuleManager moduleManager = new ModuleManager(moduleList);
+        List<ModuleCode> focusArea = new ArrayList<>();
+        for (int i = 0; i < FOCUS_AREA_SIZE; i++) {
+            focusArea.add(new ModuleCode(code(CATALOG_SIZE - 1 - i * 3)));
+        }
+
+        double oneByOneNanos = Benchmark.nanosPerOp(EXPLANATIONS, i -> {
+            for (ModuleCode moduleCode : focusArea) {
+                Benchmark.consume(new PrereqSolver(moduleManager, Collections.emptyList(),
+                        PrereqSolver.Objective.MODULE_COUNT).solve(moduleCode));
+            }
+        });
+        double batchNanos = Benchmark.nanosPerOp(EXPLANATIONS, i -> Benchmark.consume(
+                new PrereqSolver(moduleManager, Collections.emptyList(), PrereqSolver.Objective.MODULE_COUNT)
+                        .solveAll(focusArea)));
+
+        Benchmark.report("Missing prerequisites of a focus area (" + FOCUS_AREA_SIZE + " modules)",
+                "one module at a time", oneByOneNanos, "batch", batchNanos);
+    }
+
+    private static PrereqTreeNode alternatives(int module, int group) {
+        PrereqTreeNode[] leaves = new PrereqTreeNode[ALTERNATIVES];
+        for (int j = 0; j < ALTERNATIVES; j++) {
+            int level = module / LEVEL_SIZE;
+            leaves[j] = leaf(code(level * LEVEL_SIZE + Math.floorMod(module + group * 37 + j * 11, LEVEL_SIZE)));
+        }
+        return or(leaves);
+    }
+
+    private static String code(int i) {
+        return String.format("CS%04d", i);
+    }
+
+    public static void main(String[] args) {
+        run();
+    }
+}
@@ -1,13 +1,24 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +31,39 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void readFromFileStream_fileOnDisk_readFromDisk() throws Exception {
+        Path file = testFolder.resolve("courses.json");
+        Files.write(file, "{}".getBytes(StandardCharsets.UTF_8));
+        assertEquals(file, FileUtil.getExternalFile(file.toString()).get());
+        assertEquals("{}", FileUtil.readFromFileStream(file.toString()));
+
+        // packaged in jar only
+        assertFalse(FileUtil.getExternalFile("/data/courses.json").isPresent());
+    }
+
+    @Test
+    public void writeToFileAtomically_missingParentDirectory_fileWritten() throws Exception {
+        Path file = testFolder.resolve("data").resolve("file.json");
+        FileUtil.writeToFileAtomically(file, out -> out.write("content".getBytes(StandardCharsets.UTF_8)));
+        assertEquals("content", FileUtil.readFromFile(file));
+    }
+
+    @Test
+    public void writeToFileAtomically_writeFails_fileUnchanged() throws Exception {
+        Path file = testFolder.resolve("file.json");
+        FileUtil.writeToFile(file, "old content");
+
+        assertThrows(IOException.class, () -> FileUtil.writeToFileAtomically(file, out -> {
+            out.write("new".getBytes(StandardCharsets.UTF_8));
+            throw new IOException("disk full");
+        }));
+
+        assertEquals("old content", FileUtil.readFromFile(file));
+        try (Stream<Path> files = Files.list(testFolder)) {
+            // The temporary file is deleted
+            assertEquals(1, files.count());
+        }
+    }
+
 }
@@ -0,0 +1,73 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.CourseList;
+import seedu.address.model.ModuleList;
+import seedu.address.model.profile.course.Course;
+import seedu.address.model.profile.course.CourseFocusArea;
+import seedu.address.testutil.ModuleBuilder;
+
+public class CommandCompleterTest {
+
+    private final CommandCompleter completer;
+
+    public CommandCompleterTest() {
+        ModuleList moduleList = new ModuleList();
+        for (String moduleCode : Arrays.asList("CS1101S", "CS1231S", "CS2030S", "CS2040S", "MA1521")) {
+            moduleList.addModule(new ModuleBuilder().withModuleCode(moduleCode).build());
+        }
+        for (int i = 0; i < 20; i++) {
+            moduleList.addModule(new ModuleBuilder().withModuleCode("GER10" + (10 + i)).build());
+        }
+        CourseList courseList = new CourseList();
+        courseList.addCourse(new Course("Computer Science", Collections.emptyList(), Arrays.asList(
+                new CourseFocusArea("Algorithms and Theory", Collections.emptyList(), Collections.emptyList()),
+                new CourseFocusArea("Artificial Intelligence", Collections.emptyList(), Collections.emptyList()))));
+        courseList.addCourse(new Course("Information Systems", Collections.emptyList(), Collections.emptyList()));
+        completer = new CommandCompleter(moduleList, courseList);
+    }
+
+    @Test
+    public void complete_modulePrefix_matchingCodesIgnoringCase() {
+        assertEquals(Arrays.asList("add m/CS2030S", "add m/CS2040S"), completer.complete("add m/cs20"));
+        assertEquals(Collections.singletonList("add y/1.1 m/CS1101S"), completer.complete("add y/1.1 m/CS110"));
+    }
+
+    @Test
+    public void complete_focusAreaPrefix_namesWithSpaces() {
+        assertEquals(Arrays.asList("new n/John c/Computer Science y/1.1 f/Algorithms and Theory",
+                "new n/John c/Computer Science y/1.1 f/Artificial Intelligence"),
+                completer.complete("new n/John c/Computer Science y/1.1 f/a"));
+        assertEquals(Collections.singletonList("show f/Algorithms and Theory"),
+                completer.complete("show f/ALGORITHMS a"));
+    }
+
+    @Test
+    public void complete_courseNamePrefix_matchingCourse() {
+        // Course names are stored in upper case
+        assertEquals(Collections.singletonList("show c/INFORMATION SYSTEMS"), completer.complete("show c/info"));
+    }
+
+    @Test
+    public void complete_anotherArgumentStarted_noCompletions() {
+        assertTrue(completer.complete("add m/CS1101S y/").isEmpty());
+        assertTrue(completer.complete("add m/CS1101S ").isEmpty());
+        assertTrue(completer.complete("add").isEmpty());
+        assertTrue(completer.complete("show c/Physics").isEmpty());
+    }
+
+    @Test
+    public void complete_manyMatches_limited() {
+        List<String> completions = completer.complete("add m/GER");
+        assertEquals(CommandCompleter.MAX_COMPLETIONS, completions.size());
+        assertEquals("add m/GER1010", completions.get(0));
+    }
+}
@@ -0,0 +1,94 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+public class WriteBehindSaverTest {
+
+    private static final long LONG_DELAY_MILLIS = 60_000;
+
+    private final Object lock = new Object();
+    private final AtomicInteger saves = new AtomicInteger();
+    private final WriteBehindSaver.SaveAction countingSave = () -> saves::incrementAndGet;
+
+    @Test
+    public void flush_burstOfChanges_savedOnce() throws Exception {
+        WriteBehindSaver saver = new WriteBehindSaver(countingSave, lock, LONG_DELAY_MILLIS);
+        for (int i = 0; i < 50; i++) {
+            saver.markDirty();
+        }
+        assertEquals(0, saves.get());
+
+        saver.flush();
+        assertEquals(1, saves.get());
+        assertFalse(saver.isDirty());
+    }
+
+    @Test
+    public void flush_noChanges_notSaved() throws Exception {
+        WriteBehindSaver saver = new WriteBehindSaver(countingSave, lock, LONG_DELAY_MILLIS);
+        saver.flush();
+        saver.markDirty();
+        saver.flush();
+        saver.flush();
+        assertEquals(1, saves.get());
+    }
+
+    @Test
+    public void markDirty_delayElapsed_savedInBackground() throws Exception {
+        CountDownLatch saved = new CountDownLatch(1);
+        WriteBehindSaver saver = new WriteBehindSaver(() -> saved::countDown, lock, 10);
+        saver.markDirty();
+        assertTrue(saved.await(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void flush_saveFails_stillDirty() throws Exception {
+        WriteBehindSaver failingSaver = new WriteBehindSaver(() -> () -> {
+            throw new IOException("disk full");
+        }, lock, LONG_DELAY_MILLIS);
+        failingSaver.markDirty();
+        assertThrows(IOException.class, failingSaver::flush);
+        assertTrue(failingSaver.isDirty());
+    }
+
+    @Test
+    public void flush_writingSnapshot_lockNotHeld() throws Exception {
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch changed = new CountDownLatch(1);
+        WriteBehindSaver saver = new WriteBehindSaver(() -> () -> {
+            writing.countDown();
+            try {
+                assertTrue(changed.await(10, TimeUnit.SECONDS));
+            } catch (InterruptedException e) {
+                throw new IOException(e);
+            }
+        }, lock, LONG_DELAY_MILLIS);
+        saver.markDirty();
+        Thread flushThread = new Thread(() -> {
+            try {
+                saver.flush();
+            } catch (IOException e) {
+                throw new AssertionError(e);
+            }
+        });
+        flushThread.start();
+
+        assertTrue(writing.await(10, TimeUnit.SECONDS));
+        synchronized (lock) {
+            saver.markDirty();
+        }
+        changed.countDown();
+        flushThread.join();
+        assertTrue(saver.isDirty());
+    }
+}
@@ -165,6 +165,30 @@ public class AddCommandTest {
         }
     }
 
+    //Valid grade and task for a new module, user inputs "add m/MA1521 y/1.1 g/C+ t/homework d/2020-05-23 23:59"
+    @Test
+    public void execute_gradeAndTaskForNewModule_capCountsGrade() throws Exception {
+        ModuleCode moduleCode = new ModuleCode(VALID_MODCODE_BOB);
+        int semester = new Year(VALID_SEMESTER_BOB).getSemester();
+        ArrayList<Deadline> deadlines = new ArrayList<>();
+        deadlines.add(new Deadline(VALID_MODCODE_BOB, VALID_TASK_AMY, LocalDate.parse(VALID_DEADLINE_DATE_AMY),
+                LocalTime.parse(VALID_DEADLINE_TIME_AMY)));
+        AddCommand addCommand = new AddCommand(
+                Collections.singletonList(moduleCode), semester, VALID_GRADE_BOB, deadlines);
+        ProfileManagerWithNonEmptyProfile profileManager = new ProfileManagerWithNonEmptyProfile();
+        ModuleManagerStubCs moduleManager = new ModuleManagerStubCs();
+
+        addCommand.execute(profileManager, new CourseManagerStub(), moduleManager);
+
+        Profile profile = profileManager.getFirstProfile();
+        assertEquals(VALID_GRADE_BOB, profile.getModule(moduleCode).getGrade());
+        assertEquals(2.5, profile.getCap().getValue());
+        assertFalse(moduleManager.getModule(moduleCode).hasGrade());
+
+        profile.deleteModule(moduleCode);
+        assertEquals("No grades added", profile.getCap().toString());
+    }
+
     //Invalid date time, user inputs "add m/CS1101S y/1.1 t/assignment d/2020-30-30 23:60"
     //Tested in AddCommandParser
     /*@Test
@@ -1,6 +1,8 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static seedu.address.commons.core.Messages.MESSAGE_EMPTY_PROFILE_LIST;
@@ -12,7 +14,9 @@ import static seedu.address.logic.commands.ShowCommand.MESSAGE_SUCCESS_FOCUS_ARE
 import static seedu.address.logic.commands.ShowCommand.MESSAGE_SUCCESS_MODULE;
 import static seedu.address.logic.commands.ShowCommand.MESSAGE_SUCCESS_MODULE_LIST;
 import static seedu.address.logic.commands.ShowCommand.MESSAGE_SUCCESS_NAME;
+import static seedu.address.logic.commands.ShowCommand.MESSAGE_SUCCESS_UNLOCKS;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.ModuleBuilder.leaf;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -26,6 +30,7 @@ import javafx.collections.transformation.FilteredList;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.CourseManager;
+import seedu.address.model.ModuleList;
 import seedu.address.model.ModuleManager;
 import seedu.address.model.ProfileManager;
 import seedu.address.model.profile.Name;
@@ -47,6 +52,7 @@ import seedu.address.model.profile.course.module.Prereqs;
 import seedu.address.model.profile.course.module.SemesterData;
 import seedu.address.model.profile.course.module.Title;
 import seedu.address.model.profile.exceptions.MaxModsException;
+import seedu.address.testutil.ModuleBuilder;
 
 //@@author chanckben
 public class ShowCommandTest {
@@ -236,6 +242,34 @@ public class ShowCommandTest {
                 invalidCommand.execute(new ProfileManagerStub(), new CourseManagerStub(), new ModuleManagerStubCs()));
     }
 
+    // Valid module code, e.g. show u/CS1101S
+    @Test
+    public void execute_unlocksValidModuleCode_success() throws CommandException {
+        ModuleList moduleList = new ModuleList();
+        moduleList.addModule(new ModuleBuilder().withModuleCode("CS1101S").build());
+        moduleList.addModule(new ModuleBuilder().withModuleCode("CS2030S").withPrereqTree(leaf("CS1101S")).build());
+        moduleList.addModule(new ModuleBuilder().withModuleCode("CS2103T").withPrereqTree(leaf("CS2030")).build());
+        ModuleManager moduleManager = new ModuleManager(moduleList);
+
+        CommandResult result = new ShowCommand(new ModuleCode("CS1101S"), true)
+                .execute(new ProfileManagerStub(), new CourseManagerStub(), moduleManager);
+        assertEquals(String.format(MESSAGE_SUCCESS_UNLOCKS, "CS1101S", "CS2030S", "CS2103T"),
+                result.getFeedbackToUser());
+        assertFalse(result.isShowCommand());
+
+        result = new ShowCommand(new ModuleCode("CS2103T"), true)
+                .execute(new ProfileManagerStub(), new CourseManagerStub(), moduleManager);
+        assertEquals(String.format(MESSAGE_SUCCESS_UNLOCKS, "CS2103T", "-", "-"), result.getFeedbackToUser());
+    }
+
+    // Invalid module code, e.g. show u/CS1111
+    @Test
+    public void execute_unlocksInvalidModuleCode_throwsCommandException() {
+        ShowCommand invalidCommand = new ShowCommand(new ModuleCode("CS1111"), true);
+        assertThrows(CommandException.class, String.format(MESSAGE_INVALID_MODULE, "CS1111"), () ->
+                invalidCommand.execute(new ProfileManagerStub(), new CourseManagerStub(), new ModuleManagerStubCs()));
+    }
+
     private class ModuleManagerStubCs extends ModuleManagerStub {
         private ModuleManagerStubCs() {
             Module module = new Module(new ModuleCode("CS1101S"), new Title(""), new Prereqs(""), new Preclusions(""),
@@ -10,7 +10,9 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.PlanCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 public class ModdyParserTest {
@@ -52,6 +54,17 @@ public class ModdyParserTest {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD + " 3") instanceof HelpCommand);
     }
 
+    @Test
+    public void parseCommand_find() throws Exception {
+        assertEquals(new FindCommand("software engineering"),
+                parser.parseCommand(FindCommand.COMMAND_WORD + " software engineering"));
+    }
+
+    @Test
+    public void parseCommand_plan() throws Exception {
+        assertTrue(parser.parseCommand(PlanCommand.COMMAND_WORD) instanceof PlanCommand);
+    }
+
     @Test
     public void parseCommand_unrecognisedInput_throwsParseException() {
         assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE), ()
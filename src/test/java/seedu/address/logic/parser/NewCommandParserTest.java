@@ -25,6 +25,7 @@ import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSucces
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.NewCommand;
+import seedu.address.model.CatalogDelta;
 import seedu.address.model.profile.Name;
 import seedu.address.model.profile.Profile;
 import seedu.address.model.profile.Year;
@@ -76,6 +77,18 @@ public class NewCommandParserTest {
                 new NewCommand(new Profile(name, courseName, semester, null)));
     }
 
+    @Test
+    public void parse_catalogYear_success() {
+        Profile profile = new Profile(new Name(VALID_NAME_AMY), new CourseName(VALID_COURSE_AMY),
+                new Year(VALID_SEMESTER_AMY).getSemester(), null);
+        profile.setCatalogYear("2018/2019");
+
+        assertParseSuccess(parser, NAME_DESC_AMY + COURSE_DESC_AMY + SEMESTER_DESC_AMY + " a/2018/2019",
+                new NewCommand(profile));
+        assertParseFailure(parser, NAME_DESC_AMY + COURSE_DESC_AMY + SEMESTER_DESC_AMY + " a/2018/2020",
+                CatalogDelta.MESSAGE_CONSTRAINTS);
+    }
+
     @Test
     public void parse_compulsoryFieldMissing_failure() {
         String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, NewCommand.MESSAGE_USAGE);
@@ -12,6 +12,7 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_COURSE_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_FOCUS_AREA;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_MODULE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_UNLOCKS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_YEAR;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
@@ -44,6 +45,9 @@ public class ShowCommandParserTest {
         ModuleCode moduleCode = new ModuleCode("CS1101S");
         assertParseSuccess(parser, " " + PREFIX_MODULE + moduleCode, new ShowCommand(moduleCode));
 
+        // Unlocks field present
+        assertParseSuccess(parser, " " + PREFIX_UNLOCKS + moduleCode, new ShowCommand(moduleCode, true));
+
         // Focus area field present
         String focusArea = "Computer Security";
         assertParseSuccess(parser, " " + PREFIX_FOCUS_AREA + focusArea,
@@ -1,10 +1,15 @@
 package seedu.address.model;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
@@ -12,6 +17,8 @@ import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.profile.course.Course;
 import seedu.address.model.profile.course.CourseFocusArea;
 import seedu.address.model.profile.course.CourseName;
+import seedu.address.model.profile.course.module.ModuleCode;
+import seedu.address.testutil.ModuleBuilder;
 
 //@@author jadetayy
 
@@ -52,4 +59,49 @@ public class CourseListTest extends CourseList {
         assertThrows(ParseException.class, () -> courseList.getCourseFocusArea("Financial Analytics"));
 
     }
+
+    @Test
+    public void findCourse_differentCaseAndWhitespace_found() {
+        courseList.addCourse(course);
+        assertEquals(Optional.of(course), courseList.findCourse(new CourseName("  computer SCIENCE ")));
+        assertFalse(courseList.findCourse(new CourseName("Biological Science")).isPresent());
+    }
+
+    @Test
+    public void findCourseFocusArea_differentCaseAndWhitespace_found() {
+        courseFocusAreaList.add(csFocusArea);
+        courseList.addCourse(course);
+        assertEquals(Optional.of(csFocusArea), courseList.findCourseFocusArea(" software ENGINEERING"));
+        assertFalse(courseList.findCourseFocusArea("Financial Analytics").isPresent());
+    }
+
+    @Test
+    public void findCourseFocusArea_courseAddedAfterLookup_found() {
+        courseList.addCourse(course);
+        assertFalse(courseList.findCourseFocusArea("Software Engineering").isPresent());
+
+        Course otherCourse = new Course("Information Systems", new ArrayList<>(), Arrays.asList(csFocusArea));
+        courseList.addCourse(otherCourse);
+        assertEquals(Optional.of(csFocusArea), courseList.findCourseFocusArea("Software Engineering"));
+    }
+
+    @Test
+    public void resolveModules_focusAreaModules_resolvedOnce() {
+        ModuleList moduleList = new ModuleList();
+        moduleList.addModule(new ModuleBuilder().withModuleCode("CS3230").build());
+        moduleList.addModule(new ModuleBuilder().withModuleCode("CS4231").build());
+        CourseFocusArea focusArea = new CourseFocusArea("Algorithms and Theory",
+                Arrays.asList(ModuleCode.of("CS3230"), ModuleCode.of("CS3236")),
+                Arrays.asList(ModuleCode.of("CS4231")));
+        courseFocusAreaList.add(focusArea);
+        courseList.addCourse(course);
+
+        courseList.resolveModules(moduleList);
+        courseList.resolveModules(moduleList);
+        // Module codes not in the catalog are left out, and resolving again does not add modules
+        assertEquals(1, focusArea.getPrim().size());
+        assertSame(moduleList.getModuleWithModuleCode(ModuleCode.of("CS3230")), focusArea.getPrim().get(0));
+        assertEquals(1, focusArea.getElec().size());
+        assertThrows(UnsupportedOperationException.class, () -> focusArea.getPrim().clear());
+    }
 }
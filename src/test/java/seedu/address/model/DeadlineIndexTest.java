@@ -0,0 +1,82 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.model.profile.course.module.personal.Deadline;
+
+//@@author chanckben
+public class DeadlineIndexTest {
+
+    private final DeadlineIndex deadlineIndex = new DeadlineIndex();
+
+    private static Deadline deadline(String moduleCode, String description, int day) {
+        return new Deadline(moduleCode, description, LocalDate.of(2030, 4, day), LocalTime.of(12, 0));
+    }
+
+    @Test
+    public void add_unorderedDeadlines_keptInDueDateOrder() {
+        Deadline lab = deadline("CS2030", "Lab", 20);
+        Deadline quiz = deadline("CS2040", "Quiz", 10);
+        Deadline undated = new Deadline("CS2040", "Reading");
+        Deadline essay = deadline("GER1000", "Essay", 15);
+        deadlineIndex.addAll(Arrays.asList(lab, undated, quiz, essay));
+
+        assertEquals(Arrays.asList(quiz, essay, lab, undated), deadlineIndex.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void add_sameModuleAndDescriptionInOtherCase_replaced() {
+        deadlineIndex.add(deadline("CS2030", "Lab", 20));
+        Deadline lab = deadline("CS2030", "LAB", 5);
+        deadlineIndex.add(lab);
+
+        assertEquals(Arrays.asList(lab), deadlineIndex.asUnmodifiableObservableList());
+        assertTrue(deadlineIndex.remove(new Deadline("CS2030", "lab")));
+        assertFalse(deadlineIndex.remove(new Deadline("CS2030", "lab")));
+    }
+
+    @Test
+    public void replace_deadlineEditedInPlace_movedWithOneEvent() throws Exception {
+        Deadline lab = deadline("CS2030", "Lab", 20);
+        Deadline quiz = deadline("CS2040", "Quiz", 10);
+        deadlineIndex.addAll(Arrays.asList(lab, quiz));
+        List<String> events = new ArrayList<>();
+        deadlineIndex.asUnmodifiableObservableList().addListener((ListChangeListener<Deadline>) change -> {
+            while (change.next()) {
+                events.add(change.getFrom() + (change.wasAdded() ? "+" : "") + (change.wasRemoved() ? "-" : ""));
+            }
+        });
+
+        lab.setDescription("Lab 1");
+        lab.setDateTime("2030-04-01", "09:00");
+        assertTrue(deadlineIndex.replace(lab, lab));
+
+        assertEquals(Arrays.asList(lab, quiz), deadlineIndex.asUnmodifiableObservableList());
+        assertEquals(Arrays.asList("1-", "0+"), events);
+        assertTrue(deadlineIndex.contains(new Deadline("CS2030", "lab 1")));
+        assertFalse(deadlineIndex.contains(new Deadline("CS2030", "Lab")));
+    }
+
+    @Test
+    public void removeModule_deadlinesOfModule_allRemoved() {
+        Deadline essay = deadline("GER1000", "Essay", 15);
+        deadlineIndex.addAll(Arrays.asList(deadline("CS2030", "Lab", 20), essay, deadline("CS2030", "Quiz", 1)));
+
+        deadlineIndex.removeModule("CS2030");
+        deadlineIndex.removeModule("CS1010");
+
+        assertEquals(Arrays.asList(essay), deadlineIndex.asUnmodifiableObservableList());
+        assertEquals(1, deadlineIndex.size());
+    }
+}
@@ -0,0 +1,101 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.ModuleBuilder.and;
+import static seedu.address.testutil.ModuleBuilder.leaf;
+import static seedu.address.testutil.ModuleBuilder.or;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.profile.Name;
+import seedu.address.model.profile.Profile;
+import seedu.address.model.profile.course.CourseName;
+import seedu.address.model.profile.course.FocusArea;
+import seedu.address.model.profile.course.module.ModuleCode;
+import seedu.address.testutil.ModuleBuilder;
+
+public class EarliestSemestersTest {
+
+    private static final ModuleCode CS1010S = new ModuleCode("CS1010S");
+    private static final ModuleCode CS2030 = new ModuleCode("CS2030");
+    private static final ModuleCode CS2040 = new ModuleCode("CS2040");
+    private static final ModuleCode CS2103T = new ModuleCode("CS2103T");
+    private static final ModuleCode CS3203 = new ModuleCode("CS3203");
+
+    private final ModuleManager moduleManager;
+    private final Profile profile = new Profile(new Name("John"), new CourseName("Computer Science"), 1,
+            new FocusArea("Software Engineering"));
+
+    public EarliestSemestersTest() {
+        ModuleList moduleList = new ModuleList();
+        moduleList.addModule(new ModuleBuilder().withModuleCode("CS1010S").withSemesters("1", "2").build());
+        moduleList.addModule(new ModuleBuilder().withModuleCode("CS2030").withSemesters("1", "2")
+                .withPrereqTree(leaf("CS1010")).build());
+        moduleList.addModule(new ModuleBuilder().withModuleCode("CS2040").withSemesters("1", "2")
+                .withPrereqTree(leaf("CS1010")).build());
+        moduleList.addModule(new ModuleBuilder().withModuleCode("CS2103T").withSemesters("1", "2")
+                .withPrereqTree(and(leaf("CS2030"), leaf("CS2040"))).build());
+        // Only offered in the first semester of a year
+        moduleList.addModule(new ModuleBuilder().withModuleCode("CS3203").withSemesters("1")
+                .withPrereqTree(leaf("CS2103T")).build());
+        // A prerequisite cycle that can be entered through CS1010
+        moduleList.addModule(new ModuleBuilder().withModuleCode("CS9001")
+                .withPrereqTree(or(leaf("CS9002"), leaf("CS1010"))).build());
+        moduleList.addModule(new ModuleBuilder().withModuleCode("CS9002").withPrereqTree(leaf("CS9001")).build());
+        // A prerequisite cycle that cannot be entered
+        moduleList.addModule(new ModuleBuilder().withModuleCode("CS9003").withPrereqTree(leaf("CS9004")).build());
+        moduleList.addModule(new ModuleBuilder().withModuleCode("CS9004").withPrereqTree(leaf("CS9003")).build());
+        moduleManager = new ModuleManager(moduleList);
+    }
+
+    private Optional<Integer> earliest(ModuleCode moduleCode) {
+        return profile.getEarliestSemesters(moduleManager).getEarliestSemester(moduleCode);
+    }
+
+    @Test
+    public void getEarliestSemester_nothingTaken_longestChainOfPrereqs() {
+        assertEquals(Optional.of(1), earliest(CS1010S));
+        assertEquals(Optional.of(2), earliest(CS2030));
+        assertEquals(Optional.of(3), earliest(CS2103T));
+    }
+
+    @Test
+    public void getEarliestSemester_notOfferedWhenReady_nextSemesterOffered() {
+        // CS2103T can be taken in semester 3, so CS3203 is ready in semester 4 but only offered in semester 5
+        assertEquals(Optional.of(5), earliest(CS3203));
+    }
+
+    @Test
+    public void getEarliestSemester_prereqCycle_resolvedThroughOtherBranch() {
+        assertEquals(Optional.of(2), earliest(new ModuleCode("CS9001")));
+        assertEquals(Optional.of(3), earliest(new ModuleCode("CS9002")));
+        assertFalse(earliest(new ModuleCode("CS9003")).isPresent());
+        assertFalse(earliest(new ModuleCode("CS0000")).isPresent());
+    }
+
+    @Test
+    public void addModule_prereqPlannedLater_dependentsMovedLater() throws Exception {
+        earliest(CS1010S);
+        profile.addModule(3, moduleManager.getModule(CS1010S));
+        assertEquals(Optional.of(3), earliest(CS1010S));
+        assertEquals(Optional.of(4), earliest(CS2040));
+        assertEquals(Optional.of(5), earliest(CS2103T));
+        assertEquals(Optional.of(7), earliest(CS3203));
+        assertEquals(Optional.of(4), earliest(new ModuleCode("CS9001")));
+
+        profile.deleteModule(CS1010S);
+        assertEquals(Optional.of(3), earliest(CS2103T));
+        assertEquals(Optional.of(2), earliest(new ModuleCode("CS9001")));
+    }
+
+    @Test
+    public void getEarliestSemester_currentSemesterChanged_countedFromCurrentSemester() {
+        assertEquals(Optional.of(3), earliest(CS2103T));
+        profile.setCurrentSemester(4);
+        assertEquals(Optional.of(4), earliest(CS1010S));
+        assertEquals(Optional.of(6), earliest(CS2103T));
+    }
+}
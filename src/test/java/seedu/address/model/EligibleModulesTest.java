@@ -0,0 +1,134 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.ModuleBuilder.and;
+import static seedu.address.testutil.ModuleBuilder.codes;
+import static seedu.address.testutil.ModuleBuilder.leaf;
+import static seedu.address.testutil.ModuleBuilder.or;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.profile.Name;
+import seedu.address.model.profile.Profile;
+import seedu.address.model.profile.course.CourseName;
+import seedu.address.model.profile.course.FocusArea;
+import seedu.address.model.profile.course.module.Module;
+import seedu.address.model.profile.course.module.ModuleCode;
+import seedu.address.testutil.ModuleBuilder;
+
+public class EligibleModulesTest {
+
+    private static final ModuleCode CS2030 = new ModuleCode("CS2030");
+    private static final ModuleCode CS2040 = new ModuleCode("CS2040");
+    private static final ModuleCode CS2103T = new ModuleCode("CS2103T");
+
+    private final ModuleManager moduleManager;
+    private final Profile profile = new Profile(new Name("John"), new CourseName("Computer Science"), 1,
+            new FocusArea("Software Engineering"));
+
+    public EligibleModulesTest() {
+        ModuleList moduleList = new ModuleList();
+        moduleList.addModule(new ModuleBuilder().withModuleCode("CS1010S").build());
+        moduleList.addModule(new ModuleBuilder().withModuleCode("CS1010X").build());
+        moduleList.addModule(new ModuleBuilder().withModuleCode("CS2030").withPrereqTree(leaf("CS1010")).build());
+        moduleList.addModule(new ModuleBuilder().withModuleCode("CS2040").withPrereqTree(leaf("CS1010")).build());
+        moduleList.addModule(new ModuleBuilder().withModuleCode("CS2103T")
+                .withPrereqTree(or(leaf("CS2040C"), and(leaf("CS2030"), leaf("CS2040")))).build());
+        moduleManager = new ModuleManager(moduleList);
+    }
+
+    private void addModule(int semester, String moduleCode) throws Exception {
+        profile.addModule(semester, moduleManager.getModule(new ModuleCode(moduleCode)));
+    }
+
+    /**
+     * Returns true if the eligible modules of every semester up to {@code lastSemester} are the same as those
+     * evaluated from scratch.
+     */
+    private boolean isSameAsFullEvaluation(EligibleModules eligibleModules, int lastSemester) {
+        for (int semester = 1; semester <= lastSemester; semester++) {
+            List<ModuleCode> expected = new ArrayList<>();
+            for (Module module : moduleManager.getModuleList()) {
+                if (moduleManager.hasFulfilledPrereqs(module.getModuleCode(),
+                        profile.getAllModuleCodesBefore(semester))) {
+                    expected.add(module.getModuleCode());
+                }
+            }
+            if (!new HashSet<>(expected).equals(new HashSet<>(eligibleModules.getEligibleModules(semester)))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Test
+    public void getEligibleModules_noModulesTaken_modulesWithoutPrereqs() {
+        EligibleModules eligibleModules = profile.getEligibleModules(moduleManager);
+        assertEquals(new HashSet<>(codes("CS1010S", "CS1010X")),
+                new HashSet<>(eligibleModules.getEligibleModules(1)));
+    }
+
+    @Test
+    public void addModule_prereqTaken_eligibleInLaterSemestersOnly() throws Exception {
+        EligibleModules eligibleModules = profile.getEligibleModules(moduleManager);
+        assertFalse(eligibleModules.isEligible(CS2030, 2));
+
+        addModule(1, "CS1010S");
+        assertFalse(eligibleModules.isEligible(CS2030, 1));
+        assertTrue(eligibleModules.isEligible(CS2030, 2));
+        assertTrue(eligibleModules.isEligible(CS2040, 3));
+        assertFalse(eligibleModules.isEligible(CS2103T, 3));
+
+        addModule(2, "CS2030");
+        addModule(3, "CS2040");
+        assertFalse(eligibleModules.isEligible(CS2103T, 3));
+        assertTrue(eligibleModules.isEligible(CS2103T, 4));
+        assertTrue(isSameAsFullEvaluation(eligibleModules, 5));
+    }
+
+    @Test
+    public void deleteModule_prereqDeleted_noLongerEligible() throws Exception {
+        addModule(1, "CS1010S");
+        addModule(2, "CS2030");
+        addModule(2, "CS2040");
+        EligibleModules eligibleModules = profile.getEligibleModules(moduleManager);
+        assertTrue(eligibleModules.isEligible(CS2103T, 3));
+
+        profile.deleteModule(CS2030);
+        assertFalse(eligibleModules.isEligible(CS2103T, 3));
+        profile.deleteModule(new ModuleCode("CS1010S"));
+        assertFalse(eligibleModules.isEligible(CS2040, 2));
+        assertTrue(isSameAsFullEvaluation(eligibleModules, 4));
+    }
+
+    @Test
+    public void deleteModule_otherVariantStillTaken_stillEligible() throws Exception {
+        addModule(1, "CS1010S");
+        addModule(1, "CS1010X");
+        EligibleModules eligibleModules = profile.getEligibleModules(moduleManager);
+        assertTrue(eligibleModules.isEligible(CS2030, 2));
+
+        profile.deleteModule(new ModuleCode("CS1010S"));
+        assertTrue(eligibleModules.isEligible(CS2030, 2));
+        profile.deleteModule(new ModuleCode("CS1010X"));
+        assertFalse(eligibleModules.isEligible(CS2030, 2));
+    }
+
+    @Test
+    public void isEligible_moduleNotInCatalog_true() {
+        assertTrue(profile.getEligibleModules(moduleManager).isEligible(new ModuleCode("CS9999"), 1));
+    }
+
+    @Test
+    public void getEligibleModules_sameModuleManager_sameTracker() {
+        assertSame(profile.getEligibleModules(moduleManager), profile.getEligibleModules(moduleManager));
+        assertFalse(profile.getEligibleModules(new ModuleManager()) == profile.getEligibleModules(moduleManager));
+    }
+}
@@ -27,6 +27,7 @@ import seedu.address.model.profile.course.module.Prereqs;
 import seedu.address.model.profile.course.module.SemesterData;
 import seedu.address.model.profile.course.module.Title;
 import seedu.address.model.profile.course.module.personal.Deadline;
+import seedu.address.testutil.ModuleBuilder;
 
 //@@author jadetayy
 
@@ -117,6 +118,65 @@ public class ModuleManagerTest {
     }
 
 
+    @Test
+    public void getModuleVariants_variantsInModuleList_returnsAllVariants() {
+        ModuleManager moduleManager = new ModuleManager(new ModuleList());
+        Module cs1010 = new ModuleBuilder().withModuleCode("CS1010").build();
+        Module cs1010s = new ModuleBuilder().withModuleCode("CS1010S").build();
+        Module cs1101s = new ModuleBuilder().withModuleCode("CS1101S").build();
+        moduleManager.getModuleList().addModule(cs1010);
+        moduleManager.getModuleList().addModule(cs1010s);
+        moduleManager.getModuleList().addModule(cs1101s);
+
+        assertEquals(Arrays.asList(cs1010, cs1010s), moduleManager.getModuleVariants(new ModuleCode("CS1010")));
+        assertTrue(moduleManager.getModuleVariants(new ModuleCode("CS2040")).isEmpty());
+        assertEquals(cs1010s, moduleManager.getModule(new ModuleCode("CS1010S")));
+    }
+
+    @Test
+    public void hasModule_moduleRemovedFromModuleList_returnsFalse() throws Exception {
+        ModuleList moduleList = new ModuleList();
+        ModuleManager moduleManager = new ModuleManager(moduleList);
+        moduleList.addModule(new ModuleBuilder().withModuleCode("CS1010S").build());
+        moduleList.removeModuleWithModuleCode(new ModuleCode("CS1010S"));
+
+        assertFalse(moduleManager.hasModule(new ModuleCode("CS1010S")));
+        assertTrue(moduleManager.getModuleVariants(new ModuleCode("CS1010")).isEmpty());
+    }
+
+    @Test
+    public void getCatalog_yearWithDelta_unchangedModulesShared() {
+        ModuleManager baseCatalog = new ModuleManager(new ModuleList());
+        Module cs1010 = new ModuleBuilder().withModuleCode("CS1010").build();
+        Module cs1231 = new ModuleBuilder().withModuleCode("CS1231").build();
+        Module cs2040 = new ModuleBuilder().withModuleCode("CS2040").build();
+        baseCatalog.getModuleList().addModule(cs1010);
+        baseCatalog.getModuleList().addModule(cs1231);
+        baseCatalog.getModuleList().addModule(cs2040);
+        Module oldCs1231 = new ModuleBuilder().withModuleCode("CS1231").withTitle("Discrete Structures").build();
+        Module cs1020 = new ModuleBuilder().withModuleCode("CS1020").build();
+        baseCatalog.addCatalogDelta(new CatalogDelta("2017/2018", Arrays.asList(oldCs1231, cs1020),
+                Arrays.asList(new ModuleCode("CS2040"))));
+
+        ModuleManager yearCatalog = baseCatalog.getCatalog("2017/2018");
+        assertEquals(Arrays.asList(cs1010, oldCs1231, cs1020), yearCatalog.getModuleList().getModuleList());
+        assertTrue(yearCatalog.getModule(new ModuleCode("CS1010")) == cs1010);
+        assertFalse(yearCatalog.hasModule(new ModuleCode("CS2040")));
+        assertTrue(baseCatalog.getCatalog("2017/2018") == yearCatalog);
+        assertEquals(Arrays.asList("2017/2018"), baseCatalog.getAcademicYears());
+
+        // years without a delta use the base catalog
+        assertTrue(baseCatalog.getCatalog("2019/2020") == baseCatalog);
+    }
+
+    @Test
+    public void isValidAcademicYear() {
+        assertTrue(CatalogDelta.isValidAcademicYear("2019/2020"));
+        assertFalse(CatalogDelta.isValidAcademicYear("2019/2021"));
+        assertFalse(CatalogDelta.isValidAcademicYear("AY2019/20"));
+        assertFalse(CatalogDelta.isValidAcademicYear(null));
+    }
+
     private class ProfileManagerStub extends ProfileManager {
         protected ObservableList<Profile> profileList = FXCollections.observableArrayList();
         protected FilteredList<Profile> filteredProfiles;
@@ -0,0 +1,183 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.ModuleBuilder.and;
+import static seedu.address.testutil.ModuleBuilder.codes;
+import static seedu.address.testutil.ModuleBuilder.leaf;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.ModulePlanner.Plan;
+import seedu.address.model.profile.Name;
+import seedu.address.model.profile.Profile;
+import seedu.address.model.profile.course.Course;
+import seedu.address.model.profile.course.CourseFocusArea;
+import seedu.address.model.profile.course.CourseName;
+import seedu.address.model.profile.course.CourseRequirement;
+import seedu.address.model.profile.course.FocusArea;
+import seedu.address.model.profile.course.module.ModularCredits;
+import seedu.address.model.profile.course.module.ModuleCode;
+import seedu.address.testutil.ModuleBuilder;
+
+public class ModulePlannerTest {
+
+    private static final long TIME_BUDGET_MILLIS = 10000;
+
+    private final ModuleManager moduleManager;
+    private final Course course;
+    private final CourseFocusArea focusArea;
+
+    public ModulePlannerTest() {
+        ModuleList moduleList = new ModuleList();
+        moduleList.addModule(new ModuleBuilder().withModuleCode("CS1101S").build());
+        moduleList.addModule(new ModuleBuilder().withModuleCode("CS1231S").build());
+        moduleList.addModule(new ModuleBuilder().withModuleCode("CS2030S").withPrereqTree(leaf("CS1101S")).build());
+        moduleList.addModule(new ModuleBuilder().withModuleCode("CS2040S")
+                .withPrereqTree(and(leaf("CS1101S"), leaf("CS1231S"))).build());
+        moduleList.addModule(new ModuleBuilder().withModuleCode("CS2103T").build());
+        // Taking CS3203 needs CS2103T as well, which costs more than the pair of modules
+        moduleList.addModule(new ModuleBuilder().withModuleCode("CS3203").withModularCredits("8")
+                .withPrereqTree(leaf("CS2103T")).build());
+        moduleList.addModule(new ModuleBuilder().withModuleCode("CS3216").withSemesters("1").build());
+        moduleList.addModule(new ModuleBuilder().withModuleCode("CS3217").withSemesters("2")
+                .withPrereqTree(leaf("CS3216")).build());
+        moduleList.addModule(new ModuleBuilder().withModuleCode("CS3230").withPrereqTree(leaf("CS2040S")).build());
+        moduleList.addModule(new ModuleBuilder().withModuleCode("CS3236").withPrereqTree(leaf("CS1231S")).build());
+        moduleList.addModule(new ModuleBuilder().withModuleCode("CS4231").withPrereqTree(leaf("CS3230")).build());
+        moduleList.addModule(new ModuleBuilder().withModuleCode("CS4232").withPrereqTree(leaf("CS3236")).build());
+        moduleManager = new ModuleManager(moduleList);
+
+        course = new Course("Computer Science", Arrays.asList(
+                requirement("Foundation", "16", "CS1101S", "CS1231S", "CS2030S", "CS2040S"),
+                // Entries that are not module codes are left out
+                requirement("Team Project", "8", "CS3203", "CS3216 and CS3217", "One Team Project Module")),
+                Collections.emptyList());
+        focusArea = new CourseFocusArea("Algorithms and Theory", codes("CS3230", "CS3236"),
+                codes("CS4231", "CS4232"));
+    }
+
+    private static CourseRequirement requirement(String name, String modularCredits, String... moduleCodes) {
+        return new CourseRequirement(name, codes(moduleCodes), new ModularCredits(modularCredits), null);
+    }
+
+    private static Profile profile(int currentSemester) {
+        return new Profile(new Name("John"), new CourseName("Computer Science"), currentSemester,
+                new FocusArea("Algorithms and Theory"));
+    }
+
+    private static Set<ModuleCode> plannedModules(Plan plan) {
+        Set<ModuleCode> moduleCodes = new HashSet<>();
+        plan.getSemesters().values().forEach(moduleCodes::addAll);
+        return moduleCodes;
+    }
+
+    private static Map<ModuleCode, Integer> plannedSemesters(Plan plan) {
+        Map<ModuleCode, Integer> semesters = new HashMap<>();
+        plan.getSemesters().forEach((semester, moduleCodes) ->
+                moduleCodes.forEach(moduleCode -> semesters.put(moduleCode, semester)));
+        return semesters;
+    }
+
+    @Test
+    public void plan_nothingTaken_fewestModularCredits() {
+        Plan plan = new ModulePlanner(moduleManager, profile(1), course, focusArea, TIME_BUDGET_MILLIS).plan().get();
+        assertEquals(new HashSet<>(codes("CS1101S", "CS1231S", "CS2030S", "CS2040S", "CS3216", "CS3217", "CS3230",
+                "CS3236", "CS4231", "CS4232")), plannedModules(plan));
+        assertEquals(40, plan.getModularCredits());
+        assertTrue(plan.isOptimal());
+    }
+
+    @Test
+    public void plan_nothingTaken_prereqsAndOfferingsRespected() {
+        Map<ModuleCode, Integer> semesters = plannedSemesters(
+                new ModulePlanner(moduleManager, profile(1), course, focusArea, TIME_BUDGET_MILLIS).plan().get());
+        assertEquals(1, (int) semesters.get(ModuleCode.of("CS1101S")));
+        assertEquals(2, (int) semesters.get(ModuleCode.of("CS2040S")));
+        assertEquals(3, (int) semesters.get(ModuleCode.of("CS3230")));
+        assertEquals(4, (int) semesters.get(ModuleCode.of("CS4231")));
+        // CS3217 is only offered in the second semester of a year
+        assertEquals(1, (int) semesters.get(ModuleCode.of("CS3216")));
+        assertEquals(2, (int) semesters.get(ModuleCode.of("CS3217")));
+    }
+
+    @Test
+    public void plan_noFocusArea_courseRequirementsOnly() {
+        Plan plan = new ModulePlanner(moduleManager, profile(1), course, null, TIME_BUDGET_MILLIS).plan().get();
+        assertEquals(new HashSet<>(codes("CS1101S", "CS1231S", "CS2030S", "CS2040S", "CS3216", "CS3217")),
+                plannedModules(plan));
+    }
+
+    @Test
+    public void plan_modulesTaken_plannedFromCurrentSemester() throws Exception {
+        Profile profile = profile(3);
+        profile.addModule(1, moduleManager.getModule(ModuleCode.of("CS1101S")));
+        profile.addModule(2, moduleManager.getModule(ModuleCode.of("CS2030S")));
+        Plan plan = new ModulePlanner(moduleManager, profile, course, null, TIME_BUDGET_MILLIS).plan().get();
+
+        assertFalse(plannedModules(plan).contains(ModuleCode.of("CS1101S")));
+        assertFalse(plannedModules(plan).contains(ModuleCode.of("CS2030S")));
+        assertEquals(16, plan.getModularCredits());
+        assertEquals(3, (int) plan.getSemesters().keySet().iterator().next());
+    }
+
+    @Test
+    public void plan_requirementsFulfilled_emptyPlan() throws Exception {
+        Profile profile = profile(1);
+        for (ModuleCode moduleCode : codes("CS1101S", "CS1231S", "CS2030S", "CS2040S", "CS3203")) {
+            profile.addModule(1, moduleManager.getModule(moduleCode));
+        }
+        assertTrue(new ModulePlanner(moduleManager, profile, course, null, TIME_BUDGET_MILLIS).plan().get().isEmpty());
+    }
+
+    @Test
+    public void plan_moreModulesThanFitInSemester_restPlannedLater() {
+        ModuleList moduleList = new ModuleList();
+        List<ModuleCode> moduleCodes = new ArrayList<>();
+        for (int i = 0; i < Profile.MAX_MODULES_PER_SEMESTER + 2; i++) {
+            moduleCodes.add(ModuleCode.of("GE10" + (10 + i)));
+            moduleList.addModule(new ModuleBuilder().withModuleCode("GE10" + (10 + i)).build());
+        }
+        Course generalEducation = new Course("Computer Science", Collections.singletonList(
+                new CourseRequirement("General Education", moduleCodes,
+                        new ModularCredits(String.valueOf(4 * moduleCodes.size())), null)),
+                Collections.emptyList());
+
+        Plan plan = new ModulePlanner(new ModuleManager(moduleList), profile(1), generalEducation, null,
+                TIME_BUDGET_MILLIS).plan().get();
+        assertEquals(Profile.MAX_MODULES_PER_SEMESTER, plan.getSemesters().get(1).size());
+        assertEquals(2, plan.getSemesters().get(2).size());
+    }
+
+    @Test
+    public void plan_prereqChainLongerThanLastSemester_empty() {
+        ModuleList moduleList = new ModuleList();
+        moduleList.addModule(new ModuleBuilder().withModuleCode("CS1000").build());
+        for (int i = 1; i <= ModulePlanner.LAST_SEMESTER; i++) {
+            moduleList.addModule(new ModuleBuilder().withModuleCode("CS100" + i)
+                    .withPrereqTree(leaf("CS100" + (i - 1))).build());
+        }
+        Course longChain = new Course("Computer Science", Collections.singletonList(
+                requirement("Capstone", "4", "CS100" + ModulePlanner.LAST_SEMESTER)), Collections.emptyList());
+
+        assertFalse(new ModulePlanner(new ModuleManager(moduleList), profile(1), longChain, null, TIME_BUDGET_MILLIS)
+                .plan().isPresent());
+    }
+
+    @Test
+    public void toString_plan_modulesBySemester() {
+        Plan plan = new ModulePlanner(moduleManager, profile(1), course, null, TIME_BUDGET_MILLIS).plan().get();
+        assertTrue(plan.toString().startsWith("Year 1 Semester 1: "));
+        assertTrue(plan.toString().contains("Year 1 Semester 2: "));
+    }
+}
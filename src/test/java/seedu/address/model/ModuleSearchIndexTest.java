@@ -0,0 +1,70 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.ModuleBuilder.codes;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.ModuleBuilder;
+
+public class ModuleSearchIndexTest {
+
+    private final ModuleSearchIndex searchIndex;
+
+    public ModuleSearchIndexTest() {
+        ModuleList moduleList = new ModuleList();
+        moduleList.addModule(new ModuleBuilder().withModuleCode("CS2103T").withTitle("Software Engineering")
+                .withDescription("Teaches the development of software systems in teams.").build());
+        moduleList.addModule(new ModuleBuilder().withModuleCode("CS3219").withTitle("Software Engineering Principles "
+                + "and Patterns").withDescription("Covers the design of large software systems.").build());
+        moduleList.addModule(new ModuleBuilder().withModuleCode("CS3230").withTitle("Design and Analysis of "
+                + "Algorithms").withDescription("Introduces techniques for designing algorithms.").build());
+        moduleList.addModule(new ModuleBuilder().withModuleCode("MA1101R").withTitle("Linear Algebra I")
+                .withDescription("Covers systems of linear equations and matrices.").build());
+        searchIndex = new ModuleSearchIndex(moduleList);
+    }
+
+    @Test
+    public void tokenize_mixedText_lowerCaseWords() {
+        assertEquals(Arrays.asList("cs2103t", "software", "engineering"),
+                ModuleSearchIndex.tokenize("CS2103T: Software-Engineering!"));
+    }
+
+    @Test
+    public void search_wordsInTitle_rankedAboveDescription() {
+        // Words in the title count for more than words in the description
+        assertEquals(codes("CS2103T", "CS3219"), searchIndex.search("software engineering", 10));
+        assertEquals(codes("CS3230", "CS3219"), searchIndex.search("design", 10));
+    }
+
+    @Test
+    public void search_moduleCode_found() {
+        assertEquals(codes("MA1101R"), searchIndex.search("ma1101r", 10));
+    }
+
+    @Test
+    public void search_prefix_matchesLongerWords() {
+        assertEquals(codes("CS3230"), searchIndex.search("algo", 10));
+    }
+
+    @Test
+    public void search_misspeltWord_matchedByNgrams() {
+        assertEquals(codes("MA1101R"), searchIndex.search("algebar", 10));
+    }
+
+    @Test
+    public void search_limit_bestMatchesOnly() {
+        assertEquals(codes("CS2103T"), searchIndex.search("software engineering", 1));
+        assertTrue(searchIndex.search("software", 0).isEmpty());
+    }
+
+    @Test
+    public void search_noMatch_empty() {
+        assertEquals(Collections.emptyList(), searchIndex.search("quantum", 10));
+        assertEquals(Collections.emptyList(), searchIndex.search("  ", 10));
+    }
+}
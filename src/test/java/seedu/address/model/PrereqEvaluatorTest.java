@@ -0,0 +1,89 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.ModuleBuilder.and;
+import static seedu.address.testutil.ModuleBuilder.leaf;
+import static seedu.address.testutil.ModuleBuilder.or;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.profile.course.module.ModuleCode;
+import seedu.address.model.profile.course.module.PrereqTreeNode;
+import seedu.address.testutil.ModuleBuilder;
+
+public class PrereqEvaluatorTest {
+
+    private static final ModuleCode CS2103T = new ModuleCode("CS2103T");
+    private static final ModuleCode CS1101S = new ModuleCode("CS1101S");
+    private static final ModuleCode CS2040 = new ModuleCode("CS2040");
+
+    // CS2103T: CS2040C or (CS2030 and (CS2040 or CS1020))
+    private static final PrereqTreeNode CS2103T_PREREQS =
+            or(leaf("CS2040C"), and(leaf("CS2030"), or(leaf("CS2040"), leaf("CS1020"))));
+
+    private final ModuleList moduleList = new ModuleList();
+
+    public PrereqEvaluatorTest() {
+        moduleList.addModule(new ModuleBuilder().withModuleCode("CS2103T").withPrereqTree(CS2103T_PREREQS).build());
+        moduleList.addModule(new ModuleBuilder().withModuleCode("CS1101S").build());
+        moduleList.addModule(new ModuleBuilder().withModuleCode("CS2040").withPrereqTree(leaf("CS1010")).build());
+        moduleList.addModule(new ModuleBuilder().withModuleCode("CS1010S").build());
+    }
+
+    private boolean hasFulfilledPrereqs(ModuleCode moduleCode, String... modulesTaken) {
+        PrereqEvaluator evaluator = new PrereqEvaluator(moduleList);
+        List<ModuleCode> taken = Arrays.stream(modulesTaken).map(ModuleCode::new).collect(Collectors.toList());
+        return evaluator.hasFulfilledPrereqs(moduleCode, evaluator.toBitSet(taken));
+    }
+
+    @Test
+    public void hasFulfilledPrereqs_noPrereqTree_true() {
+        assertTrue(hasFulfilledPrereqs(CS1101S));
+        assertTrue(hasFulfilledPrereqs(new ModuleCode("CS9999")));
+    }
+
+    @Test
+    public void hasFulfilledPrereqs_orFulfilledByOneChild_true() {
+        assertTrue(hasFulfilledPrereqs(CS2103T, "CS2040C"));
+        assertTrue(hasFulfilledPrereqs(CS2103T, "CS2030", "CS1020"));
+    }
+
+    @Test
+    public void hasFulfilledPrereqs_andMissingChild_false() {
+        assertFalse(hasFulfilledPrereqs(CS2103T));
+        assertFalse(hasFulfilledPrereqs(CS2103T, "CS2030"));
+        assertFalse(hasFulfilledPrereqs(CS2103T, "CS2040", "CS1020"));
+    }
+
+    @Test
+    public void hasFulfilledPrereqs_variantOfRequiredModuleTaken_true() {
+        assertTrue(hasFulfilledPrereqs(CS2040, "CS1010S"));
+        // A variant is not fulfilled by the module without suffix
+        assertFalse(hasFulfilledPrereqs(CS2103T, "CS2040"));
+    }
+
+    @Test
+    public void hasFulfilledPrereqs_sameAsPrereqTreeNode() {
+        String[][] takenCases = {{}, {"CS2040C"}, {"CS2030"}, {"CS2030", "CS2040"}, {"CS2030", "CS1020X"},
+            {"CS2040"}, {"CS1020", "CS2040C"}};
+        for (String[] taken : takenCases) {
+            List<ModuleCode> takenCodes = new ArrayList<>();
+            Arrays.stream(taken).forEach(code -> takenCodes.add(new ModuleCode(code)));
+            assertTrue(CS2103T_PREREQS.hasFulfilledPrereqs(takenCodes) == hasFulfilledPrereqs(CS2103T, taken));
+        }
+    }
+
+    @Test
+    public void toBitSet_codesNotInAnyPrereqTree_ignored() {
+        PrereqEvaluator evaluator = new PrereqEvaluator(moduleList);
+        BitSet bitSet = evaluator.toBitSet(Arrays.asList(new ModuleCode("MA1521"), new ModuleCode("GER1000")));
+        assertTrue(bitSet.isEmpty());
+    }
+}
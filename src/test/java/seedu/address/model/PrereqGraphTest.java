@@ -0,0 +1,58 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.ModuleBuilder.and;
+import static seedu.address.testutil.ModuleBuilder.leaf;
+import static seedu.address.testutil.ModuleBuilder.or;
+
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.profile.course.module.ModuleCode;
+import seedu.address.testutil.ModuleBuilder;
+
+public class PrereqGraphTest {
+
+    private static final ModuleCode CS1010S = new ModuleCode("CS1010S");
+    private static final ModuleCode CS2030 = new ModuleCode("CS2030");
+    private static final ModuleCode CS2103T = new ModuleCode("CS2103T");
+    private static final ModuleCode CS9001 = new ModuleCode("CS9001");
+    private static final ModuleCode CS9002 = new ModuleCode("CS9002");
+    private static final ModuleCode CS9003 = new ModuleCode("CS9003");
+
+    private final PrereqGraph prereqGraph;
+
+    public PrereqGraphTest() {
+        ModuleList moduleList = new ModuleList();
+        // Added in reverse, so that the order of the module list is not already topological
+        moduleList.addModule(new ModuleBuilder().withModuleCode("CS9003").withPrereqTree(leaf("CS9002")).build());
+        moduleList.addModule(new ModuleBuilder().withModuleCode("CS9002")
+                .withPrereqTree(or(leaf("CS9001"), leaf("CS1010"))).build());
+        moduleList.addModule(new ModuleBuilder().withModuleCode("CS9001").withPrereqTree(leaf("CS9002")).build());
+        moduleList.addModule(new ModuleBuilder().withModuleCode("CS2103T")
+                .withPrereqTree(and(leaf("CS2030"), leaf("CS1010"))).build());
+        moduleList.addModule(new ModuleBuilder().withModuleCode("CS2030").withPrereqTree(leaf("CS1010")).build());
+        moduleList.addModule(new ModuleBuilder().withModuleCode("CS1010S").build());
+        prereqGraph = new PrereqGraph(moduleList);
+    }
+
+    @Test
+    public void getSortedModules_acyclicModules_dependenciesFirst() {
+        List<ModuleCode> sortedModules = prereqGraph.getSortedModules();
+        assertEquals(3, sortedModules.size());
+        assertTrue(prereqGraph.getPosition(CS1010S) < prereqGraph.getPosition(CS2030));
+        assertTrue(prereqGraph.getPosition(CS2030) < prereqGraph.getPosition(CS2103T));
+    }
+
+    @Test
+    public void getCyclicModules_cycleInCatalog_modulesInAndBehindCycle() {
+        assertEquals(new HashSet<>(List.of(CS9001, CS9002, CS9003)), prereqGraph.getCyclicModules());
+        assertTrue(prereqGraph.isCyclic(CS9003));
+        assertFalse(prereqGraph.isCyclic(CS2103T));
+        assertTrue(prereqGraph.getPosition(CS9001) >= prereqGraph.getSortedModules().size());
+    }
+}
@@ -0,0 +1,121 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.ModuleBuilder.and;
+import static seedu.address.testutil.ModuleBuilder.codes;
+import static seedu.address.testutil.ModuleBuilder.leaf;
+import static seedu.address.testutil.ModuleBuilder.or;
+
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.PrereqSolver.Objective;
+import seedu.address.model.PrereqSolver.Solution;
+import seedu.address.model.profile.course.module.ModuleCode;
+import seedu.address.testutil.ModuleBuilder;
+
+public class PrereqSolverTest {
+
+    private static final ModuleCode CS2030 = new ModuleCode("CS2030");
+    private static final ModuleCode CS2103T = new ModuleCode("CS2103T");
+    private static final ModuleCode CS3230 = new ModuleCode("CS3230");
+
+    private final ModuleManager moduleManager;
+
+    public PrereqSolverTest() {
+        ModuleList moduleList = new ModuleList();
+        moduleList.addModule(new ModuleBuilder().withModuleCode("CS1010S").build());
+        moduleList.addModule(new ModuleBuilder().withModuleCode("CS1010X").withModularCredits("2").build());
+        moduleList.addModule(new ModuleBuilder().withModuleCode("CS1231").build());
+        moduleList.addModule(new ModuleBuilder().withModuleCode("CS2030").withPrereqTree(leaf("CS1010")).build());
+        moduleList.addModule(new ModuleBuilder().withModuleCode("CS2040").withPrereqTree(leaf("CS1010")).build());
+        moduleList.addModule(new ModuleBuilder().withModuleCode("CS2040C").withPrereqTree(leaf("CS1010")).build());
+        moduleList.addModule(new ModuleBuilder().withModuleCode("CS2103T")
+                .withPrereqTree(or(leaf("CS2040C"), and(leaf("CS2030"), leaf("CS2040")))).build());
+        moduleList.addModule(new ModuleBuilder().withModuleCode("CS3230")
+                .withPrereqTree(and(leaf("CS2040"), leaf("CS1231"))).build());
+        // Modules whose prerequisites refer to each other, or to a module not in the catalog
+        moduleList.addModule(new ModuleBuilder().withModuleCode("CS9001").withPrereqTree(leaf("CS9002")).build());
+        moduleList.addModule(new ModuleBuilder().withModuleCode("CS9002").withPrereqTree(leaf("CS9001")).build());
+        moduleList.addModule(new ModuleBuilder().withModuleCode("CS9003")
+                .withPrereqTree(or(leaf("CS9001"), leaf("CS1231"))).build());
+        moduleList.addModule(new ModuleBuilder().withModuleCode("CS9004").withPrereqTree(leaf("CS0000")).build());
+        // A module whose first branch needs three modules sharing one prerequisite, and second branch five modules
+        moduleList.addModule(new ModuleBuilder().withModuleCode("CS9005").withPrereqTree(
+                or(and(leaf("CS9101"), leaf("CS9102"), leaf("CS9103")), leaf("CS9201"))).build());
+        moduleList.addModule(new ModuleBuilder().withModuleCode("CS9100").build());
+        for (String moduleCode : new String[] {"CS9101", "CS9102", "CS9103"}) {
+            moduleList.addModule(new ModuleBuilder().withModuleCode(moduleCode).withPrereqTree(leaf("CS9100"))
+                    .build());
+        }
+        moduleList.addModule(new ModuleBuilder().withModuleCode("CS9201").withPrereqTree(
+                and(leaf("CS9202"), leaf("CS9203"), leaf("CS9204"), leaf("CS9205"))).build());
+        for (String moduleCode : new String[] {"CS9202", "CS9203", "CS9204", "CS9205"}) {
+            moduleList.addModule(new ModuleBuilder().withModuleCode(moduleCode).build());
+        }
+        moduleManager = new ModuleManager(moduleList);
+    }
+
+    private PrereqSolver solver(Objective objective, String... modulesTaken) {
+        return new PrereqSolver(moduleManager, codes(modulesTaken), objective);
+    }
+
+    @Test
+    public void solve_nothingTaken_cheapestBranchWithItsPrereqs() {
+        Solution solution = solver(Objective.MODULE_COUNT).solve(CS2103T).get();
+        assertEquals(2, solution.getModules().size());
+        assertTrue(solution.getModules().contains(new ModuleCode("CS2040C")));
+    }
+
+    @Test
+    public void solve_modularCreditsObjective_fewestModularCredits() {
+        Solution solution = solver(Objective.MODULAR_CREDITS).solve(CS2103T).get();
+        assertEquals(codes("CS1010X", "CS2040C"), solution.getModules());
+        assertEquals(6, solution.getModularCredits());
+    }
+
+    @Test
+    public void solve_variantTaken_onlyRemainingModules() {
+        assertEquals(codes("CS2040C"), solver(Objective.MODULE_COUNT, "CS1010S").solve(CS2103T).get().getModules());
+        assertEquals(codes("CS1231", "CS2040"),
+                solver(Objective.MODULE_COUNT, "CS1010X").solve(CS3230).get().getModules());
+    }
+
+    @Test
+    public void solve_prereqsFulfilled_emptySolution() {
+        assertTrue(solver(Objective.MODULE_COUNT, "CS2040C").solve(CS2103T).get().isFulfilled());
+        assertTrue(solver(Objective.MODULE_COUNT).solve(new ModuleCode("CS1231")).get().isFulfilled());
+    }
+
+    @Test
+    public void solve_cyclicPrereqs_otherBranchChosen() {
+        assertFalse(solver(Objective.MODULE_COUNT).solve(new ModuleCode("CS9001")).isPresent());
+        assertEquals(codes("CS1231"),
+                solver(Objective.MODULE_COUNT).solve(new ModuleCode("CS9003")).get().getModules());
+    }
+
+    @Test
+    public void solve_prereqSharedWithinBranch_countedOnce() {
+        assertEquals(codes("CS9100", "CS9101", "CS9102", "CS9103"),
+                solver(Objective.MODULE_COUNT).solve(new ModuleCode("CS9005")).get().getModules());
+    }
+
+    @Test
+    public void solve_prereqNotInCatalog_empty() {
+        assertFalse(solver(Objective.MODULE_COUNT).solve(new ModuleCode("CS9004")).isPresent());
+    }
+
+    @Test
+    public void solveAll_focusAreaModules_solutionForEachFulfillableModule() {
+        Map<ModuleCode, Solution> solutions = solver(Objective.MODULE_COUNT, "CS1010S")
+                .solveAll(codes("CS2030", "CS3230", "CS9004"));
+        assertEquals(codes("CS2030", "CS3230"), solutions.keySet().stream().collect(Collectors.toList()));
+        assertTrue(solutions.get(CS2030).isFulfilled());
+        assertEquals(codes("CS1231", "CS2040"), solutions.get(CS3230).getModules());
+        assertEquals("CS1231, CS2040 (8 MCs)", solutions.get(CS3230).toString());
+    }
+}
@@ -13,6 +13,7 @@ import java.nio.file.Paths;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.profile.course.module.ModuleCode;
 import seedu.address.model.profile.course.module.personal.Deadline;
 import seedu.address.model.profile.exceptions.DeadlineNotFoundException;
 
@@ -168,6 +169,17 @@ public class ProfileManagerTest {
         assertThrows(NullPointerException.class, () -> profileManager.replaceDeadline(null, null));
     }
 
+    @Test
+    public void deleteModuleFromDeadlineList_moduleWithDeadlines_deadlinesRemoved() {
+        profileManager.addDeadline(new Deadline("CS1101S", "Mission 1"));
+        profileManager.addDeadline(new Deadline("CS1101S", "Mission 2"));
+        profileManager.addDeadline(new Deadline("CS1231", "Tutorial"));
+
+        profileManager.deleteModuleFromDeadlineList(new ModuleCode("CS1101S"));
+
+        assertEquals(1, profileManager.getSortedDeadlineList().size());
+    }
+
     @Test
     public void clearDeadlineList_listSizeZero_returnsTrue() {
         profileManager.clearDeadlineList();
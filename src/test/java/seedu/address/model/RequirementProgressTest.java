@@ -0,0 +1,140 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.ModuleBuilder.codes;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.RequirementProgress.Progress;
+import seedu.address.model.profile.Name;
+import seedu.address.model.profile.Profile;
+import seedu.address.model.profile.course.Course;
+import seedu.address.model.profile.course.CourseFocusArea;
+import seedu.address.model.profile.course.CourseName;
+import seedu.address.model.profile.course.CourseRequirement;
+import seedu.address.model.profile.course.FocusArea;
+import seedu.address.model.profile.course.module.ModularCredits;
+import seedu.address.model.profile.course.module.ModuleCode;
+import seedu.address.testutil.ModuleBuilder;
+
+public class RequirementProgressTest {
+
+    private final ModuleManager moduleManager;
+    private final CourseRequirement foundation = new CourseRequirement("Foundation",
+            codes("CS1101S", "CS1231S", "CS2030S"), new ModularCredits("12"), null);
+    private final CourseRequirement teamProject = new CourseRequirement("Team Project",
+            codes("CS3203", "CS3216 and CS3217"), new ModularCredits("8"), null);
+    private final CourseRequirement programming = new CourseRequirement("Programming Methodology",
+            codes("CS1010"), new ModularCredits("4"), null);
+    private final CourseFocusArea focusArea = new CourseFocusArea("Algorithms and Theory", codes("CS3230"),
+            codes("CS1231S"));
+    private final Course course = new Course("Computer Science", Arrays.asList(foundation, teamProject, programming),
+            Collections.singletonList(focusArea));
+    private final Profile profile = new Profile(new Name("John"), new CourseName("Computer Science"), 2,
+            new FocusArea("Algorithms and Theory"));
+
+    public RequirementProgressTest() {
+        ModuleList moduleList = new ModuleList();
+        for (String moduleCode : Arrays.asList("CS1010S", "CS1101S", "CS1231S", "CS2030S", "CS3216", "CS3217",
+                "CS3230")) {
+            moduleList.addModule(new ModuleBuilder().withModuleCode(moduleCode).build());
+        }
+        moduleManager = new ModuleManager(moduleList);
+    }
+
+    private void addModule(int semester, String moduleCode) throws Exception {
+        profile.addModule(semester, moduleManager.getModule(ModuleCode.of(moduleCode)));
+    }
+
+    @Test
+    public void getProgress_modulesTakenBeforeTracking_completedAndPlanned() throws Exception {
+        addModule(1, "CS1101S");
+        addModule(2, "CS1231S");
+        Progress progress = profile.getRequirementProgress(course).getProgress(foundation);
+
+        assertEquals(new HashSet<>(codes("CS1101S")), progress.getCompletedModules());
+        assertEquals(new HashSet<>(codes("CS1231S")), progress.getPlannedModules());
+        assertEquals(4, progress.getCompletedCredits());
+        assertEquals(4, progress.getPlannedCredits());
+        assertEquals("4/12 MCs completed, 4 MCs planned", progress.toString());
+    }
+
+    @Test
+    public void addModule_moduleInRequirement_updatedIncrementally() throws Exception {
+        RequirementProgress requirementProgress = profile.getRequirementProgress(course);
+        addModule(1, "CS1101S");
+        addModule(1, "CS1231S");
+        addModule(1, "CS2030S");
+        assertTrue(requirementProgress.getProgress(foundation).isFulfilled());
+        // CS1231S also counts toward the focus area listing it
+        assertEquals(4, requirementProgress.getProgress(focusArea).getCompletedCredits());
+
+        addModule(3, "CS3216");
+        addModule(4, "CS3217");
+        assertFalse(requirementProgress.getProgress(teamProject).isFulfilled());
+        assertTrue(requirementProgress.getProgress(teamProject).isPlannedToBeFulfilled());
+    }
+
+    @Test
+    public void addModule_partOfGroup_countedOnlyWithWholeGroup() throws Exception {
+        RequirementProgress requirementProgress = profile.getRequirementProgress(course);
+        addModule(1, "CS3216");
+        assertEquals(0, requirementProgress.getProgress(teamProject).getCompletedCredits());
+        assertTrue(requirementProgress.getProgress(teamProject).getCompletedModules().isEmpty());
+
+        addModule(1, "CS3217");
+        assertEquals(new HashSet<>(codes("CS3216", "CS3217")),
+                requirementProgress.getProgress(teamProject).getCompletedModules());
+        assertTrue(requirementProgress.getProgress(teamProject).isFulfilled());
+
+        profile.deleteModule(ModuleCode.of("CS3217"));
+        assertEquals(0, requirementProgress.getProgress(teamProject).getCompletedCredits());
+    }
+
+    @Test
+    public void addModule_variantOfModuleInRequirement_counted() throws Exception {
+        RequirementProgress requirementProgress = profile.getRequirementProgress(course);
+        addModule(1, "CS1010S");
+        assertEquals(new HashSet<>(codes("CS1010S")),
+                requirementProgress.getProgress(programming).getCompletedModules());
+        assertTrue(requirementProgress.getProgress(programming).isFulfilled());
+
+        profile.deleteModule(ModuleCode.of("CS1010S"));
+        assertFalse(requirementProgress.getProgress(programming).isFulfilled());
+    }
+
+    @Test
+    public void deleteModule_moduleInRequirement_noLongerCounted() throws Exception {
+        addModule(1, "CS1101S");
+        addModule(1, "CS1231S");
+        RequirementProgress requirementProgress = profile.getRequirementProgress(course);
+
+        profile.deleteModule(ModuleCode.of("CS1231S"));
+        assertEquals(new HashSet<>(codes("CS1101S")),
+                requirementProgress.getProgress(foundation).getCompletedModules());
+        assertEquals(0, requirementProgress.getProgress(focusArea).getCompletedCredits());
+    }
+
+    @Test
+    public void getProgress_currentSemesterChanged_plannedModulesCompleted() throws Exception {
+        addModule(2, "CS1101S");
+        RequirementProgress requirementProgress = profile.getRequirementProgress(course);
+        assertEquals(4, requirementProgress.getProgress(foundation).getPlannedCredits());
+
+        profile.setCurrentSemester(3);
+        assertEquals(4, requirementProgress.getProgress(foundation).getCompletedCredits());
+        assertEquals(0, requirementProgress.getProgress(foundation).getPlannedCredits());
+    }
+
+    @Test
+    public void getRequirementProgress_sameCourse_sameTracker() {
+        assertSame(profile.getRequirementProgress(course), profile.getRequirementProgress(course));
+    }
+}
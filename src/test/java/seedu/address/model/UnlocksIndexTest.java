@@ -0,0 +1,70 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.ModuleBuilder.and;
+import static seedu.address.testutil.ModuleBuilder.codes;
+import static seedu.address.testutil.ModuleBuilder.leaf;
+import static seedu.address.testutil.ModuleBuilder.or;
+
+import java.util.Collections;
+import java.util.HashSet;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.profile.course.module.ModuleCode;
+import seedu.address.testutil.ModuleBuilder;
+
+public class UnlocksIndexTest {
+
+    private final ModuleList moduleList = new ModuleList();
+
+    public UnlocksIndexTest() {
+        moduleList.addModule(new ModuleBuilder().withModuleCode("CS1010S").build());
+        moduleList.addModule(new ModuleBuilder().withModuleCode("CS2030").withPrereqTree(leaf("CS1010")).build());
+        moduleList.addModule(new ModuleBuilder().withModuleCode("CS2040").withPrereqTree(leaf("CS1010")).build());
+        moduleList.addModule(new ModuleBuilder().withModuleCode("CS2103T")
+                .withPrereqTree(or(leaf("CS2040C"), and(leaf("CS2030"), leaf("CS2040")))).build());
+        moduleList.addModule(new ModuleBuilder().withModuleCode("CS3203").withPrereqTree(leaf("CS2103T")).build());
+    }
+
+    @Test
+    public void getDirectUnlocks_moduleInPrereqTrees_modulesListingIt() {
+        UnlocksIndex index = new UnlocksIndex(moduleList);
+        assertEquals(codes("CS2103T"), index.getDirectUnlocks(new ModuleCode("CS2030")));
+        assertEquals(codes("CS2103T"), index.getDirectUnlocks(new ModuleCode("CS2040C")));
+        assertEquals(codes("CS3203"), index.getDirectUnlocks(new ModuleCode("CS2103T")));
+    }
+
+    @Test
+    public void getDirectUnlocks_variantOfPrereq_modulesListingBaseCode() {
+        UnlocksIndex index = new UnlocksIndex(moduleList);
+        assertEquals(new HashSet<>(codes("CS2030", "CS2040")),
+                new HashSet<>(index.getDirectUnlocks(new ModuleCode("CS1010S"))));
+    }
+
+    @Test
+    public void getDirectUnlocks_moduleNotInPrereqTrees_empty() {
+        UnlocksIndex index = new UnlocksIndex(moduleList);
+        assertTrue(index.getDirectUnlocks(new ModuleCode("CS3203")).isEmpty());
+        assertTrue(index.getDirectUnlocks(new ModuleCode("CS9999")).isEmpty());
+    }
+
+    @Test
+    public void getTransitiveUnlocks_chainOfPrereqs_modulesUnlockedThroughOthers() {
+        UnlocksIndex index = new UnlocksIndex(moduleList);
+        assertEquals(codes("CS2103T", "CS3203"), index.getTransitiveUnlocks(new ModuleCode("CS1010S")));
+        assertEquals(codes("CS3203"), index.getTransitiveUnlocks(new ModuleCode("CS2030")));
+        assertEquals(Collections.emptyList(), index.getTransitiveUnlocks(new ModuleCode("CS2103T")));
+    }
+
+    @Test
+    public void constructor_fromDirectUnlocksMap_sameUnlocks() {
+        UnlocksIndex index = new UnlocksIndex(moduleList);
+        UnlocksIndex copy = new UnlocksIndex(index.getDirectUnlocksMap());
+        assertEquals(index.getDirectUnlocks(new ModuleCode("CS1010S")),
+                copy.getDirectUnlocks(new ModuleCode("CS1010S")));
+        assertEquals(index.getTransitiveUnlocks(new ModuleCode("CS1010S")),
+                copy.getTransitiveUnlocks(new ModuleCode("CS1010S")));
+    }
+}
@@ -0,0 +1,74 @@
+package seedu.address.model.profile;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.profile.course.module.personal.ModuleGrade;
+
+public class CapTest {
+
+    private static final double DELTA = 1e-9;
+
+    @Test
+    public void getValue_noModules_zero() {
+        Cap cap = new Cap();
+        assertEquals(0, cap.getValue(), DELTA);
+        assertEquals("No grades added", cap.toString());
+    }
+
+    @Test
+    public void addModule_gradedModules_weightedByModularCredits() {
+        Cap cap = new Cap();
+        cap.addModule(ModuleGrade.A, 4);
+        cap.addModule(ModuleGrade.B, 8);
+        assertEquals(4.0, cap.getValue(), DELTA);
+        assertEquals("4", cap.toString());
+    }
+
+    @Test
+    public void addModule_gradesNotCounted_leftOut() {
+        Cap cap = new Cap();
+        cap.addModule(ModuleGrade.A_MINUS, 4);
+        cap.addModule(ModuleGrade.S, 4);
+        cap.addModule(ModuleGrade.U, 4);
+        cap.addModule(null, 4);
+        assertEquals(4.5, cap.getValue(), DELTA);
+
+        Cap satisfactoryOnly = new Cap();
+        satisfactoryOnly.addModule(ModuleGrade.S, 4);
+        assertEquals("No grades added", satisfactoryOnly.toString());
+    }
+
+    @Test
+    public void removeModule_gradedModule_capUpdated() {
+        Cap cap = new Cap();
+        cap.addModule(ModuleGrade.A, 4);
+        cap.addModule(ModuleGrade.C, 4);
+        cap.removeModule(ModuleGrade.C, 4);
+        assertEquals(5.0, cap.getValue(), DELTA);
+        cap.removeModule(ModuleGrade.A, 4);
+        assertEquals(0, cap.getValue(), DELTA);
+    }
+
+    @Test
+    public void getGradeNeeded_ungradedModules_lowestGradeReachingTarget() {
+        Cap cap = new Cap();
+        cap.addModule(ModuleGrade.B, 4);
+        cap.addModule(null, 4);
+        // (3.5 + 4.5) / 2 = 4.0 exactly
+        assertEquals(Optional.of(ModuleGrade.A_MINUS), cap.getGradeNeeded(4.0));
+        assertEquals(Optional.of(ModuleGrade.F), cap.getGradeNeeded(1.0));
+        assertFalse(cap.getGradeNeeded(4.5).isPresent());
+    }
+
+    @Test
+    public void getGradeNeeded_noUngradedModules_empty() {
+        Cap cap = new Cap();
+        cap.addModule(ModuleGrade.A, 4);
+        assertFalse(cap.getGradeNeeded(4.0).isPresent());
+    }
+}
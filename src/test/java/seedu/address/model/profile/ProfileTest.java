@@ -1,5 +1,6 @@
 package seedu.address.model.profile;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -17,6 +18,7 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_SEMESTER_BOB;
 
 import java.util.ArrayList;
 import java.util.NoSuchElementException;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
@@ -33,6 +35,7 @@ import seedu.address.model.profile.course.module.Prereqs;
 import seedu.address.model.profile.course.module.SemesterData;
 import seedu.address.model.profile.course.module.Title;
 import seedu.address.model.profile.course.module.exceptions.ModuleNotFoundException;
+import seedu.address.model.profile.course.module.personal.ModuleGrade;
 import seedu.address.model.profile.exceptions.MaxModsException;
 
 //@@author joycelynteo
@@ -97,6 +100,31 @@ public class ProfileTest {
         assertThrows(ModuleNotFoundException.class, () -> amy.deleteModule(moduleCodeAmy));
     }
 
+    @Test
+    public void setGrade_modulesAdded_capUpdated() throws Exception {
+        Module moduleAmy = new Module(new ModuleCode(VALID_MODCODE_AMY), new Title(""), new Prereqs(""),
+                new Preclusions(""), new ModularCredits("4"), new Description(""),
+                new SemesterData(new ArrayList<>()), new PrereqTreeNode());
+        Module moduleBob = new Module(new ModuleCode(VALID_MODCODE_BOB), new Title(""), new Prereqs(""),
+                new Preclusions(""), new ModularCredits("4"), new Description(""),
+                new SemesterData(new ArrayList<>()), new PrereqTreeNode());
+        amy.addModule(1, moduleAmy);
+        amy.addModule(1, moduleBob);
+
+        amy.setGrade(moduleAmy, "A");
+        assertEquals(5.0, amy.getCap().getValue());
+        assertEquals(Optional.of(ModuleGrade.B), amy.getGradeNeededForCap(4.25));
+
+        amy.setGrade(moduleBob, "B");
+        assertEquals(4.25, amy.getCap().getValue());
+
+        amy.deleteGrade(moduleAmy);
+        assertEquals(3.5, amy.getCap().getValue());
+
+        amy.deleteModule(moduleBob.getModuleCode());
+        assertEquals(0, amy.getCap().getValue());
+    }
+
     @Test
     public void isSameProfile() {
         // same object -> returns true
@@ -0,0 +1,71 @@
+package seedu.address.model.profile.course.module;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class ModuleCodeTest {
+
+    @Test
+    public void hashCode_equalModuleCodes_sameHashCode() {
+        assertEquals(new ModuleCode("CS1101S").hashCode(), new ModuleCode("cs1101s").hashCode());
+    }
+
+    @Test
+    public void hashSet_containsEqualModuleCode_returnsTrue() {
+        Set<ModuleCode> moduleCodes = new HashSet<>();
+        moduleCodes.add(new ModuleCode("CS2103T"));
+        assertTrue(moduleCodes.contains(new ModuleCode("CS2103T")));
+        assertFalse(moduleCodes.contains(new ModuleCode("CS2103")));
+    }
+
+    @Test
+    public void removeSuffix() {
+        assertEquals(new ModuleCode("CS1010"), new ModuleCode("CS1010S").removeSuffix());
+        assertEquals(new ModuleCode("CS1010"), new ModuleCode("CS1010").removeSuffix());
+        assertEquals(new ModuleCode("GER1000"), new ModuleCode("GER1000H").removeSuffix());
+    }
+
+    @Test
+    public void of_equalModuleCodes_sameInstance() {
+        assertSame(ModuleCode.of("CS2040C"), ModuleCode.of("cs2040c"));
+        assertEquals(new ModuleCode("CS2040C"), ModuleCode.of("CS2040C"));
+    }
+
+    @Test
+    public void of_lowerCaseModuleCode_sameInstanceAsUpperCase() {
+        ModuleCode lowerCase = ModuleCode.of("ma1101r");
+        assertSame(lowerCase, ModuleCode.of("MA1101R"));
+        assertEquals("MA1101R", lowerCase.toString());
+    }
+
+    @Test
+    public void removeSuffix_variant_canonicalBaseCode() {
+        assertSame(ModuleCode.of("CS1010"), new ModuleCode("CS1010S").removeSuffix());
+        ModuleCode baseCode = new ModuleCode("CS1010");
+        assertSame(baseCode, baseCode.removeSuffix());
+    }
+
+    @Test
+    public void getBaseCodeHash_variants_sameHash() {
+        assertEquals(new ModuleCode("CS1010").getBaseCodeHash(), new ModuleCode("CS1010X").getBaseCodeHash());
+        assertEquals(new ModuleCode("CS1010S").getBaseCodeHash(), ModuleCode.of("CS1010E").getBaseCodeHash());
+        assertNotEquals(new ModuleCode("CS1010").getBaseCodeHash(), new ModuleCode("CS1101S").getBaseCodeHash());
+    }
+
+    @Test
+    public void isVariantOf() {
+        assertTrue(new ModuleCode("CS1010S").isVariantOf(new ModuleCode("CS1010")));
+        assertTrue(new ModuleCode("CS1010").isVariantOf(new ModuleCode("CS1010")));
+        assertFalse(new ModuleCode("CS1010S").isVariantOf(new ModuleCode("CS1010X")));
+        assertFalse(new ModuleCode("CS1010").isVariantOf(new ModuleCode("CS1010S")));
+        assertFalse(new ModuleCode("CS2040").isVariantOf(new ModuleCode("CS1010")));
+    }
+}
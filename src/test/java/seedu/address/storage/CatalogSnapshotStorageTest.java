@@ -0,0 +1,190 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.ModuleBuilder.and;
+import static seedu.address.testutil.ModuleBuilder.leaf;
+import static seedu.address.testutil.ModuleBuilder.or;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.CourseList;
+import seedu.address.model.ModuleList;
+import seedu.address.model.ModuleSearchIndex;
+import seedu.address.model.UnlocksIndex;
+import seedu.address.model.profile.course.module.Module;
+import seedu.address.model.profile.course.module.ModuleCode;
+import seedu.address.testutil.ModuleBuilder;
+
+public class CatalogSnapshotStorageTest {
+    private static final String MODULE_LIST_FILE = "/data/JsonModuleListStorageTest/validModuleList.json";
+    private static final String COURSE_LIST_FILE = "/data/courses.json";
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readModuleList_snapshotOfJsonCatalog_sameModules() throws Exception {
+        ModuleList expected = new JsonModuleListStorage(MODULE_LIST_FILE).readModuleList().get();
+        CatalogSnapshotStorage storage = saveAndOpen(expected, new CourseList(), currentSourceHash());
+
+        ModuleList actual = storage.readModuleList().get();
+        assertEquals(expected.getModuleList(), actual.getModuleList());
+        for (Module module : expected.getModuleList()) {
+            assertEquals(module.toString(), actual.getModuleWithModuleCode(module.getModuleCode()).toString());
+        }
+        Module cs2030 = actual.getModuleWithModuleCode(new ModuleCode("CS2030"));
+        assertEquals("CS1010S", cs2030.getPrereqTreeNode().toString());
+        assertNull(actual.getModuleWithModuleCode(new ModuleCode("CS1010S")).getPrereqTreeNode());
+    }
+
+    @Test
+    public void readModuleList_nestedPrereqTree_treeRestored() throws Exception {
+        ModuleList moduleList = new ModuleList();
+        Module module = new ModuleBuilder().withSemesters("1", "2", "4")
+                .withPrereqTree(or(leaf("CS2040C"), and(leaf("CS2030"), leaf("CS2040")), leaf("CS1020"))).build();
+        moduleList.addModule(module);
+
+        Module actual = saveAndOpen(moduleList, new CourseList(), currentSourceHash()).readModuleList().get()
+                .getModuleWithModuleCode(module.getModuleCode());
+        assertEquals(module.getPrereqTreeNode().toString(), actual.getPrereqTreeNode().toString());
+        assertEquals(module.getSemesterData(), actual.getSemesterData());
+        assertEquals(module.getPrereqs(), actual.getPrereqs());
+        assertEquals(module.getModularCredits(), actual.getModularCredits());
+    }
+
+    @Test
+    public void readModuleList_moreModulesThanDetailsCacheCapacity_detailsCorrect() throws Exception {
+        ModuleList moduleList = new ModuleList();
+        int moduleCount = 2 * CatalogSnapshotStorage.MODULE_DETAILS_CACHE_CAPACITY;
+        for (int i = 0; i < moduleCount; i++) {
+            moduleList.addModule(new ModuleBuilder().withModuleCode("CS" + (1000 + i))
+                    .withDescription("Description " + i).build());
+        }
+
+        ModuleList actual = saveAndOpen(moduleList, new CourseList(), currentSourceHash()).readModuleList().get();
+        for (int round = 0; round < 2; round++) {
+            for (int i = 0; i < moduleCount; i++) {
+                assertEquals("Description " + i,
+                        actual.getModuleWithModuleCode(new ModuleCode("CS" + (1000 + i))).getDescription().toString());
+            }
+        }
+    }
+
+    @Test
+    public void readUnlocksIndex_snapshotOfModuleList_sameUnlocks() throws Exception {
+        ModuleList moduleList = new JsonModuleListStorage(MODULE_LIST_FILE).readModuleList().get();
+        UnlocksIndex expected = new UnlocksIndex(moduleList);
+
+        UnlocksIndex actual = saveAndOpen(moduleList, new CourseList(), currentSourceHash()).readUnlocksIndex().get();
+        assertEquals(expected.getDirectUnlocksMap(), actual.getDirectUnlocksMap());
+        assertEquals(Collections.singletonList(new ModuleCode("CS2030")),
+                actual.getDirectUnlocks(new ModuleCode("CS1010S")));
+    }
+
+    @Test
+    public void readSearchIndex_snapshotOfModuleList_sameResults() throws Exception {
+        ModuleList moduleList = new JsonModuleListStorage(MODULE_LIST_FILE).readModuleList().get();
+        ModuleSearchIndex expected = new ModuleSearchIndex(moduleList);
+
+        ModuleSearchIndex actual = saveAndOpen(moduleList, new CourseList(), currentSourceHash())
+                .readSearchIndex().get();
+        assertEquals(expected.getModuleCodes(), actual.getModuleCodes());
+        assertTrue(Arrays.equals(expected.getTerms(), actual.getTerms()));
+        for (String query : new String[] {"programming", "progr", "methodology", "cs2030"}) {
+            assertEquals(expected.search(query, 10), actual.search(query, 10));
+        }
+    }
+
+    @Test
+    public void readCourseList_snapshotOfJsonCatalog_sameCourses() throws Exception {
+        CourseList expected = new JsonCourseListStorage(COURSE_LIST_FILE).readCourseList().get();
+        CatalogSnapshotStorage storage = saveAndOpen(new ModuleList(), expected, currentSourceHash());
+
+        CourseList actual = storage.readCourseList().get();
+        assertEquals(expected.getCourseList().toString(), actual.getCourseList().toString());
+    }
+
+    @Test
+    public void read_staleSnapshot_returnsEmpty() throws Exception {
+        ModuleList moduleList = new JsonModuleListStorage(MODULE_LIST_FILE).readModuleList().get();
+        CatalogSnapshotStorage storage = saveAndOpen(moduleList, new CourseList(), new byte[32]);
+
+        assertFalse(storage.readModuleList().isPresent());
+        assertFalse(storage.readCourseList().isPresent());
+    }
+
+    @Test
+    public void read_missingSnapshot_returnsEmpty() throws Exception {
+        Path missingFile = testFolder.resolve("missing.snapshot");
+        assertFalse(new CatalogSnapshotStorage(missingFile.toUri().toURL(), MODULE_LIST_FILE, COURSE_LIST_FILE)
+                .readModuleList().isPresent());
+        assertFalse(new CatalogSnapshotStorage("/data/missing.snapshot", MODULE_LIST_FILE, COURSE_LIST_FILE)
+                .readModuleList().isPresent());
+    }
+
+    @Test
+    public void read_corruptedSnapshot_returnsEmpty() throws Exception {
+        Path file = testFolder.resolve("catalog.snapshot");
+        CatalogSnapshotStorage.saveSnapshot(new JsonModuleListStorage(MODULE_LIST_FILE).readModuleList().get(),
+                new CourseList(), currentSourceHash(), file);
+        byte[] content = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(content, content.length - 10));
+
+        Optional<ModuleList> moduleList = new CatalogSnapshotStorage(file.toUri().toURL(), MODULE_LIST_FILE,
+                COURSE_LIST_FILE).readModuleList();
+        assertFalse(moduleList.isPresent());
+    }
+
+    @Test
+    public void readModuleList_cyclicPrereqTree_returnsEmpty() throws Exception {
+        ModuleList moduleList = new ModuleList();
+        moduleList.addModule(new ModuleBuilder().withPrereqTree(and(leaf("CS1010"), leaf("CS1231"))).build());
+        Path file = testFolder.resolve("catalog.snapshot");
+        CatalogSnapshotStorage.saveSnapshot(moduleList, new CourseList(), currentSourceHash(), file);
+
+        // Make the root of the prerequisite tree its own first child
+        ByteBuffer content = ByteBuffer.wrap(Files.readAllBytes(file));
+        content.position(2 * Integer.BYTES + 32);
+        int stringCount = content.getInt();
+        content.position(content.position() + (stringCount + 1) * Integer.BYTES);
+        int blobLength = content.getInt();
+        content.position(content.position() + blobLength);
+        int moduleCount = content.getInt();
+        content.position(content.position() + moduleCount * CatalogSnapshotStorage.MODULE_RECORD_INTS * Integer.BYTES);
+        int rootNode = content.position() + Integer.BYTES;
+        content.putInt(rootNode + Integer.BYTES, 0);
+        Files.write(file, content.array());
+
+        assertFalse(new CatalogSnapshotStorage(file.toUri().toURL(), MODULE_LIST_FILE, COURSE_LIST_FILE)
+                .readModuleList().isPresent());
+    }
+
+    @Test
+    public void computeSourceHash_differentSources_differentHashes() throws Exception {
+        assertTrue(Arrays.equals(currentSourceHash(), currentSourceHash()));
+        assertFalse(Arrays.equals(currentSourceHash(),
+                CatalogSnapshotStorage.computeSourceHash(COURSE_LIST_FILE, MODULE_LIST_FILE)));
+    }
+
+    private byte[] currentSourceHash() throws Exception {
+        return CatalogSnapshotStorage.computeSourceHash(MODULE_LIST_FILE, COURSE_LIST_FILE);
+    }
+
+    private CatalogSnapshotStorage saveAndOpen(ModuleList moduleList, CourseList courseList, byte[] sourceHash)
+            throws Exception {
+        Path file = testFolder.resolve("catalog.snapshot");
+        CatalogSnapshotStorage.saveSnapshot(moduleList, courseList, sourceHash, file);
+        return new CatalogSnapshotStorage(file.toUri().toURL(), MODULE_LIST_FILE, COURSE_LIST_FILE);
+    }
+}
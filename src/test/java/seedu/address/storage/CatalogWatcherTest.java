@@ -0,0 +1,36 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+//@@author chanckben
+public class CatalogWatcherTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void start_watchedFileReplaced_reloaded() throws Exception {
+        Path moduleList = testFolder.resolve("modulesPrereq.json");
+        Files.write(moduleList, "{}".getBytes(StandardCharsets.UTF_8));
+        CountDownLatch reloaded = new CountDownLatch(1);
+
+        try (CatalogWatcher watcher = new CatalogWatcher(List.of(moduleList), reloaded::countDown, 10)) {
+            watcher.start();
+            Path replacement = testFolder.resolve("modulesPrereq.json.tmp");
+            Files.write(replacement, "{\"modules\":[]}".getBytes(StandardCharsets.UTF_8));
+            Files.move(replacement, moduleList, StandardCopyOption.REPLACE_EXISTING);
+            assertTrue(reloaded.await(30, TimeUnit.SECONDS));
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ModuleList;
+import seedu.address.model.ModuleManager;
+import seedu.address.model.ProfileList;
+import seedu.address.model.profile.Name;
+import seedu.address.model.profile.Profile;
+import seedu.address.model.profile.course.CourseName;
+import seedu.address.model.profile.course.FocusArea;
+import seedu.address.model.profile.course.module.ModuleCode;
+import seedu.address.model.profile.course.module.personal.Deadline;
+import seedu.address.testutil.ModuleBuilder;
+
+//@@author chanckben
+public class JournalingProfileListStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath() {
+        return testFolder.resolve("userProfiles.json");
+    }
+
+    private Path journalPath() {
+        return JournalingProfileListStorage.getJournalFilePath(filePath());
+    }
+
+    private static ProfileList profileList(Profile profile) {
+        ProfileList profileList = new ProfileList();
+        profileList.addProfile(profile);
+        return profileList;
+    }
+
+    private static Profile profile() throws Exception {
+        Profile profile = new Profile(new Name("John"), new CourseName("Computer Science"), 3,
+                new FocusArea("Algorithms and Theory"));
+        profile.addModule(1, new ModuleBuilder().withModuleCode("CS1101S").build());
+        profile.addModule(2, new ModuleBuilder().withModuleCode("CS2030S").build());
+        return profile;
+    }
+
+    @Test
+    public void saveProfileList_firstSave_snapshotWithoutJournal() throws Exception {
+        JournalingProfileListStorage storage = new JournalingProfileListStorage(filePath());
+        storage.saveProfileList(profileList(profile()));
+
+        assertTrue(Files.exists(filePath()));
+        assertFalse(Files.exists(journalPath()));
+        // The snapshot can still be read as a plain profile list
+        assertTrue(new JsonProfileListStorage(filePath()).readProfileList().isPresent());
+    }
+
+    @Test
+    public void saveProfileList_changesAfterFirstSave_onlyChangesJournaled() throws Exception {
+        JournalingProfileListStorage storage = new JournalingProfileListStorage(filePath());
+        Profile profile = profile();
+        ProfileList profileList = profileList(profile);
+        storage.saveProfileList(profileList);
+        String snapshot = new String(Files.readAllBytes(filePath()), StandardCharsets.UTF_8);
+
+        profile.addModule(3, new ModuleBuilder().withModuleCode("CS3230").build());
+        profile.setGrade(profile.getModule(ModuleCode.of("CS1101S")), "A");
+        profile.getModule(ModuleCode.of("CS2030S")).getPersonal().addDeadline(new Deadline("CS2030S", "Lab 1"));
+        profile.deleteModule(ModuleCode.of("CS2030S"));
+        profile.setCurrentSemester(4);
+        storage.saveProfileList(profileList);
+        storage.saveProfileList(profileList);
+
+        assertEquals(snapshot, new String(Files.readAllBytes(filePath()), StandardCharsets.UTF_8));
+        // CS3230 added, CS1101S graded, CS2030S deleted and the current semester changed
+        assertEquals(4, Files.readAllLines(journalPath()).size());
+
+        ProfileList read = new JournalingProfileListStorage(filePath()).readProfileList().get();
+        Profile readProfile = read.getProfileWithName(new Name("John"));
+        assertEquals(4, readProfile.getOverallSemester());
+        assertEquals(3, readProfile.getModuleSemester(ModuleCode.of("CS3230")));
+        assertEquals("A", readProfile.getModule(ModuleCode.of("CS1101S")).getGrade());
+        assertFalse(readProfile.hasModule(ModuleCode.of("CS2030S")));
+    }
+
+    @Test
+    public void saveProfileList_journalFull_compacted() throws Exception {
+        JournalingProfileListStorage storage = new JournalingProfileListStorage(filePath());
+        Profile profile = profile();
+        ProfileList profileList = profileList(profile);
+        storage.saveProfileList(profileList);
+        for (int i = 0; i <= JournalingProfileListStorage.COMPACTION_THRESHOLD; i++) {
+            profile.setCurrentSemester(i % 2 + 1);
+            storage.saveProfileList(profileList);
+        }
+
+        assertFalse(Files.exists(journalPath()));
+        assertEquals(JournalingProfileListStorage.COMPACTION_THRESHOLD % 2 + 1,
+                new JournalingProfileListStorage(filePath()).readProfileList().get()
+                        .getProfileWithName(new Name("John")).getOverallSemester());
+    }
+
+    @Test
+    public void readProfileList_partlyWrittenLastRecord_ignoredAndCompactedOnSave() throws Exception {
+        JournalingProfileListStorage storage = new JournalingProfileListStorage(filePath());
+        Profile profile = profile();
+        ProfileList profileList = profileList(profile);
+        storage.saveProfileList(profileList);
+        profile.setCurrentSemester(5);
+        storage.saveProfileList(profileList);
+        Files.write(journalPath(), "{\"type\":\"module\",\"pro".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        JournalingProfileListStorage reopened = new JournalingProfileListStorage(filePath());
+        ProfileList read = reopened.readProfileList().get();
+        assertEquals(5, read.getProfileWithName(new Name("John")).getOverallSemester());
+
+        reopened.saveProfileList(read);
+        assertFalse(Files.exists(journalPath()));
+    }
+
+    @Test
+    public void readProfileList_corruptRecordBeforeLast_throwsDataConversionException() throws Exception {
+        JournalingProfileListStorage storage = new JournalingProfileListStorage(filePath());
+        storage.saveProfileList(profileList(profile()));
+        Files.write(journalPath(), List.of("not a record", "{}"), StandardCharsets.UTF_8);
+
+        assertThrows(DataConversionException.class, () ->
+                new JournalingProfileListStorage(filePath()).readProfileList());
+    }
+
+    @Test
+    public void readProfileList_missingFiles_empty() throws Exception {
+        assertFalse(new JournalingProfileListStorage(filePath()).readProfileList().isPresent());
+    }
+
+    @Test
+    public void readProfileList_fullFormatSnapshotWithModuleCatalog_compactedToSlimFormat() throws Exception {
+        Profile profile = profile();
+        ProfileList profileList = profileList(profile);
+        JournalingProfileListStorage storage = new JournalingProfileListStorage(filePath());
+        storage.saveProfileList(profileList);
+        profile.setCurrentSemester(4);
+        storage.saveProfileList(profileList);
+        long fullSize = Files.size(filePath());
+
+        ModuleList moduleList = new ModuleList();
+        moduleList.addModule(new ModuleBuilder().withModuleCode("CS1101S").build());
+        moduleList.addModule(new ModuleBuilder().withModuleCode("CS2030S").build());
+        ProfileList read = new JournalingProfileListStorage(filePath(), new ModuleManager(moduleList))
+                .readProfileList().get();
+
+        assertEquals(4, read.getProfileWithName(new Name("John")).getOverallSemester());
+        assertFalse(Files.exists(journalPath()));
+        assertTrue(Files.size(filePath()) < fullSize);
+    }
+}
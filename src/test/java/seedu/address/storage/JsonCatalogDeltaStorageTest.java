@@ -0,0 +1,78 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.CatalogDelta;
+import seedu.address.model.ModuleList;
+import seedu.address.model.ModuleManager;
+import seedu.address.model.profile.course.module.Module;
+import seedu.address.model.profile.course.module.ModuleCode;
+import seedu.address.model.profile.course.module.PrereqTreeNode;
+import seedu.address.testutil.ModuleBuilder;
+
+//@@author chanckben
+public class JsonCatalogDeltaStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private static ModuleManager baseCatalog() {
+        ModuleList moduleList = new ModuleList();
+        moduleList.addModule(new ModuleBuilder().withModuleCode("CS2030")
+                .withPrereqTree(new PrereqTreeNode(ModuleCode.of("CS1010"))).build());
+        return new ModuleManager(moduleList);
+    }
+
+    private List<CatalogDelta> readCatalogDeltas(String json, ModuleManager baseCatalog) throws Exception {
+        Path file = testFolder.resolve("catalogDeltas.json");
+        Files.write(file, json.getBytes(StandardCharsets.UTF_8));
+        return new JsonCatalogDeltaStorage(file.toString()).readCatalogDeltas(baseCatalog).get();
+    }
+
+    @Test
+    public void readCatalogDeltas_partlyChangedModule_unchangedFieldsShared() throws Exception {
+        ModuleManager baseCatalog = baseCatalog();
+        Module baseModule = baseCatalog.getModule(ModuleCode.of("CS2030"));
+
+        List<CatalogDelta> deltas = readCatalogDeltas("{\"catalogs\":[{\"academicYear\":\"2018/2019\","
+                + "\"modules\":[{\"moduleCode\":\"CS2030\",\"moduleCredit\":\"5\"}],\"removed\":[\"CS1231\"]}]}",
+                baseCatalog);
+
+        assertEquals(1, deltas.size());
+        Module changedModule = deltas.get(0).getChangedModules().get(0);
+        assertEquals("5", changedModule.getModularCredits().toString());
+        assertTrue(changedModule.getPrereqTreeNode() == baseModule.getPrereqTreeNode());
+        assertTrue(changedModule.getTitle() == baseModule.getTitle());
+        assertEquals(List.of(ModuleCode.of("CS1231")), deltas.get(0).getRemovedModuleCodes());
+    }
+
+    @Test
+    public void readCatalogDeltas_newModuleMissingFields_throwsDataConversionException() {
+        assertThrows(DataConversionException.class, () -> readCatalogDeltas("{\"catalogs\":[{\"academicYear\":"
+                + "\"2018/2019\",\"modules\":[{\"moduleCode\":\"CS1020\"}]}]}", baseCatalog()));
+    }
+
+    @Test
+    public void readCatalogDeltas_invalidAcademicYear_throwsDataConversionException() {
+        assertThrows(DataConversionException.class, () -> readCatalogDeltas(
+                "{\"catalogs\":[{\"academicYear\":\"2018\"}]}", baseCatalog()));
+    }
+
+    @Test
+    public void readCatalogDeltas_missingFile_empty() throws Exception {
+        assertFalse(new JsonCatalogDeltaStorage(testFolder.resolve("missing.json").toString())
+                .readCatalogDeltas(baseCatalog()).isPresent());
+    }
+}
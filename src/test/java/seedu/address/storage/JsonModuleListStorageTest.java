@@ -1,5 +1,7 @@
 package seedu.address.storage;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
@@ -9,11 +11,13 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.ModuleList;
+import seedu.address.model.profile.course.module.ModuleCode;
 
 //@@author chanckben
 public class JsonModuleListStorageTest {
     private static final Path TEST_DATA_FOLDER =
             Paths.get("src", "test", "data", "JsonModuleListStorageTest");
+    private static final String TEST_RESOURCE_FOLDER = "/data/JsonModuleListStorageTest/";
 
     @Test
     public void readModuleList_nullFilePath_throwsNullPointerException() {
@@ -51,4 +55,19 @@ public class JsonModuleListStorageTest {
         assertThrows(DataConversionException.class, () ->
                 readModuleList("invalidAndValidModuleModuleList.json"));
     }
+
+    @Test
+    public void readModuleList_validModuleListResource_success() throws Exception {
+        ModuleList moduleList = new JsonModuleListStorage(TEST_RESOURCE_FOLDER + "validModuleList.json")
+                .readModuleList().get();
+        assertEquals(2, moduleList.getModuleList().size());
+        assertTrue(moduleList.hasModuleWithModuleCode(new ModuleCode("CS1010S")));
+        assertTrue(moduleList.getModuleWithModuleCode(new ModuleCode("CS2030")).getPrereqTreeNode() != null);
+    }
+
+    @Test
+    public void readModuleList_duplicateModuleListResource_throwDataConversionException() {
+        assertThrows(DataConversionException.class, () ->
+                new JsonModuleListStorage(TEST_RESOURCE_FOLDER + "duplicateModuleList.json").readModuleList());
+    }
 }
@@ -1,22 +1,38 @@
 package seedu.address.storage;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ModuleList;
+import seedu.address.model.ModuleManager;
 import seedu.address.model.ProfileList;
+import seedu.address.model.profile.Name;
+import seedu.address.model.profile.Profile;
+import seedu.address.model.profile.course.CourseName;
+import seedu.address.model.profile.course.FocusArea;
+import seedu.address.model.profile.course.module.ModuleCode;
+import seedu.address.testutil.ModuleBuilder;
 
 //@@author chanckben
 public class JsonProfileListStorageTest {
     private static final Path TEST_DATA_FOLDER =
             Paths.get("src", "test", "data", "JsonProfileListStorageTest");
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void readProfileList_nullFilePath_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> readProfileList(null));
@@ -74,4 +90,59 @@ public class JsonProfileListStorageTest {
     public void saveProfileList_nullFilePath_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveProfileList(new ProfileList(), null));
     }
+
+    private static ModuleManager moduleCatalog() {
+        ModuleList moduleList = new ModuleList();
+        moduleList.addModule(new ModuleBuilder().withModuleCode("CS1101S").build());
+        return new ModuleManager(moduleList);
+    }
+
+    private static ProfileList profileList() throws Exception {
+        Profile profile = new Profile(new Name("John"), new CourseName("Computer Science"), 2,
+                new FocusArea("Algorithms and Theory"));
+        profile.addModule(1, new ModuleBuilder().withModuleCode("CS1101S").build());
+        profile.addModule(1, new ModuleBuilder().withModuleCode("CS9999").withTitle("Retired Module").build());
+        profile.setGrade(profile.getModule(ModuleCode.of("CS1101S")), "A");
+        ProfileList profileList = new ProfileList();
+        profileList.addProfile(profile);
+        return profileList;
+    }
+
+    @Test
+    public void saveProfileList_withModuleCatalog_onlyDetailsOfModulesNotInCatalogSaved() throws Exception {
+        Path filePath = testFolder.resolve("profiles.json");
+        ModuleManager moduleCatalog = moduleCatalog();
+        new JsonProfileListStorage(filePath, moduleCatalog).saveProfileList(profileList());
+
+        String json = new String(Files.readAllBytes(filePath), StandardCharsets.UTF_8);
+        assertFalse(json.contains(ModuleBuilder.DEFAULT_TITLE));
+        assertTrue(json.contains("Retired Module"));
+
+        Profile read = new JsonProfileListStorage(filePath, moduleCatalog).readProfileList().get()
+                .getProfileWithName(new Name("John"));
+        assertEquals("A", read.getModule(ModuleCode.of("CS1101S")).getGrade());
+        assertEquals(ModuleBuilder.DEFAULT_TITLE, read.getModule(ModuleCode.of("CS1101S")).getTitle().toString());
+        assertEquals("Retired Module", read.getModule(ModuleCode.of("CS9999")).getTitle().toString());
+    }
+
+    @Test
+    public void readProfileList_fullFormatWithModuleCatalog_migratedToSlimFormat() throws Exception {
+        Path filePath = testFolder.resolve("profiles.json");
+        new JsonProfileListStorage(filePath).saveProfileList(profileList());
+        long fullSize = Files.size(filePath);
+
+        ProfileList read = new JsonProfileListStorage(filePath, moduleCatalog()).readProfileList().get();
+        assertEquals("A", read.getProfileWithName(new Name("John")).getModule(ModuleCode.of("CS1101S")).getGrade());
+        assertTrue(Files.size(filePath) < fullSize);
+        assertFalse(new String(Files.readAllBytes(filePath), StandardCharsets.UTF_8)
+                .contains(ModuleBuilder.DEFAULT_TITLE));
+    }
+
+    @Test
+    public void readProfileList_slimFormatWithoutModuleCatalog_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("profiles.json");
+        new JsonProfileListStorage(filePath, moduleCatalog()).saveProfileList(profileList());
+
+        assertThrows(DataConversionException.class, () -> new JsonProfileListStorage(filePath).readProfileList());
+    }
 }
@@ -1,6 +1,7 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -8,12 +9,16 @@ import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.CatalogDelta;
+import seedu.address.model.ModuleList;
+import seedu.address.model.ModuleManager;
 import seedu.address.model.profile.Name;
 import seedu.address.model.profile.Profile;
 import seedu.address.model.profile.course.CourseName;
@@ -33,6 +38,7 @@ import seedu.address.model.profile.course.module.personal.ModuleGrade;
 import seedu.address.model.profile.course.module.personal.ModuleStatus;
 import seedu.address.model.profile.course.module.personal.Personal;
 import seedu.address.model.profile.course.module.personal.Status;
+import seedu.address.testutil.ModuleBuilder;
 
 //@@author chanckben
 public class JsonProfileTest {
@@ -152,6 +158,61 @@ public class JsonProfileTest {
         assertThrows(IllegalValueException.class, expectedMessage, profile::toModelType);
     }
 
+    @Test
+    public void toModelType_sameCatalogModuleInTwoProfiles_personalDataNotShared() throws Exception {
+        ModuleList catalogModules = new ModuleList();
+        catalogModules.addModule(new Module(new ModuleCode(VALID_MODULE_CODE), new Title(VALID_TITLE),
+                new Prereqs(VALID_PREREQUISITE), new Preclusions(VALID_PRECLUSION),
+                new ModularCredits(VALID_MODULAR_CREDITS), new Description(VALID_DESC),
+                new SemesterData(new ArrayList<>()), null));
+        ModuleManager catalog = new ModuleManager(catalogModules);
+
+        Profile first = profileTakingModule("Alice", ModuleGrade.A_PLUS.toString()).toModelType(catalog);
+        Profile second = profileTakingModule("Bob", ModuleGrade.C.toString()).toModelType(catalog);
+
+        ModuleCode moduleCode = new ModuleCode(VALID_MODULE_CODE);
+        assertEquals(ModuleGrade.A_PLUS.toString(), first.getModule(moduleCode).getGrade());
+        assertEquals(ModuleGrade.C.toString(), second.getModule(moduleCode).getGrade());
+        assertEquals(5.0, first.getCap().getValue());
+        assertEquals(2.0, second.getCap().getValue());
+        assertFalse(catalog.getModule(moduleCode).hasGrade());
+    }
+
+    @Test
+    public void toModelType_catalogYear_modulesFromCatalogOfYear() throws Exception {
+        ModuleList catalogModules = new ModuleList();
+        catalogModules.addModule(new ModuleBuilder().withModuleCode("CS1231").withTitle("Discrete Mathematics")
+                .build());
+        ModuleManager catalog = new ModuleManager(catalogModules);
+        Module oldCs1231 = new ModuleBuilder().withModuleCode("CS1231").withTitle("Discrete Structures").build();
+        catalog.addCatalogDelta(new CatalogDelta("2017/2018", Collections.singletonList(oldCs1231),
+                Collections.emptyList()));
+        Profile profile = new Profile(new Name(VALID_NAME), new CourseName(VALID_COURSENAME),
+                Integer.parseInt(VALID_CURRENT_SEMESTER), new FocusArea(VALID_SPECIALISATION));
+        profile.setCatalogYear("2017/2018");
+        profile.addModule(1, oldCs1231.withPersonal(new Personal()));
+
+        Profile read = new JsonProfile(profile, catalog).toModelType(catalog);
+
+        assertEquals("2017/2018", read.getCatalogYear().get());
+        assertEquals("Discrete Structures", read.getModule(new ModuleCode("CS1231")).getTitle().toString());
+    }
+
+    @Test
+    public void toModelType_invalidCatalogYear_throwsIllegalValueException() {
+        JsonProfile profile = new JsonProfile(VALID_NAME, VALID_COURSENAME, VALID_SPECIALISATION,
+                VALID_CURRENT_SEMESTER, "2017/2019", VALID_RECORDS);
+        assertThrows(IllegalValueException.class, CatalogDelta.MESSAGE_CONSTRAINTS, profile::toModelType);
+    }
+
+    private static JsonProfile profileTakingModule(String name, String grade) {
+        JsonPersonalModule module = new JsonPersonalModule(VALID_MODULE_CODE, null, null, null, null, null, null,
+                null, VALID_STATUS, grade, null);
+        List<JsonSemesterRecord> records = new ArrayList<>();
+        records.add(new JsonSemesterRecord("1", Collections.singletonList(module)));
+        return new JsonProfile(name, VALID_COURSENAME, VALID_SPECIALISATION, VALID_CURRENT_SEMESTER, records);
+    }
+
     // JsonSemesterRecord tests
 
     @Test
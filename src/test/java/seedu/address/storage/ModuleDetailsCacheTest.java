@@ -0,0 +1,53 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.profile.course.module.Description;
+import seedu.address.model.profile.course.module.ModuleDetails;
+import seedu.address.model.profile.course.module.Preclusions;
+import seedu.address.model.profile.course.module.Prereqs;
+
+public class ModuleDetailsCacheTest {
+
+    private final List<Integer> loaded = new ArrayList<>();
+
+    private ModuleDetails load(int record) {
+        loaded.add(record);
+        return new ModuleDetails(new Prereqs(null), new Preclusions(null), new Description("Module " + record));
+    }
+
+    @Test
+    public void constructor_nonPositiveCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new ModuleDetailsCache(0, this::load));
+    }
+
+    @Test
+    public void get_cachedRecord_notLoadedAgain() {
+        ModuleDetailsCache cache = new ModuleDetailsCache(2, this::load);
+        ModuleDetails details = cache.get(1);
+        assertSame(details, cache.get(1));
+        assertEquals(Arrays.asList(1), loaded);
+    }
+
+    @Test
+    public void get_moreRecordsThanCapacity_leastRecentlyUsedEvicted() {
+        ModuleDetailsCache cache = new ModuleDetailsCache(2, this::load);
+        cache.get(1);
+        cache.get(2);
+        cache.get(1);
+        cache.get(3); // evicts 2, which was used less recently than 1
+        assertEquals(2, cache.size());
+
+        cache.get(1);
+        cache.get(2);
+        assertEquals(Arrays.asList(1, 2, 3, 2), loaded);
+    }
+}
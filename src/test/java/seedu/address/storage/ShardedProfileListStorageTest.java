@@ -0,0 +1,225 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.ModuleList;
+import seedu.address.model.ModuleManager;
+import seedu.address.model.ProfileList;
+import seedu.address.model.profile.Name;
+import seedu.address.model.profile.Profile;
+import seedu.address.model.profile.course.CourseName;
+import seedu.address.model.profile.course.FocusArea;
+import seedu.address.model.profile.course.module.ModuleCode;
+import seedu.address.testutil.ModuleBuilder;
+
+//@@author chanckben
+public class ShardedProfileListStorageTest {
+
+    private static final String UNREADABLE_SHARD = "not a shard";
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath() {
+        return testFolder.resolve("userProfiles.json");
+    }
+
+    private Path shardPath(String profileName) {
+        return ShardedProfileListStorage.getShardDirectoryPath(filePath())
+                .resolve(ShardedProfileListStorage.getShardName(new Name(profileName).toString()));
+    }
+
+    private static Path corruptPath(Path shardPath) {
+        return shardPath.resolveSibling(shardPath.getFileName() + ShardedProfileListStorage.CORRUPT_SUFFIX);
+    }
+
+    private static ModuleManager moduleCatalog() {
+        ModuleList moduleList = new ModuleList();
+        moduleList.addModule(new ModuleBuilder().withModuleCode("CS1101S").build());
+        moduleList.addModule(new ModuleBuilder().withModuleCode("CS2030S").build());
+        return new ModuleManager(moduleList);
+    }
+
+    private static Profile profile(String name) throws Exception {
+        Profile profile = new Profile(new Name(name), new CourseName("Computer Science"), 3,
+                new FocusArea("Algorithms and Theory"));
+        profile.addModule(1, new ModuleBuilder().withModuleCode("CS1101S").build());
+        profile.addModule(2, new ModuleBuilder().withModuleCode("CS2030S").build());
+        return profile;
+    }
+
+    private static ProfileList profileList(Profile... profiles) {
+        ProfileList profileList = new ProfileList();
+        for (Profile profile : profiles) {
+            profileList.addProfile(profile);
+        }
+        return profileList;
+    }
+
+    private static String read(Path path) throws Exception {
+        return new String(Files.readAllBytes(path), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void readProfileList_savedProfiles_modulesLoadedWhenFirstNeeded() throws Exception {
+        new ShardedProfileListStorage(filePath(), moduleCatalog())
+                .saveProfileList(profileList(profile("John"), profile("Mary")));
+
+        ProfileList read = new ShardedProfileListStorage(filePath(), moduleCatalog()).readProfileList().get();
+        Profile john = read.getProfileWithName(new Name("John"));
+        Profile mary = read.getProfileWithName(new Name("Mary"));
+        assertEquals(3, john.getOverallSemester());
+        assertFalse(john.isLoaded());
+
+        assertEquals(2, john.getModuleSemester(ModuleCode.of("CS2030S")));
+        assertTrue(john.isLoaded());
+        assertFalse(mary.isLoaded());
+    }
+
+    @Test
+    public void saveProfileList_profileNotLoaded_shardNotRewritten() throws Exception {
+        new ShardedProfileListStorage(filePath(), moduleCatalog())
+                .saveProfileList(profileList(profile("John"), profile("Mary")));
+        Files.write(shardPath("Mary"), UNREADABLE_SHARD.getBytes(StandardCharsets.UTF_8));
+        String johnShard = read(shardPath("John"));
+
+        ShardedProfileListStorage storage = new ShardedProfileListStorage(filePath(), moduleCatalog());
+        ProfileList read = storage.readProfileList().get();
+        Profile john = read.getProfileWithName(new Name("John"));
+        john.getModule(ModuleCode.of("CS1101S"));
+        storage.saveProfileList(read);
+        assertEquals(johnShard, read(shardPath("John")));
+
+        john.setGrade(john.getModule(ModuleCode.of("CS1101S")), "A");
+        read.getProfileWithName(new Name("Mary")).setCurrentSemester(5);
+        storage.saveProfileList(read);
+
+        assertEquals(UNREADABLE_SHARD, read(shardPath("Mary")));
+        ProfileList reread = new ShardedProfileListStorage(filePath(), moduleCatalog()).readProfileList().get();
+        assertEquals("A", reread.getProfileWithName(new Name("John")).getModule(ModuleCode.of("CS1101S"))
+                .getGrade());
+        assertEquals(5, reread.getProfileWithName(new Name("Mary")).getOverallSemester());
+    }
+
+    @Test
+    public void saveProfileList_shardNotLoadable_shardSetAsideAndProfileSaved() throws Exception {
+        new ShardedProfileListStorage(filePath(), moduleCatalog())
+                .saveProfileList(profileList(profile("John"), profile("Mary")));
+        Files.write(shardPath("Mary"), UNREADABLE_SHARD.getBytes(StandardCharsets.UTF_8));
+        String johnShard = read(shardPath("John"));
+        ModuleList catalogWithoutCs2030s = new ModuleList();
+        catalogWithoutCs2030s.addModule(new ModuleBuilder().withModuleCode("CS1101S").build());
+
+        ShardedProfileListStorage storage = new ShardedProfileListStorage(filePath(),
+                new ModuleManager(catalogWithoutCs2030s));
+        ProfileList read = storage.readProfileList().get();
+        Profile john = read.getProfileWithName(new Name("John"));
+        Profile mary = read.getProfileWithName(new Name("Mary"));
+        assertFalse(john.hasModule(ModuleCode.of("CS1101S")));
+        assertFalse(mary.hasModule(ModuleCode.of("CS1101S")));
+        mary.addModule(3, new ModuleBuilder().withModuleCode("CS1101S").build());
+        storage.saveProfileList(read);
+
+        assertEquals(johnShard, read(corruptPath(shardPath("John"))));
+        assertEquals(UNREADABLE_SHARD, read(corruptPath(shardPath("Mary"))));
+        ProfileList saved = new ShardedProfileListStorage(filePath(), moduleCatalog()).readProfileList().get();
+        assertTrue(saved.getProfileWithName(new Name("Mary")).hasModule(ModuleCode.of("CS1101S")));
+        assertFalse(saved.getProfileWithName(new Name("John")).hasModule(ModuleCode.of("CS1101S")));
+    }
+
+    @Test
+    public void saveProfileList_catalogReloaded_modulesNotInCatalogSavedWithDetails() throws Exception {
+        ModuleList reloadedModules = new ModuleList();
+        reloadedModules.addModule(new ModuleBuilder().withModuleCode("CS1101S").build());
+        ModuleManager reloadedCatalog = new ModuleManager(reloadedModules);
+        AtomicReference<ModuleManager> catalog = new AtomicReference<>(moduleCatalog());
+        ShardedProfileListStorage storage = new ShardedProfileListStorage(filePath(), catalog::get);
+        storage.saveProfileList(profileList(profile("John")));
+
+        ProfileList read = storage.readProfileList().get();
+        read.getProfileWithName(new Name("John")).getModule(ModuleCode.of("CS2030S"));
+        catalog.set(reloadedCatalog);
+        storage.saveProfileList(read);
+
+        Profile john = new ShardedProfileListStorage(filePath(), reloadedCatalog).readProfileList().get()
+                .getProfileWithName(new Name("John"));
+        assertEquals(2, john.getModuleSemester(ModuleCode.of("CS2030S")));
+        assertEquals(1, john.getModuleSemester(ModuleCode.of("CS1101S")));
+    }
+
+    @Test
+    public void prepareSaveProfileList_changedAfterPrepared_preparedStateSaved() throws Exception {
+        Profile john = profile("John");
+        ProfileList profileList = profileList(john);
+        ShardedProfileListStorage storage = new ShardedProfileListStorage(filePath(), moduleCatalog());
+
+        ProfileListStorage.PreparedSave save = storage.prepareSaveProfileList(profileList);
+        john.setGrade(john.getModule(ModuleCode.of("CS1101S")), "A");
+        john.setCurrentSemester(5);
+        save.save();
+
+        Profile read = new ShardedProfileListStorage(filePath(), moduleCatalog()).readProfileList().get()
+                .getProfileWithName(new Name("John"));
+        assertEquals(3, read.getOverallSemester());
+        assertFalse(read.getModule(ModuleCode.of("CS1101S")).hasGrade());
+    }
+
+    @Test
+    public void saveProfileList_profileDeletedOrRenamed_shardsUpdated() throws Exception {
+        Profile john = profile("John");
+        Profile mary = profile("Mary");
+        ProfileList profileList = profileList(john, mary);
+        ShardedProfileListStorage storage = new ShardedProfileListStorage(filePath(), moduleCatalog());
+        storage.saveProfileList(profileList);
+
+        ProfileList read = storage.readProfileList().get();
+        read.deleteProfile(read.getProfileWithName(new Name("John")));
+        read.getProfileWithName(new Name("Mary")).setName(new Name("Jane"));
+        storage.saveProfileList(read);
+
+        assertFalse(Files.exists(shardPath("John")));
+        assertFalse(Files.exists(shardPath("Mary")));
+        Profile jane = new ShardedProfileListStorage(filePath(), moduleCatalog()).readProfileList().get()
+                .getProfileWithName(new Name("Jane"));
+        assertEquals(1, jane.getModuleSemester(ModuleCode.of("CS1101S")));
+    }
+
+    @Test
+    public void readProfileList_singleFileProfileList_migratedToShardsAndKept() throws Exception {
+        Profile profile = profile("John");
+        JournalingProfileListStorage legacy = new JournalingProfileListStorage(filePath(), moduleCatalog());
+        legacy.saveProfileList(profileList(profile));
+        profile.setCurrentSemester(4);
+        legacy.saveProfileList(profileList(profile));
+        String legacyFile = read(filePath());
+        String legacyJournal = read(JournalingProfileListStorage.getJournalFilePath(filePath()));
+
+        ProfileList read = new ShardedProfileListStorage(filePath(), moduleCatalog()).readProfileList().get();
+
+        assertEquals(4, read.getProfileWithName(new Name("John")).getOverallSemester());
+        assertEquals(legacyFile, read(filePath()));
+        assertEquals(legacyJournal, read(JournalingProfileListStorage.getJournalFilePath(filePath())));
+        assertTrue(Files.exists(ShardedProfileListStorage.getManifestFilePath(filePath())));
+        assertTrue(Files.exists(shardPath("John")));
+        List<Profile> reread = new ShardedProfileListStorage(filePath(), moduleCatalog()).readProfileList().get()
+                .getProfileList();
+        assertEquals(1, reread.size());
+        assertEquals(2, reread.get(0).getModuleSemester(ModuleCode.of("CS2030S")));
+    }
+
+    @Test
+    public void readProfileList_missingFile_empty() throws Exception {
+        assertFalse(new ShardedProfileListStorage(filePath(), moduleCatalog()).readProfileList().isPresent());
+    }
+}
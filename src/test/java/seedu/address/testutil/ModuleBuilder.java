@@ -0,0 +1,142 @@
+package seedu.address.testutil;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.model.profile.course.module.Description;
+import seedu.address.model.profile.course.module.ModularCredits;
+import seedu.address.model.profile.course.module.Module;
+import seedu.address.model.profile.course.module.ModuleCode;
+import seedu.address.model.profile.course.module.Preclusions;
+import seedu.address.model.profile.course.module.PrereqTreeNode;
+import seedu.address.model.profile.course.module.Prereqs;
+import seedu.address.model.profile.course.module.SemesterData;
+import seedu.address.model.profile.course.module.Title;
+
+/**
+ * A utility class to help with building Module objects.
+ */
+public class ModuleBuilder {
+
+    public static final String DEFAULT_MODULE_CODE = "CS2103T";
+    public static final String DEFAULT_TITLE = "Software Engineering";
+    public static final String DEFAULT_PREREQS = "CS2040C or (CS2030 or its equivalent and CS2040)";
+    public static final String DEFAULT_PRECLUSIONS = "CS2103, CS2113, CS2113T";
+    public static final String DEFAULT_MODULAR_CREDITS = "4";
+    public static final String DEFAULT_DESCRIPTION = "This module introduces the necessary conceptual and "
+            + "analytical tools for systematic and rigorous development of software systems.";
+    public static final List<String> DEFAULT_SEMESTERS = Arrays.asList("1", "2");
+
+    private String moduleCode;
+    private String title;
+    private String prereqs;
+    private String preclusions;
+    private String modularCredits;
+    private String description;
+    private List<String> semesters;
+    private PrereqTreeNode prereqTreeNode;
+
+    public ModuleBuilder() {
+        moduleCode = DEFAULT_MODULE_CODE;
+        title = DEFAULT_TITLE;
+        prereqs = DEFAULT_PREREQS;
+        preclusions = DEFAULT_PRECLUSIONS;
+        modularCredits = DEFAULT_MODULAR_CREDITS;
+        description = DEFAULT_DESCRIPTION;
+        semesters = DEFAULT_SEMESTERS;
+        prereqTreeNode = null;
+    }
+
+    /**
+     * Sets the {@code ModuleCode} of the {@code Module} that we are building.
+     */
+    public ModuleBuilder withModuleCode(String moduleCode) {
+        this.moduleCode = moduleCode;
+        return this;
+    }
+
+    /**
+     * Sets the {@code Title} of the {@code Module} that we are building.
+     */
+    public ModuleBuilder withTitle(String title) {
+        this.title = title;
+        return this;
+    }
+
+    /**
+     * Sets the {@code Description} of the {@code Module} that we are building.
+     */
+    public ModuleBuilder withDescription(String description) {
+        this.description = description;
+        return this;
+    }
+
+    /**
+     * Sets the {@code ModularCredits} of the {@code Module} that we are building.
+     */
+    public ModuleBuilder withModularCredits(String modularCredits) {
+        this.modularCredits = modularCredits;
+        return this;
+    }
+
+    /**
+     * Sets the semesters in which the {@code Module} that we are building is offered.
+     */
+    public ModuleBuilder withSemesters(String... semesters) {
+        this.semesters = Arrays.asList(semesters);
+        return this;
+    }
+
+    /**
+     * Sets the {@code PrereqTreeNode} of the {@code Module} that we are building.
+     */
+    public ModuleBuilder withPrereqTree(PrereqTreeNode prereqTreeNode) {
+        this.prereqTreeNode = prereqTreeNode;
+        return this;
+    }
+
+    /**
+     * Returns the module codes {@code moduleCodes}, in order.
+     */
+    public static List<ModuleCode> codes(String... moduleCodes) {
+        return Arrays.stream(moduleCodes).map(ModuleCode::new).collect(Collectors.toList());
+    }
+
+    /**
+     * Returns a leaf {@code PrereqTreeNode} requiring the module with code {@code moduleCode}.
+     */
+    public static PrereqTreeNode leaf(String moduleCode) {
+        return new PrereqTreeNode(new ModuleCode(moduleCode));
+    }
+
+    /**
+     * Returns a {@code PrereqTreeNode} that is fulfilled when all of {@code children} are fulfilled.
+     */
+    public static PrereqTreeNode and(PrereqTreeNode... children) {
+        return branch("and", children);
+    }
+
+    /**
+     * Returns a {@code PrereqTreeNode} that is fulfilled when any of {@code children} is fulfilled.
+     */
+    public static PrereqTreeNode or(PrereqTreeNode... children) {
+        return branch("or", children);
+    }
+
+    private static PrereqTreeNode branch(String type, PrereqTreeNode... children) {
+        PrereqTreeNode node = new PrereqTreeNode();
+        node.setType(type);
+        for (PrereqTreeNode child : children) {
+            node.addPrereqTreeNode(child);
+        }
+        return node;
+    }
+
+    public Module build() {
+        return new Module(new ModuleCode(moduleCode), new Title(title), new Prereqs(prereqs),
+                new Preclusions(preclusions), new ModularCredits(modularCredits), new Description(description),
+                new SemesterData(semesters), prereqTreeNode);
+    }
+
+}